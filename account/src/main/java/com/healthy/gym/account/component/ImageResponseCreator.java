@@ -0,0 +1,10 @@
+package com.healthy.gym.account.component;
+
+import com.healthy.gym.account.pojo.StoredImage;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+public interface ImageResponseCreator {
+    ResponseEntity<Resource> createImageResponse(StoredImage image, String version, HttpHeaders requestHeaders);
+}
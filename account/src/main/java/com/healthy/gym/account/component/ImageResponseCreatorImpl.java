@@ -0,0 +1,68 @@
+package com.healthy.gym.account.component;
+
+import com.healthy.gym.account.pojo.StoredImage;
+import org.springframework.core.io.Resource;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+public class ImageResponseCreatorImpl implements ImageResponseCreator {
+
+    private static final String IMMUTABLE = ", immutable";
+
+    @Override
+    public ResponseEntity<Resource> createImageResponse(
+            StoredImage image,
+            String version,
+            HttpHeaders requestHeaders
+    ) {
+        String etag = "\"" + image.getContentHash() + "\"";
+        String cacheControl = getCacheControl(image, version);
+
+        if (isNotModified(requestHeaders, etag)) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_MODIFIED)
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .eTag(etag)
+                    .build();
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(getMediaType(image));
+        headers.setCacheControl(cacheControl);
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .headers(headers)
+                .eTag(etag)
+                .body(image.getContent());
+    }
+
+    private String getCacheControl(StoredImage image, String version) {
+        if (version != null && version.equals(image.getSourceHash())) {
+            return CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().getHeaderValue() + IMMUTABLE;
+        }
+        return CacheControl.maxAge(Duration.ofMinutes(10)).cachePrivate().getHeaderValue();
+    }
+
+    private boolean isNotModified(HttpHeaders requestHeaders, String etag) {
+        for (String match : requestHeaders.getIfNoneMatch()) {
+            if (match.equals("*") || match.equals(etag) || match.equals("W/" + etag)) return true;
+        }
+        return false;
+    }
+
+    private MediaType getMediaType(StoredImage image) {
+        if (image.getContentType() == null) return MediaType.IMAGE_JPEG;
+        try {
+            return MediaType.parseMediaType(image.getContentType());
+        } catch (InvalidMediaTypeException exception) {
+            return MediaType.IMAGE_JPEG;
+        }
+    }
+}
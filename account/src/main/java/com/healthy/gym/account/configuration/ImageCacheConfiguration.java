@@ -0,0 +1,16 @@
+package com.healthy.gym.account.configuration;
+
+import com.healthy.gym.account.pojo.StoredImage;
+import com.healthy.gym.image.component.ImageCacheImpl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class ImageCacheConfiguration {
+
+    @Bean
+    public ImageCacheImpl<StoredImage> getImageCache(Environment environment) {
+        return new ImageCacheImpl<>(environment);
+    }
+}
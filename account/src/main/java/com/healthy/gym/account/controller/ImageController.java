@@ -1,47 +1,50 @@
 package com.healthy.gym.account.controller;
 
+import com.healthy.gym.account.component.ImageResponseCreator;
 import com.healthy.gym.account.component.Translator;
 import com.healthy.gym.account.exception.ImageNotFoundException;
+import com.healthy.gym.account.pojo.StoredImage;
 import com.healthy.gym.account.service.ImageService;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
-import org.springframework.util.DigestUtils;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.time.Duration;
-
 @RestController
 public class ImageController {
 
     private final Translator translator;
     private final ImageService imageService;
+    private final ImageResponseCreator imageResponseCreator;
 
-    public ImageController(Translator translator, ImageService imageService) {
+    public ImageController(
+            Translator translator,
+            ImageService imageService,
+            ImageResponseCreator imageResponseCreator
+    ) {
         this.translator = translator;
         this.imageService = imageService;
+        this.imageResponseCreator = imageResponseCreator;
     }
 
     @GetMapping("/trainer/image/{imageId}")
-    public ResponseEntity<byte[]> getImage(@PathVariable String imageId) {
+    public ResponseEntity<Resource> getImage(
+            @PathVariable String imageId,
+            @RequestParam(required = false) String version,
+            @RequestParam(required = false) String size,
+            @RequestParam(required = false) String format,
+            @RequestHeader HttpHeaders requestHeaders
+    ) {
         try {
-            byte[] image = imageService.getImage(imageId);
-            String etag = DigestUtils.md5DigestAsHex(image);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentLength(image.length);
-            headers.setContentType(MediaType.IMAGE_JPEG);
-
-            CacheControl cacheControl = CacheControl.maxAge(Duration.ofMinutes(10));
-            cacheControl.cachePrivate();
-
-            return ResponseEntity
-                    .status(HttpStatus.OK)
-                    .headers(headers)
-                    .cacheControl(cacheControl)
-                    .eTag(etag)
-                    .body(image);
+            StoredImage image = imageService.getImage(
+                    imageId,
+                    version,
+                    ImageSize.fromName(size),
+                    ImageFormat.negotiate(format, requestHeaders.getAccept())
+            );
+            return imageResponseCreator.createImageResponse(image, version, requestHeaders);
 
         } catch (ImageNotFoundException exception) {
             String reason = translator.toLocale("image.not.found.exception");
@@ -1,22 +1,25 @@
 package com.healthy.gym.account.controller;
 
+import com.healthy.gym.account.component.ImageResponseCreator;
 import com.healthy.gym.account.component.ImageValidator;
 import com.healthy.gym.account.component.Translator;
 import com.healthy.gym.account.exception.PhotoSavingException;
 import com.healthy.gym.account.exception.UserAvatarNotFoundException;
+import com.healthy.gym.account.pojo.StoredImage;
 import com.healthy.gym.account.pojo.response.AvatarResponse;
 import com.healthy.gym.account.service.PhotoService;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import javax.activation.UnsupportedDataTypeException;
-import java.time.Duration;
 
 @RestController
 @RequestMapping("/photos/{id}/avatar")
@@ -28,16 +31,19 @@ public class PhotoController {
     private final Translator translator;
     private final PhotoService photoService;
     private final ImageValidator imageValidator;
+    private final ImageResponseCreator imageResponseCreator;
 
     @Autowired
     public PhotoController(
             Translator translator,
             PhotoService photoService,
-            ImageValidator imageValidator
+            ImageValidator imageValidator,
+            ImageResponseCreator imageResponseCreator
     ) {
         this.translator = translator;
         this.photoService = photoService;
         this.imageValidator = imageValidator;
+        this.imageResponseCreator = imageResponseCreator;
     }
 
     @PreAuthorize("hasRole('ADMIN') or principal==#userId")
@@ -94,24 +100,20 @@ public class PhotoController {
     }
 
     @GetMapping("/{version}")
-    public ResponseEntity<byte[]> getAvatar(@PathVariable("id") String userId, @PathVariable String version) {
+    public ResponseEntity<Resource> getAvatar(
+            @PathVariable("id") String userId,
+            @PathVariable String version,
+            @RequestParam(required = false) String size,
+            @RequestParam(required = false) String format,
+            @RequestHeader HttpHeaders requestHeaders
+    ) {
         try {
-            byte[] image = photoService.getAvatar(userId);
-            String etag = DigestUtils.md5DigestAsHex(image);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentLength(image.length);
-            headers.setContentType(MediaType.IMAGE_JPEG);
-
-            CacheControl cacheControl = CacheControl.maxAge(Duration.ofMinutes(10));
-            cacheControl.cachePrivate();
-
-            return ResponseEntity
-                    .status(HttpStatus.OK)
-                    .headers(headers)
-                    .cacheControl(cacheControl)
-                    .eTag(etag)
-                    .body(image);
+            StoredImage image = photoService.getAvatar(
+                    userId,
+                    ImageSize.fromName(size),
+                    ImageFormat.negotiate(format, requestHeaders.getAccept())
+            );
+            return imageResponseCreator.createImageResponse(image, version, requestHeaders);
 
         } catch (UserAvatarNotFoundException exception) {
             String reason = translator.toLocale("avatar.not.found.exception");
@@ -2,6 +2,7 @@ package com.healthy.gym.account.data.document;
 
 import com.healthy.gym.account.enums.GymRole;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -27,6 +28,7 @@ public class UserDocument {
     private Collection<GymRole> gymRoles;
     private String avatarUrl;
     private LocalDateTime createdAt;
+    @LastModifiedDate
     private LocalDateTime lastModifiedAt;
 
     public UserDocument() {
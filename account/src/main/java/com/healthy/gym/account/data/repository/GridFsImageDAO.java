@@ -0,0 +1,28 @@
+package com.healthy.gym.account.data.repository;
+
+import com.healthy.gym.account.enums.ImageBucket;
+import com.healthy.gym.account.pojo.StoredImage;
+import org.bson.types.ObjectId;
+
+public interface GridFsImageDAO {
+    StoredImage save(ImageBucket bucket, String filename, byte[] content, String contentType);
+
+    StoredImage save(ImageBucket bucket, String filename, byte[] content, String contentType, String sourceHash);
+
+    StoredImage saveVariant(
+            ImageBucket bucket,
+            String filename,
+            String variant,
+            byte[] content,
+            String contentType,
+            String sourceHash
+    );
+
+    StoredImage findLatest(ImageBucket bucket, String filename);
+
+    StoredImage findLatestVariant(ImageBucket bucket, String filename, String variant);
+
+    long deleteAll(ImageBucket bucket, String filename);
+
+    long deleteAllExcept(ImageBucket bucket, String filename, ObjectId fileId);
+}
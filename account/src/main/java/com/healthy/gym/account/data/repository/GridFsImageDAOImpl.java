@@ -0,0 +1,177 @@
+package com.healthy.gym.account.data.repository;
+
+import com.healthy.gym.account.enums.ImageBucket;
+import com.healthy.gym.account.pojo.StoredImage;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSBuckets;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Repository
+public class GridFsImageDAOImpl implements GridFsImageDAO {
+
+    private static final String FILENAME = "filename";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String CONTENT_HASH = "contentHash";
+    private static final String SOURCE_HASH = "sourceHash";
+    private static final String VARIANT_SEPARATOR = ":";
+    private static final int CHUNK_SIZE_IN_BYTES = 255 * 1024;
+
+    private final MongoDatabaseFactory mongoDatabaseFactory;
+
+    @Autowired
+    public GridFsImageDAOImpl(MongoDatabaseFactory mongoDatabaseFactory) {
+        this.mongoDatabaseFactory = mongoDatabaseFactory;
+    }
+
+    @Override
+    public StoredImage save(ImageBucket bucket, String filename, byte[] content, String contentType) {
+        return save(bucket, filename, content, contentType, DigestUtils.md5DigestAsHex(content));
+    }
+
+    @Override
+    public StoredImage save(
+            ImageBucket bucket,
+            String filename,
+            byte[] content,
+            String contentType,
+            String sourceHash
+    ) {
+        String contentHash = DigestUtils.md5DigestAsHex(content);
+        Document metadata = new Document(CONTENT_TYPE, contentType)
+                .append(CONTENT_HASH, contentHash)
+                .append(SOURCE_HASH, sourceHash);
+        GridFSUploadOptions options = new GridFSUploadOptions()
+                .chunkSizeBytes(CHUNK_SIZE_IN_BYTES)
+                .metadata(metadata);
+
+        GridFSBucket gridFSBucket = getBucket(bucket);
+        ObjectId fileId = gridFSBucket.uploadFromStream(filename, new ByteArrayInputStream(content), options);
+
+        return new StoredImage(
+                fileId,
+                contentType,
+                content.length,
+                contentHash,
+                sourceHash,
+                new GridFsFileResource(gridFSBucket, fileId, content.length)
+        );
+    }
+
+    @Override
+    public StoredImage saveVariant(
+            ImageBucket bucket,
+            String filename,
+            String variant,
+            byte[] content,
+            String contentType,
+            String sourceHash
+    ) {
+        return save(bucket, filename + VARIANT_SEPARATOR + variant, content, contentType, sourceHash);
+    }
+
+    @Override
+    public StoredImage findLatest(ImageBucket bucket, String filename) {
+        GridFSBucket gridFSBucket = getBucket(bucket);
+        GridFSFile file = gridFSBucket
+                .find(Filters.eq(FILENAME, filename))
+                .sort(Sorts.descending("uploadDate"))
+                .limit(1)
+                .first();
+        if (file == null) return null;
+
+        Document metadata = file.getMetadata() == null ? new Document() : file.getMetadata();
+        String contentHash = metadata.getString(CONTENT_HASH);
+        return new StoredImage(
+                file.getObjectId(),
+                metadata.getString(CONTENT_TYPE),
+                file.getLength(),
+                contentHash,
+                metadata.get(SOURCE_HASH, contentHash),
+                new GridFsFileResource(gridFSBucket, file.getObjectId(), file.getLength())
+        );
+    }
+
+    @Override
+    public StoredImage findLatestVariant(ImageBucket bucket, String filename, String variant) {
+        return findLatest(bucket, filename + VARIANT_SEPARATOR + variant);
+    }
+
+    @Override
+    public long deleteAll(ImageBucket bucket, String filename) {
+        return delete(getBucket(bucket), getFilenameWithVariantsFilter(filename));
+    }
+
+    @Override
+    public long deleteAllExcept(ImageBucket bucket, String filename, ObjectId fileId) {
+        Bson filter = Filters.and(getFilenameWithVariantsFilter(filename), Filters.ne("_id", fileId));
+        return delete(getBucket(bucket), filter);
+    }
+
+    private Bson getFilenameWithVariantsFilter(String filename) {
+        return Filters.or(
+                Filters.eq(FILENAME, filename),
+                Filters.regex(FILENAME, "^" + Pattern.quote(filename + VARIANT_SEPARATOR))
+        );
+    }
+
+    private long delete(GridFSBucket gridFSBucket, Bson filter) {
+        List<ObjectId> fileIds = new ArrayList<>();
+        gridFSBucket.find(filter).forEach(file -> fileIds.add(file.getObjectId()));
+        fileIds.forEach(gridFSBucket::delete);
+        return fileIds.size();
+    }
+
+    private GridFSBucket getBucket(ImageBucket bucket) {
+        return GridFSBuckets.create(mongoDatabaseFactory.getMongoDatabase(), bucket.getBucketName());
+    }
+
+    private static class GridFsFileResource extends AbstractResource {
+
+        private final GridFSBucket gridFSBucket;
+        private final ObjectId fileId;
+        private final long length;
+
+        private GridFsFileResource(GridFSBucket gridFSBucket, ObjectId fileId, long length) {
+            this.gridFSBucket = gridFSBucket;
+            this.fileId = fileId;
+            this.length = length;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return gridFSBucket.openDownloadStream(fileId);
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return length;
+        }
+
+        @Override
+        public String getDescription() {
+            return "GridFS file [" + fileId + "]";
+        }
+    }
+}
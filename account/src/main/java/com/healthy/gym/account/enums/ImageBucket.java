@@ -0,0 +1,16 @@
+package com.healthy.gym.account.enums;
+
+public enum ImageBucket {
+    AVATARS("avatars"),
+    TRAINER_IMAGES("trainerImages");
+
+    private final String bucketName;
+
+    ImageBucket(String bucketName) {
+        this.bucketName = bucketName;
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+}
@@ -0,0 +1,77 @@
+package com.healthy.gym.account.pojo;
+
+import org.bson.types.ObjectId;
+import com.healthy.gym.image.component.CacheableImage;
+import org.springframework.core.io.Resource;
+
+public class StoredImage implements CacheableImage<StoredImage> {
+
+    private final ObjectId fileId;
+    private final String contentType;
+    private final long length;
+    private final String contentHash;
+    private final String sourceHash;
+    private final Resource content;
+
+    public StoredImage(ObjectId fileId, String contentType, long length, String contentHash, Resource content) {
+        this(fileId, contentType, length, contentHash, contentHash, content);
+    }
+
+    public StoredImage(
+            ObjectId fileId,
+            String contentType,
+            long length,
+            String contentHash,
+            String sourceHash,
+            Resource content
+    ) {
+        this.fileId = fileId;
+        this.contentType = contentType;
+        this.length = length;
+        this.contentHash = contentHash;
+        this.sourceHash = sourceHash;
+        this.content = content;
+    }
+
+    public ObjectId getFileId() {
+        return fileId;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public long getLength() {
+        return length;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getSourceHash() {
+        return sourceHash;
+    }
+
+    @Override
+    public Resource getContent() {
+        return content;
+    }
+
+    @Override
+    public StoredImage withContent(long length, Resource content) {
+        return new StoredImage(fileId, contentType, length, contentHash, sourceHash, content);
+    }
+
+    @Override
+    public String toString() {
+        return "StoredImage{" +
+                "fileId=" + fileId +
+                ", contentType='" + contentType + '\'' +
+                ", length=" + length +
+                ", contentHash='" + contentHash + '\'' +
+                ", sourceHash='" + sourceHash + '\'' +
+                '}';
+    }
+}
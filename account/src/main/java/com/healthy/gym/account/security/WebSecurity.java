@@ -1,6 +1,8 @@
 package com.healthy.gym.account.security;
 
 import com.healthy.gym.account.component.TokenManager;
+import com.healthy.gym.security.component.TokenVerifier;
+import com.healthy.gym.security.filter.JwtAuthorizationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
@@ -15,10 +17,12 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
 
     private static final String ACTUATOR = "/actuator/**";
     private final TokenManager tokenManager;
+    private final TokenVerifier tokenVerifier;
 
     @Autowired
-    public WebSecurity(TokenManager tokenManager) {
+    public WebSecurity(TokenManager tokenManager, TokenVerifier tokenVerifier) {
         this.tokenManager = tokenManager;
+        this.tokenVerifier = tokenVerifier;
     }
 
     @Override
@@ -37,7 +41,12 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
         http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
     }
 
-    private AuthorizationFilter getAuthorizationFilter() throws Exception {
-        return new AuthorizationFilter(authenticationManager(), tokenManager);
+    private JwtAuthorizationFilter getAuthorizationFilter() throws Exception {
+        return new JwtAuthorizationFilter(
+                authenticationManager(),
+                tokenManager.getHttpHeaderName(),
+                tokenManager.getTokenPrefix(),
+                tokenVerifier
+        );
     }
 }
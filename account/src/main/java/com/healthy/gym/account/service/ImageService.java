@@ -1,8 +1,14 @@
 package com.healthy.gym.account.service;
 
 import com.healthy.gym.account.exception.ImageNotFoundException;
+import com.healthy.gym.account.pojo.StoredImage;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+
+import java.io.IOException;
 
 public interface ImageService {
 
-    byte[] getImage(String imageId) throws ImageNotFoundException;
+    StoredImage getImage(String imageId, String version, ImageSize size, ImageFormat format)
+            throws ImageNotFoundException, IOException;
 }
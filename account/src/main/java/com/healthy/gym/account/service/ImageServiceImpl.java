@@ -1,26 +1,68 @@
 package com.healthy.gym.account.service;
 
 import com.healthy.gym.account.data.document.ImageDocument;
+import com.healthy.gym.account.data.repository.GridFsImageDAO;
 import com.healthy.gym.account.data.repository.ImageDAO;
+import com.healthy.gym.account.enums.ImageBucket;
 import com.healthy.gym.account.exception.ImageNotFoundException;
-import org.bson.types.Binary;
+import com.healthy.gym.account.pojo.StoredImage;
+import com.healthy.gym.image.component.ImageCache;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+
 @Service
 public class ImageServiceImpl implements ImageService{
 
     private final ImageDAO imageDAO;
+    private final GridFsImageDAO gridFsImageDAO;
+    private final ImageVariantService imageVariantService;
+    private final ImageCache<StoredImage> imageCache;
 
-    public ImageServiceImpl(ImageDAO imageDAO) {
+    public ImageServiceImpl(
+            ImageDAO imageDAO,
+            GridFsImageDAO gridFsImageDAO,
+            ImageVariantService imageVariantService,
+            ImageCache<StoredImage> imageCache
+    ) {
         this.imageDAO = imageDAO;
+        this.gridFsImageDAO = gridFsImageDAO;
+        this.imageVariantService = imageVariantService;
+        this.imageCache = imageCache;
     }
 
     @Override
-    public byte[] getImage(String imageId) throws ImageNotFoundException {
+    public StoredImage getImage(String imageId, String version, ImageSize size, ImageFormat format)
+            throws ImageNotFoundException, IOException {
+        String cacheVersion = getCacheVersion(version, size, format);
+        StoredImage cachedImage = imageCache.get(imageId, cacheVersion);
+        if (cachedImage != null) return cachedImage;
+
+        StoredImage image = gridFsImageDAO.findLatest(ImageBucket.TRAINER_IMAGES, imageId);
+        if (image == null) image = copyToGridFs(imageId);
+
+        StoredImage variant = imageVariantService.getVariant(ImageBucket.TRAINER_IMAGES, imageId, image, size, format);
+        if (!image.getSourceHash().equals(version)) return variant;
+        return imageCache.put(imageId, cacheVersion, variant);
+    }
+
+    private String getCacheVersion(String version, ImageSize size, ImageFormat format) {
+        if (version == null) return null;
+        String formatName = format == null ? "source" : format.getFormatName();
+        return version + ":" + size.getName() + "." + formatName;
+    }
+
+    private StoredImage copyToGridFs(String imageId) throws ImageNotFoundException {
         ImageDocument imageDocument = imageDAO.findByImageId(imageId);
         if (imageDocument == null) throw new ImageNotFoundException();
 
-        Binary binary = imageDocument.getImageData();
-        return binary.getData();
+        return gridFsImageDAO.save(
+                ImageBucket.TRAINER_IMAGES,
+                imageId,
+                imageDocument.getImageData().getData(),
+                imageDocument.getContentType()
+        );
     }
 }
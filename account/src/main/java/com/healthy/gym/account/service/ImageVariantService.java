@@ -0,0 +1,18 @@
+package com.healthy.gym.account.service;
+
+import com.healthy.gym.account.enums.ImageBucket;
+import com.healthy.gym.account.pojo.StoredImage;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+
+import java.io.IOException;
+
+public interface ImageVariantService {
+    StoredImage getVariant(
+            ImageBucket bucket,
+            String filename,
+            StoredImage original,
+            ImageSize size,
+            ImageFormat format
+    ) throws IOException;
+}
@@ -0,0 +1,60 @@
+package com.healthy.gym.account.service;
+
+import com.healthy.gym.account.data.repository.GridFsImageDAO;
+import com.healthy.gym.account.enums.ImageBucket;
+import com.healthy.gym.account.pojo.StoredImage;
+import com.healthy.gym.image.component.ImageProcessor;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Service
+public class ImageVariantServiceImpl implements ImageVariantService {
+
+    private final GridFsImageDAO gridFsImageDAO;
+    private final ImageProcessor imageProcessor;
+
+    @Autowired
+    public ImageVariantServiceImpl(GridFsImageDAO gridFsImageDAO, ImageProcessor imageProcessor) {
+        this.gridFsImageDAO = gridFsImageDAO;
+        this.imageProcessor = imageProcessor;
+    }
+
+    @Override
+    public StoredImage getVariant(
+            ImageBucket bucket,
+            String filename,
+            StoredImage original,
+            ImageSize size,
+            ImageFormat format
+    ) throws IOException {
+        ImageFormat sourceFormat = ImageFormat.fromContentType(original.getContentType());
+        ImageFormat targetFormat = format == null ? sourceFormat : format;
+        if (size == ImageSize.ORIGINAL && targetFormat == sourceFormat) return original;
+
+        String variant = size.getName() + "." + targetFormat.getFormatName();
+        StoredImage cachedVariant = gridFsImageDAO.findLatestVariant(bucket, filename, variant);
+        if (cachedVariant != null && original.getSourceHash().equals(cachedVariant.getSourceHash())) {
+            return cachedVariant;
+        }
+
+        byte[] content;
+        try (InputStream inputStream = original.getContent().getInputStream()) {
+            content = imageProcessor.resize(StreamUtils.copyToByteArray(inputStream), size, targetFormat);
+        }
+
+        return gridFsImageDAO.saveVariant(
+                bucket,
+                filename,
+                variant,
+                content,
+                targetFormat.getMediaType().toString(),
+                original.getSourceHash()
+        );
+    }
+}
@@ -1,16 +1,19 @@
 package com.healthy.gym.account.service;
 
-import com.healthy.gym.account.data.document.PhotoDocument;
 import com.healthy.gym.account.exception.PhotoSavingException;
 import com.healthy.gym.account.exception.UserAvatarNotFoundException;
+import com.healthy.gym.account.pojo.StoredImage;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 
 public interface PhotoService {
-    byte[] getAvatar(String userId) throws UserAvatarNotFoundException;
+    StoredImage getAvatar(String userId, ImageSize size, ImageFormat format)
+            throws UserAvatarNotFoundException, IOException;
 
-    PhotoDocument removeAvatar(String userId) throws UserAvatarNotFoundException;
+    void removeAvatar(String userId) throws UserAvatarNotFoundException;
 
     String setAvatar(String userId, MultipartFile multipartFile) throws PhotoSavingException, IOException;
 
@@ -3,12 +3,17 @@ package com.healthy.gym.account.service;
 import com.healthy.gym.account.component.AvatarUrlCreator;
 import com.healthy.gym.account.data.document.PhotoDocument;
 import com.healthy.gym.account.data.document.UserDocument;
+import com.healthy.gym.account.data.repository.GridFsImageDAO;
 import com.healthy.gym.account.data.repository.PhotoDAO;
 import com.healthy.gym.account.data.repository.UserDAO;
+import com.healthy.gym.account.enums.ImageBucket;
 import com.healthy.gym.account.exception.PhotoSavingException;
 import com.healthy.gym.account.exception.UserAvatarNotFoundException;
 import com.healthy.gym.account.pojo.Image;
-import org.bson.types.Binary;
+import com.healthy.gym.account.pojo.StoredImage;
+import com.healthy.gym.image.component.ImageProcessor;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -22,40 +27,65 @@ public class PhotoServiceImpl implements PhotoService {
     private final PhotoDAO photoDAO;
     private final UserDAO userDAO;
     private final AvatarUrlCreator avatarUrlCreator;
+    private final GridFsImageDAO gridFsImageDAO;
+    private final ImageProcessor imageProcessor;
+    private final ImageVariantService imageVariantService;
 
     @Autowired
     public PhotoServiceImpl(
             PhotoDAO photoDAO,
             UserDAO userDAO,
-            AvatarUrlCreator avatarUrlCreator
+            AvatarUrlCreator avatarUrlCreator,
+            GridFsImageDAO gridFsImageDAO,
+            ImageProcessor imageProcessor,
+            ImageVariantService imageVariantService
     ) {
         this.photoDAO = photoDAO;
         this.userDAO = userDAO;
         this.avatarUrlCreator = avatarUrlCreator;
+        this.gridFsImageDAO = gridFsImageDAO;
+        this.imageProcessor = imageProcessor;
+        this.imageVariantService = imageVariantService;
     }
 
     @Override
-    public byte[] getAvatar(String userId) throws UserAvatarNotFoundException {
+    public StoredImage getAvatar(String userId, ImageSize size, ImageFormat format)
+            throws UserAvatarNotFoundException, IOException {
+        StoredImage avatar = gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId);
+        if (avatar == null) avatar = migrateToGridFs(userId);
+
+        return imageVariantService.getVariant(ImageBucket.AVATARS, userId, avatar, size, format);
+    }
+
+    private StoredImage migrateToGridFs(String userId) throws UserAvatarNotFoundException {
         PhotoDocument photoDocument = photoDAO.findByUserId(userId);
         if (photoDocument == null) throw new UserAvatarNotFoundException();
 
         Image image = photoDocument.getImage();
-        Binary binary = image.getData();
-        return binary.getData();
+        StoredImage avatar = gridFsImageDAO.save(
+                ImageBucket.AVATARS,
+                photoDocument.getUserId(),
+                image.getData().getData(),
+                image.getFormat()
+        );
+        photoDAO.delete(photoDocument);
+        return avatar;
     }
 
     @Override
-    public PhotoDocument removeAvatar(String userId) throws UserAvatarNotFoundException {
+    public void removeAvatar(String userId) throws UserAvatarNotFoundException {
+        StoredImage avatar = gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId);
         PhotoDocument photoDocument = photoDAO.findByUserId(userId);
-        if (photoDocument == null) throw new UserAvatarNotFoundException();
+        if (avatar == null && photoDocument == null) throw new UserAvatarNotFoundException();
 
         UserDocument userDocument = userDAO.findByUserId(userId);
         if (userDocument == null) throw new UsernameNotFoundException("No user found id:" + userId);
 
-        photoDAO.delete(photoDocument);
+        gridFsImageDAO.deleteAll(ImageBucket.AVATARS, userId);
+        if (photoDocument != null) photoDAO.delete(photoDocument);
+
         userDocument.setAvatarUrl(null);
         userDAO.save(userDocument);
-        return photoDAO.findPhotoDocumentById(photoDocument.getId());
     }
 
     @Override
@@ -65,18 +95,23 @@ public class PhotoServiceImpl implements PhotoService {
         UserDocument userDocument = userDAO.findByUserId(userId);
         if (userDocument == null) throw new UsernameNotFoundException("No user with provided id " + userId);
 
-        Image image = new Image(
-                multipartFile.getBytes(),
-                multipartFile.getContentType()
+        byte[] uploadedContent = multipartFile.getBytes();
+        byte[] content = imageProcessor.sanitize(uploadedContent, multipartFile.getContentType());
+        StoredImage avatar = gridFsImageDAO.save(
+                ImageBucket.AVATARS,
+                userId,
+                content,
+                multipartFile.getContentType(),
+                DigestUtils.md5DigestAsHex(uploadedContent)
         );
-        String imageTitle = multipartFile.getName();
+        if (avatar == null || avatar.getLength() != content.length) throw new PhotoSavingException();
 
-        PhotoDocument photoUpdated = setOrUpdateAvatar(userId, imageTitle, image);
-        checkIfSavedCorrectly(photoUpdated, image, imageTitle);
+        gridFsImageDAO.deleteAllExcept(ImageBucket.AVATARS, userId, avatar.getFileId());
+        PhotoDocument photoDocument = photoDAO.findByUserId(userId);
+        if (photoDocument != null) photoDAO.delete(photoDocument);
 
         String avatarUrl = avatarUrlCreator.createAvatarUrl(userId);
-        String version = DigestUtils.md5DigestAsHex(multipartFile.getBytes());
-        userDocument.setAvatarUrl(avatarUrl + "/" + version);
+        userDocument.setAvatarUrl(avatarUrl + "/" + avatar.getSourceHash());
         UserDocument updatedUser = userDAO.save(userDocument);
 
         return updatedUser.getAvatarUrl();
@@ -88,30 +123,4 @@ public class PhotoServiceImpl implements PhotoService {
         if (userDocument == null) throw new UsernameNotFoundException("No user with provided id " + userId);
         return userDocument.getAvatarUrl();
     }
-
-    private PhotoDocument setOrUpdateAvatar(
-            String userId,
-            String title,
-            Image image
-    ) {
-        PhotoDocument photoUpdated;
-        PhotoDocument actualPhoto = photoDAO.findByUserId(userId);
-
-        if (actualPhoto != null) {
-            actualPhoto.setTitle(title);
-            actualPhoto.setImage(image);
-            photoUpdated = photoDAO.save(actualPhoto);
-        } else {
-            PhotoDocument photoToSave = new PhotoDocument(userId, title, image);
-            photoUpdated = photoDAO.save(photoToSave);
-        }
-
-        return photoUpdated;
-    }
-
-    private void checkIfSavedCorrectly(PhotoDocument photoUpdated, Image imageToSave, String imageTitleToSave)
-            throws PhotoSavingException {
-        if (!photoUpdated.getImage().equals(imageToSave) || !photoUpdated.getTitle().equals(imageTitleToSave))
-            throw new PhotoSavingException();
-    }
 }
@@ -5,13 +5,18 @@ import com.healthy.gym.account.data.document.ImageDocument;
 import com.healthy.gym.account.data.document.TrainerDocument;
 import com.healthy.gym.account.data.document.TrainingTypeDocument;
 import com.healthy.gym.account.data.document.UserDocument;
+import com.healthy.gym.account.data.repository.GridFsImageDAO;
 import com.healthy.gym.account.data.repository.ImageDAO;
 import com.healthy.gym.account.data.repository.TrainerDAO;
 import com.healthy.gym.account.data.repository.TrainingTypeDAO;
 import com.healthy.gym.account.data.repository.UserDAO;
 import com.healthy.gym.account.dto.TrainerDTO;
+import com.healthy.gym.account.enums.ImageBucket;
 import com.healthy.gym.account.exception.NoUserFound;
+import com.healthy.gym.account.pojo.StoredImage;
 import com.healthy.gym.account.pojo.request.TrainerRequest;
+import com.healthy.gym.image.component.ImageCache;
+import com.healthy.gym.image.component.ImageProcessor;
 import org.bson.types.Binary;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
@@ -33,7 +38,10 @@ public class TrainerServiceImpl implements TrainerService{
     private final TrainerDAO trainerDAO;
     private final TrainingTypeDAO trainingTypeDAO;
     private final ImageDAO imageDAO;
+    private final GridFsImageDAO gridFsImageDAO;
     private final ImageUrlCreator imageUrlCreator;
+    private final ImageProcessor imageProcessor;
+    private final ImageCache<StoredImage> imageCache;
     private final ModelMapper modelMapper;
 
     public TrainerServiceImpl(
@@ -41,13 +49,19 @@ public class TrainerServiceImpl implements TrainerService{
             TrainerDAO trainerDAO,
             TrainingTypeDAO trainingTypeDAO,
             ImageDAO imageDAO,
-            ImageUrlCreator imageUrlCreator
+            GridFsImageDAO gridFsImageDAO,
+            ImageUrlCreator imageUrlCreator,
+            ImageProcessor imageProcessor,
+            ImageCache<StoredImage> imageCache
     ){
         this.userDAO = userDAO;
         this.trainerDAO = trainerDAO;
         this.trainingTypeDAO = trainingTypeDAO;
         this.imageDAO = imageDAO;
+        this.gridFsImageDAO = gridFsImageDAO;
         this.imageUrlCreator = imageUrlCreator;
+        this.imageProcessor = imageProcessor;
+        this.imageCache = imageCache;
         this.modelMapper = new ModelMapper();
     }
 
@@ -66,13 +80,14 @@ public class TrainerServiceImpl implements TrainerService{
             try {
                 ImageDocument imageDocument = new ImageDocument(
                         UUID.randomUUID().toString(),
-                        new Binary(multipartFile.getBytes()),
+                        new Binary(sanitizeImage(multipartFile)),
                         multipartFile.getContentType()
                 );
                 savedImageDocument = imageDAO.save(imageDocument);
+                String version = saveInGridFs(savedImageDocument, multipartFile);
                 imageDocuments.add(savedImageDocument);
                 imageUrl = imageUrlCreator.createImageUrl(imageDocument.getImageId());
-                imageUrl += "?version=" + DigestUtils.md5DigestAsHex(multipartFile.getBytes());
+                imageUrl += "?version=" + version;
                 imageUrls.add(imageUrl);
             } catch (IOException e) {
                 e.printStackTrace();
@@ -104,6 +119,8 @@ public class TrainerServiceImpl implements TrainerService{
         if (imageDocument != null) {
             String imageId = imageDocument.getImageId();
             imageDAO.deleteByImageId(imageId);
+            gridFsImageDAO.deleteAll(ImageBucket.TRAINER_IMAGES, imageId);
+            imageCache.invalidate(imageId);
         }
         trainerDocument.setImages(new ArrayList<>());
         trainerDocument.setImagesDocuments(new ArrayList<>());
@@ -112,22 +129,23 @@ public class TrainerServiceImpl implements TrainerService{
                 ImageDocument imageToUpdate;
                 if (!trainerDocument.getImagesDocuments().isEmpty()) {
                     imageToUpdate = trainerDocument.getImagesDocuments().get(0);
-                    imageToUpdate.setImageData(new Binary(multipartFile.getBytes()));
+                    imageToUpdate.setImageData(new Binary(sanitizeImage(multipartFile)));
                     imageToUpdate.setContentType(multipartFile.getContentType());
 
                 } else {
                     imageToUpdate = new ImageDocument(
                             UUID.randomUUID().toString(),
-                            new Binary(multipartFile.getBytes()),
+                            new Binary(sanitizeImage(multipartFile)),
                             multipartFile.getContentType()
                     );
                 }
                 ImageDocument savedImageDocument = imageDAO.save(imageToUpdate);
+                String version = saveInGridFs(savedImageDocument, multipartFile);
                 List<ImageDocument> imageDocuments = new ArrayList<>();
                 List<String> imageUrls = new ArrayList<>();
                 imageDocuments.add(savedImageDocument);
                 String imageUrl = imageUrlCreator.createImageUrl(savedImageDocument.getImageId());
-                imageUrl += "?version=" + DigestUtils.md5DigestAsHex(multipartFile.getBytes());
+                imageUrl += "?version=" + version;
                 imageUrls.add(imageUrl);
                 trainerDocument.setImagesDocuments(imageDocuments);
                 trainerDocument.setImages(imageUrls);
@@ -159,6 +177,8 @@ public class TrainerServiceImpl implements TrainerService{
         if (imageDocument != null) {
             String imageId = imageDocument.getImageId();
             imageDAO.deleteByImageId(imageId);
+            gridFsImageDAO.deleteAll(ImageBucket.TRAINER_IMAGES, imageId);
+            imageCache.invalidate(imageId);
         }
         return mapTrainerDocumentToTrainerDTO(trainerDocument);
     }
@@ -187,4 +207,20 @@ public class TrainerServiceImpl implements TrainerService{
         }
         return trainingTypeDocuments;
     }
+
+    private byte[] sanitizeImage(MultipartFile multipartFile) throws IOException {
+        return imageProcessor.sanitize(multipartFile.getBytes(), multipartFile.getContentType());
+    }
+
+    private String saveInGridFs(ImageDocument imageDocument, MultipartFile multipartFile) throws IOException {
+        String version = DigestUtils.md5DigestAsHex(multipartFile.getBytes());
+        gridFsImageDAO.save(
+                ImageBucket.TRAINER_IMAGES,
+                imageDocument.getImageId(),
+                imageDocument.getImageData().getData(),
+                imageDocument.getContentType(),
+                version
+        );
+        return version;
+    }
 }
@@ -0,0 +1,100 @@
+package com.healthy.gym.account.component;
+
+import com.healthy.gym.account.pojo.StoredImage;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ImageResponseCreatorTest {
+
+    private static final String HASH = "8d777f385d3dfec8815d20f7496026dc";
+
+    private ImageResponseCreator imageResponseCreator;
+    private Resource content;
+    private StoredImage image;
+
+    @BeforeEach
+    void setUp() {
+        imageResponseCreator = new ImageResponseCreatorImpl();
+        content = mock(Resource.class);
+        image = new StoredImage(new ObjectId(), MediaType.IMAGE_PNG_VALUE, 4, HASH, content);
+    }
+
+    @Test
+    void shouldReturnNotModifiedWithoutTouchingContentWhenETagMatches() {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch("\"" + HASH + "\"");
+
+        ResponseEntity<Resource> response = imageResponseCreator.createImageResponse(image, HASH, requestHeaders);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + HASH + "\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=31536000, private, immutable");
+        verifyNoInteractions(content);
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenWeakETagMatches() {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch("W/\"" + HASH + "\"");
+
+        ResponseEntity<Resource> response = imageResponseCreator.createImageResponse(image, HASH, requestHeaders);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void shouldReturnContentWhenETagDoesNotMatch() {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch("\"outdated\"");
+
+        ResponseEntity<Resource> response = imageResponseCreator.createImageResponse(image, HASH, requestHeaders);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(content);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + HASH + "\"");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+    }
+
+    @Test
+    void shouldUseLongCacheLifetimeForVariantOfCurrentVersion() {
+        StoredImage variant = new StoredImage(new ObjectId(), MediaType.IMAGE_PNG_VALUE, 4, "variantHash", HASH, content);
+
+        ResponseEntity<Resource> response = imageResponseCreator.createImageResponse(variant, HASH, new HttpHeaders());
+
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=31536000, private, immutable");
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"variantHash\"");
+    }
+
+    @Test
+    void shouldUseShortCacheLifetimeWhenVersionIsOutdatedOrMissing() {
+        ResponseEntity<Resource> outdated =
+                imageResponseCreator.createImageResponse(image, "outdated", new HttpHeaders());
+        ResponseEntity<Resource> unversioned =
+                imageResponseCreator.createImageResponse(image, null, new HttpHeaders());
+
+        assertThat(outdated.getHeaders().getCacheControl()).isEqualTo("max-age=600, private");
+        assertThat(unversioned.getHeaders().getCacheControl()).isEqualTo("max-age=600, private");
+    }
+
+    @Test
+    void shouldFallBackToJpegWhenStoredContentTypeIsInvalid() {
+        StoredImage legacyImage = new StoredImage(new ObjectId(), "unknown", 4, HASH, content);
+
+        ResponseEntity<Resource> response =
+                imageResponseCreator.createImageResponse(legacyImage, HASH, new HttpHeaders());
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.IMAGE_JPEG);
+    }
+}
@@ -113,6 +113,8 @@ class WhenDeleteAvatarIntegrationTest {
     void tearDown() {
         mongoTemplate.dropCollection(UserDocument.class);
         mongoTemplate.dropCollection(PhotoDocument.class);
+        mongoTemplate.dropCollection("avatars.files");
+        mongoTemplate.dropCollection("avatars.chunks");
     }
 
     private byte[] getImageBytes(Resource imageResource) throws IOException {
@@ -95,6 +95,8 @@ class WhenGetAvatarIntegrationTest {
     @AfterEach
     void tearDown() {
         mongoTemplate.dropCollection(PhotoDocument.class);
+        mongoTemplate.dropCollection("avatars.files");
+        mongoTemplate.dropCollection("avatars.chunks");
     }
 
     @Test
@@ -119,8 +121,44 @@ class WhenGetAvatarIntegrationTest {
         HttpHeaders httpHeaders = responseEntity.getHeaders();
         assertThat(Objects.requireNonNull(httpHeaders.getContentType()).toString())
                 .hasToString(MediaType.IMAGE_JPEG_VALUE);
-        assertThat(httpHeaders.getETag()).isNotNull();
-        assertThat(httpHeaders.getCacheControl()).isEqualTo("max-age=600, private");
+        assertThat(httpHeaders.getETag()).isEqualTo("\"" + digest + "\"");
+        assertThat(httpHeaders.getCacheControl()).isEqualTo("max-age=31536000, private, immutable");
+    }
+
+    @Test
+    void shouldReturnShortLivedCacheHeaderWhenVersionIsOutdated() throws Exception {
+        URI uri = new URI("http://localhost:" + port + "/photos/" + userId + "/avatar/outdated");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Accept-Language", Locale.ENGLISH.toString());
+
+        HttpEntity<JsonNode> requestEntity = new HttpEntity<>(null, headers);
+
+        ResponseEntity<byte[]> responseEntity = restTemplate
+                .exchange(uri, HttpMethod.GET, requestEntity, byte[].class);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(responseEntity.getHeaders().getCacheControl()).isEqualTo("max-age=600, private");
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        URI uri = new URI("http://localhost:" + port + "/photos/" + userId + "/avatar/" + digest);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Accept-Language", Locale.ENGLISH.toString());
+        headers.setIfNoneMatch("\"" + digest + "\"");
+
+        HttpEntity<JsonNode> requestEntity = new HttpEntity<>(null, headers);
+
+        ResponseEntity<byte[]> responseEntity = restTemplate
+                .exchange(uri, HttpMethod.GET, requestEntity, byte[].class);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(responseEntity.getBody()).isNull();
+        assertThat(responseEntity.getHeaders().getETag()).isEqualTo("\"" + digest + "\"");
+        assertThat(responseEntity.getHeaders().getCacheControl())
+                .isEqualTo("max-age=31536000, private, immutable");
     }
 
     @Test
@@ -6,7 +6,10 @@ import com.healthy.gym.account.configuration.tests.TestCountry;
 import com.healthy.gym.account.configuration.tests.TestRoleTokenFactory;
 import com.healthy.gym.account.data.document.PhotoDocument;
 import com.healthy.gym.account.data.document.UserDocument;
+import com.healthy.gym.account.data.repository.GridFsImageDAO;
+import com.healthy.gym.account.enums.ImageBucket;
 import com.healthy.gym.account.pojo.Image;
+import com.healthy.gym.account.pojo.StoredImage;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -34,9 +37,11 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import javax.imageio.ImageIO;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.Locale;
@@ -72,6 +77,8 @@ class WhenSetAvatarIntegrationTest {
     private BCryptPasswordEncoder bCryptPasswordEncoder;
     @Autowired
     private Environment environment;
+    @Autowired
+    private GridFsImageDAO gridFsImageDAO;
 
     private String userToken;
     private String userId;
@@ -118,6 +125,8 @@ class WhenSetAvatarIntegrationTest {
     void tearDown() {
         mongoTemplate.dropCollection(UserDocument.class);
         mongoTemplate.dropCollection(PhotoDocument.class);
+        mongoTemplate.dropCollection("avatars.files");
+        mongoTemplate.dropCollection("avatars.chunks");
     }
 
     private byte[] getImageBytes(Resource imageResource) throws IOException {
@@ -184,13 +193,14 @@ class WhenSetAvatarIntegrationTest {
 
     private void testDatabaseSize(int expectedSize) {
         List<PhotoDocument> avatarList = mongoTemplate.findAll(PhotoDocument.class);
-        assertThat(avatarList.size()).isEqualTo(expectedSize);
+        assertThat(avatarList.size()).isZero();
+        assertThat(mongoTemplate.getCollection("avatars.files").countDocuments()).isEqualTo(expectedSize);
     }
 
     @ParameterizedTest
     @EnumSource(TestCountry.class)
     void shouldAcceptRequestAndShouldUpdateAvatar(TestCountry country) throws Exception {
-        testDatabaseWhenUpdate(currentImageResource);
+        testLegacyAvatar(currentImageResource);
 
         Map<String, String> messages = getMessagesAccordingToLocale(country);
         Locale testedLocale = convertEnumToLocale(country);
@@ -228,11 +238,21 @@ class WhenSetAvatarIntegrationTest {
         testDatabaseWhenUpdate(updatedImageResource);
     }
 
-    private void testDatabaseWhenUpdate(Resource imageResource) throws IOException {
+    private void testLegacyAvatar(Resource imageResource) throws IOException {
         List<PhotoDocument> avatarList = mongoTemplate.findAll(PhotoDocument.class);
         assertThat(avatarList.size()).isEqualTo(1);
         assertThat(avatarList.get(0).getImage().getData().getData())
                 .isEqualTo(getImageBytes(imageResource));
     }
 
+    private void testDatabaseWhenUpdate(Resource imageResource) throws IOException {
+        testDatabaseSize(1);
+        StoredImage avatar = gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId);
+        assertThat(avatar.getSourceHash())
+                .isEqualTo(DigestUtils.md5DigestAsHex(getImageBytes(imageResource)));
+        try (InputStream inputStream = avatar.getContent().getInputStream()) {
+            assertThat(ImageIO.read(inputStream)).isNotNull();
+        }
+    }
+
 }
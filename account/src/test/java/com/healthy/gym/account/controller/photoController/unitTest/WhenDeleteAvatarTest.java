@@ -3,7 +3,6 @@ package com.healthy.gym.account.controller.photoController.unitTest;
 import com.healthy.gym.account.configuration.tests.TestCountry;
 import com.healthy.gym.account.configuration.tests.TestRoleTokenFactory;
 import com.healthy.gym.account.controller.PhotoController;
-import com.healthy.gym.account.data.document.PhotoDocument;
 import com.healthy.gym.account.exception.UserAvatarNotFoundException;
 import com.healthy.gym.account.service.PhotoService;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +31,7 @@ import static com.healthy.gym.account.configuration.tests.LocaleConverter.conver
 import static com.healthy.gym.account.configuration.tests.Messages.getMessagesAccordingToLocale;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -81,7 +81,7 @@ class WhenDeleteAvatarTest {
         Locale testedLocale = convertEnumToLocale(country);
 
         String expectedMessage = messages.get("avatar.removed");
-        when(photoService.removeAvatar(userId)).thenReturn(new PhotoDocument());
+        doNothing().when(photoService).removeAvatar(userId);
 
         request = getRequest(userToken, testedLocale);
 
@@ -4,13 +4,18 @@ import com.healthy.gym.account.configuration.tests.TestCountry;
 import com.healthy.gym.account.configuration.tests.TestRoleTokenFactory;
 import com.healthy.gym.account.controller.PhotoController;
 import com.healthy.gym.account.exception.UserAvatarNotFoundException;
+import com.healthy.gym.account.pojo.StoredImage;
 import com.healthy.gym.account.service.PhotoService;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.ActiveProfiles;
@@ -78,7 +83,7 @@ class WhenGetAvatarTest {
     void shouldAcceptRequestAndShouldReturnAvatar(TestCountry country) throws Exception {
         Locale testedLocale = convertEnumToLocale(country);
 
-        when(photoService.getAvatar(userId)).thenReturn("data".getBytes(StandardCharsets.UTF_8));
+        when(photoService.getAvatar(userId, ImageSize.ORIGINAL, null)).thenReturn(getStoredImage());
 
         request = performRequest(userToken, testedLocale);
 
@@ -92,10 +97,92 @@ class WhenGetAvatarTest {
                 .andExpect(header().exists("ETag"));
     }
 
+    private StoredImage getStoredImage() {
+        byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+        return new StoredImage(
+                new ObjectId(),
+                MediaType.IMAGE_JPEG_VALUE,
+                data.length,
+                "8d777f385d3dfec8815d20f7496026dc",
+                new ByteArrayResource(data)
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(TestCountry.class)
+    void shouldReturnNotModifiedWhenAvatarDidNotChange(TestCountry country) throws Exception {
+        Locale testedLocale = convertEnumToLocale(country);
+
+        when(photoService.getAvatar(userId, ImageSize.ORIGINAL, null)).thenReturn(getStoredImage());
+
+        request = MockMvcRequestBuilders
+                .get(uri)
+                .header("Accept-Language", testedLocale.toString())
+                .header("Authorization", userToken)
+                .header("If-None-Match", "\"8d777f385d3dfec8815d20f7496026dc\"");
+
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"8d777f385d3dfec8815d20f7496026dc\""))
+                .andExpect(header().exists("Cache-Control"))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @ParameterizedTest
+    @EnumSource(TestCountry.class)
+    void shouldReturnRequestedVariantOfAvatar(TestCountry country) throws Exception {
+        Locale testedLocale = convertEnumToLocale(country);
+        byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+        StoredImage thumbnail = new StoredImage(
+                new ObjectId(),
+                MediaType.IMAGE_PNG_VALUE,
+                data.length,
+                "aa777f385d3dfec8815d20f7496026dc",
+                "8d777f385d3dfec8815d20f7496026dc",
+                new ByteArrayResource(data)
+        );
+
+        when(photoService.getAvatar(userId, ImageSize.THUMBNAIL, ImageFormat.PNG)).thenReturn(thumbnail);
+
+        request = MockMvcRequestBuilders
+                .get(uri + "?size=thumbnail")
+                .header("Accept-Language", testedLocale.toString())
+                .header("Authorization", userToken)
+                .header("Accept", "image/png,image/*;q=0.8");
+
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG_VALUE))
+                .andExpect(header().string("ETag", "\"aa777f385d3dfec8815d20f7496026dc\""))
+                .andExpect(header().string("Vary", "Accept"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(TestCountry.class)
+    void shouldReturnRequestedRangeOfAvatar(TestCountry country) throws Exception {
+        Locale testedLocale = convertEnumToLocale(country);
+
+        when(photoService.getAvatar(userId, ImageSize.ORIGINAL, null)).thenReturn(getStoredImage());
+
+        request = MockMvcRequestBuilders
+                .get(uri)
+                .header("Accept-Language", testedLocale.toString())
+                .header("Authorization", userToken)
+                .header("Range", "bytes=1-2");
+
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 1-2/4"))
+                .andExpect(content().bytes("at".getBytes(StandardCharsets.UTF_8)));
+    }
+
     @ParameterizedTest
     @EnumSource(TestCountry.class)
     void shouldAcceptRequestAndShouldThrowWhenAvatarNotFound(TestCountry country) throws Exception {
-        doThrow(UserAvatarNotFoundException.class).when(photoService).getAvatar(userId);
+        doThrow(UserAvatarNotFoundException.class).when(photoService).getAvatar(userId, ImageSize.ORIGINAL, null);
 
         Locale testedLocale = convertEnumToLocale(country);
         request = performRequest(userToken, testedLocale);
@@ -129,7 +216,7 @@ class WhenGetAvatarTest {
         Locale testedLocale = convertEnumToLocale(country);
 
         String expectedMessage = messages.get("exception.account.not.found");
-        doThrow(UsernameNotFoundException.class).when(photoService).getAvatar(userId);
+        doThrow(UsernameNotFoundException.class).when(photoService).getAvatar(userId, ImageSize.ORIGINAL, null);
 
         request = performRequest(userToken, testedLocale);
         performAndTestException(status().isNotFound(), expectedMessage, UsernameNotFoundException.class);
@@ -138,7 +225,7 @@ class WhenGetAvatarTest {
     @ParameterizedTest
     @EnumSource(TestCountry.class)
     void shouldAcceptRequestAndShouldThrowWhenInternalErrorHappens(TestCountry country) throws Exception {
-        doThrow(IllegalStateException.class).when(photoService).getAvatar(userId);
+        doThrow(IllegalStateException.class).when(photoService).getAvatar(userId, ImageSize.ORIGINAL, null);
 
         Locale testedLocale = convertEnumToLocale(country);
         request = performRequest(userToken, testedLocale);
@@ -0,0 +1,122 @@
+package com.healthy.gym.account.data.repository;
+
+import com.healthy.gym.account.enums.ImageBucket;
+import com.healthy.gym.account.pojo.StoredImage;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.embedded.EmbeddedMongoAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DataMongoTest(excludeAutoConfiguration = EmbeddedMongoAutoConfiguration.class)
+@Import(GridFsImageDAOImpl.class)
+@ActiveProfiles(value = "test")
+@Tags({@Tag("repository"), @Tag("integration")})
+class GridFsImageDAOTest {
+    @Container
+    static MongoDBContainer mongoDBContainer =
+            new MongoDBContainer(DockerImageName.parse("mongo:4.4.4-bionic"));
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private GridFsImageDAO gridFsImageDAO;
+    private String userId;
+    private byte[] content;
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID().toString();
+        content = new byte[600 * 1024];
+        new Random(42).nextBytes(content);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.dropCollection("avatars.files");
+        mongoTemplate.dropCollection("avatars.chunks");
+    }
+
+    @Test
+    void shouldStoreImageInChunksAndStreamItBack() throws IOException {
+        StoredImage savedImage = gridFsImageDAO.save(ImageBucket.AVATARS, userId, content, "image/png");
+
+        assertThat(mongoTemplate.getCollection("avatars.chunks").countDocuments()).isEqualTo(3);
+
+        StoredImage foundImage = gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId);
+        assertThat(foundImage.getFileId()).isEqualTo(savedImage.getFileId());
+        assertThat(foundImage.getContentType()).isEqualTo("image/png");
+        assertThat(foundImage.getLength()).isEqualTo(content.length);
+        assertThat(foundImage.getContentHash()).isEqualTo(DigestUtils.md5DigestAsHex(content));
+        assertThat(foundImage.getContent().contentLength()).isEqualTo(content.length);
+
+        try (InputStream inputStream = foundImage.getContent().getInputStream()) {
+            assertThat(StreamUtils.copyToByteArray(inputStream)).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void shouldReturnNullWhenImageDoesNotExist() {
+        assertThat(gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId)).isNull();
+    }
+
+    @Test
+    void shouldDeleteAllPreviousVersionsExceptProvidedOne() {
+        gridFsImageDAO.save(ImageBucket.AVATARS, userId, new byte[]{1, 2, 3}, "image/jpeg");
+        StoredImage currentImage = gridFsImageDAO.save(ImageBucket.AVATARS, userId, content, "image/png");
+
+        assertThat(gridFsImageDAO.deleteAllExcept(ImageBucket.AVATARS, userId, currentImage.getFileId()))
+                .isEqualTo(1);
+        assertThat(gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId).getFileId())
+                .isEqualTo(currentImage.getFileId());
+    }
+
+    @Test
+    void shouldDeleteAllVersionsOfImage() {
+        gridFsImageDAO.save(ImageBucket.AVATARS, userId, new byte[]{1, 2, 3}, "image/jpeg");
+        gridFsImageDAO.save(ImageBucket.AVATARS, userId, content, "image/png");
+
+        assertThat(gridFsImageDAO.deleteAll(ImageBucket.AVATARS, userId)).isEqualTo(2);
+        assertThat(gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId)).isNull();
+        assertThat(mongoTemplate.getCollection("avatars.chunks").countDocuments()).isZero();
+    }
+
+    @Test
+    void shouldKeepVariantsSeparateFromImageAndDeleteThemTogether() {
+        gridFsImageDAO.save(ImageBucket.AVATARS, userId, content, "image/jpeg", "sourceHash");
+        gridFsImageDAO.saveVariant(
+                ImageBucket.AVATARS, userId, "thumbnail.png", new byte[]{1, 2, 3}, "image/png", "sourceHash"
+        );
+
+        assertThat(gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId).getContentType())
+                .isEqualTo("image/jpeg");
+        StoredImage variant = gridFsImageDAO.findLatestVariant(ImageBucket.AVATARS, userId, "thumbnail.png");
+        assertThat(variant.getContentType()).isEqualTo("image/png");
+        assertThat(variant.getSourceHash()).isEqualTo("sourceHash");
+
+        assertThat(gridFsImageDAO.deleteAll(ImageBucket.AVATARS, userId)).isEqualTo(2);
+        assertThat(gridFsImageDAO.findLatestVariant(ImageBucket.AVATARS, userId, "thumbnail.png")).isNull();
+    }
+}
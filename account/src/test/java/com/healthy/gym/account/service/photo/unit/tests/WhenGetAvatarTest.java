@@ -1,13 +1,21 @@
 package com.healthy.gym.account.service.photo.unit.tests;
 
 import com.healthy.gym.account.data.document.PhotoDocument;
+import com.healthy.gym.account.data.repository.GridFsImageDAO;
 import com.healthy.gym.account.data.repository.PhotoDAO;
+import com.healthy.gym.account.enums.ImageBucket;
 import com.healthy.gym.account.exception.UserAvatarNotFoundException;
 import com.healthy.gym.account.pojo.Image;
+import com.healthy.gym.account.pojo.StoredImage;
+import com.healthy.gym.account.service.ImageVariantService;
 import com.healthy.gym.account.service.PhotoService;
 import com.healthy.gym.account.service.PhotoServiceImpl;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 
 import java.nio.charset.StandardCharsets;
@@ -15,43 +23,94 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 
 class WhenGetAvatarTest {
 
     private PhotoDAO photoDAO;
+    private GridFsImageDAO gridFsImageDAO;
+    private ImageVariantService imageVariantService;
     private PhotoService photoService;
 
     private String userId;
     private PhotoDocument photoDocument;
+    private StoredImage storedImage;
 
     @BeforeEach
     void setUp() {
         photoDAO = mock(PhotoDAO.class);
-        photoService = new PhotoServiceImpl(photoDAO, null, null);
+        gridFsImageDAO = mock(GridFsImageDAO.class);
+        imageVariantService = mock(ImageVariantService.class);
+        photoService = new PhotoServiceImpl(photoDAO, null, null, gridFsImageDAO, null, imageVariantService);
 
         userId = UUID.randomUUID().toString();
-        Image image = new Image(
-                "testData".getBytes(StandardCharsets.UTF_8),
-                MediaType.IMAGE_JPEG_VALUE
-        );
+        byte[] data = "testData".getBytes(StandardCharsets.UTF_8);
+        Image image = new Image(data, MediaType.IMAGE_JPEG_VALUE);
         photoDocument = new PhotoDocument(userId, "testTitle", image);
+        storedImage = new StoredImage(
+                new ObjectId(),
+                MediaType.IMAGE_JPEG_VALUE,
+                data.length,
+                "hash",
+                new ByteArrayResource(data)
+        );
     }
 
     @Test
     void shouldThrowExceptionWhenProvidedUserIdIsInvalidOrAvatarDoestNotExist() {
+        when(gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId)).thenReturn(null);
         when(photoDAO.findByUserId(userId)).thenReturn(null);
-        assertThatThrownBy(() -> photoService.getAvatar(userId))
+        assertThatThrownBy(() -> photoService.getAvatar(userId, ImageSize.ORIGINAL, null))
                 .isInstanceOf(UserAvatarNotFoundException.class);
     }
 
     @Test
-    void shouldReturnAvatarWhenProvidedUserIdValid() throws UserAvatarNotFoundException {
+    void shouldReturnAvatarWhenProvidedUserIdValid() throws Exception {
+        when(gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId)).thenReturn(storedImage);
+        when(imageVariantService.getVariant(ImageBucket.AVATARS, userId, storedImage, ImageSize.ORIGINAL, null))
+                .thenReturn(storedImage);
+
+        StoredImage avatar = photoService.getAvatar(userId, ImageSize.ORIGINAL, null);
+
+        assertThat(avatar).isEqualTo(storedImage);
+        verify(photoDAO, never()).findByUserId(any());
+    }
+
+    @Test
+    void shouldMigrateLegacyAvatarToGridFs() throws Exception {
+        byte[] data = "testData".getBytes(StandardCharsets.UTF_8);
+        when(gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId)).thenReturn(null);
         when(photoDAO.findByUserId(userId)).thenReturn(photoDocument);
-        byte[] avatar = photoService.getAvatar(userId);
+        when(gridFsImageDAO.save(ImageBucket.AVATARS, userId, data, MediaType.IMAGE_JPEG_VALUE))
+                .thenReturn(storedImage);
+        when(imageVariantService.getVariant(ImageBucket.AVATARS, userId, storedImage, ImageSize.ORIGINAL, null))
+                .thenReturn(storedImage);
+
+        StoredImage avatar = photoService.getAvatar(userId, ImageSize.ORIGINAL, null);
+
+        assertThat(avatar).isEqualTo(storedImage);
+        verify(photoDAO).delete(photoDocument);
+    }
+
+    @Test
+    void shouldReturnRequestedVariantOfAvatar() throws Exception {
+        StoredImage thumbnail = new StoredImage(
+                new ObjectId(),
+                MediaType.IMAGE_PNG_VALUE,
+                2,
+                "thumbnailHash",
+                "hash",
+                new ByteArrayResource(new byte[2])
+        );
+        when(gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId)).thenReturn(storedImage);
+        when(imageVariantService.getVariant(
+                ImageBucket.AVATARS, userId, storedImage, ImageSize.THUMBNAIL, ImageFormat.PNG
+        )).thenReturn(thumbnail);
+
+        StoredImage avatar = photoService.getAvatar(userId, ImageSize.THUMBNAIL, ImageFormat.PNG);
 
-        assertThat(avatar).isEqualTo("testData".getBytes(StandardCharsets.UTF_8));
+        assertThat(avatar).isEqualTo(thumbnail);
     }
 }
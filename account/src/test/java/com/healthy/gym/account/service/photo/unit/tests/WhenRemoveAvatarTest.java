@@ -2,8 +2,10 @@ package com.healthy.gym.account.service.photo.unit.tests;
 
 import com.healthy.gym.account.data.document.PhotoDocument;
 import com.healthy.gym.account.data.document.UserDocument;
+import com.healthy.gym.account.data.repository.GridFsImageDAO;
 import com.healthy.gym.account.data.repository.PhotoDAO;
 import com.healthy.gym.account.data.repository.UserDAO;
+import com.healthy.gym.account.enums.ImageBucket;
 import com.healthy.gym.account.exception.UserAvatarNotFoundException;
 import com.healthy.gym.account.pojo.Image;
 import com.healthy.gym.account.service.PhotoService;
@@ -18,14 +20,13 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class WhenRemoveAvatarTest {
 
     private PhotoDAO photoDAO;
     private UserDAO userDAO;
+    private GridFsImageDAO gridFsImageDAO;
     private PhotoService photoService;
 
     private String userId;
@@ -35,7 +36,8 @@ class WhenRemoveAvatarTest {
     void setUp() {
         photoDAO = mock(PhotoDAO.class);
         userDAO = mock(UserDAO.class);
-        photoService = new PhotoServiceImpl(photoDAO, userDAO, null);
+        gridFsImageDAO = mock(GridFsImageDAO.class);
+        photoService = new PhotoServiceImpl(photoDAO, userDAO, null, gridFsImageDAO, null, null);
 
         userId = UUID.randomUUID().toString();
         Image image = new Image(
@@ -48,6 +50,7 @@ class WhenRemoveAvatarTest {
     @Test
     void shouldThrowExceptionWhenProvidedUserIdIsInvalidOrAvatarDoestNotExist() {
         when(photoDAO.findByUserId(userId)).thenReturn(null);
+        when(gridFsImageDAO.findLatest(ImageBucket.AVATARS, userId)).thenReturn(null);
         assertThatThrownBy(() -> photoService.removeAvatar(userId))
                 .isInstanceOf(UserAvatarNotFoundException.class);
     }
@@ -61,13 +64,17 @@ class WhenRemoveAvatarTest {
     }
 
     @Test
-    void shouldReturnAvatarWhenProvidedUserIdValid() throws UserAvatarNotFoundException {
+    void shouldRemoveAvatarWhenProvidedUserIdValid() throws UserAvatarNotFoundException {
+        UserDocument userDocument = new UserDocument();
+        userDocument.setAvatarUrl("http://localhost:8020/account/photos/" + userId + "/avatar/hash");
         when(photoDAO.findByUserId(userId)).thenReturn(photoDocument);
-        when(userDAO.findByUserId(userId)).thenReturn(new UserDocument());
-        when(photoDAO.findPhotoDocumentById(any())).thenReturn(null);
+        when(userDAO.findByUserId(userId)).thenReturn(userDocument);
 
-        PhotoDocument photoDocument = photoService.removeAvatar(userId);
+        photoService.removeAvatar(userId);
 
-        assertThat(photoDocument).isNull();
+        verify(gridFsImageDAO).deleteAll(ImageBucket.AVATARS, userId);
+        verify(photoDAO).delete(photoDocument);
+        verify(userDAO).save(userDocument);
+        assertThat(userDocument.getAvatarUrl()).isNull();
     }
 }
@@ -3,14 +3,20 @@ package com.healthy.gym.account.service.photo.unit.tests;
 import com.healthy.gym.account.component.AvatarUrlCreator;
 import com.healthy.gym.account.data.document.PhotoDocument;
 import com.healthy.gym.account.data.document.UserDocument;
+import com.healthy.gym.account.data.repository.GridFsImageDAO;
 import com.healthy.gym.account.data.repository.PhotoDAO;
 import com.healthy.gym.account.data.repository.UserDAO;
+import com.healthy.gym.account.enums.ImageBucket;
 import com.healthy.gym.account.exception.PhotoSavingException;
 import com.healthy.gym.account.pojo.Image;
+import com.healthy.gym.account.pojo.StoredImage;
 import com.healthy.gym.account.service.PhotoService;
 import com.healthy.gym.account.service.PhotoServiceImpl;
+import com.healthy.gym.image.component.ImageProcessor;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -24,8 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class WhenSetAvatarTest {
 
@@ -33,10 +38,12 @@ class WhenSetAvatarTest {
     private PhotoDAO photoDAO;
     private UserDAO userDAO;
     private AvatarUrlCreator avatarUrlCreator;
+    private GridFsImageDAO gridFsImageDAO;
+    private ImageProcessor imageProcessor;
 
     private String userId;
     private MockMultipartFile multipartFile;
-    private PhotoDocument savedDocument;
+    private StoredImage storedImage;
     private PhotoDocument currentPhotoDocument;
 
     @BeforeEach
@@ -44,7 +51,16 @@ class WhenSetAvatarTest {
         photoDAO = mock(PhotoDAO.class);
         userDAO = mock(UserDAO.class);
         avatarUrlCreator = mock(AvatarUrlCreator.class);
-        photoService = new PhotoServiceImpl(photoDAO, userDAO, avatarUrlCreator);
+        gridFsImageDAO = mock(GridFsImageDAO.class);
+        imageProcessor = mock(ImageProcessor.class);
+        photoService = new PhotoServiceImpl(
+                photoDAO,
+                userDAO,
+                avatarUrlCreator,
+                gridFsImageDAO,
+                imageProcessor,
+                null
+        );
 
 
         userId = UUID.randomUUID().toString();
@@ -62,13 +78,13 @@ class WhenSetAvatarTest {
                         MediaType.IMAGE_JPEG_VALUE
                 )
         );
-        savedDocument = new PhotoDocument(
-                userId,
-                multipartFile.getName(),
-                new Image(
-                        multipartFile.getBytes(),
-                        multipartFile.getContentType()
-                )
+        when(imageProcessor.sanitize(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        storedImage = new StoredImage(
+                new ObjectId(),
+                multipartFile.getContentType(),
+                multipartFile.getSize(),
+                DigestUtils.md5DigestAsHex(multipartFile.getBytes()),
+                new ByteArrayResource(multipartFile.getBytes())
         );
     }
 
@@ -83,9 +99,14 @@ class WhenSetAvatarTest {
     @Test
     void shouldThrowExceptionWhenErrorOccursWhileSavingPhoto() {
         when(userDAO.findByUserId(userId)).thenReturn(new UserDocument());
-        when(photoDAO.findByUserId(userId)).thenReturn(null);
-        savedDocument.setTitle("differentTitle");
-        when(photoDAO.save(any())).thenReturn(savedDocument);
+        StoredImage truncatedImage = new StoredImage(
+                new ObjectId(),
+                multipartFile.getContentType(),
+                1,
+                "hash",
+                new ByteArrayResource(new byte[1])
+        );
+        when(gridFsImageDAO.save(any(), anyString(), any(), anyString(), anyString())).thenReturn(truncatedImage);
         assertThatThrownBy(
                 () -> photoService.setAvatar(userId, multipartFile)
         ).isInstanceOf(PhotoSavingException.class);
@@ -95,15 +116,18 @@ class WhenSetAvatarTest {
     void shouldProperlyUpdateAvatar() throws PhotoSavingException, IOException {
         when(userDAO.findByUserId(userId)).thenReturn(new UserDocument());
         when(photoDAO.findByUserId(userId)).thenReturn(currentPhotoDocument);
-        when(photoDAO.save(any())).thenReturn(savedDocument);
+        when(gridFsImageDAO.save(any(), anyString(), any(), anyString(), anyString())).thenReturn(storedImage);
         when(avatarUrlCreator.createAvatarUrl(anyString()))
-                .thenReturn("http://localhost:8020/account/photos/" + userId);
-        var user = new UserDocument();
-        String digest = DigestUtils.md5DigestAsHex(savedDocument.getImage().getData().getData());
-        user.setAvatarUrl("http://localhost:8020/account/photos/" + userId + "/version/" + digest);
-        when(userDAO.save(any())).thenReturn(user);
+                .thenReturn("http://localhost:8020/account/photos/" + userId + "/avatar");
+        when(userDAO.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         String avatar = photoService.setAvatar(userId, multipartFile);
-        assertThat(avatar).startsWith("http://localhost:8020/account/photos/" + userId + "/version/");
+
+        assertThat(avatar).isEqualTo(
+                "http://localhost:8020/account/photos/" + userId + "/avatar/" + storedImage.getContentHash()
+        );
+        verify(gridFsImageDAO).deleteAllExcept(ImageBucket.AVATARS, userId, storedImage.getFileId());
+        verify(photoDAO).delete(currentPhotoDocument);
+        verify(imageProcessor).sanitize(multipartFile.getBytes(), MediaType.IMAGE_PNG_VALUE);
     }
 }
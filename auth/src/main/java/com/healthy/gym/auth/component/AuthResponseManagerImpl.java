@@ -17,10 +17,12 @@ import java.util.Map;
 public class AuthResponseManagerImpl implements AuthResponseManager {
 
     private final Translator translator;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public AuthResponseManagerImpl(Translator translator) {
+    public AuthResponseManagerImpl(Translator translator, ObjectMapper objectMapper) {
         this.translator = translator;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -28,7 +30,6 @@ public class AuthResponseManagerImpl implements AuthResponseManager {
         String message = translator.toLocale("user.logout.token.expired");
         Map<String, String> errors = new HashMap<>();
 
-        var objectMapper = new ObjectMapper();
         var bodyAsString = objectMapper
                 .writeValueAsString(new LogoutResponse(message, errors, true));
 
@@ -40,7 +41,6 @@ public class AuthResponseManagerImpl implements AuthResponseManager {
         String message = translator.toLocale("user.logout.success");
         Map<String, String> errors = new HashMap<>();
 
-        var objectMapper = new ObjectMapper();
         var bodyAsString = objectMapper
                 .writeValueAsString(new LogoutResponse(message, errors, true));
 
@@ -53,7 +53,6 @@ public class AuthResponseManagerImpl implements AuthResponseManager {
         Map<String, String> errors = new HashMap<>();
         errors.put("token", translator.toLocale("user.logout.invalid.token"));
 
-        var objectMapper = new ObjectMapper();
         var bodyAsString = objectMapper
                 .writeValueAsString(new LogoutResponse(message, errors, false));
 
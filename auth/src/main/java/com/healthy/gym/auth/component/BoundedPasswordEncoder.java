@@ -0,0 +1,102 @@
+package com.healthy.gym.auth.component;
+
+import com.healthy.gym.auth.exceptions.LoginCapacityExceededException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutInMillis;
+
+    @Autowired
+    public BoundedPasswordEncoder(BCryptPasswordEncoder bCryptPasswordEncoder, Environment environment) {
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+
+        int threads = environment.getProperty(
+                "security.password.hashing.threads",
+                Integer.class,
+                Runtime.getRuntime().availableProcessors()
+        );
+        int queueCapacity = environment.getProperty(
+                "security.password.hashing.queue-capacity",
+                Integer.class,
+                64
+        );
+        this.timeoutInMillis = environment.getProperty(
+                "security.password.hashing.timeout",
+                Long.class,
+                5000L
+        );
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Encodes on the calling thread, the pool only bounds login verification so that a burst of logins
+     * can not make registration or password reset fail.
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return bCryptPasswordEncoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return bCryptPasswordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException exception) {
+            throw new LoginCapacityExceededException("Password hashing queue is full.", exception);
+        }
+
+        try {
+            return future.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            future.cancel(true);
+            throw new LoginCapacityExceededException("Password hashing timed out.", exception);
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginCapacityExceededException("Password hashing interrupted.", exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,9 @@
+package com.healthy.gym.auth.component;
+
+public interface LoginAttemptLimiter {
+    long getRetryAfterSeconds(String email, String ipAddress);
+
+    void loginFailed(String email, String ipAddress);
+
+    void loginSucceeded(String email);
+}
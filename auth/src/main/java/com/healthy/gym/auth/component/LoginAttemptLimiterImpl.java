@@ -0,0 +1,230 @@
+package com.healthy.gym.auth.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LoginAttemptLimiterImpl implements LoginAttemptLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptLimiterImpl.class);
+    private static final String EMAIL_PREFIX = "email:";
+    private static final String IP_ADDRESS_PREFIX = "ip:";
+    private static final String REDIS_KEY_PREFIX = "login-attempts:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, SlidingWindow> windows;
+    private final long windowInMillis;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIpAddress;
+    private final boolean redisEnabled;
+
+    @Autowired
+    public LoginAttemptLimiterImpl(RedisTemplate<String, String> redisTemplate, Environment environment) {
+        this.redisTemplate = redisTemplate;
+        this.windowInMillis = environment.getProperty(
+                "security.login-attempts.window",
+                Long.class,
+                900_000L
+        );
+        this.maxFailuresPerEmail = environment.getProperty(
+                "security.login-attempts.max-failures-per-email",
+                Integer.class,
+                5
+        );
+        this.maxFailuresPerIpAddress = environment.getProperty(
+                "security.login-attempts.max-failures-per-ip",
+                Integer.class,
+                50
+        );
+        this.redisEnabled = environment.getProperty(
+                "security.login-attempts.redis.enabled",
+                Boolean.class,
+                true
+        );
+        long maximumSize = environment.getProperty(
+                "security.login-attempts.maximum-size",
+                Long.class,
+                100_000L
+        );
+        this.windows = Caffeine.newBuilder()
+                .expireAfterAccess(2 * windowInMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public long getRetryAfterSeconds(String email, String ipAddress) {
+        String emailKey = getEmailKey(email);
+        String ipAddressKey = getIpAddressKey(ipAddress);
+        long now = System.currentTimeMillis();
+
+        if (isBlocked(emailKey, ipAddressKey, now)) return getRetryAfterSeconds(now);
+        if (!redisEnabled) return 0;
+
+        mergeRemoteCounters(emailKey, ipAddressKey, now);
+        return isBlocked(emailKey, ipAddressKey, now) ? getRetryAfterSeconds(now) : 0;
+    }
+
+    @Override
+    public void loginFailed(String email, String ipAddress) {
+        String emailKey = getEmailKey(email);
+        String ipAddressKey = getIpAddressKey(ipAddress);
+        long now = System.currentTimeMillis();
+
+        windows.get(emailKey, key -> new SlidingWindow()).increment(getBucket(now));
+        windows.get(ipAddressKey, key -> new SlidingWindow()).increment(getBucket(now));
+
+        if (!redisEnabled) return;
+
+        byte[] emailRedisKey = getRedisKey(emailKey, getBucket(now));
+        byte[] ipAddressRedisKey = getRedisKey(ipAddressKey, getBucket(now));
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                incrementWithExpiration(connection, emailRedisKey);
+                incrementWithExpiration(connection, ipAddressRedisKey);
+                return null;
+            });
+        } catch (DataAccessException exception) {
+            logger.warn("Could not mirror failed login attempt to Redis.", exception);
+        }
+    }
+
+    private void incrementWithExpiration(RedisConnection connection, byte[] key) {
+        connection.stringCommands().incr(key);
+        connection.keyCommands().pExpire(key, 2 * windowInMillis);
+    }
+
+    @Override
+    public void loginSucceeded(String email) {
+        String emailKey = getEmailKey(email);
+        windows.invalidate(emailKey);
+
+        if (!redisEnabled) return;
+
+        long bucket = getBucket(System.currentTimeMillis());
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().del(
+                    getRedisKey(emailKey, bucket),
+                    getRedisKey(emailKey, bucket - 1)
+            ));
+        } catch (DataAccessException exception) {
+            logger.warn("Could not reset failed login attempts in Redis.", exception);
+        }
+    }
+
+    private boolean isBlocked(String emailKey, String ipAddressKey, long now) {
+        return getEstimatedFailures(emailKey, now) >= maxFailuresPerEmail
+                || getEstimatedFailures(ipAddressKey, now) >= maxFailuresPerIpAddress;
+    }
+
+    private double getEstimatedFailures(String key, long now) {
+        SlidingWindow window = windows.getIfPresent(key);
+        if (window == null) return 0;
+        return window.estimate(getBucket(now), getPreviousBucketWeight(now));
+    }
+
+    private void mergeRemoteCounters(String emailKey, String ipAddressKey, long now) {
+        long bucket = getBucket(now);
+        List<byte[]> counters;
+        try {
+            counters = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.stringCommands().mGet(
+                            getRedisKey(emailKey, bucket),
+                            getRedisKey(emailKey, bucket - 1),
+                            getRedisKey(ipAddressKey, bucket),
+                            getRedisKey(ipAddressKey, bucket - 1)
+                    )
+            );
+        } catch (DataAccessException exception) {
+            logger.warn("Could not read failed login attempts from Redis.", exception);
+            return;
+        }
+        if (counters == null || counters.size() != 4) return;
+
+        mergeRemoteCounter(emailKey, bucket, counters.get(0), counters.get(1));
+        mergeRemoteCounter(ipAddressKey, bucket, counters.get(2), counters.get(3));
+    }
+
+    private void mergeRemoteCounter(String key, long bucket, byte[] current, byte[] previous) {
+        int currentFailures = parseCounter(current);
+        int previousFailures = parseCounter(previous);
+        if (currentFailures == 0 && previousFailures == 0) return;
+
+        windows.get(key, k -> new SlidingWindow()).merge(bucket, currentFailures, previousFailures);
+    }
+
+    private int parseCounter(byte[] counter) {
+        if (counter == null) return 0;
+        return Integer.parseInt(new String(counter, StandardCharsets.US_ASCII));
+    }
+
+    private long getBucket(long now) {
+        return now / windowInMillis;
+    }
+
+    private double getPreviousBucketWeight(long now) {
+        return 1 - (double) (now % windowInMillis) / windowInMillis;
+    }
+
+    private long getRetryAfterSeconds(long now) {
+        long remainingInMillis = windowInMillis - now % windowInMillis;
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingInMillis + 999));
+    }
+
+    private String getEmailKey(String email) {
+        return EMAIL_PREFIX + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private String getIpAddressKey(String ipAddress) {
+        return IP_ADDRESS_PREFIX + (ipAddress == null ? "" : ipAddress);
+    }
+
+    private byte[] getRedisKey(String key, long bucket) {
+        return RedisSerializer.string().serialize(REDIS_KEY_PREFIX + key + ":" + bucket);
+    }
+
+    private static class SlidingWindow {
+        private long bucket;
+        private int current;
+        private int previous;
+
+        synchronized void increment(long bucket) {
+            roll(bucket);
+            current++;
+        }
+
+        synchronized void merge(long bucket, int current, int previous) {
+            roll(bucket);
+            this.current = Math.max(this.current, current);
+            this.previous = Math.max(this.previous, previous);
+        }
+
+        synchronized double estimate(long bucket, double previousBucketWeight) {
+            roll(bucket);
+            return current + previous * previousBucketWeight;
+        }
+
+        private void roll(long bucket) {
+            if (bucket == this.bucket) return;
+
+            previous = bucket == this.bucket + 1 ? current : 0;
+            current = 0;
+            this.bucket = bucket;
+        }
+    }
+}
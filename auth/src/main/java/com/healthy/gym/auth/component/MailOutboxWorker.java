@@ -0,0 +1,88 @@
+package com.healthy.gym.auth.component;
+
+import com.healthy.gym.auth.service.MailOutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class MailOutboxWorker implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailOutboxWorker.class);
+
+    private final MailOutboxService mailOutboxService;
+    private final boolean enabled;
+    private final int threads;
+    private final long pollIntervalInMillis;
+    private ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    @Autowired
+    public MailOutboxWorker(MailOutboxService mailOutboxService, Environment environment) {
+        this.mailOutboxService = mailOutboxService;
+        this.enabled = environment.getProperty("mail.outbox.worker.enabled", Boolean.class, true);
+        this.threads = environment.getProperty("mail.outbox.worker.threads", Integer.class, 2);
+        this.pollIntervalInMillis = environment.getProperty(
+                "mail.outbox.worker.poll-interval",
+                Long.class,
+                1000L
+        );
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || isRunning()) return;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mail-outbox-");
+        threadFactory.setDaemon(true);
+
+        running = true;
+        executor = Executors.newScheduledThreadPool(threads, threadFactory);
+        for (int i = 0; i < threads; i++) {
+            executor.scheduleWithFixedDelay(
+                    this::drain,
+                    i * pollIntervalInMillis / threads,
+                    pollIntervalInMillis,
+                    TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    private void drain() {
+        try {
+            int sentMails;
+            do {
+                sentMails = mailOutboxService.sendPendingMails();
+            } while (running && sentMails > 0);
+        } catch (RuntimeException exception) {
+            logger.warn("Could not send pending mails.", exception);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!isRunning()) return;
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) executor.shutdownNow();
+        } catch (InterruptedException exception) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
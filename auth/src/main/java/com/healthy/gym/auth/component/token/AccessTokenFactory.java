@@ -0,0 +1,7 @@
+package com.healthy.gym.auth.component.token;
+
+import java.util.Collection;
+
+public interface AccessTokenFactory {
+    String createAccessToken(String userId, Collection<String> roles);
+}
@@ -0,0 +1,43 @@
+package com.healthy.gym.auth.component.token;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+
+@Component
+public class AccessTokenFactoryImpl implements AccessTokenFactory {
+
+    private final TokenManager tokenManager;
+    private final SigningKeyManager signingKeyManager;
+
+    @Autowired
+    public AccessTokenFactoryImpl(TokenManager tokenManager, SigningKeyManager signingKeyManager) {
+        this.tokenManager = tokenManager;
+        this.signingKeyManager = signingKeyManager;
+    }
+
+    @Override
+    public String createAccessToken(String userId, Collection<String> roles) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyManager.getActiveKeyId())
+                .setSubject(userId)
+                .claim("roles", new ArrayList<>(roles))
+                .setExpiration(getExpirationTime())
+                .signWith(
+                        tokenManager.getSignatureAlgorithm(),
+                        signingKeyManager.getActivePrivateKey()
+                )
+                .compact();
+    }
+
+    private Date getExpirationTime() {
+        long currentTime = System.currentTimeMillis();
+        long expirationTime = tokenManager.getExpirationTimeInMillis();
+        return new Date(currentTime + expirationTime);
+    }
+}
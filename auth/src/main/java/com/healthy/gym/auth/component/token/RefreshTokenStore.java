@@ -0,0 +1,11 @@
+package com.healthy.gym.auth.component.token;
+
+import com.healthy.gym.auth.exceptions.token.InvalidTokenException;
+
+public interface RefreshTokenStore {
+    String issue(String userId);
+
+    RotatedRefreshToken rotate(String refreshToken) throws InvalidTokenException;
+
+    void revoke(String refreshToken);
+}
@@ -0,0 +1,176 @@
+package com.healthy.gym.auth.component.token;
+
+import com.healthy.gym.auth.exceptions.token.InvalidTokenException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RefreshTokenStoreImpl implements RefreshTokenStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenStoreImpl.class);
+    private static final String KEY_PREFIX = "refresh-token-family:";
+    private static final String SEPARATOR = ".";
+    private static final String ROTATED = "ROTATED ";
+    private static final String REUSED = "REUSED";
+    private static final int SECRET_LENGTH_IN_BYTES = 32;
+
+    private static final String ROTATE_SCRIPT =
+            "local value = redis.call('GET', KEYS[1]) " +
+            "if not value then return 'MISSING' end " +
+            "local separator = string.find(value, ' ', 1, true) " +
+            "if string.sub(value, 1, separator - 1) ~= ARGV[1] then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  return 'REUSED' " +
+            "end " +
+            "local timeToLive = redis.call('PTTL', KEYS[1]) " +
+            "if timeToLive <= 0 then return 'MISSING' end " +
+            "local userId = string.sub(value, separator + 1) " +
+            "redis.call('SET', KEYS[1], ARGV[2] .. ' ' .. userId, 'PX', timeToLive) " +
+            "return 'ROTATED ' .. userId";
+
+    private static final String REVOKE_SCRIPT =
+            "local value = redis.call('GET', KEYS[1]) " +
+            "if not value then return 'MISSING' end " +
+            "local separator = string.find(value, ' ', 1, true) " +
+            "if string.sub(value, 1, separator - 1) ~= ARGV[1] then return 'MISMATCHED' end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 'REVOKED'";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenManager tokenManager;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    public RefreshTokenStoreImpl(RedisTemplate<String, String> redisTemplate, TokenManager tokenManager) {
+        this.redisTemplate = redisTemplate;
+        this.tokenManager = tokenManager;
+    }
+
+    @Override
+    public String issue(String userId) {
+        String familyId = UUID.randomUUID().toString();
+        String secret = generateSecret();
+
+        byte[] key = serialize(KEY_PREFIX + familyId);
+        byte[] value = serialize(getSecretDigest(secret) + " " + userId);
+        Expiration expiration = Expiration.from(
+                tokenManager.getRefreshTokenExpirationTimeInMillis(),
+                TimeUnit.MILLISECONDS
+        );
+
+        redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(
+                key,
+                value,
+                expiration,
+                RedisStringCommands.SetOption.UPSERT
+        ));
+
+        return familyId + SEPARATOR + secret;
+    }
+
+    @Override
+    public RotatedRefreshToken rotate(String refreshToken) throws InvalidTokenException {
+        String familyId = getFamilyId(refreshToken);
+        String secret = getSecret(refreshToken, familyId);
+        String newSecret = generateSecret();
+
+        String result = executeScript(
+                ROTATE_SCRIPT,
+                KEY_PREFIX + familyId,
+                getSecretDigest(secret),
+                getSecretDigest(newSecret)
+        );
+
+        if (result != null && result.startsWith(ROTATED)) {
+            String userId = result.substring(ROTATED.length());
+            return new RotatedRefreshToken(userId, familyId + SEPARATOR + newSecret);
+        }
+
+        if (REUSED.equals(result)) {
+            logger.warn("Refresh token reuse detected, token family {} has been revoked.", familyId);
+        }
+        throw new InvalidTokenException("Refresh token is invalid or has expired.");
+    }
+
+    @Override
+    public void revoke(String refreshToken) {
+        try {
+            String familyId = getFamilyId(refreshToken);
+            // only the holder of the current secret may end the session, not anyone who knows the family id
+            executeScript(REVOKE_SCRIPT, KEY_PREFIX + familyId, getSecretDigest(getSecret(refreshToken, familyId)));
+        } catch (InvalidTokenException exception) {
+            logger.debug("Ignoring malformed refresh token on revocation.");
+        }
+    }
+
+    private String getFamilyId(String refreshToken) throws InvalidTokenException {
+        if (refreshToken == null) throw new InvalidTokenException("Refresh token is missing.");
+
+        int separatorIndex = refreshToken.indexOf(SEPARATOR);
+        if (separatorIndex <= 0 || separatorIndex == refreshToken.length() - 1) {
+            throw new InvalidTokenException("Refresh token is malformed.");
+        }
+
+        String familyId = refreshToken.substring(0, separatorIndex);
+        try {
+            UUID.fromString(familyId);
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidTokenException("Refresh token is malformed.");
+        }
+        return familyId;
+    }
+
+    private String getSecret(String refreshToken, String familyId) {
+        return refreshToken.substring(familyId.length() + SEPARATOR.length());
+    }
+
+    private String generateSecret() {
+        byte[] secret = new byte[SECRET_LENGTH_IN_BYTES];
+        secureRandom.nextBytes(secret);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+    }
+
+    private String getSecretDigest(String secret) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(secret.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private String executeScript(String script, String key, String... args) {
+        // keys are passed as plain strings, the same way issue() writes them
+        byte[][] keyAndArgs = new byte[args.length + 1][];
+        keyAndArgs[0] = serialize(key);
+        for (int i = 0; i < args.length; i++) {
+            keyAndArgs[i + 1] = serialize(args[i]);
+        }
+
+        byte[] result = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.scriptingCommands().eval(serialize(script), ReturnType.VALUE, 1, keyAndArgs)
+        );
+        return RedisSerializer.string().deserialize(result);
+    }
+
+    private byte[] serialize(String value) {
+        return RedisSerializer.string().serialize(value);
+    }
+}
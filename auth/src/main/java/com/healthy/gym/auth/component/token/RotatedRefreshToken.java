@@ -0,0 +1,20 @@
+package com.healthy.gym.auth.component.token;
+
+public class RotatedRefreshToken {
+
+    private final String userId;
+    private final String refreshToken;
+
+    public RotatedRefreshToken(String userId, String refreshToken) {
+        this.userId = userId;
+        this.refreshToken = refreshToken;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+}
@@ -0,0 +1,16 @@
+package com.healthy.gym.auth.component.token;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.Map;
+
+public interface SigningKeyManager {
+    String getActiveKeyId();
+
+    PrivateKey getActivePrivateKey();
+
+    PublicKey getPublicKey(String keyId);
+
+    List<Map<String, Object>> getJsonWebKeys();
+}
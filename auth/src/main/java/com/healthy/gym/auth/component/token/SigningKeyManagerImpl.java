@@ -0,0 +1,161 @@
+package com.healthy.gym.auth.component.token;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.*;
+
+@Component
+public class SigningKeyManagerImpl implements SigningKeyManager {
+
+    private static final String SIGNING_PROPERTIES = "token.signing";
+
+    private final Environment environment;
+    private volatile SigningKeys signingKeys;
+
+    @Autowired
+    public SigningKeyManagerImpl(Environment environment) {
+        this.environment = environment;
+        this.signingKeys = loadSigningKeys();
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        boolean signingKeysChanged = event.getKeys()
+                .stream()
+                .anyMatch(key -> key.startsWith(SIGNING_PROPERTIES));
+
+        if (signingKeysChanged) signingKeys = loadSigningKeys();
+    }
+
+    @Override
+    public String getActiveKeyId() {
+        return signingKeys.activeKeyId;
+    }
+
+    @Override
+    public PrivateKey getActivePrivateKey() {
+        return signingKeys.privateKeys.get(signingKeys.activeKeyId);
+    }
+
+    @Override
+    public PublicKey getPublicKey(String keyId) {
+        if (keyId == null) return null;
+        return signingKeys.publicKeys.get(keyId);
+    }
+
+    @Override
+    public List<Map<String, Object>> getJsonWebKeys() {
+        return signingKeys.jsonWebKeys;
+    }
+
+    private SigningKeys loadSigningKeys() {
+        Binder binder = Binder.get(environment);
+
+        String activeKeyId = binder
+                .bind(SIGNING_PROPERTIES + ".active-key-id", String.class)
+                .orElseThrow(() -> new IllegalStateException("Active signing key id is not configured."));
+
+        // keys given inline, e.g. through environment variables, take precedence over mounted key files
+        Map<String, String> encodedKeys = new HashMap<>(binder
+                .bind(SIGNING_PROPERTIES + ".keys", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of()));
+        binder.bind(SIGNING_PROPERTIES + ".key-files", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of())
+                .forEach((keyId, keyFile) -> encodedKeys.computeIfAbsent(keyId, id -> readKeyFile(keyFile)));
+
+        if (!encodedKeys.containsKey(activeKeyId))
+            throw new IllegalStateException("Signing key " + activeKeyId + " is not configured.");
+
+        Map<String, PrivateKey> privateKeys = new HashMap<>();
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        List<Map<String, Object>> jsonWebKeys = new ArrayList<>();
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+
+            for (Map.Entry<String, String> encodedKey : encodedKeys.entrySet()) {
+                String keyId = encodedKey.getKey();
+                byte[] keyBytes = Base64.getMimeDecoder().decode(encodedKey.getValue());
+
+                RSAPrivateCrtKey privateKey =
+                        (RSAPrivateCrtKey) keyFactory.generatePrivate(new PKCS8EncodedKeySpec(keyBytes));
+                PublicKey publicKey = keyFactory.generatePublic(
+                        new RSAPublicKeySpec(privateKey.getModulus(), privateKey.getPublicExponent())
+                );
+
+                privateKeys.put(keyId, privateKey);
+                publicKeys.put(keyId, publicKey);
+                jsonWebKeys.add(toJsonWebKey(keyId, privateKey));
+            }
+        } catch (Exception exception) {
+            throw new IllegalStateException("Invalid signing key configuration.", exception);
+        }
+
+        return new SigningKeys(
+                activeKeyId,
+                Map.copyOf(privateKeys),
+                Map.copyOf(publicKeys),
+                List.copyOf(jsonWebKeys)
+        );
+    }
+
+    private String readKeyFile(String keyFile) {
+        try {
+            return Files.readString(Path.of(keyFile)).replaceAll("-----(BEGIN|END) PRIVATE KEY-----", "");
+        } catch (IOException exception) {
+            throw new IllegalStateException("Signing key file " + keyFile + " can not be read.", exception);
+        }
+    }
+
+    private Map<String, Object> toJsonWebKey(String keyId, RSAPrivateCrtKey key) {
+        Map<String, Object> jsonWebKey = new LinkedHashMap<>();
+        jsonWebKey.put("kty", "RSA");
+        jsonWebKey.put("use", "sig");
+        jsonWebKey.put("alg", "RS256");
+        jsonWebKey.put("kid", keyId);
+        jsonWebKey.put("n", encodeUnsigned(key.getModulus()));
+        jsonWebKey.put("e", encodeUnsigned(key.getPublicExponent()));
+        return Collections.unmodifiableMap(jsonWebKey);
+    }
+
+    private String encodeUnsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static class SigningKeys {
+        private final String activeKeyId;
+        private final Map<String, PrivateKey> privateKeys;
+        private final Map<String, PublicKey> publicKeys;
+        private final List<Map<String, Object>> jsonWebKeys;
+
+        private SigningKeys(
+                String activeKeyId,
+                Map<String, PrivateKey> privateKeys,
+                Map<String, PublicKey> publicKeys,
+                List<Map<String, Object>> jsonWebKeys
+        ) {
+            this.activeKeyId = activeKeyId;
+            this.privateKeys = privateKeys;
+            this.publicKeys = publicKeys;
+            this.jsonWebKeys = jsonWebKeys;
+        }
+    }
+}
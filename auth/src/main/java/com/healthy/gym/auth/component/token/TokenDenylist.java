@@ -0,0 +1,9 @@
+package com.healthy.gym.auth.component.token;
+
+import java.time.Duration;
+
+public interface TokenDenylist {
+    boolean isRevoked(String token);
+
+    boolean revoke(String token, String userId, Duration timeToLive);
+}
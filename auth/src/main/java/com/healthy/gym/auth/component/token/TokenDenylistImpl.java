@@ -0,0 +1,94 @@
+package com.healthy.gym.auth.component.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TokenDenylistImpl implements TokenDenylist {
+
+    private static final String KEY_PREFIX = "revoked-token:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenManager tokenManager;
+    private final Cache<String, Boolean> notRevokedTokens;
+
+    @Autowired
+    public TokenDenylistImpl(
+            RedisTemplate<String, String> redisTemplate,
+            TokenManager tokenManager,
+            Environment environment
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.tokenManager = tokenManager;
+
+        long timeToLive = environment.getProperty(
+                "token.denylist.negative-cache.time-to-live",
+                Long.class,
+                1000L
+        );
+        long maximumSize = environment.getProperty(
+                "token.denylist.negative-cache.maximum-size",
+                Long.class,
+                10_000L
+        );
+        this.notRevokedTokens = Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive, TimeUnit.MILLISECONDS)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public boolean isRevoked(String token) {
+        if (notRevokedTokens.getIfPresent(token) != null) return false;
+
+        boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + getTokenDigest(token)));
+        if (!revoked) notRevokedTokens.put(token, Boolean.FALSE);
+
+        return revoked;
+    }
+
+    @Override
+    public boolean revoke(String token, String userId, Duration timeToLive) {
+        notRevokedTokens.invalidate(token);
+
+        String channel = tokenManager.getRevokedTokensChannel();
+        String digest = getTokenDigest(token);
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                redisOperations.opsForValue().setIfAbsent(KEY_PREFIX + digest, userId, timeToLive);
+                redisOperations.convertAndSend(channel, digest);
+                return null;
+            }
+        });
+
+        return Boolean.TRUE.equals(results.get(0));
+    }
+
+    private String getTokenDigest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -3,13 +3,21 @@ package com.healthy.gym.auth.component.token;
 import io.jsonwebtoken.SignatureAlgorithm;
 
 public interface TokenManager {
+
+    /**
+     * Returns the shared signing key of legacy tokens while they are still accepted, otherwise null.
+     */
     String getSigningKey();
 
     long getExpirationTimeInMillis();
 
+    long getRefreshTokenExpirationTimeInMillis();
+
     String getHttpHeaderName();
 
     String getTokenPrefix();
 
     SignatureAlgorithm getSignatureAlgorithm();
+
+    String getRevokedTokensChannel();
 }
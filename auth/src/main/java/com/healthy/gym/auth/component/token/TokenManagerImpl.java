@@ -5,6 +5,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+
 @Component
 public class TokenManagerImpl implements TokenManager {
 
@@ -17,6 +19,11 @@ public class TokenManagerImpl implements TokenManager {
 
     @Override
     public String getSigningKey() {
+        if (!environment.getProperty("token.legacy.enabled", Boolean.class, false)) return null;
+
+        Instant acceptedUntil = Instant.parse(environment.getRequiredProperty("token.legacy.accepted-until"));
+        if (!Instant.now().isBefore(acceptedUntil)) return null;
+
         return environment.getRequiredProperty("token.secret");
     }
 
@@ -26,6 +33,12 @@ public class TokenManagerImpl implements TokenManager {
         return Long.parseLong(expirationTime);
     }
 
+    @Override
+    public long getRefreshTokenExpirationTimeInMillis() {
+        String expirationTime = environment.getRequiredProperty("token.refresh.expiration-time");
+        return Long.parseLong(expirationTime);
+    }
+
     @Override
     public String getHttpHeaderName() {
         return environment.getRequiredProperty("authorization.token.header.name");
@@ -38,6 +51,11 @@ public class TokenManagerImpl implements TokenManager {
 
     @Override
     public SignatureAlgorithm getSignatureAlgorithm() {
-        return SignatureAlgorithm.HS256;
+        return SignatureAlgorithm.RS256;
+    }
+
+    @Override
+    public String getRevokedTokensChannel() {
+        return environment.getRequiredProperty("token.revocation.channel");
     }
 }
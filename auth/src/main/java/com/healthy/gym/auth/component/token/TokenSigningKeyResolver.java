@@ -0,0 +1,38 @@
+package com.healthy.gym.auth.component.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.impl.TextCodec;
+
+import java.security.Key;
+
+class TokenSigningKeyResolver extends SigningKeyResolverAdapter {
+
+    private final SigningKeyManager signingKeyManager;
+    private final String legacySigningKey;
+
+    TokenSigningKeyResolver(SigningKeyManager signingKeyManager, String legacySigningKey) {
+        this.signingKeyManager = signingKeyManager;
+        this.legacySigningKey = legacySigningKey;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String keyId = header.getKeyId();
+        if (keyId == null) return super.resolveSigningKey(header, claims);
+
+        Key publicKey = signingKeyManager.getPublicKey(keyId);
+        if (publicKey == null) throw new IllegalArgumentException("Unknown signing key: " + keyId);
+
+        return publicKey;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public byte[] resolveSigningKeyBytes(JwsHeader header, Claims claims) {
+        if (legacySigningKey == null) throw new IllegalArgumentException("Shared signing key is disabled.");
+        return TextCodec.BASE64.decode(legacySigningKey);
+    }
+}
@@ -1,5 +1,6 @@
 package com.healthy.gym.auth.component.token;
 
+import io.jsonwebtoken.Claims;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
 import java.util.Date;
@@ -13,5 +14,7 @@ public interface TokenValidator {
 
     UsernamePasswordAuthenticationToken getAuthentication(String token, String tokenPrefix, String signingKey);
 
+    Claims getClaims(String token, String tokenPrefix, String signingKey);
+
     String purifyToken(String token, String tokenPrefix);
 }
@@ -1,7 +1,9 @@
 package com.healthy.gym.auth.component.token;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
@@ -14,6 +16,13 @@ public class TokenValidatorImpl implements TokenValidator {
 
     private static final String INVALID_TOKEN = "Invalid token.";
 
+    private final SigningKeyManager signingKeyManager;
+
+    @Autowired
+    public TokenValidatorImpl(SigningKeyManager signingKeyManager) {
+        this.signingKeyManager = signingKeyManager;
+    }
+
     @Override
     public Date getTokenExpirationTime(String token, String signingKey) {
         return getTokenExpirationTime(token, null, signingKey);
@@ -21,17 +30,13 @@ public class TokenValidatorImpl implements TokenValidator {
 
     @Override
     public Date getTokenExpirationTime(String token, String tokenPrefix, String signingKey) {
-        validateArguments(token, signingKey);
+        isTokenNull(token);
         String pureToken = purifyTokenInternal(token, tokenPrefix);
 
         Date expiration;
 
         try {
-            expiration = Jwts.parser()
-                    .setSigningKey(signingKey)
-                    .parseClaimsJws(pureToken)
-                    .getBody()
-                    .getExpiration();
+            expiration = parseClaims(pureToken, signingKey).getExpiration();
         } catch (ExpiredJwtException exception) {
             throw new ExpiredJwtException(null, null, exception.getMessage());
         } catch (Exception exception) {
@@ -50,17 +55,13 @@ public class TokenValidatorImpl implements TokenValidator {
 
     @Override
     public UsernamePasswordAuthenticationToken getAuthentication(String token, String tokenPrefix, String signingKey) {
-        validateArguments(token, signingKey);
+        isTokenNull(token);
         String pureToken = purifyTokenInternal(token, tokenPrefix);
 
         String userId;
 
         try {
-            userId = Jwts.parser()
-                    .setSigningKey(signingKey)
-                    .parseClaimsJws(pureToken)
-                    .getBody()
-                    .getSubject();
+            userId = parseClaims(pureToken, signingKey).getSubject();
         } catch (Exception exception) {
             throw new AuthenticationServiceException(INVALID_TOKEN);
         }
@@ -70,22 +71,45 @@ public class TokenValidatorImpl implements TokenValidator {
         return new UsernamePasswordAuthenticationToken(userId, null, new ArrayList<>());
     }
 
+    @Override
+    public Claims getClaims(String token, String tokenPrefix, String signingKey) {
+        isTokenNull(token);
+        String pureToken = purifyTokenInternal(token, tokenPrefix);
+
+        Claims claims;
+
+        try {
+            claims = parseClaims(pureToken, signingKey);
+        } catch (ExpiredJwtException exception) {
+            throw new ExpiredJwtException(null, null, exception.getMessage());
+        } catch (Exception exception) {
+            throw new AuthenticationServiceException(INVALID_TOKEN);
+        }
+
+        isTokenValid(claims.getExpiration());
+        isTokenValid(claims.getSubject());
+
+        return claims;
+    }
+
     @Override
     public String purifyToken(String token, String tokenPrefix) {
         isTokenNull(token);
         return purifyTokenInternal(token, tokenPrefix);
     }
 
+    private Claims parseClaims(String token, String signingKey) {
+        return Jwts.parser()
+                .setSigningKeyResolver(new TokenSigningKeyResolver(signingKeyManager, signingKey))
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
     private String purifyTokenInternal(String token, String prefix) {
         if (prefix == null) return token.trim();
         return token.replace(prefix, "").trim();
     }
 
-    private void validateArguments(String token, String signingKey) {
-        isTokenNull(token);
-        isSigningKeyNull(signingKey);
-    }
-
     private void isTokenValid(Object token) {
         if (token == null) throw new AuthenticationServiceException(INVALID_TOKEN);
     }
@@ -93,8 +117,4 @@ public class TokenValidatorImpl implements TokenValidator {
     private void isTokenNull(String token) {
         if (token == null) throw new IllegalArgumentException("Token can not be null.");
     }
-
-    private void isSigningKeyNull(String signingKey) {
-        if (signingKey == null) throw new IllegalArgumentException("Signing key can not be null.");
-    }
 }
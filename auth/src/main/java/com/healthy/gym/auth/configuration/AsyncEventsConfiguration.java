@@ -1,18 +1,23 @@
 package com.healthy.gym.auth.configuration;
 
+import com.healthy.gym.security.event.ApplicationEventExecutor;
+import com.healthy.gym.security.event.BoundedApplicationEventMulticaster;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ApplicationEventMulticaster;
-import org.springframework.context.event.SimpleApplicationEventMulticaster;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.env.Environment;
 
 @Configuration
 public class AsyncEventsConfiguration {
 
     @Bean
-    public ApplicationEventMulticaster simpleApplicationEventMulticaster() {
-        SimpleApplicationEventMulticaster eventMulticaster = new SimpleApplicationEventMulticaster();
-        eventMulticaster.setTaskExecutor(new SimpleAsyncTaskExecutor());
-        return eventMulticaster;
+    public ApplicationEventExecutor applicationEventExecutor(Environment environment) {
+        return new ApplicationEventExecutor(environment);
+    }
+
+    @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    public ApplicationEventMulticaster applicationEventMulticaster(ApplicationEventExecutor applicationEventExecutor) {
+        return new BoundedApplicationEventMulticaster(applicationEventExecutor, "com.healthy.gym.auth.");
     }
 }
@@ -0,0 +1,32 @@
+package com.healthy.gym.auth.controller;
+
+import com.healthy.gym.auth.component.token.SigningKeyManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+public class JsonWebKeySetController {
+
+    private final SigningKeyManager signingKeyManager;
+
+    @Autowired
+    public JsonWebKeySetController(SigningKeyManager signingKeyManager) {
+        this.signingKeyManager = signingKeyManager;
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> getJsonWebKeySet() {
+        return ResponseEntity
+                .ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(Map.of("keys", signingKeyManager.getJsonWebKeys()));
+    }
+}
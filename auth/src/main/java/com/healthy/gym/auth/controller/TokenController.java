@@ -0,0 +1,93 @@
+package com.healthy.gym.auth.controller;
+
+import com.healthy.gym.auth.component.Translator;
+import com.healthy.gym.auth.component.token.AccessTokenFactory;
+import com.healthy.gym.auth.component.token.RefreshTokenStore;
+import com.healthy.gym.auth.component.token.RotatedRefreshToken;
+import com.healthy.gym.auth.exceptions.token.InvalidTokenException;
+import com.healthy.gym.auth.pojo.request.RefreshTokenRequest;
+import com.healthy.gym.auth.pojo.response.ConfirmationResponse;
+import com.healthy.gym.auth.service.UserService;
+import com.healthy.gym.auth.shared.GymUserDetails;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AccountStatusException;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.validation.Valid;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/token")
+public class TokenController {
+
+    private final UserService userService;
+    private final Translator translator;
+    private final AccessTokenFactory accessTokenFactory;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AccountStatusUserDetailsChecker userDetailsChecker = new AccountStatusUserDetailsChecker();
+
+    @Autowired
+    public TokenController(
+            UserService userService,
+            Translator translator,
+            AccessTokenFactory accessTokenFactory,
+            RefreshTokenStore refreshTokenStore
+    ) {
+        this.userService = userService;
+        this.translator = translator;
+        this.accessTokenFactory = accessTokenFactory;
+        this.refreshTokenStore = refreshTokenStore;
+    }
+
+    @PostMapping(
+            value = "/refresh",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<ConfirmationResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+        RotatedRefreshToken rotatedRefreshToken;
+        try {
+            rotatedRefreshToken = refreshTokenStore.rotate(request.getRefreshToken());
+        } catch (InvalidTokenException exception) {
+            String reason = translator.toLocale("token.refresh.invalid");
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, reason, exception);
+        }
+
+        GymUserDetails userDetails;
+        try {
+            userDetails = userService.loadUserByUserId(rotatedRefreshToken.getUserId());
+            userDetailsChecker.check(userDetails);
+        } catch (UsernameNotFoundException | AccountStatusException exception) {
+            refreshTokenStore.revoke(rotatedRefreshToken.getRefreshToken());
+            String reason = translator.toLocale("token.refresh.invalid");
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, reason, exception);
+        }
+
+        List<String> userRoles = userDetails
+                .getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+        String token = accessTokenFactory.createAccessToken(userDetails.getUserId(), userRoles);
+
+        String message = translator.toLocale("token.refresh.success");
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .header("token", "Bearer " + token)
+                .header("refreshToken", rotatedRefreshToken.getRefreshToken())
+                .header("userId", userDetails.getUserId())
+                .body(new ConfirmationResponse(message, new HashMap<>(), true));
+    }
+}
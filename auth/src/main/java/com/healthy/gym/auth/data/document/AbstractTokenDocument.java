@@ -1,5 +1,6 @@
 package com.healthy.gym.auth.data.document;
 
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 
 import java.time.LocalDateTime;
@@ -8,10 +9,14 @@ import java.util.Objects;
 
 public abstract class AbstractTokenDocument {
 
+    private static final int EXPIRED_TOKEN_RETENTION_IN_SECONDS = 24 * 60 * 60;
+
+    @Indexed(unique = true)
     private String token;
 
     @DBRef
     private UserDocument userDocument;
+    @Indexed(expireAfterSeconds = EXPIRED_TOKEN_RETENTION_IN_SECONDS)
     private LocalDateTime expiryDate;
     private boolean wasUsed;
 
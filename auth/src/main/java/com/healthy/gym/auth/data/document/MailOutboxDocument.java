@@ -0,0 +1,168 @@
+package com.healthy.gym.auth.data.document;
+
+import com.healthy.gym.auth.enums.MailOutboxStatus;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Document(collection = "mailOutbox")
+@CompoundIndex(name = "status_nextAttemptAt", def = "{'status': 1, 'nextAttemptAt': 1}")
+public class MailOutboxDocument {
+
+    @Id
+    private String id;
+    private List<String> recipients;
+    private String subject;
+    private String text;
+    private MailOutboxStatus status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime createdAt;
+    private String lastError;
+
+    public MailOutboxDocument() {
+    }
+
+    public MailOutboxDocument(SimpleMailMessage mailMessage) {
+        if (mailMessage.getTo() == null) throw new IllegalArgumentException("Mail recipient can not be null.");
+
+        this.recipients = Arrays.asList(mailMessage.getTo());
+        this.subject = mailMessage.getSubject();
+        this.text = mailMessage.getText();
+        this.status = MailOutboxStatus.PENDING;
+        this.createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        this.nextAttemptAt = createdAt;
+    }
+
+    public SimpleMailMessage toMailMessage() {
+        SimpleMailMessage mailMessage = new SimpleMailMessage();
+        mailMessage.setTo(recipients.toArray(new String[0]));
+        mailMessage.setSubject(subject);
+        mailMessage.setText(text);
+        return mailMessage;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public List<String> getRecipients() {
+        return recipients;
+    }
+
+    public void setRecipients(List<String> recipients) {
+        this.recipients = recipients;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public MailOutboxStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(MailOutboxStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MailOutboxDocument that = (MailOutboxDocument) o;
+        return attempts == that.attempts
+                && Objects.equals(id, that.id)
+                && Objects.equals(recipients, that.recipients)
+                && Objects.equals(subject, that.subject)
+                && Objects.equals(text, that.text)
+                && status == that.status
+                && Objects.equals(nextAttemptAt, that.nextAttemptAt)
+                && Objects.equals(createdAt, that.createdAt)
+                && Objects.equals(lastError, that.lastError);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                id,
+                recipients,
+                subject,
+                text,
+                status,
+                attempts,
+                nextAttemptAt,
+                createdAt,
+                lastError
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "MailOutboxDocument{" +
+                "id='" + id + '\'' +
+                ", recipients=" + recipients +
+                ", subject='" + subject + '\'' +
+                ", status=" + status +
+                ", attempts=" + attempts +
+                ", nextAttemptAt=" + nextAttemptAt +
+                ", createdAt=" + createdAt +
+                ", lastError='" + lastError + '\'' +
+                '}';
+    }
+}
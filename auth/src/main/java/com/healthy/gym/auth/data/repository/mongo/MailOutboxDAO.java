@@ -0,0 +1,21 @@
+package com.healthy.gym.auth.data.repository.mongo;
+
+import com.healthy.gym.auth.data.document.MailOutboxDocument;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MailOutboxDAO {
+
+    MailOutboxDocument insert(MailOutboxDocument mail);
+
+    /**
+     * Every claim counts as an attempt, so a mail whose lease expires without an outcome is not retried forever.
+     */
+    List<MailOutboxDocument> claimPendingMails(int limit, int maxAttempts, LocalDateTime leaseExpiresAt);
+
+    void save(MailOutboxDocument mail);
+
+    void removeAll(Collection<String> ids);
+}
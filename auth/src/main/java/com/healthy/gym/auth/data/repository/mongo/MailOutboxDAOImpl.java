@@ -0,0 +1,86 @@
+package com.healthy.gym.auth.data.repository.mongo;
+
+import com.healthy.gym.auth.data.document.MailOutboxDocument;
+import com.healthy.gym.auth.enums.MailOutboxStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class MailOutboxDAOImpl implements MailOutboxDAO {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public MailOutboxDAOImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public MailOutboxDocument insert(MailOutboxDocument mail) {
+        return mongoTemplate.insert(mail);
+    }
+
+    @Override
+    public List<MailOutboxDocument> claimPendingMails(int limit, int maxAttempts, LocalDateTime leaseExpiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        failAbandonedMails(maxAttempts, now);
+
+        Criteria criteria = Criteria
+                .where("status").in(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING)
+                .and("nextAttemptAt").lte(now)
+                .and("attempts").lt(maxAttempts);
+
+        Query query = new Query(criteria).with(Sort.by("nextAttemptAt"));
+        Update update = new Update()
+                .set("status", MailOutboxStatus.SENDING)
+                .set("nextAttemptAt", leaseExpiresAt)
+                .inc("attempts", 1);
+
+        List<MailOutboxDocument> claimedMails = new ArrayList<>();
+        while (claimedMails.size() < limit) {
+            MailOutboxDocument mail = mongoTemplate.findAndModify(
+                    query,
+                    update,
+                    FindAndModifyOptions.options().returnNew(true),
+                    MailOutboxDocument.class
+            );
+            if (mail == null) break;
+            claimedMails.add(mail);
+        }
+        return claimedMails;
+    }
+
+    private void failAbandonedMails(int maxAttempts, LocalDateTime now) {
+        Criteria criteria = Criteria
+                .where("status").is(MailOutboxStatus.SENDING)
+                .and("nextAttemptAt").lte(now)
+                .and("attempts").gte(maxAttempts);
+
+        Update update = new Update()
+                .set("status", MailOutboxStatus.FAILED)
+                .set("lastError", "Sending did not finish before the lease expired.");
+        mongoTemplate.updateMulti(new Query(criteria), update, MailOutboxDocument.class);
+    }
+
+    @Override
+    public void save(MailOutboxDocument mail) {
+        mongoTemplate.save(mail);
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) {
+        if (ids.isEmpty()) return;
+        mongoTemplate.remove(new Query(Criteria.where("id").in(ids)), MailOutboxDocument.class);
+    }
+}
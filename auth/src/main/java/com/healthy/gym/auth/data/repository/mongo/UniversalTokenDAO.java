@@ -0,0 +1,8 @@
+package com.healthy.gym.auth.data.repository.mongo;
+
+import com.healthy.gym.auth.data.document.AbstractTokenDocument;
+
+public interface UniversalTokenDAO {
+
+    <T extends AbstractTokenDocument> T findValidTokenAndMarkAsUsed(String token, Class<T> tokenClass);
+}
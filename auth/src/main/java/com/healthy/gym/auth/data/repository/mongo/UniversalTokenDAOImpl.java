@@ -0,0 +1,38 @@
+package com.healthy.gym.auth.data.repository.mongo;
+
+import com.healthy.gym.auth.data.document.AbstractTokenDocument;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public class UniversalTokenDAOImpl implements UniversalTokenDAO {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public UniversalTokenDAOImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public <T extends AbstractTokenDocument> T findValidTokenAndMarkAsUsed(String token, Class<T> tokenClass) {
+        Criteria criteria = Criteria
+                .where("token").is(token)
+                .and("wasUsed").is(false)
+                .and("expiryDate").gt(LocalDateTime.now());
+
+        return mongoTemplate.findAndModify(
+                new Query(criteria),
+                Update.update("wasUsed", true),
+                FindAndModifyOptions.options().returnNew(true),
+                tokenClass
+        );
+    }
+}
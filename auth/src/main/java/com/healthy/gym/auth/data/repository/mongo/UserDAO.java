@@ -5,4 +5,6 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 public interface UserDAO extends MongoRepository<UserDocument, String> {
     UserDocument findByEmail(String email);
+
+    UserDocument findByUserId(String userId);
 }
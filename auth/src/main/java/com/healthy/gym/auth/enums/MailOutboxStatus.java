@@ -0,0 +1,7 @@
+package com.healthy.gym.auth.enums;
+
+public enum MailOutboxStatus {
+    PENDING,
+    SENDING,
+    FAILED
+}
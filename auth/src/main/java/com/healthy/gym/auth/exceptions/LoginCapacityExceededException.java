@@ -0,0 +1,13 @@
+package com.healthy.gym.auth.exceptions;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+public class LoginCapacityExceededException extends AuthenticationServiceException {
+    public LoginCapacityExceededException(String message) {
+        super(message);
+    }
+
+    public LoginCapacityExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
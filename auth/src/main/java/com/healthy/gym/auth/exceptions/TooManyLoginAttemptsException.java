@@ -0,0 +1,16 @@
+package com.healthy.gym.auth.exceptions;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+public class TooManyLoginAttemptsException extends AuthenticationServiceException {
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
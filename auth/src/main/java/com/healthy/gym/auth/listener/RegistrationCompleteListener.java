@@ -4,25 +4,24 @@ import com.healthy.gym.auth.component.MailMessageManager;
 import com.healthy.gym.auth.data.document.RegistrationTokenDocument;
 import com.healthy.gym.auth.data.document.UserDocument;
 import com.healthy.gym.auth.events.OnRegistrationCompleteEvent;
+import com.healthy.gym.auth.service.MailOutboxService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.event.EventListener;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RegistrationCompleteListener {
-    private final JavaMailSender javaMailSender;
+    private final MailOutboxService mailOutboxService;
     private final MailMessageManager mailMessageManager;
 
     @Autowired
     public RegistrationCompleteListener(
-            @Qualifier("getJavaMailSender") JavaMailSender javaMailSender,
+            MailOutboxService mailOutboxService,
             MailMessageManager mailMessageManager
     ) {
-        this.javaMailSender = javaMailSender;
+        this.mailOutboxService = mailOutboxService;
         this.mailMessageManager = mailMessageManager;
     }
 
@@ -34,7 +33,7 @@ public class RegistrationCompleteListener {
 
         SimpleMailMessage confirmationEmail = getConfirmRegistrationMail(user, registrationToken);
 
-        javaMailSender.send(confirmationEmail);
+        mailOutboxService.enqueue(confirmationEmail);
     }
 
     private SimpleMailMessage getConfirmRegistrationMail(UserDocument user, RegistrationTokenDocument registrationToken) {
@@ -4,26 +4,25 @@ import com.healthy.gym.auth.component.MailMessageManager;
 import com.healthy.gym.auth.data.document.ResetPasswordTokenDocument;
 import com.healthy.gym.auth.data.document.UserDocument;
 import com.healthy.gym.auth.events.OnResetPasswordEvent;
+import com.healthy.gym.auth.service.MailOutboxService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.event.EventListener;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ResetPasswordListener {
 
-    private final JavaMailSender javaMailSender;
+    private final MailOutboxService mailOutboxService;
     private final MailMessageManager mailMessageManager;
 
     @Autowired
     public ResetPasswordListener(
-            @Qualifier("getJavaMailSender") JavaMailSender javaMailSender,
+            MailOutboxService mailOutboxService,
             MailMessageManager mailMessageManager
     ) {
-        this.javaMailSender = javaMailSender;
+        this.mailOutboxService = mailOutboxService;
         this.mailMessageManager = mailMessageManager;
     }
 
@@ -39,7 +38,7 @@ public class ResetPasswordListener {
         if (user == null || token == null) throw new IllegalStateException();
 
         SimpleMailMessage resetPasswordMail = getResetPasswordMail(user, resetPasswordToken);
-        javaMailSender.send(resetPasswordMail);
+        mailOutboxService.enqueue(resetPasswordMail);
     }
 
     private SimpleMailMessage getResetPasswordMail(UserDocument user, ResetPasswordTokenDocument resetPasswordToken) {
@@ -2,20 +2,22 @@ package com.healthy.gym.auth.security;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthy.gym.auth.component.LoginAttemptLimiter;
 import com.healthy.gym.auth.component.Translator;
-import com.healthy.gym.auth.component.token.TokenManager;
-import com.healthy.gym.auth.enums.GymRole;
+import com.healthy.gym.auth.component.token.AccessTokenFactory;
+import com.healthy.gym.auth.component.token.RefreshTokenStore;
+import com.healthy.gym.auth.exceptions.LoginCapacityExceededException;
+import com.healthy.gym.auth.exceptions.TooManyLoginAttemptsException;
 import com.healthy.gym.auth.pojo.request.LogInUserRequest;
-import com.healthy.gym.auth.service.UserService;
-import com.healthy.gym.auth.shared.UserDTO;
-import io.jsonwebtoken.Jwts;
+import com.healthy.gym.auth.shared.GymUserDetails;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import javax.servlet.FilterChain;
@@ -24,7 +26,6 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,18 +33,27 @@ import java.util.stream.Collectors;
 
 public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
-    private final UserService userService;
+    private static final String EMAIL_ATTRIBUTE = AuthenticationFilter.class.getName() + ".email";
+    private static final String IP_ADDRESS_ATTRIBUTE = AuthenticationFilter.class.getName() + ".ipAddress";
+
     private final Translator translator;
-    private final TokenManager tokenManager;
+    private final AccessTokenFactory accessTokenFactory;
+    private final RefreshTokenStore refreshTokenStore;
+    private final ObjectMapper objectMapper;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     public AuthenticationFilter(
-            UserService userService,
             Translator translator,
-            TokenManager tokenManager
+            AccessTokenFactory accessTokenFactory,
+            RefreshTokenStore refreshTokenStore,
+            ObjectMapper objectMapper,
+            LoginAttemptLimiter loginAttemptLimiter
     ) {
-        this.userService = userService;
         this.translator = translator;
-        this.tokenManager = tokenManager;
+        this.accessTokenFactory = accessTokenFactory;
+        this.refreshTokenStore = refreshTokenStore;
+        this.objectMapper = objectMapper;
+        this.loginAttemptLimiter = loginAttemptLimiter;
     }
 
     @Override
@@ -53,16 +63,22 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     ) throws AuthenticationException {
 
         try {
-            LogInUserRequest credentials = new ObjectMapper()
+            LogInUserRequest credentials = objectMapper
                     .readValue(request.getInputStream(), LogInUserRequest.class);
-            String userEmail = credentials.getEmail();
-            UserDTO userDetails = userService.getUserDetailsByEmail(userEmail);
+
+            String ipAddress = getIpAddress(request);
+            long retryAfterSeconds = loginAttemptLimiter.getRetryAfterSeconds(credentials.getEmail(), ipAddress);
+            if (retryAfterSeconds > 0) {
+                throw new TooManyLoginAttemptsException("Too many failed login attempts.", retryAfterSeconds);
+            }
+
+            request.setAttribute(EMAIL_ATTRIBUTE, credentials.getEmail());
+            request.setAttribute(IP_ADDRESS_ATTRIBUTE, ipAddress);
 
             return getAuthenticationManager().authenticate(
                     new UsernamePasswordAuthenticationToken(
                             credentials.getEmail(),
-                            credentials.getPassword(),
-                            userDetails.getGymRoles()
+                            credentials.getPassword()
                     )
             );
 
@@ -71,6 +87,14 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         }
     }
 
+    private String getIpAddress(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank()) return request.getRemoteAddr();
+
+        String[] addresses = forwardedFor.split(",");
+        return addresses[addresses.length - 1].trim();
+    }
+
     @Override
     protected void successfulAuthentication(
             HttpServletRequest request,
@@ -79,38 +103,26 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
             Authentication authResult
     ) throws IOException, ServletException {
 
-        String userEmail = ((User) authResult.getPrincipal()).getUsername();
-        UserDTO userDetails = userService.getUserDetailsByEmail(userEmail);
+        GymUserDetails userDetails = (GymUserDetails) authResult.getPrincipal();
+        loginAttemptLimiter.loginSucceeded((String) request.getAttribute(EMAIL_ATTRIBUTE));
 
         String token = getTokenForUser(userDetails);
+        String refreshToken = refreshTokenStore.issue(userDetails.getUserId());
 
         response.addHeader("token", "Bearer " + token);
+        response.addHeader("refreshToken", refreshToken);
         response.addHeader("userId", userDetails.getUserId());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
     }
 
-    private String getTokenForUser(UserDTO userDetails) {
+    private String getTokenForUser(GymUserDetails userDetails) {
         List<String> userRoles = userDetails
-                .getGymRoles()
+                .getAuthorities()
                 .stream()
-                .map(GymRole::getRole)
+                .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList());
 
-        return Jwts.builder()
-                .setSubject(userDetails.getUserId())
-                .claim("roles", userRoles)
-                .setExpiration(setTokenExpirationTime())
-                .signWith(
-                        tokenManager.getSignatureAlgorithm(),
-                        tokenManager.getSigningKey()
-                )
-                .compact();
-    }
-
-    private Date setTokenExpirationTime() {
-        long currentTime = System.currentTimeMillis();
-        long expirationTime = tokenManager.getExpirationTimeInMillis();
-        return new Date(currentTime + expirationTime);
+        return accessTokenFactory.createAccessToken(userDetails.getUserId(), userRoles);
     }
 
     @Override
@@ -120,9 +132,26 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
             AuthenticationException failed
     ) throws IOException, ServletException {
 
+        HttpStatus status = HttpStatus.UNAUTHORIZED;
         String message = translator.toLocale("user.log-in.fail");
 
-        if (failed instanceof AccountExpiredException) {
+        if (failed instanceof BadCredentialsException) {
+            loginAttemptLimiter.loginFailed(
+                    (String) request.getAttribute(EMAIL_ATTRIBUTE),
+                    (String) request.getAttribute(IP_ADDRESS_ATTRIBUTE)
+            );
+        }
+
+        if (failed instanceof TooManyLoginAttemptsException) {
+            status = HttpStatus.TOO_MANY_REQUESTS;
+            message = translator.toLocale("user.log-in.fail.too-many-attempts");
+            long retryAfterSeconds = ((TooManyLoginAttemptsException) failed).getRetryAfterSeconds();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        } else if (failed instanceof LoginCapacityExceededException) {
+            status = HttpStatus.SERVICE_UNAVAILABLE;
+            message = translator.toLocale("user.log-in.fail.overloaded");
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        } else if (failed instanceof AccountExpiredException) {
             message = translator.toLocale("user.log-in.fail.account.expired");
         } else if (failed instanceof CredentialsExpiredException) {
             message = translator.toLocale("user.log-in.fail.credentials.expired");
@@ -132,24 +161,23 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
             message = translator.toLocale("user.log-in.fail.account.locked");
         }
 
-        String body = getResponseBody(message);
+        String body = getResponseBody(status, message);
 
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setStatus(status.value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setCharacterEncoding("UTF-8");
         response.setLocale(LocaleContextHolder.getLocale());
         response.getWriter().println(body);
     }
 
-    private String getResponseBody(String message) throws JsonProcessingException {
+    private String getResponseBody(HttpStatus status, String message) throws JsonProcessingException {
         Map<String, String> body = new HashMap<>();
         body.put("timestamp", LocalDateTime.now().toString());
-        body.put("status", String.valueOf(HttpStatus.UNAUTHORIZED.value()));
-        body.put("error", HttpStatus.UNAUTHORIZED.getReasonPhrase());
+        body.put("status", String.valueOf(status.value()));
+        body.put("error", status.getReasonPhrase());
         body.put("message", message);
         body.put("path", "/login");
 
-        ObjectMapper objectMapper = new ObjectMapper();
         return objectMapper.writeValueAsString(body);
     }
 }
@@ -2,7 +2,7 @@ package com.healthy.gym.auth.security;
 
 import com.healthy.gym.auth.component.AuthResponseManager;
 import com.healthy.gym.auth.component.HttpHeaderParser;
-import org.springframework.data.redis.core.RedisTemplate;
+import com.healthy.gym.auth.component.token.TokenDenylist;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.GenericFilterBean;
 
@@ -18,16 +18,16 @@ import java.io.IOException;
 public class RedisFilter extends GenericFilterBean {
 
     private final HttpHeaderParser httpHeaderParser;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenDenylist tokenDenylist;
     private final AuthResponseManager responseManager;
 
     public RedisFilter(
             HttpHeaderParser httpHeaderParser,
-            RedisTemplate<String, String> redisTemplate,
+            TokenDenylist tokenDenylist,
             AuthResponseManager responseManager
     ) {
         this.httpHeaderParser = httpHeaderParser;
-        this.redisTemplate = redisTemplate;
+        this.tokenDenylist = tokenDenylist;
         this.responseManager = responseManager;
     }
 
@@ -44,8 +44,7 @@ public class RedisFilter extends GenericFilterBean {
             return;
         }
 
-        String userID = redisTemplate.opsForValue().get(token);
-        if (userID == null) {
+        if (!tokenDenylist.isRevoked(token)) {
             chain.doFilter(request, response);
             return;
         }
@@ -1,12 +1,13 @@
 package com.healthy.gym.auth.security;
 
 import com.healthy.gym.auth.component.AuthResponseManager;
+import com.healthy.gym.auth.component.token.RefreshTokenStore;
+import com.healthy.gym.auth.component.token.TokenDenylist;
 import com.healthy.gym.auth.component.token.TokenManager;
 import com.healthy.gym.auth.component.token.TokenValidator;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
 import org.springframework.stereotype.Service;
@@ -20,22 +21,25 @@ import java.util.Date;
 @Service
 public class RedisLogoutHandler implements LogoutSuccessHandler {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenDenylist tokenDenylist;
     private final TokenValidator tokenValidator;
     private final TokenManager tokenManager;
     private final AuthResponseManager responseManager;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Autowired
     public RedisLogoutHandler(
-            RedisTemplate<String, String> redisTemplate,
+            TokenDenylist tokenDenylist,
             TokenValidator tokenValidator,
             TokenManager tokenManager,
-            AuthResponseManager responseManager
+            AuthResponseManager responseManager,
+            RefreshTokenStore refreshTokenStore
     ) {
-        this.redisTemplate = redisTemplate;
+        this.tokenDenylist = tokenDenylist;
         this.tokenValidator = tokenValidator;
         this.tokenManager = tokenManager;
         this.responseManager = responseManager;
+        this.refreshTokenStore = refreshTokenStore;
     }
 
     @Override
@@ -47,6 +51,9 @@ public class RedisLogoutHandler implements LogoutSuccessHandler {
         String headerName = tokenManager.getHttpHeaderName();
         String headerPrefix = tokenManager.getTokenPrefix();
 
+        String refreshToken = request.getHeader("refreshToken");
+        if (refreshToken != null) refreshTokenStore.revoke(refreshToken);
+
         String token = request.getHeader(headerName);
         if (token == null || !token.startsWith(headerPrefix)) {
             responseManager.handleUnsuccessfulLogout(response);
@@ -59,24 +66,21 @@ public class RedisLogoutHandler implements LogoutSuccessHandler {
     private void invalidateToken(HttpServletResponse response, String headerPrefix, String token) throws IOException {
 
         try {
-            String signingKey = tokenManager.getSigningKey();
-            Date expirationTime = tokenValidator.getTokenExpirationTime(token, headerPrefix, signingKey);
+            Claims claims = tokenValidator.getClaims(token, headerPrefix, tokenManager.getSigningKey());
 
-            Duration durationToExpireToken = getTokenDurationToBeExpired(expirationTime);
+            Duration durationToExpireToken = getTokenDurationToBeExpired(claims.getExpiration());
+            if (durationToExpireToken.isNegative() || durationToExpireToken.isZero()) {
+                responseManager.handleTokenExpiredLogout(response);
+                return;
+            }
 
             token = tokenValidator.purifyToken(token, headerPrefix);
 
-            if (redisTemplate.opsForValue().get(token) != null) {
+            if (!tokenDenylist.revoke(token, claims.getSubject(), durationToExpireToken)) {
                 responseManager.handleTokenExpiredLogout(response);
                 return;
             }
 
-            redisTemplate.opsForValue().set(
-                    token,
-                    getUserId(token, signingKey),
-                    durationToExpireToken
-            );
-
             responseManager.handleSuccessfulLogout(response);
         } catch (ExpiredJwtException exception) {
             responseManager.handleTokenExpiredLogout(response);
@@ -85,14 +89,6 @@ public class RedisLogoutHandler implements LogoutSuccessHandler {
         }
     }
 
-    private String getUserId(String token, String signingKey) {
-        return Jwts.parser()
-                .setSigningKey(signingKey)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
     private Duration getTokenDurationToBeExpired(Date tokenExpirationTime) {
         return Duration.ofMillis(tokenExpirationTime.getTime() - System.currentTimeMillis());
     }
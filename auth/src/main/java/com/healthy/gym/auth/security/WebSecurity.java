@@ -1,7 +1,12 @@
 package com.healthy.gym.auth.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthy.gym.auth.component.BoundedPasswordEncoder;
 import com.healthy.gym.auth.component.HttpHeaderParser;
+import com.healthy.gym.auth.component.LoginAttemptLimiter;
 import com.healthy.gym.auth.component.Translator;
+import com.healthy.gym.auth.component.token.AccessTokenFactory;
+import com.healthy.gym.auth.component.token.RefreshTokenStore;
 import com.healthy.gym.auth.component.token.TokenManager;
 import com.healthy.gym.auth.component.token.TokenValidator;
 import com.healthy.gym.auth.service.UserService;
@@ -14,7 +19,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 @Profile("production")
 @Configuration
@@ -24,33 +28,45 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
     private static final String ACTUATOR = "/actuator/**";
 
     private final UserService userService;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final BoundedPasswordEncoder passwordEncoder;
     private final Translator translator;
     private final RedisLogoutHandler redisLogoutHandler;
     private final TokenValidator tokenValidator;
     private final HttpHeaderParser headerParser;
     private final TokenManager tokenManager;
+    private final AccessTokenFactory accessTokenFactory;
+    private final RefreshTokenStore refreshTokenStore;
     private final RedisFilter redisFilter;
+    private final ObjectMapper objectMapper;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     @Autowired
     public WebSecurity(
             UserService userService,
-            BCryptPasswordEncoder bCryptPasswordEncoder,
+            BoundedPasswordEncoder passwordEncoder,
             Translator translator,
             RedisLogoutHandler redisLogoutHandler,
             TokenValidator tokenValidator,
             HttpHeaderParser headerParser,
             TokenManager tokenManager,
-            RedisFilter redisFilter
+            AccessTokenFactory accessTokenFactory,
+            RefreshTokenStore refreshTokenStore,
+            RedisFilter redisFilter,
+            ObjectMapper objectMapper,
+            LoginAttemptLimiter loginAttemptLimiter
     ) {
         this.userService = userService;
-        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.passwordEncoder = passwordEncoder;
         this.translator = translator;
         this.redisLogoutHandler = redisLogoutHandler;
         this.tokenValidator = tokenValidator;
         this.headerParser = headerParser;
         this.tokenManager = tokenManager;
+        this.accessTokenFactory = accessTokenFactory;
+        this.refreshTokenStore = refreshTokenStore;
         this.redisFilter = redisFilter;
+        this.objectMapper = objectMapper;
+        this.loginAttemptLimiter = loginAttemptLimiter;
     }
 
     @Override
@@ -76,8 +92,13 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
     }
 
     private AuthenticationFilter getAuthenticationFilter() throws Exception {
-        var authenticationFilter =
-                new AuthenticationFilter(userService, translator, tokenManager);
+        var authenticationFilter = new AuthenticationFilter(
+                translator,
+                accessTokenFactory,
+                refreshTokenStore,
+                objectMapper,
+                loginAttemptLimiter
+        );
         authenticationFilter.setAuthenticationManager(authenticationManager());
 
         return authenticationFilter;
@@ -89,6 +110,6 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
 
     @Override
     protected void configure(AuthenticationManagerBuilder auth) throws Exception {
-        auth.userDetailsService(userService).passwordEncoder(bCryptPasswordEncoder);
+        auth.userDetailsService(userService).passwordEncoder(passwordEncoder);
     }
 }
@@ -0,0 +1,10 @@
+package com.healthy.gym.auth.service;
+
+import org.springframework.mail.SimpleMailMessage;
+
+public interface MailOutboxService {
+
+    void enqueue(SimpleMailMessage mailMessage);
+
+    int sendPendingMails();
+}
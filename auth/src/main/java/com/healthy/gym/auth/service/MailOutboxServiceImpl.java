@@ -0,0 +1,119 @@
+package com.healthy.gym.auth.service;
+
+import com.healthy.gym.auth.data.document.MailOutboxDocument;
+import com.healthy.gym.auth.data.repository.mongo.MailOutboxDAO;
+import com.healthy.gym.auth.enums.MailOutboxStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.env.Environment;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+    private final MailOutboxDAO mailOutboxDAO;
+    private final JavaMailSender javaMailSender;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    @Autowired
+    public MailOutboxServiceImpl(
+            MailOutboxDAO mailOutboxDAO,
+            @Qualifier("getJavaMailSender") JavaMailSender javaMailSender,
+            Environment environment
+    ) {
+        this.mailOutboxDAO = mailOutboxDAO;
+        this.javaMailSender = javaMailSender;
+        this.batchSize = environment.getProperty("mail.outbox.batch-size", Integer.class, 50);
+        this.maxAttempts = environment.getProperty("mail.outbox.max-attempts", Integer.class, 8);
+        this.initialBackoff = Duration.ofMillis(
+                environment.getProperty("mail.outbox.initial-backoff", Long.class, 30_000L)
+        );
+        this.maxBackoff = Duration.ofMillis(
+                environment.getProperty("mail.outbox.max-backoff", Long.class, 3_600_000L)
+        );
+        this.lease = Duration.ofMillis(
+                environment.getProperty("mail.outbox.lease", Long.class, 300_000L)
+        );
+    }
+
+    @Override
+    public void enqueue(SimpleMailMessage mailMessage) {
+        mailOutboxDAO.insert(new MailOutboxDocument(mailMessage));
+    }
+
+    @Override
+    public int sendPendingMails() {
+        List<MailOutboxDocument> mails = mailOutboxDAO
+                .claimPendingMails(batchSize, maxAttempts, LocalDateTime.now().plus(lease));
+        if (mails.isEmpty()) return 0;
+
+        SimpleMailMessage[] mailMessages = mails.stream()
+                .map(MailOutboxDocument::toMailMessage)
+                .toArray(SimpleMailMessage[]::new);
+
+        Map<Object, Exception> failedMessages = send(mailMessages);
+
+        List<String> sentMailIds = new ArrayList<>();
+        for (int i = 0; i < mails.size(); i++) {
+            Exception exception = failedMessages.get(mailMessages[i]);
+            if (exception == null) sentMailIds.add(mails.get(i).getId());
+            else scheduleRetry(mails.get(i), exception);
+        }
+        mailOutboxDAO.removeAll(sentMailIds);
+
+        return mails.size();
+    }
+
+    private Map<Object, Exception> send(SimpleMailMessage[] mailMessages) {
+        try {
+            javaMailSender.send(mailMessages);
+            return Collections.emptyMap();
+        } catch (MailSendException exception) {
+            if (!exception.getFailedMessages().isEmpty()) return exception.getFailedMessages();
+            return allFailed(mailMessages, exception);
+        } catch (MailException exception) {
+            return allFailed(mailMessages, exception);
+        }
+    }
+
+    private Map<Object, Exception> allFailed(SimpleMailMessage[] mailMessages, Exception exception) {
+        Map<Object, Exception> failedMessages = new HashMap<>();
+        for (SimpleMailMessage mailMessage : mailMessages) failedMessages.put(mailMessage, exception);
+        return failedMessages;
+    }
+
+    private void scheduleRetry(MailOutboxDocument mail, Exception exception) {
+        // the attempt has already been counted when the mail was claimed
+        int attempts = mail.getAttempts();
+        mail.setLastError(exception.getMessage());
+
+        if (attempts >= maxAttempts) {
+            mail.setStatus(MailOutboxStatus.FAILED);
+        } else {
+            mail.setStatus(MailOutboxStatus.PENDING);
+            mail.setNextAttemptAt(LocalDateTime.now().plus(getBackoff(attempts)));
+        }
+        mailOutboxDAO.save(mail);
+    }
+
+    private Duration getBackoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
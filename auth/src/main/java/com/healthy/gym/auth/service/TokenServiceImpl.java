@@ -6,6 +6,7 @@ import com.healthy.gym.auth.data.document.ResetPasswordTokenDocument;
 import com.healthy.gym.auth.data.document.UserDocument;
 import com.healthy.gym.auth.data.repository.mongo.RegistrationTokenDAO;
 import com.healthy.gym.auth.data.repository.mongo.ResetPasswordTokenDAO;
+import com.healthy.gym.auth.data.repository.mongo.UniversalTokenDAO;
 import com.healthy.gym.auth.data.repository.mongo.UserDAO;
 import com.healthy.gym.auth.exceptions.token.ExpiredTokenException;
 import com.healthy.gym.auth.exceptions.token.InvalidTokenException;
@@ -24,6 +25,7 @@ public class TokenServiceImpl implements TokenService {
     private final UserDAO userDAO;
     private final RegistrationTokenDAO registrationTokenDAO;
     private final ResetPasswordTokenDAO resetPasswordTokenDAO;
+    private final UniversalTokenDAO universalTokenDAO;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final ModelMapper modelMapper;
 
@@ -32,11 +34,13 @@ public class TokenServiceImpl implements TokenService {
             UserDAO userDAO,
             RegistrationTokenDAO registrationTokenDAO,
             ResetPasswordTokenDAO resetPasswordTokenDAO,
+            UniversalTokenDAO universalTokenDAO,
             BCryptPasswordEncoder bCryptPasswordEncoder
     ) {
         this.userDAO = userDAO;
         this.registrationTokenDAO = registrationTokenDAO;
         this.resetPasswordTokenDAO = resetPasswordTokenDAO;
+        this.universalTokenDAO = universalTokenDAO;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
         modelMapper = new ModelMapper();
         modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
@@ -62,23 +66,26 @@ public class TokenServiceImpl implements TokenService {
 
     @Override
     public UserDTO verifyRegistrationToken(String token) throws InvalidTokenException, ExpiredTokenException {
-        RegistrationTokenDocument registrationToken = registrationTokenDAO.findByToken(token);
+        RegistrationTokenDocument registrationToken =
+                universalTokenDAO.findValidTokenAndMarkAsUsed(token, RegistrationTokenDocument.class);
 
-        if (registrationToken == null || registrationToken.isWasUsed()) throw new InvalidTokenException();
-        if (tokenExpired(registrationToken)) throw new ExpiredTokenException();
+        if (registrationToken == null) throwTokenException(registrationTokenDAO.findByToken(token));
 
         UserDocument userDocument = registrationToken.getUserDocument();
         if (userDocument == null) throw new IllegalStateException();
         userDocument.setEnabled(true);
 
         UserDocument savedUserDocument = userDAO.save(userDocument);
-        registrationToken.setWasUsed(true);
-        RegistrationTokenDocument savedRegistrationToken = registrationTokenDAO.save(registrationToken);
-        if (!savedRegistrationToken.isWasUsed()) throw new IllegalStateException();
 
         return modelMapper.map(savedUserDocument, UserDTO.class);
     }
 
+    private void throwTokenException(AbstractTokenDocument token) throws InvalidTokenException, ExpiredTokenException {
+        if (token == null || token.isWasUsed()) throw new InvalidTokenException();
+        if (tokenExpired(token)) throw new ExpiredTokenException();
+        throw new InvalidTokenException();
+    }
+
     private boolean tokenExpired(AbstractTokenDocument token) {
         return token.getExpiryDate().isBefore(LocalDateTime.now());
     }
@@ -86,10 +93,10 @@ public class TokenServiceImpl implements TokenService {
     @Override
     public UserDTO verifyTokenAndResetPassword(String token, String newPassword) throws InvalidTokenException, ExpiredTokenException {
 
-        ResetPasswordTokenDocument resetPasswordToken = resetPasswordTokenDAO.findByToken(token);
+        ResetPasswordTokenDocument resetPasswordToken =
+                universalTokenDAO.findValidTokenAndMarkAsUsed(token, ResetPasswordTokenDocument.class);
 
-        if (resetPasswordToken == null || resetPasswordToken.isWasUsed()) throw new InvalidTokenException();
-        if (tokenExpired(resetPasswordToken)) throw new ExpiredTokenException();
+        if (resetPasswordToken == null) throwTokenException(resetPasswordTokenDAO.findByToken(token));
 
         UserDocument userDocument = resetPasswordToken.getUserDocument();
         if (userDocument == null) throw new IllegalStateException();
@@ -98,9 +105,6 @@ public class TokenServiceImpl implements TokenService {
         userDocument.setEncryptedPassword(newEncryptedPassword);
 
         UserDocument savedUserDocument = userDAO.save(userDocument);
-        resetPasswordToken.setWasUsed(true);
-        ResetPasswordTokenDocument savedResetPasswordToken = resetPasswordTokenDAO.save(resetPasswordToken);
-        if (!savedResetPasswordToken.isWasUsed()) throw new IllegalStateException();
 
         return modelMapper.map(savedUserDocument, UserDTO.class);
     }
@@ -1,10 +1,12 @@
 package com.healthy.gym.auth.service;
 
 import com.healthy.gym.auth.data.document.ResetPasswordTokenDocument;
+import com.healthy.gym.auth.shared.GymUserDetails;
 import com.healthy.gym.auth.shared.UserDTO;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
-public interface UserService extends UserDetailsService {
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
     String status();
 
     UserDTO createUser(UserDTO userDetails);
@@ -12,4 +14,6 @@ public interface UserService extends UserDetailsService {
     UserDTO getUserDetailsByEmail(String email);
 
     ResetPasswordTokenDocument resetPassword(String email);
+
+    GymUserDetails loadUserByUserId(String userId);
 }
@@ -7,6 +7,7 @@ import com.healthy.gym.auth.data.repository.mongo.UserDAO;
 import com.healthy.gym.auth.data.repository.mongo.UserPrivacyDAO;
 import com.healthy.gym.auth.enums.GymRole;
 import com.healthy.gym.auth.events.OnResetPasswordEvent;
+import com.healthy.gym.auth.shared.GymUserDetails;
 import com.healthy.gym.auth.shared.UserDTO;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
@@ -16,7 +17,6 @@ import org.springframework.security.authentication.AccountExpiredException;
 import org.springframework.security.authentication.CredentialsExpiredException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.LockedException;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -150,7 +150,33 @@ public class UserServiceImpl implements UserService {
 
         if (userDocument == null) throw new UsernameNotFoundException(email);
 
-        return new User(
+        return toUserDetails(userDocument);
+    }
+
+    @Override
+    public GymUserDetails loadUserByUserId(String userId) {
+        UserDocument userDocument = userDAO.findByUserId(userId);
+
+        if (userDocument == null) throw new UsernameNotFoundException(userId);
+
+        return toUserDetails(userDocument);
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserDocument userDocument = userDAO.findByEmail(user.getUsername());
+
+        if (userDocument == null) throw new UsernameNotFoundException(user.getUsername());
+
+        userDocument.setEncryptedPassword(newPassword);
+        UserDocument userDocumentSaved = userDAO.save(userDocument);
+
+        return toUserDetails(userDocumentSaved);
+    }
+
+    private GymUserDetails toUserDetails(UserDocument userDocument) {
+        return new GymUserDetails(
+                userDocument.getUserId(),
                 userDocument.getEmail(),
                 userDocument.getEncryptedPassword(),
                 userDocument.isEnabled(),
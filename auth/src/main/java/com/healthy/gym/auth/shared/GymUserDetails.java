@@ -0,0 +1,37 @@
+package com.healthy.gym.auth.shared;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+public class GymUserDetails extends User {
+
+    private final String userId;
+
+    public GymUserDetails(
+            String userId,
+            String email,
+            String encryptedPassword,
+            boolean enabled,
+            boolean accountNonExpired,
+            boolean credentialsNonExpired,
+            boolean accountNonLocked,
+            Collection<? extends GrantedAuthority> authorities
+    ) {
+        super(
+                email,
+                encryptedPassword,
+                enabled,
+                accountNonExpired,
+                credentialsNonExpired,
+                accountNonLocked,
+                authorities
+        );
+        this.userId = userId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+}
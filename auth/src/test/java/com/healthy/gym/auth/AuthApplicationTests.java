@@ -125,8 +125,13 @@ class AuthApplicationTests {
         }
 
         @Test
-        void shouldHaveTokenSecret() {
-            assertThat(environment.getProperty("token.secret")).isNotNull();
+        void shouldNotHaveTokenSecret() {
+            assertThat(environment.getProperty("token.secret")).isNull();
+        }
+
+        @Test
+        void shouldHaveLegacyTokensDisabled() {
+            assertThat(environment.getProperty("token.legacy.enabled", Boolean.class)).isFalse();
         }
 
         @Test
@@ -0,0 +1,170 @@
+package com.healthy.gym.auth.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthy.gym.auth.AuthApplication;
+import com.healthy.gym.auth.component.token.RefreshTokenStore;
+import com.healthy.gym.auth.component.token.SigningKeyManager;
+import com.healthy.gym.auth.component.token.TokenManager;
+import com.healthy.gym.auth.data.document.UserDocument;
+import com.healthy.gym.auth.pojo.request.CreateUserRequest;
+import com.healthy.gym.auth.pojo.request.LogInUserRequest;
+import com.healthy.gym.auth.pojo.request.RefreshTokenRequest;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+import redis.embedded.RedisServer;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+class AuthBenchmarkEnvironment implements AutoCloseable {
+
+    static final String PASSWORD = "test12345";
+
+    private static final int REDIS_PORT = 6381;
+    private static final String REDIS_PASSWORD = "thisP@sswordNeed2BeChange";
+
+    private final AtomicLong userSequence = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MongoDBContainer mongoDBContainer;
+    private final RedisServer redisServer;
+    private final ConfigurableApplicationContext context;
+    private final MockMvc mockMvc;
+    private final TokenManager tokenManager;
+    private final SigningKeyManager signingKeyManager;
+    private final RefreshTokenStore refreshTokenStore;
+
+    AuthBenchmarkEnvironment() {
+        mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo:4.4.4-bionic"));
+        mongoDBContainer.start();
+
+        redisServer = RedisServer.builder()
+                .port(REDIS_PORT)
+                .bind("127.0.0.1")
+                .setting("requirepass " + REDIS_PASSWORD)
+                .build();
+        redisServer.start();
+
+        context = new SpringApplicationBuilder(AuthApplication.class).run(
+                "--spring.profiles.active=test",
+                "--spring.cloud.config.enabled=false",
+                "--spring.cloud.bus.enabled=false",
+                "--eureka.client.enabled=false",
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--spring.data.mongodb.uri=" + mongoDBContainer.getReplicaSetUrl(),
+                "--spring.redis.port=" + REDIS_PORT,
+                "--spring.redis.password=" + REDIS_PASSWORD
+        );
+
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup((WebApplicationContext) context)
+                .apply(springSecurity())
+                .build();
+        tokenManager = context.getBean(TokenManager.class);
+        signingKeyManager = context.getBean(SigningKeyManager.class);
+        refreshTokenStore = context.getBean(RefreshTokenStore.class);
+    }
+
+    String nextEmail() {
+        return "benchmark.user." + userSequence.incrementAndGet() + "@healthy-gym.com";
+    }
+
+    MockHttpServletResponse register(String email) throws Exception {
+        CreateUserRequest request = new CreateUserRequest();
+        request.setName("Jan");
+        request.setSurname("Kowalski");
+        request.setEmail(email);
+        request.setPhoneNumber("+48 685 263 683");
+        request.setPassword(PASSWORD);
+        request.setMatchingPassword(PASSWORD);
+
+        return mockMvc.perform(
+                post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        ).andReturn().getResponse();
+    }
+
+    void enable(String email) {
+        context.getBean(MongoTemplate.class).updateFirst(
+                new Query(Criteria.where("email").is(email)),
+                Update.update("enabled", true),
+                UserDocument.class
+        );
+    }
+
+    MockHttpServletResponse login(String email) throws Exception {
+        LogInUserRequest request = new LogInUserRequest();
+        request.setEmail(email);
+        request.setPassword(PASSWORD);
+
+        return mockMvc.perform(
+                post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        ).andReturn().getResponse();
+    }
+
+    MockHttpServletResponse tokenStatus(String token) throws Exception {
+        return mockMvc.perform(
+                get("/.well-known/jwks.json").header(tokenManager.getHttpHeaderName(), token)
+        ).andReturn().getResponse();
+    }
+
+    MockHttpServletResponse logout(String token) throws Exception {
+        return mockMvc.perform(
+                get("/logout").header(tokenManager.getHttpHeaderName(), token)
+        ).andReturn().getResponse();
+    }
+
+    MockHttpServletResponse refresh(String refreshToken) throws Exception {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken(refreshToken);
+
+        return mockMvc.perform(
+                post("/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+        ).andReturn().getResponse();
+    }
+
+    String issueRefreshToken(String userId) {
+        return refreshTokenStore.issue(userId);
+    }
+
+    String issueToken() {
+        Date expiration = new Date(System.currentTimeMillis() + tokenManager.getExpirationTimeInMillis());
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyManager.getActiveKeyId())
+                .setSubject(UUID.randomUUID().toString())
+                .setExpiration(expiration)
+                .signWith(tokenManager.getSignatureAlgorithm(), signingKeyManager.getActivePrivateKey())
+                .compact();
+        return tokenManager.getTokenPrefix() + " " + token;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        redisServer.stop();
+        mongoDBContainer.stop();
+    }
+}
@@ -0,0 +1,118 @@
+package com.healthy.gym.auth.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AuthBenchmarkRunner {
+
+    private static final String ALLOCATION_RATE = "·gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws Exception {
+        Path result = Path.of(System.getProperty("benchmark.result", "target/benchmark/auth-benchmark.json"));
+        Files.createDirectories(result.getParent());
+
+        Options options = new OptionsBuilder()
+                .include(AuthEndpointsBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        new Runner(options).run();
+
+        Map<String, JsonNode> current = readResults(result.toFile());
+        printSummary(current);
+
+        String baseline = System.getProperty("benchmark.baseline");
+        if (baseline == null || !new File(baseline).exists()) return;
+
+        double maxRegression = Double.parseDouble(System.getProperty("benchmark.max-regression", "0.10"));
+        List<String> regressions = findRegressions(readResults(new File(baseline)), current, maxRegression);
+        if (regressions.isEmpty()) return;
+
+        regressions.forEach(System.err::println);
+        System.exit(1);
+    }
+
+    private static Map<String, JsonNode> readResults(File file) throws IOException {
+        Map<String, JsonNode> results = new HashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            results.put(result.get("benchmark").asText() + " " + result.get("mode").asText(), result);
+        }
+        return results;
+    }
+
+    private static void printSummary(Map<String, JsonNode> results) {
+        System.out.printf("%-70s %14s %12s %12s %16s%n", "Benchmark", "Score", "p50", "p99", "Allocated B/op");
+        results.forEach((name, result) -> {
+            JsonNode primaryMetric = result.get("primaryMetric");
+            System.out.printf(
+                    "%-70s %14.3f %12s %12s %16.0f%n",
+                    name,
+                    primaryMetric.get("score").asDouble(),
+                    getPercentile(result, "50.0"),
+                    getPercentile(result, "99.0"),
+                    getAllocationRate(result)
+            );
+        });
+    }
+
+    private static String getPercentile(JsonNode result, String percentile) {
+        if (!"sample".equals(result.get("mode").asText())) return "-";
+        JsonNode value = result.get("primaryMetric").path("scorePercentiles").get(percentile);
+        return value == null ? "-" : String.format("%.3f", value.asDouble());
+    }
+
+    private static double getAllocationRate(JsonNode result) {
+        return result.path("secondaryMetrics").path(ALLOCATION_RATE).path("score").asDouble(Double.NaN);
+    }
+
+    private static List<String> findRegressions(
+            Map<String, JsonNode> baseline,
+            Map<String, JsonNode> current,
+            double maxRegression
+    ) {
+        List<String> regressions = new ArrayList<>();
+        current.forEach((name, result) -> {
+            JsonNode previous = baseline.get(name);
+            if (previous == null) return;
+
+            String mode = result.get("mode").asText();
+            if ("thrpt".equals(mode)) {
+                double before = previous.get("primaryMetric").get("score").asDouble();
+                double after = result.get("primaryMetric").get("score").asDouble();
+                if (after < before * (1 - maxRegression)) {
+                    regressions.add(String.format("%s throughput dropped from %.3f to %.3f", name, before, after));
+                }
+            } else if ("sample".equals(mode)) {
+                double before = previous.get("primaryMetric").get("scorePercentiles").get("99.0").asDouble();
+                double after = result.get("primaryMetric").get("scorePercentiles").get("99.0").asDouble();
+                if (after > before * (1 + maxRegression)) {
+                    regressions.add(String.format("%s p99 grew from %.3f to %.3f", name, before, after));
+                }
+            }
+
+            double allocatedBefore = getAllocationRate(previous);
+            double allocatedAfter = getAllocationRate(result);
+            if (allocatedAfter > allocatedBefore * (1 + maxRegression)) {
+                regressions.add(String.format(
+                        "%s allocation grew from %.0f to %.0f B/op", name, allocatedBefore, allocatedAfter
+                ));
+            }
+        });
+        return regressions;
+    }
+}
@@ -0,0 +1,92 @@
+package com.healthy.gym.auth.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(4)
+@Fork(1)
+public class AuthEndpointsBenchmark {
+
+    private AuthBenchmarkEnvironment environment;
+    private String email;
+    private String token;
+    private String userId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        environment = new AuthBenchmarkEnvironment();
+
+        email = environment.nextEmail();
+        expectStatus(environment.register(email), 201);
+        environment.enable(email);
+
+        MockHttpServletResponse loginResponse = environment.login(email);
+        token = loginResponse.getHeader("token");
+        userId = loginResponse.getHeader("userId");
+        if (token == null) throw new IllegalStateException("Benchmark user could not log in.");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @State(Scope.Thread)
+    public static class IssuedToken {
+        private String value;
+
+        @Setup(Level.Invocation)
+        public void issue(AuthEndpointsBenchmark benchmark) {
+            value = benchmark.environment.issueToken();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class IssuedRefreshToken {
+        private String value;
+
+        @Setup(Level.Invocation)
+        public void issue(AuthEndpointsBenchmark benchmark) {
+            value = benchmark.environment.issueRefreshToken(benchmark.userId);
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse registration() throws Exception {
+        return expectStatus(environment.register(environment.nextEmail()), 201);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse login() throws Exception {
+        return expectStatus(environment.login(email), 200);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse tokenStatus() throws Exception {
+        return expectStatus(environment.tokenStatus(token), 200);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse logout(IssuedToken issuedToken) throws Exception {
+        return expectStatus(environment.logout(issuedToken.value), 200);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse refresh(IssuedRefreshToken issuedRefreshToken) throws Exception {
+        return expectStatus(environment.refresh(issuedRefreshToken.value), 200);
+    }
+
+    private MockHttpServletResponse expectStatus(MockHttpServletResponse response, int status) {
+        if (response.getStatus() != status) {
+            throw new IllegalStateException("Expected HTTP " + status + " but was " + response.getStatus() + ".");
+        }
+        return response;
+    }
+}
@@ -0,0 +1,102 @@
+package com.healthy.gym.auth.component;
+
+import com.healthy.gym.auth.exceptions.LoginCapacityExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+
+    private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private MockEnvironment environment;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        bCryptPasswordEncoder = mock(BCryptPasswordEncoder.class);
+        environment = new MockEnvironment()
+                .withProperty("security.password.hashing.threads", "1")
+                .withProperty("security.password.hashing.queue-capacity", "1")
+                .withProperty("security.password.hashing.timeout", "2000");
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void shouldDelegateToBCryptPasswordEncoder() {
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), environment);
+
+        String encodedPassword = passwordEncoder.encode("test12345");
+
+        assertThat(passwordEncoder.matches("test12345", encodedPassword)).isTrue();
+        assertThat(passwordEncoder.matches("test123456", encodedPassword)).isFalse();
+    }
+
+    @Test
+    void shouldRequestUpgradeWhenStoredHashIsWeakerThanConfiguredStrength() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("test12345");
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), environment);
+
+        assertThat(passwordEncoder.upgradeEncoding(weakHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode("test12345"))).isFalse();
+    }
+
+    @Test
+    void shouldRejectVerificationButNotEncodingWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bCryptPasswordEncoder.matches(any(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        passwordEncoder = new BoundedPasswordEncoder(bCryptPasswordEncoder, environment);
+
+        CompletableFuture<Boolean> running =
+                CompletableFuture.supplyAsync(() -> passwordEncoder.matches("a", "hash"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued =
+                CompletableFuture.supplyAsync(() -> passwordEncoder.matches("b", "hash"));
+
+        Thread.sleep(200);
+
+        assertThatThrownBy(() -> passwordEncoder.matches("c", "hash"))
+                .isInstanceOf(LoginCapacityExceededException.class);
+
+        when(bCryptPasswordEncoder.encode("d")).thenReturn("encoded");
+        assertThat(passwordEncoder.encode("d")).isEqualTo("encoded");
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldRejectVerificationWhenItTakesTooLong() {
+        environment.setProperty("security.password.hashing.timeout", "100");
+        when(bCryptPasswordEncoder.matches(any(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return true;
+        });
+        passwordEncoder = new BoundedPasswordEncoder(bCryptPasswordEncoder, environment);
+
+        assertThatThrownBy(() -> passwordEncoder.matches("a", "hash"))
+                .isInstanceOf(LoginCapacityExceededException.class);
+    }
+}
@@ -19,6 +19,8 @@ import static org.mockito.Mockito.when;
 @SpringBootTest
 class HttpHeaderParserTest {
 
+    private final String testSigningKey = "testSigningKey";
+
     @Autowired
     private Environment environment;
 
@@ -63,7 +65,7 @@ class HttpHeaderParserTest {
                 .builder()
                 .setSubject(getUserId())
                 .setExpiration(getExpirationTime())
-                .signWith(SignatureAlgorithm.HS256, getSigningKey())
+                .signWith(SignatureAlgorithm.HS256, testSigningKey)
                 .compact();
     }
 
@@ -82,8 +84,4 @@ class HttpHeaderParserTest {
         String expirationTime = environment.getRequiredProperty("token.expiration-time");
         return Long.parseLong(expirationTime);
     }
-
-    private String getSigningKey() {
-        return environment.getRequiredProperty("token.secret");
-    }
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.healthy.gym.auth.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LoginAttemptLimiterTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private MockEnvironment environment;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        environment = new MockEnvironment()
+                .withProperty("security.login-attempts.window", "60000")
+                .withProperty("security.login-attempts.max-failures-per-email", "3")
+                .withProperty("security.login-attempts.max-failures-per-ip", "5")
+                .withProperty("security.login-attempts.redis.enabled", "false");
+    }
+
+    @Test
+    void shouldAllowLoginWhenThereWereNoFailedAttempts() {
+        LoginAttemptLimiter loginAttemptLimiter = new LoginAttemptLimiterImpl(redisTemplate, environment);
+
+        assertThat(loginAttemptLimiter.getRetryAfterSeconds("jan.kowalski@wp.pl", "10.0.0.1")).isZero();
+    }
+
+    @Test
+    void shouldBlockEmailWhenFailuresReachThreshold() {
+        LoginAttemptLimiter loginAttemptLimiter = new LoginAttemptLimiterImpl(redisTemplate, environment);
+
+        for (int i = 0; i < 3; i++) loginAttemptLimiter.loginFailed("jan.kowalski@wp.pl", "10.0.0." + i);
+
+        assertThat(loginAttemptLimiter.getRetryAfterSeconds("Jan.Kowalski@wp.pl", "10.0.0.100"))
+                .isPositive()
+                .isLessThanOrEqualTo(60);
+        assertThat(loginAttemptLimiter.getRetryAfterSeconds("andrzej.nowak@wp.pl", "10.0.0.100")).isZero();
+    }
+
+    @Test
+    void shouldBlockIpAddressWhenFailuresReachThreshold() {
+        LoginAttemptLimiter loginAttemptLimiter = new LoginAttemptLimiterImpl(redisTemplate, environment);
+
+        for (int i = 0; i < 5; i++) loginAttemptLimiter.loginFailed("user" + i + "@wp.pl", "10.0.0.1");
+
+        assertThat(loginAttemptLimiter.getRetryAfterSeconds("andrzej.nowak@wp.pl", "10.0.0.1")).isPositive();
+        assertThat(loginAttemptLimiter.getRetryAfterSeconds("andrzej.nowak@wp.pl", "10.0.0.2")).isZero();
+    }
+
+    @Test
+    void shouldResetEmailFailuresAfterSuccessfulLogin() {
+        LoginAttemptLimiter loginAttemptLimiter = new LoginAttemptLimiterImpl(redisTemplate, environment);
+
+        for (int i = 0; i < 2; i++) loginAttemptLimiter.loginFailed("jan.kowalski@wp.pl", "10.0.0." + i);
+        loginAttemptLimiter.loginSucceeded("jan.kowalski@wp.pl");
+        loginAttemptLimiter.loginFailed("jan.kowalski@wp.pl", "10.0.0.3");
+
+        assertThat(loginAttemptLimiter.getRetryAfterSeconds("jan.kowalski@wp.pl", "10.0.0.4")).isZero();
+    }
+
+    @Test
+    void shouldNotUseRedisWhenItIsDisabled() {
+        LoginAttemptLimiter loginAttemptLimiter = new LoginAttemptLimiterImpl(redisTemplate, environment);
+
+        loginAttemptLimiter.loginFailed("jan.kowalski@wp.pl", "10.0.0.1");
+        loginAttemptLimiter.getRetryAfterSeconds("jan.kowalski@wp.pl", "10.0.0.1");
+        loginAttemptLimiter.loginSucceeded("jan.kowalski@wp.pl");
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldBlockEmailWhenFailuresWereRecordedByAnotherInstance() {
+        environment.setProperty("security.login-attempts.redis.enabled", "true");
+        byte[] failures = "3".getBytes(StandardCharsets.US_ASCII);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(Arrays.asList(failures, null, null, null));
+        LoginAttemptLimiter loginAttemptLimiter = new LoginAttemptLimiterImpl(redisTemplate, environment);
+
+        assertThat(loginAttemptLimiter.getRetryAfterSeconds("jan.kowalski@wp.pl", "10.0.0.1")).isPositive();
+        assertThat(loginAttemptLimiter.getRetryAfterSeconds("jan.kowalski@wp.pl", "10.0.0.1")).isPositive();
+
+        verify(redisTemplate, times(1)).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMirrorFailedAttemptsToRedis() {
+        environment.setProperty("security.login-attempts.redis.enabled", "true");
+        LoginAttemptLimiter loginAttemptLimiter = new LoginAttemptLimiterImpl(redisTemplate, environment);
+
+        loginAttemptLimiter.loginFailed("jan.kowalski@wp.pl", "10.0.0.1");
+
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+}
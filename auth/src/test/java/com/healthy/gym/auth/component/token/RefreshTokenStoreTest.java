@@ -0,0 +1,114 @@
+package com.healthy.gym.auth.component.token;
+
+import com.healthy.gym.auth.exceptions.token.InvalidTokenException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenStoreTest {
+
+    private static final int REDIS_PORT = 6382;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = RedisServer.builder().port(REDIS_PORT).bind("127.0.0.1").build();
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        TokenManager tokenManager = mock(TokenManager.class);
+        when(tokenManager.getRefreshTokenExpirationTimeInMillis()).thenReturn(60_000L);
+
+        refreshTokenStore = new RefreshTokenStoreImpl(redisTemplate, tokenManager);
+    }
+
+    @Test
+    void shouldRotateIssuedRefreshToken() throws InvalidTokenException {
+        String refreshToken = refreshTokenStore.issue("userId");
+
+        RotatedRefreshToken rotatedRefreshToken = refreshTokenStore.rotate(refreshToken);
+
+        assertThat(rotatedRefreshToken.getUserId()).isEqualTo("userId");
+        assertThat(rotatedRefreshToken.getRefreshToken())
+                .isNotEqualTo(refreshToken)
+                .startsWith(refreshToken.substring(0, refreshToken.indexOf('.') + 1));
+    }
+
+    @Test
+    void shouldRevokeWholeFamilyWhenRotatedRefreshTokenIsReused() throws InvalidTokenException {
+        String refreshToken = refreshTokenStore.issue("userId");
+        String rotatedRefreshToken = refreshTokenStore.rotate(refreshToken).getRefreshToken();
+
+        assertThatThrownBy(() -> refreshTokenStore.rotate(refreshToken))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> refreshTokenStore.rotate(rotatedRefreshToken))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void shouldRejectRevokedRefreshToken() {
+        String refreshToken = refreshTokenStore.issue("userId");
+
+        refreshTokenStore.revoke(refreshToken);
+
+        assertThatThrownBy(() -> refreshTokenStore.rotate(refreshToken))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void shouldNotRevokeFamilyWithoutItsCurrentSecret() throws InvalidTokenException {
+        String refreshToken = refreshTokenStore.issue("userId");
+        String familyId = refreshToken.substring(0, refreshToken.indexOf('.'));
+
+        refreshTokenStore.revoke(familyId + ".guessedSecret");
+
+        assertThat(refreshTokenStore.rotate(refreshToken).getUserId()).isEqualTo("userId");
+    }
+
+    @Test
+    void shouldRejectMalformedRefreshToken() {
+        assertThatThrownBy(() -> refreshTokenStore.rotate("malformedToken"))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> refreshTokenStore.rotate("not-a-uuid.secret"))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void shouldKeepFamiliesOfDifferentLoginsIndependent() throws InvalidTokenException {
+        String firstRefreshToken = refreshTokenStore.issue("userId");
+        String secondRefreshToken = refreshTokenStore.issue("userId");
+
+        refreshTokenStore.revoke(firstRefreshToken);
+
+        assertThat(refreshTokenStore.rotate(secondRefreshToken).getUserId()).isEqualTo("userId");
+    }
+}
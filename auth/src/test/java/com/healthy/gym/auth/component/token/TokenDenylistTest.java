@@ -0,0 +1,72 @@
+package com.healthy.gym.auth.component.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenDenylistTest {
+
+    // revocations are stored under the SHA-256 digest of the token
+    private static final String KEY = "revoked-token:PEaenWxYddN6Q/NT1PiOYfz4EsZu7jRXRlpAsNpBU+A=";
+
+    private RedisTemplate<String, String> redisTemplate;
+    private TokenDenylistImpl tokenDenylist;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        TokenManager tokenManager = mock(TokenManager.class);
+        when(tokenManager.getRevokedTokensChannel()).thenReturn("revoked-tokens");
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("token.denylist.negative-cache.time-to-live", "60000");
+        tokenDenylist = new TokenDenylistImpl(redisTemplate, tokenManager, environment);
+    }
+
+    @Test
+    void shouldQueryRedisOnceForTokenWhichIsNotRevoked() {
+        when(redisTemplate.hasKey(KEY)).thenReturn(false);
+
+        assertThat(tokenDenylist.isRevoked("token")).isFalse();
+        assertThat(tokenDenylist.isRevoked("token")).isFalse();
+
+        verify(redisTemplate, times(1)).hasKey(KEY);
+    }
+
+    @Test
+    void shouldNotCacheRevokedToken() {
+        when(redisTemplate.hasKey(KEY)).thenReturn(true);
+
+        assertThat(tokenDenylist.isRevoked("token")).isTrue();
+        assertThat(tokenDenylist.isRevoked("token")).isTrue();
+
+        verify(redisTemplate, times(2)).hasKey(KEY);
+    }
+
+    @Test
+    void shouldForgetNegativeResultWhenTokenIsRevoked() {
+        when(redisTemplate.hasKey(KEY)).thenReturn(false, true);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(true, 1L));
+
+        assertThat(tokenDenylist.isRevoked("token")).isFalse();
+        assertThat(tokenDenylist.revoke("token", "userId", Duration.ofMinutes(1))).isTrue();
+        assertThat(tokenDenylist.isRevoked("token")).isTrue();
+    }
+
+    @Test
+    void shouldReturnFalseWhenTokenHasAlreadyBeenRevoked() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(false, 1L));
+
+        assertThat(tokenDenylist.revoke("token", "userId", Duration.ofMinutes(1))).isFalse();
+    }
+}
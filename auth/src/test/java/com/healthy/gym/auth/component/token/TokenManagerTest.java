@@ -4,8 +4,11 @@ import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.context.TestPropertySource;
 
+import java.time.Instant;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -13,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThat;
         inheritProperties = false,
         properties = {
                 "token.secret=testSecretToken",
+                "token.legacy.enabled=true",
+                "token.legacy.accepted-until=2999-12-31T23:59:59Z",
                 "token.expiration-time=360001",
                 "authorization.token.header.name=Auth",
                 "authorization.token.header.prefix=Bear"
@@ -28,6 +33,23 @@ class TokenManagerTest {
         assertThat(tokenManager.getSigningKey()).isEqualTo("testSecretToken");
     }
 
+    @Test
+    void shouldNotReturnSigningKeyByDefault() {
+        MockEnvironment environment = new MockEnvironment().withProperty("token.secret", "testSecretToken");
+
+        assertThat(new TokenManagerImpl(environment).getSigningKey()).isNull();
+    }
+
+    @Test
+    void shouldNotReturnSigningKeyAfterLegacyTokensAreNoLongerAccepted() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("token.secret", "testSecretToken")
+                .withProperty("token.legacy.enabled", "true")
+                .withProperty("token.legacy.accepted-until", Instant.now().minusSeconds(1).toString());
+
+        assertThat(new TokenManagerImpl(environment).getSigningKey()).isNull();
+    }
+
     @Test
     void shouldReturnProperTokenPrefix() {
         assertThat(tokenManager.getTokenPrefix()).isEqualTo("Bear");
@@ -45,7 +67,7 @@ class TokenManagerTest {
 
     @Test
     void shouldReturnProperSignatureAlgorithm(){
-        assertThat(tokenManager.getSignatureAlgorithm()).isEqualTo(SignatureAlgorithm.HS256);
+        assertThat(tokenManager.getSignatureAlgorithm()).isEqualTo(SignatureAlgorithm.RS256);
     }
 
 }
\ No newline at end of file
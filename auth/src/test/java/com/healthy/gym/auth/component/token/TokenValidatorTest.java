@@ -1,5 +1,6 @@
 package com.healthy.gym.auth.component.token;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.BeforeEach;
@@ -90,6 +91,14 @@ class TokenValidatorTest {
                     .isEqualTo(usernamePasswordAuthenticationToken);
         }
 
+        @Test
+        void shouldReturnClaimsWhenTokenHasPrefix() {
+            Claims claims = tokenValidator.getClaims(prefixedToken, testPrefix, testSigningKey);
+
+            assertThat(claims.getSubject()).isEqualTo(userId);
+            assertThat(claims.getExpiration()).isEqualTo(expiration);
+        }
+
         @Test
         void shouldPurifyToken() {
             assertThat(tokenValidator.purifyToken(prefixedToken, testPrefix))
@@ -238,36 +247,46 @@ class TokenValidatorTest {
         }
 
         @Nested
-        class SigningKeyIsNullAndShouldThrowIllegalArgumentExceptionWithProperMessage {
-            private final String exceptionMessage = "Signing key can not be null.";
+        class SigningKeyIsNullAndTokenWithoutKeyIdShouldBeRejected {
+            private final String exceptionMessage = "Invalid token.";
+            private String token;
+
+            @BeforeEach
+            void setUp() {
+                token = Jwts.builder()
+                        .setSubject(UUID.randomUUID().toString())
+                        .setExpiration(Date.from(Instant.now().plusSeconds(300)))
+                        .signWith(SignatureAlgorithm.HS256, testSigningKey)
+                        .compact();
+            }
 
             @Test
             void whenGettingAuthentication() {
                 assertThatThrownBy(
-                        () -> tokenValidator.getAuthentication(testToken, null)
-                ).isInstanceOf(IllegalArgumentException.class).hasMessage(exceptionMessage);
+                        () -> tokenValidator.getAuthentication(token, null)
+                ).isInstanceOf(AuthenticationServiceException.class).hasMessage(exceptionMessage);
             }
 
             @Test
             void whenGettingAuthenticationWithTokenPrefix() {
                 assertThatThrownBy(
-                        () -> tokenValidator.getAuthentication(testToken, testPrefix, null)
-                ).isInstanceOf(IllegalArgumentException.class).hasMessage(exceptionMessage);
+                        () -> tokenValidator.getAuthentication(testPrefix + " " + token, testPrefix, null)
+                ).isInstanceOf(AuthenticationServiceException.class).hasMessage(exceptionMessage);
             }
 
             @Test
             void whenGettingTokenExpirationTime() {
                 assertThatThrownBy(
-                        () -> tokenValidator.getTokenExpirationTime(testToken, null)
-                ).isInstanceOf(IllegalArgumentException.class).hasMessage(exceptionMessage);
+                        () -> tokenValidator.getTokenExpirationTime(token, null)
+                ).isInstanceOf(AuthenticationServiceException.class).hasMessage(exceptionMessage);
             }
 
             @Test
             void whenGettingTokenExpirationTimeWithTokenPrefix() {
                 assertThatThrownBy(
-                        () -> tokenValidator.getTokenExpirationTime(testToken, testPrefix, null)
-                ).isInstanceOf(IllegalArgumentException.class).hasMessage(exceptionMessage);
+                        () -> tokenValidator.getTokenExpirationTime(testPrefix + " " + token, testPrefix, null)
+                ).isInstanceOf(AuthenticationServiceException.class).hasMessage(exceptionMessage);
             }
         }
     }
-}
\ No newline at end of file
+}
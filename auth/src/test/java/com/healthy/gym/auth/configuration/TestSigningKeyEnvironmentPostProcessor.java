@@ -0,0 +1,41 @@
+package com.healthy.gym.auth.configuration;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Signs tokens in tests with a key generated for the test run, so that no private key is kept in the repository.
+ */
+public class TestSigningKeyEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final String PROPERTY_SOURCE_NAME = "testSigningKey";
+    private static final String ENCODED_PRIVATE_KEY = generateEncodedPrivateKey();
+
+    private static String generateEncodedPrivateKey() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return Base64.getEncoder().encodeToString(generator.generateKeyPair().getPrivate().getEncoded());
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String activeKeyId = environment.getProperty("token.signing.active-key-id");
+        if (activeKeyId == null) return;
+
+        environment.getPropertySources().addFirst(new MapPropertySource(
+                PROPERTY_SOURCE_NAME,
+                Map.of("token.signing.keys." + activeKeyId, ENCODED_PRIVATE_KEY)
+        ));
+    }
+}
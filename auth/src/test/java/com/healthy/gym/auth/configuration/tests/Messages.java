@@ -27,6 +27,10 @@ public class Messages {
                         "Nie możesz się zalogować. Twoje dane uwierzytelniające straciły ważność."},
                 {"user.log-in.fail.unexpected.error",
                         "Wystąpił błąd podczas logowania. Skontaktuj się z administratorem."},
+                {"user.log-in.fail.overloaded",
+                        "Przetwarzamy zbyt wiele prób logowania. Spróbuj ponownie za chwilę."},
+                {"user.log-in.fail.too-many-attempts",
+                        "Zbyt wiele nieudanych prób logowania. Spróbuj ponownie później."},
                 {"user.logout.fail", "Wystąpił błąd podczas wylogowywania."},
                 {"user.logout.success", "Zostałeś pomyślnie wylogowany."},
                 {"user.logout.token.expired",
@@ -63,7 +67,10 @@ public class Messages {
                 {"mail.reset.password.expiration", "Link wygasa:"},
                 {"mail.reset.password.subject", "Resetowanie hasła."},
                 {"notification.welcome.title", "Witaj!"},
-                {"notification.welcome.content", "Udało Ci się założyć konto w systemie!"}
+                {"notification.welcome.content", "Udało Ci się założyć konto w systemie!"},
+                {"token.refresh.invalid",
+                        "Token odświeżania jest nieprawidłowy lub wygasł. Zaloguj się ponownie."},
+                {"token.refresh.success", "Token został odświeżony."}
         }).collect(Collectors.toMap(data -> data[0], data -> data[1]));
     }
 
@@ -87,6 +94,9 @@ public class Messages {
                 {"user.log-in.fail.credentials.expired", "You cannot log in. Your credentials has expired."},
                 {"user.log-in.fail.unexpected.error",
                         "An error occurred while logging in. Please contact the administrator."},
+                {"user.log-in.fail.overloaded",
+                        "Too many login attempts are being processed. Please try again in a moment."},
+                {"user.log-in.fail.too-many-attempts", "Too many failed login attempts. Please try again later."},
                 {"user.logout.fail", "Error occurred while logout."},
                 {"user.logout.success", "You were successfully logged out."},
                 {"user.logout.token.expired",
@@ -122,7 +132,10 @@ public class Messages {
                 {"mail.reset.password.expiration", "Link expires:"},
                 {"mail.reset.password.subject", "Reset password."},
                 {"notification.welcome.title", "Welcome!"},
-                {"notification.welcome.content", "You successfully created your account in the system!"}
+                {"notification.welcome.content", "You successfully created your account in the system!"},
+                {"token.refresh.invalid",
+                        "The refresh token is invalid or has expired. Please log in again."},
+                {"token.refresh.success", "The token has been refreshed."}
         }).collect(Collectors.toMap(data -> data[0], data -> data[1]));
     }
 
@@ -0,0 +1,143 @@
+package com.healthy.gym.auth.controller;
+
+import com.healthy.gym.auth.component.token.RefreshTokenStore;
+import com.healthy.gym.auth.component.token.RotatedRefreshToken;
+import com.healthy.gym.auth.configuration.tests.TestCountry;
+import com.healthy.gym.auth.enums.GymRole;
+import com.healthy.gym.auth.exceptions.token.InvalidTokenException;
+import com.healthy.gym.auth.service.UserService;
+import com.healthy.gym.auth.shared.GymUserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.healthy.gym.auth.configuration.tests.LocaleConverter.convertEnumToLocale;
+import static com.healthy.gym.auth.configuration.tests.Messages.getMessagesAccordingToLocale;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TokenController.class)
+@ActiveProfiles(value = "test")
+class TokenControllerTest {
+
+    private static final String USER_ID = "e4d0b5d0-27c4-4f6b-bd4b-5f3c5d1f27a1";
+    private static final String REFRESH_TOKEN = "9b2f1a5e-6d3c-4c8e-8f71-0c6f0f3f4e11.oldSecret";
+    private static final String ROTATED_REFRESH_TOKEN = "9b2f1a5e-6d3c-4c8e-8f71-0c6f0f3f4e11.newSecret";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
+    private URI uri;
+
+    @BeforeEach
+    void setUp() throws URISyntaxException {
+        uri = new URI("/token/refresh");
+    }
+
+    private GymUserDetails getUserDetails(boolean accountNonLocked) {
+        return new GymUserDetails(
+                USER_ID,
+                "jan.kowalski@wp.pl",
+                "encryptedPassword",
+                true,
+                true,
+                true,
+                accountNonLocked,
+                List.of(GymRole.USER)
+        );
+    }
+
+    private RequestBuilder buildRequest(Locale testedLocale) {
+        return MockMvcRequestBuilders
+                .post(uri)
+                .header("Accept-Language", testedLocale.toString())
+                .content("{\"refreshToken\":\"" + REFRESH_TOKEN + "\"}")
+                .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TestCountry.class)
+    void shouldIssueNewAccessTokenAndRotateRefreshToken(TestCountry country) throws Exception {
+        Map<String, String> messages = getMessagesAccordingToLocale(country);
+        Locale testedLocale = convertEnumToLocale(country);
+
+        when(refreshTokenStore.rotate(REFRESH_TOKEN))
+                .thenReturn(new RotatedRefreshToken(USER_ID, ROTATED_REFRESH_TOKEN));
+        when(userService.loadUserByUserId(USER_ID)).thenReturn(getUserDetails(true));
+
+        mockMvc.perform(buildRequest(testedLocale))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("token", startsWith("Bearer ")))
+                .andExpect(header().string("refreshToken", ROTATED_REFRESH_TOKEN))
+                .andExpect(header().string("userId", USER_ID))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value(is(messages.get("token.refresh.success"))));
+    }
+
+    @ParameterizedTest
+    @EnumSource(TestCountry.class)
+    void shouldRejectInvalidOrReusedRefreshToken(TestCountry country) throws Exception {
+        Map<String, String> messages = getMessagesAccordingToLocale(country);
+        Locale testedLocale = convertEnumToLocale(country);
+
+        doThrow(InvalidTokenException.class).when(refreshTokenStore).rotate(REFRESH_TOKEN);
+
+        mockMvc.perform(buildRequest(testedLocale))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(status().reason(is(messages.get("token.refresh.invalid"))))
+                .andExpect(header().doesNotExist("token"))
+                .andExpect(result ->
+                        assertThat(Objects.requireNonNull(result.getResolvedException()).getCause())
+                                .isInstanceOf(InvalidTokenException.class)
+                );
+
+        verify(userService, never()).loadUserByUserId(anyString());
+    }
+
+    @ParameterizedTest
+    @EnumSource(TestCountry.class)
+    void shouldRevokeRefreshTokenWhenAccountIsLocked(TestCountry country) throws Exception {
+        Map<String, String> messages = getMessagesAccordingToLocale(country);
+        Locale testedLocale = convertEnumToLocale(country);
+
+        when(refreshTokenStore.rotate(REFRESH_TOKEN))
+                .thenReturn(new RotatedRefreshToken(USER_ID, ROTATED_REFRESH_TOKEN));
+        when(userService.loadUserByUserId(USER_ID)).thenReturn(getUserDetails(false));
+
+        mockMvc.perform(buildRequest(testedLocale))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(status().reason(is(messages.get("token.refresh.invalid"))))
+                .andExpect(header().doesNotExist("token"));
+
+        verify(refreshTokenStore).revoke(ROTATED_REFRESH_TOKEN);
+    }
+}
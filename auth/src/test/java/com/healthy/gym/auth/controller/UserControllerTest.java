@@ -5,6 +5,7 @@ import com.healthy.gym.auth.data.document.RegistrationTokenDocument;
 import com.healthy.gym.auth.data.document.UserDocument;
 import com.healthy.gym.auth.exceptions.token.ExpiredTokenException;
 import com.healthy.gym.auth.exceptions.token.InvalidTokenException;
+import com.healthy.gym.auth.service.MailOutboxService;
 import com.healthy.gym.auth.service.TokenService;
 import com.healthy.gym.auth.service.UserService;
 import com.healthy.gym.auth.shared.UserDTO;
@@ -57,6 +58,9 @@ class UserControllerTest {
     @MockBean
     private JavaMailSender javaMailSender;
 
+    @MockBean
+    private MailOutboxService mailOutboxService;
+
     @BeforeEach
     void setUp() {
         doNothing().when(javaMailSender).send(any(SimpleMailMessage.class));
@@ -180,7 +180,7 @@ class RegistrationTokenDAOTest {
         @Test
         void shouldSaveRegisterTokenInDB() {
             RegistrationTokenDocument saveToken = registrationTokenDAO
-                    .save(new RegistrationTokenDocument(testToken, andrzejNowak));
+                    .save(new RegistrationTokenDocument(UUID.randomUUID().toString(), andrzejNowak));
 
             List<RegistrationTokenDocument> allTokens = registrationTokenDAO.findAll();
 
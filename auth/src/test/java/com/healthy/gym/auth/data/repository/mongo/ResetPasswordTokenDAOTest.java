@@ -175,7 +175,7 @@ class ResetPasswordTokenDAOTest {
         @Test
         void shouldSaveResetPasswordTokenInDB() {
             ResetPasswordTokenDocument savedToken = resetPasswordTokenDAO
-                    .save(new ResetPasswordTokenDocument(testToken, andrzejNowak));
+                    .save(new ResetPasswordTokenDocument(UUID.randomUUID().toString(), andrzejNowak));
 
             List<ResetPasswordTokenDocument> allTokens = resetPasswordTokenDAO.findAll();
 
@@ -0,0 +1,128 @@
+package com.healthy.gym.auth.data.repository.mongo;
+
+import com.healthy.gym.auth.data.document.RegistrationTokenDocument;
+import com.healthy.gym.auth.data.document.ResetPasswordTokenDocument;
+import com.healthy.gym.auth.data.document.UserDocument;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.embedded.EmbeddedMongoAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers
+@DataMongoTest(
+        excludeAutoConfiguration = EmbeddedMongoAutoConfiguration.class,
+        properties = "spring.data.mongodb.auto-index-creation=true"
+)
+@Import(UniversalTokenDAOImpl.class)
+@ActiveProfiles(value = "test")
+@Tags({@Tag("repository"), @Tag("integration")})
+class UniversalTokenDAOTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer =
+            new MongoDBContainer(DockerImageName.parse("mongo:4.4.4-bionic"));
+
+    @Container
+    static GenericContainer<?> rabbitMQContainer =
+            new GenericContainer<>(DockerImageName.parse("gza73/agh-praca-inzynierska-rabbitmq"))
+                    .withExposedPorts(5672);
+
+    private UserDocument janKowalski;
+    private String testToken;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private UniversalTokenDAO universalTokenDAO;
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.rabbitmq.port", rabbitMQContainer::getFirstMappedPort);
+    }
+
+    @BeforeEach
+    void setUp() {
+        janKowalski = new UserDocument(
+                "Jan",
+                "Kowalski",
+                "jan.kowalski@test.com",
+                "666 777 888",
+                "encryptedPassword",
+                UUID.randomUUID().toString()
+        );
+        mongoTemplate.save(janKowalski);
+
+        testToken = UUID.randomUUID().toString();
+        mongoTemplate.save(new RegistrationTokenDocument(testToken, janKowalski));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(UserDocument.class).all();
+        mongoTemplate.remove(RegistrationTokenDocument.class).all();
+        mongoTemplate.remove(ResetPasswordTokenDocument.class).all();
+    }
+
+    @Test
+    void shouldMarkTokenAsUsedOnlyOnce() {
+        RegistrationTokenDocument usedToken =
+                universalTokenDAO.findValidTokenAndMarkAsUsed(testToken, RegistrationTokenDocument.class);
+
+        assertThat(usedToken).isNotNull();
+        assertThat(usedToken.isWasUsed()).isTrue();
+        assertThat(usedToken.getUserDocument().getUserId()).isEqualTo(janKowalski.getUserId());
+
+        assertThat(universalTokenDAO.findValidTokenAndMarkAsUsed(testToken, RegistrationTokenDocument.class))
+                .isNull();
+    }
+
+    @Test
+    void shouldNotMarkExpiredTokenAsUsed() {
+        String expiredToken = UUID.randomUUID().toString();
+        ResetPasswordTokenDocument resetPasswordToken = new ResetPasswordTokenDocument(expiredToken, janKowalski);
+        resetPasswordToken.setExpiryDate(LocalDateTime.now().minusMinutes(1));
+        mongoTemplate.save(resetPasswordToken);
+
+        assertThat(universalTokenDAO.findValidTokenAndMarkAsUsed(expiredToken, ResetPasswordTokenDocument.class))
+                .isNull();
+    }
+
+    @Test
+    void shouldRejectDuplicatedToken() {
+        RegistrationTokenDocument duplicatedToken = new RegistrationTokenDocument(testToken, janKowalski);
+
+        assertThatThrownBy(() -> mongoTemplate.save(duplicatedToken))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void shouldCreateTimeToLiveIndexOnExpiryDate() {
+        List<IndexInfo> indexes = mongoTemplate.indexOps(RegistrationTokenDocument.class).getIndexInfo();
+
+        assertThat(indexes)
+                .anySatisfy(index -> {
+                    assertThat(index.isIndexForFields(List.of("expiryDate"))).isTrue();
+                    assertThat(index.getExpireAfter()).isPresent();
+                });
+    }
+}
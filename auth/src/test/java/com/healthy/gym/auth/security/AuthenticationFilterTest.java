@@ -1,5 +1,7 @@
 package com.healthy.gym.auth.security;
 
+import com.healthy.gym.auth.component.LoginAttemptLimiter;
+import com.healthy.gym.auth.component.token.RefreshTokenStore;
 import com.healthy.gym.auth.configuration.tests.TestCountry;
 import com.healthy.gym.auth.data.document.UserDocument;
 import com.healthy.gym.auth.data.repository.mongo.RegistrationTokenDAO;
@@ -28,6 +30,11 @@ import java.util.regex.Pattern;
 import static com.healthy.gym.auth.configuration.tests.LocaleConverter.convertEnumToLocale;
 import static com.healthy.gym.auth.configuration.tests.Messages.getMessagesAccordingToLocale;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.ResultMatcher.matchAll;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -48,6 +55,12 @@ class AuthenticationFilterTest {
     @MockBean // DO NOT REMOVE
     private ResetPasswordTokenDAO resetPasswordTokenDAO;
 
+    @MockBean
+    private LoginAttemptLimiter loginAttemptLimiter;
+
+    @MockBean
+    private RefreshTokenStore refreshTokenStore;
+
     @Autowired
     private BCryptPasswordEncoder bCryptPasswordEncoder;
 
@@ -55,6 +68,9 @@ class AuthenticationFilterTest {
 
     @BeforeEach
     void setUp() {
+        // mock beans are not reset between tests of nested classes, so interactions would add up across them
+        reset(userDAO, loginAttemptLimiter, refreshTokenStore);
+
         userDocument = new UserDocument(
                 "Jan",
                 "Kowalski",
@@ -72,6 +88,7 @@ class AuthenticationFilterTest {
         userDocument.setGymRoles(userRoles);
 
         when(userDAO.findByEmail("jan.kowalski@wp.pl")).thenReturn(userDocument);
+        when(refreshTokenStore.issue(userDocument.getUserId())).thenReturn("refreshToken");
     }
 
     @Nested
@@ -102,10 +119,52 @@ class AuthenticationFilterTest {
                                     header().exists("token"),
                                     header().string("userId", matchesPattern(uuidPattern)),
                                     header().string("token", startsWith("Bearer ")),
+                                    header().string("refreshToken", "refreshToken"),
                                     jsonPath("$").doesNotExist()
                             )
                     );
         }
+
+        @Test
+        void shouldLoadUserFromDatabaseOnlyOnceWhenLoggingIn() throws Exception {
+            URI uri = new URI("/login");
+            String requestBody = "{" +
+                    "\"email\": \"jan.kowalski@wp.pl\",\n" +
+                    "\"password\": \"test12345\"\n" +
+                    "}";
+
+            RequestBuilder request = MockMvcRequestBuilders
+                    .post(uri)
+                    .content(requestBody)
+                    .contentType(MediaType.APPLICATION_JSON);
+
+            mockMvc.perform(request)
+                    .andDo(print())
+                    .andExpect(status().isOk());
+
+            verify(userDAO, times(1)).findByEmail("jan.kowalski@wp.pl");
+        }
+
+        @Test
+        void shouldResetFailedLoginAttemptsAfterSuccessfulLogin() throws Exception {
+            URI uri = new URI("/login");
+            String requestBody = "{" +
+                    "\"email\": \"jan.kowalski@wp.pl\",\n" +
+                    "\"password\": \"test12345\"\n" +
+                    "}";
+
+            RequestBuilder request = MockMvcRequestBuilders
+                    .post(uri)
+                    .content(requestBody)
+                    .contentType(MediaType.APPLICATION_JSON);
+
+            mockMvc.perform(request)
+                    .andDo(print())
+                    .andExpect(status().isOk());
+
+            verify(loginAttemptLimiter).loginSucceeded("jan.kowalski@wp.pl");
+            verify(loginAttemptLimiter, never()).loginFailed(anyString(), anyString());
+        }
     }
 
     @Nested
@@ -162,6 +221,39 @@ class AuthenticationFilterTest {
 
             String expectedMessage = messages.get("user.log-in.fail");
             performPrintAndTestRequest(request, expectedMessage);
+
+            verify(loginAttemptLimiter).loginFailed("jan.kowalski@wp.pl", "127.0.0.1");
+        }
+
+        @ParameterizedTest
+        @EnumSource(TestCountry.class)
+        void shouldRejectUserLoginBeforeCheckingPasswordWhenTooManyFailedAttempts(TestCountry country)
+                throws Exception {
+            Map<String, String> messages = getMessagesAccordingToLocale(country);
+            Locale testedLocale = convertEnumToLocale(country);
+
+            when(loginAttemptLimiter.getRetryAfterSeconds("jan.kowalski@wp.pl", "10.0.0.1")).thenReturn(120L);
+            RequestBuilder request = MockMvcRequestBuilders
+                    .post(new URI("/login"))
+                    .header("Accept-Language", testedLocale.toString())
+                    .header("X-Forwarded-For", "192.168.0.1, 10.0.0.1")
+                    .content(requestBody)
+                    .contentType(MediaType.APPLICATION_JSON);
+
+            mockMvc.perform(request)
+                    .andDo(print())
+                    .andExpect(
+                            matchAll(
+                                    status().isTooManyRequests(),
+                                    header().string("Retry-After", "120"),
+                                    header().doesNotExist("token"),
+                                    jsonPath("$.message")
+                                            .value(is(messages.get("user.log-in.fail.too-many-attempts")))
+                            )
+                    );
+
+            verify(userDAO, never()).findByEmail(anyString());
+            verify(loginAttemptLimiter, never()).loginFailed(anyString(), anyString());
         }
 
         @ParameterizedTest
@@ -1,9 +1,11 @@
 package com.healthy.gym.auth.security;
 
+import com.healthy.gym.auth.component.token.SigningKeyManager;
 import com.healthy.gym.auth.component.token.TokenManager;
 import com.healthy.gym.auth.component.token.TokenValidator;
 import com.healthy.gym.auth.configuration.EmbeddedRedisServer;
 import com.healthy.gym.auth.configuration.tests.TestCountry;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -48,6 +50,8 @@ class RedisLogoutHandlerTest {
     private TokenManager tokenManager;
     @Autowired
     private TokenValidator tokenValidator;
+    @Autowired
+    private SigningKeyManager signingKeyManager;
 
     @Autowired
     @SuppressWarnings("Embedded redis  server is needed to conduct a tests.")
@@ -179,6 +183,34 @@ class RedisLogoutHandlerTest {
                 );
     }
 
+    @ParameterizedTest
+    @EnumSource(TestCountry.class)
+    void shouldSendProperMessageWhenTokenHasAlreadyBeenRevoked(TestCountry country) throws Exception {
+        Map<String, String> messages = getMessagesAccordingToLocale(country);
+        Locale testedLocale = convertEnumToLocale(country);
+
+        URI logout = new URI("/logout");
+
+        String token = getToken();
+
+        RequestBuilder logoutRequest = get(logout)
+                .header(tokenManager.getHttpHeaderName(), token)
+                .locale(testedLocale);
+
+        mockMvc.perform(logoutRequest)
+                .andExpect(jsonPath("$.message").value(messages.get("user.logout.success")));
+
+        mockMvc.perform(logoutRequest)
+                .andDo(print())
+                .andExpect(
+                        matchAll(
+                                status().isOk(),
+                                jsonPath("$.success").value(true),
+                                jsonPath("$.message").value(messages.get("user.logout.token.expired"))
+                        )
+                );
+    }
+
     private String getToken() {
         String rawToken = getRawToken(setTokenExpirationTime());
         return tokenManager.getTokenPrefix() + " " + rawToken;
@@ -191,12 +223,12 @@ class RedisLogoutHandlerTest {
 
     private String getRawToken(Date expirationTime) {
         SignatureAlgorithm signatureAlgorithm = tokenManager.getSignatureAlgorithm();
-        String signingKey = tokenManager.getSigningKey();
 
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeyManager.getActiveKeyId())
                 .setSubject(UUID.randomUUID().toString())
                 .setExpiration(expirationTime)
-                .signWith(signatureAlgorithm, signingKey)
+                .signWith(signatureAlgorithm, signingKeyManager.getActivePrivateKey())
                 .compact();
     }
 
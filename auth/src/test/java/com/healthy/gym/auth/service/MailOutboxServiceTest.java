@@ -0,0 +1,147 @@
+package com.healthy.gym.auth.service;
+
+import com.healthy.gym.auth.data.document.MailOutboxDocument;
+import com.healthy.gym.auth.data.repository.mongo.MailOutboxDAO;
+import com.healthy.gym.auth.enums.MailOutboxStatus;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.mail.internet.MimeMessage;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class MailOutboxServiceTest {
+
+    private GreenMail greenMail;
+    private MailOutboxDAO mailOutboxDAO;
+    private MailOutboxService mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP);
+        greenMail.start();
+
+        mailOutboxDAO = mock(MailOutboxDAO.class);
+        mailOutboxService = getMailOutboxService(ServerSetupTest.SMTP.getPort());
+    }
+
+    private MailOutboxService getMailOutboxService(int smtpPort) {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(smtpPort);
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("mail.outbox.max-attempts", "2")
+                .withProperty("mail.outbox.initial-backoff", "60000");
+
+        return new MailOutboxServiceImpl(mailOutboxDAO, javaMailSender, environment);
+    }
+
+    private MailOutboxService getMailOutboxServiceWithUnavailableSmtpServer() {
+        return getMailOutboxService(ServerSetupTest.SMTP.getPort() + 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        greenMail.stop();
+    }
+
+    private MailOutboxDocument getPendingMail(String recipient) {
+        SimpleMailMessage mailMessage = new SimpleMailMessage();
+        mailMessage.setTo(recipient);
+        mailMessage.setSubject("Test subject");
+        mailMessage.setText("Test text");
+
+        MailOutboxDocument mail = new MailOutboxDocument(mailMessage);
+        mail.setId(UUID.randomUUID().toString());
+        return mail;
+    }
+
+    @Test
+    void shouldStorePendingMailInOutbox() {
+        SimpleMailMessage mailMessage = new SimpleMailMessage();
+        mailMessage.setTo("jan.kowalski@test.com");
+        mailMessage.setSubject("Test subject");
+        mailMessage.setText("Test text");
+
+        mailOutboxService.enqueue(mailMessage);
+
+        ArgumentCaptor<MailOutboxDocument> captor = ArgumentCaptor.forClass(MailOutboxDocument.class);
+        verify(mailOutboxDAO).insert(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(captor.getValue().getRecipients()).containsExactly("jan.kowalski@test.com");
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSendClaimedMailsInOneBatchAndRemoveThemFromOutbox() throws Exception {
+        MailOutboxDocument first = getPendingMail("jan.kowalski@test.com");
+        MailOutboxDocument second = getPendingMail("andrzej.nowak@test.com");
+        when(mailOutboxDAO.claimPendingMails(anyInt(), anyInt(), any())).thenReturn(List.of(first, second));
+
+        assertThat(mailOutboxService.sendPendingMails()).isEqualTo(2);
+
+        MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+        assertThat(receivedMessages).hasSize(2);
+        assertThat(receivedMessages[0].getSubject()).isEqualTo("Test subject");
+
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(mailOutboxDAO).removeAll(captor.capture());
+        assertThat(captor.getValue()).containsExactly(first.getId(), second.getId());
+        verify(mailOutboxDAO, never()).save(any());
+    }
+
+    @Test
+    void shouldScheduleRetryWithBackoffWhenSmtpServerIsUnavailable() {
+        mailOutboxService = getMailOutboxServiceWithUnavailableSmtpServer();
+        MailOutboxDocument mail = getPendingMail("jan.kowalski@test.com");
+        mail.setAttempts(1);
+        when(mailOutboxDAO.claimPendingMails(anyInt(), anyInt(), any())).thenReturn(List.of(mail));
+
+        mailOutboxService.sendPendingMails();
+
+        verify(mailOutboxDAO).save(mail);
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getLastError()).isNotNull();
+        assertThat(mail.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+    }
+
+    @Test
+    void shouldMarkMailAsFailedWhenMaxAttemptsReached() {
+        mailOutboxService = getMailOutboxServiceWithUnavailableSmtpServer();
+        MailOutboxDocument mail = getPendingMail("jan.kowalski@test.com");
+        mail.setAttempts(2);
+        when(mailOutboxDAO.claimPendingMails(anyInt(), anyInt(), any())).thenReturn(List.of(mail));
+
+        mailOutboxService.sendPendingMails();
+
+        verify(mailOutboxDAO).save(mail);
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+        assertThat(mail.getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotContactSmtpServerWhenOutboxIsEmpty() {
+        when(mailOutboxDAO.claimPendingMails(anyInt(), anyInt(), any())).thenReturn(List.of());
+
+        assertThat(mailOutboxService.sendPendingMails()).isZero();
+
+        verify(mailOutboxDAO, never()).removeAll(any());
+    }
+}
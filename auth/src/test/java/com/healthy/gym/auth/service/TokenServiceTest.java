@@ -5,6 +5,7 @@ import com.healthy.gym.auth.data.document.ResetPasswordTokenDocument;
 import com.healthy.gym.auth.data.document.UserDocument;
 import com.healthy.gym.auth.data.repository.mongo.RegistrationTokenDAO;
 import com.healthy.gym.auth.data.repository.mongo.ResetPasswordTokenDAO;
+import com.healthy.gym.auth.data.repository.mongo.UniversalTokenDAO;
 import com.healthy.gym.auth.data.repository.mongo.UserDAO;
 import com.healthy.gym.auth.exceptions.token.ExpiredTokenException;
 import com.healthy.gym.auth.exceptions.token.InvalidTokenException;
@@ -24,8 +25,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.spy;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest
 class TokenServiceTest {
@@ -42,6 +43,9 @@ class TokenServiceTest {
     @MockBean
     private ResetPasswordTokenDAO resetPasswordTokenDAO;
 
+    @MockBean
+    private UniversalTokenDAO universalTokenDAO;
+
     @MockBean
     private UserDAO userDAO;
 
@@ -51,6 +55,9 @@ class TokenServiceTest {
 
     @BeforeEach
     void setUp() {
+        // mock beans are not reset between tests of nested classes, so stubs would leak across them
+        reset(registrationTokenDAO, resetPasswordTokenDAO, universalTokenDAO, userDAO);
+
         janKowalski = new UserDocument(
                 "Jan",
                 "Kowalski",
@@ -133,7 +140,7 @@ class TokenServiceTest {
         void shouldThrowInvalidTokenExceptionWhenProvidedInvalidToken() {
             when(resetPasswordTokenDAO.findByToken("testToken")).thenReturn(null);
             assertThatThrownBy(
-                    () -> tokenService.verifyTokenAndResetPassword("testToken", anyString())
+                    () -> tokenService.verifyTokenAndResetPassword("testToken", "newTestPassword")
             ).isInstanceOf(InvalidTokenException.class);
         }
 
@@ -144,7 +151,7 @@ class TokenServiceTest {
 
             when(resetPasswordTokenDAO.findByToken("testToken")).thenReturn(resetPasswordToken);
             assertThatThrownBy(
-                    () -> tokenService.verifyTokenAndResetPassword("testToken", anyString())
+                    () -> tokenService.verifyTokenAndResetPassword("testToken", "newTestPassword")
             ).isInstanceOf(InvalidTokenException.class);
         }
 
@@ -155,7 +162,7 @@ class TokenServiceTest {
 
             when(resetPasswordTokenDAO.findByToken("testToken")).thenReturn(expiredToken);
             assertThatThrownBy(
-                    () -> tokenService.verifyTokenAndResetPassword("testToken", anyString())
+                    () -> tokenService.verifyTokenAndResetPassword("testToken", "newTestPassword")
             ).isInstanceOf(ExpiredTokenException.class);
         }
 
@@ -165,42 +172,11 @@ class TokenServiceTest {
             resetPasswordToken.setExpiryDate(LocalDateTime.now().plusHours(2));
             resetPasswordToken.setUserDocument(null);
 
-            when(resetPasswordTokenDAO.findByToken("testToken")).thenReturn(resetPasswordToken);
-
-            assertThatThrownBy(
-                    () -> tokenService.verifyTokenAndResetPassword("testToken", anyString())
-            ).isInstanceOf(IllegalStateException.class);
-        }
-
-        @Test
-        void shouldThrowIllegalStateExceptionWhenResetPasswordTokenHaveNotBeenUpdatedProperly() throws ExpiredTokenException, InvalidTokenException {
-            ResetPasswordTokenDocument resetPasswordToken = new ResetPasswordTokenDocument();
-            resetPasswordToken.setExpiryDate(LocalDateTime.now().plusHours(2));
-            resetPasswordToken.setUserDocument(janKowalski);
-
-            String newPassword = "newTestPassword";
-            UserDocument returnUserDocument = new UserDocument(
-                    janKowalski.getName(),
-                    janKowalski.getSurname(),
-                    janKowalski.getEmail(),
-                    janKowalski.getPhoneNumber(),
-                    bCryptPasswordEncoder.encode(newPassword),
-                    janKowalski.getUserId()
-            );
-            returnUserDocument.setEnabled(janKowalski.isEnabled());
-            returnUserDocument.setAccountNonExpired(janKowalski.isAccountNonExpired());
-            returnUserDocument.setCredentialsNonExpired(janKowalski.isCredentialsNonExpired());
-            returnUserDocument.setAccountNonLocked(janKowalski.isAccountNonLocked());
-
-            when(resetPasswordTokenDAO.findByToken("testToken")).thenReturn(resetPasswordToken);
-            when(userDAO.save(janKowalski)).thenReturn(returnUserDocument);
-
-            ResetPasswordTokenDocument savedResetPasswordToken = new ResetPasswordTokenDocument();
-            savedResetPasswordToken.setWasUsed(false);
-            when(resetPasswordTokenDAO.save(resetPasswordToken)).thenReturn(savedResetPasswordToken);
+            when(universalTokenDAO.findValidTokenAndMarkAsUsed("testToken", ResetPasswordTokenDocument.class))
+                    .thenReturn(resetPasswordToken);
 
             assertThatThrownBy(
-                    () -> tokenService.verifyTokenAndResetPassword("testToken", anyString())
+                    () -> tokenService.verifyTokenAndResetPassword("testToken", "newTestPassword")
             ).isInstanceOf(IllegalStateException.class);
         }
 
@@ -224,16 +200,15 @@ class TokenServiceTest {
             returnUserDocument.setCredentialsNonExpired(janKowalski.isCredentialsNonExpired());
             returnUserDocument.setAccountNonLocked(janKowalski.isAccountNonLocked());
 
-            when(resetPasswordTokenDAO.findByToken("testToken")).thenReturn(resetPasswordToken);
+            when(universalTokenDAO.findValidTokenAndMarkAsUsed("testToken", ResetPasswordTokenDocument.class))
+                    .thenReturn(resetPasswordToken);
             when(userDAO.save(janKowalski)).thenReturn(returnUserDocument);
 
-            ResetPasswordTokenDocument savedResetPasswordToken = new ResetPasswordTokenDocument();
-            savedResetPasswordToken.setWasUsed(true);
-            when(resetPasswordTokenDAO.save(resetPasswordToken)).thenReturn(savedResetPasswordToken);
-
             UserDTO userDTO = tokenService.verifyTokenAndResetPassword("testToken", newPassword);
 
             assertThat(bCryptPasswordEncoder.matches(newPassword, userDTO.getEncryptedPassword())).isTrue();
+            verify(resetPasswordTokenDAO, never()).findByToken(anyString());
+            verify(resetPasswordTokenDAO, never()).save(any());
         }
     }
 
@@ -244,7 +219,7 @@ class TokenServiceTest {
         void shouldThrowInvalidTokenExceptionWhenProvidedInvalidToken() {
             when(registrationTokenDAO.findByToken(anyString())).thenReturn(null);
             assertThatThrownBy(
-                    () -> tokenService.verifyRegistrationToken(anyString())
+                    () -> tokenService.verifyRegistrationToken("testToken")
             ).isInstanceOf(InvalidTokenException.class);
         }
 
@@ -255,7 +230,7 @@ class TokenServiceTest {
 
             when(registrationTokenDAO.findByToken(anyString())).thenReturn(registrationToken);
             assertThatThrownBy(
-                    () -> tokenService.verifyRegistrationToken(anyString())
+                    () -> tokenService.verifyRegistrationToken("testToken")
             ).isInstanceOf(InvalidTokenException.class);
         }
 
@@ -266,7 +241,7 @@ class TokenServiceTest {
 
             when(registrationTokenDAO.findByToken(anyString())).thenReturn(expiredToken);
             assertThatThrownBy(
-                    () -> tokenService.verifyRegistrationToken(anyString())
+                    () -> tokenService.verifyRegistrationToken("testToken")
             ).isInstanceOf(ExpiredTokenException.class);
         }
 
@@ -275,44 +250,10 @@ class TokenServiceTest {
             RegistrationTokenDocument registrationToken = spy(RegistrationTokenDocument.class);
             registrationToken.setExpiryDate(LocalDateTime.now().plusHours(2));
 
-            when(registrationTokenDAO.findByToken(anyString())).thenReturn(registrationToken);
+            when(universalTokenDAO.findValidTokenAndMarkAsUsed(anyString(), eq(RegistrationTokenDocument.class)))
+                    .thenReturn(registrationToken);
             when(registrationToken.getUserDocument()).thenReturn(null);
 
-            assertThatThrownBy(
-                    () -> tokenService.verifyRegistrationToken(anyString())
-            ).isInstanceOf(IllegalStateException.class);
-        }
-
-        @Test
-        void shouldThrowIllegalStateExceptionWhenRegistrationTokenHaveNotBeenUpdatedProperly() throws ExpiredTokenException, InvalidTokenException {
-            janKowalski.setEnabled(false);
-
-            RegistrationTokenDocument registrationToken = spy(RegistrationTokenDocument.class);
-            registrationToken.setExpiryDate(LocalDateTime.now().plusHours(2));
-            registrationToken.setUserDocument(janKowalski);
-
-            UserDocument returnUserDocument = new UserDocument(
-                    janKowalski.getName(),
-                    janKowalski.getSurname(),
-                    janKowalski.getEmail(),
-                    janKowalski.getPhoneNumber(),
-                    janKowalski.getEncryptedPassword(),
-                    janKowalski.getUserId()
-            );
-            returnUserDocument.setEnabled(!janKowalski.isEnabled());
-            returnUserDocument.setAccountNonExpired(janKowalski.isAccountNonExpired());
-            returnUserDocument.setCredentialsNonExpired(janKowalski.isCredentialsNonExpired());
-            returnUserDocument.setAccountNonLocked(janKowalski.isAccountNonLocked());
-
-            when(registrationTokenDAO.findByToken("testToken")).thenReturn(registrationToken);
-            when(userDAO.save(janKowalski)).thenReturn(returnUserDocument);
-
-            RegistrationTokenDocument savedRegistrationToken = new RegistrationTokenDocument();
-            savedRegistrationToken.setWasUsed(false);
-            when(registrationTokenDAO.save(registrationToken)).thenReturn(savedRegistrationToken);
-
-            assertThat(registrationToken.getUserDocument().isEnabled()).isFalse();
-
             assertThatThrownBy(
                     () -> tokenService.verifyRegistrationToken("testToken")
             ).isInstanceOf(IllegalStateException.class);
@@ -339,18 +280,17 @@ class TokenServiceTest {
             returnUserDocument.setCredentialsNonExpired(janKowalski.isCredentialsNonExpired());
             returnUserDocument.setAccountNonLocked(janKowalski.isAccountNonLocked());
 
-            when(registrationTokenDAO.findByToken("testToken")).thenReturn(registrationToken);
+            when(universalTokenDAO.findValidTokenAndMarkAsUsed("testToken", RegistrationTokenDocument.class))
+                    .thenReturn(registrationToken);
             when(userDAO.save(janKowalski)).thenReturn(returnUserDocument);
 
-            RegistrationTokenDocument savedRegistrationToken = new RegistrationTokenDocument();
-            savedRegistrationToken.setWasUsed(true);
-            when(registrationTokenDAO.save(registrationToken)).thenReturn(savedRegistrationToken);
-
             assertThat(registrationToken.getUserDocument().isEnabled()).isFalse();
 
             UserDTO userDTO = tokenService.verifyRegistrationToken("testToken");
 
             assertThat(userDTO.isEnabled()).isTrue();
+            verify(registrationTokenDAO, never()).findByToken(anyString());
+            verify(registrationTokenDAO, never()).save(any());
         }
     }
 
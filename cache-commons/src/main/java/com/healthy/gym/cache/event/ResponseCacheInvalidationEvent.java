@@ -0,0 +1,26 @@
+package com.healthy.gym.cache.event;
+
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+public class ResponseCacheInvalidationEvent extends RemoteApplicationEvent {
+
+    private String cacheName;
+
+    public ResponseCacheInvalidationEvent() {
+        // default constructor for object mapper
+    }
+
+    public ResponseCacheInvalidationEvent(
+            Object source,
+            String originService,
+            String destinationService,
+            String cacheName
+    ) {
+        super(source, originService, destinationService);
+        this.cacheName = cacheName;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+}
@@ -0,0 +1,76 @@
+package com.healthy.gym.cache.filter;
+
+import com.healthy.gym.cache.event.ResponseCacheInvalidationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+public class ResponseCacheInvalidationFilter extends OncePerRequestFilter {
+
+    private static final String GATEWAY_DESTINATION = "gateway:**";
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final String busId;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, List<String>> cacheNamesByPattern;
+
+    /**
+     * @param cacheNamesByPattern gateway caches to invalidate after a successful modifying request,
+     *                            keyed by the Ant pattern of the servlet path
+     */
+    public ResponseCacheInvalidationFilter(
+            ApplicationEventPublisher applicationEventPublisher,
+            Environment environment,
+            Map<String, List<String>> cacheNamesByPattern
+    ) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.busId = environment.getProperty("spring.cloud.bus.id", "application");
+        this.cacheNamesByPattern = Map.copyOf(cacheNamesByPattern);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+
+        if (!isModifyingRequest(request) || !isSuccessful(response)) return;
+
+        String path = request.getServletPath();
+        cacheNamesByPattern.entrySet().stream()
+                .filter(entry -> pathMatcher.match(entry.getKey(), path))
+                .flatMap(entry -> entry.getValue().stream())
+                .distinct()
+                .forEach(this::publishInvalidation);
+    }
+
+    private boolean isModifyingRequest(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !HttpMethod.GET.matches(method)
+                && !HttpMethod.HEAD.matches(method)
+                && !HttpMethod.OPTIONS.matches(method);
+    }
+
+    private boolean isSuccessful(HttpServletResponse response) {
+        int status = response.getStatus();
+        return status >= 200 && status < 300;
+    }
+
+    private void publishInvalidation(String cacheName) {
+        applicationEventPublisher.publishEvent(
+                new ResponseCacheInvalidationEvent(this, busId, GATEWAY_DESTINATION, cacheName)
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package com.healthy.gym.cache.filter;
+
+import com.healthy.gym.cache.event.ResponseCacheInvalidationEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ResponseCacheInvalidationFilterTest {
+
+    private ApplicationEventPublisher applicationEventPublisher;
+    private ResponseCacheInvalidationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.cloud.bus.id", "trainings");
+        filter = new ResponseCacheInvalidationFilter(
+                applicationEventPublisher,
+                environment,
+                Map.of(
+                        "/group/**", List.of("trainings-timetable"),
+                        "/trainingType/**", List.of("trainings-training-types", "trainings-timetable")
+                )
+        );
+    }
+
+    @Test
+    void shouldInvalidateEveryCacheMappedToModifiedPath() throws ServletException, IOException {
+        filter.doFilter(request("PUT", "/trainingType/1"), new MockHttpServletResponse(), new MockFilterChain());
+
+        ArgumentCaptor<ResponseCacheInvalidationEvent> captor =
+                ArgumentCaptor.forClass(ResponseCacheInvalidationEvent.class);
+        verify(applicationEventPublisher, times(2)).publishEvent(captor.capture());
+
+        List<String> cacheNames = captor.getAllValues().stream()
+                .map(ResponseCacheInvalidationEvent::getCacheName)
+                .collect(Collectors.toList());
+        assertThat(cacheNames).containsExactlyInAnyOrder("trainings-training-types", "trainings-timetable");
+        assertThat(captor.getValue().getOriginService()).isEqualTo("trainings");
+    }
+
+    @Test
+    void shouldNotInvalidateCacheAfterReadingRequest() throws ServletException, IOException {
+        filter.doFilter(request("GET", "/group/1"), new MockHttpServletResponse(), new MockFilterChain());
+
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void shouldNotInvalidateCacheAfterFailedRequest() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(400);
+
+        filter.doFilter(request("POST", "/group"), response, new MockFilterChain());
+
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    private MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -16,7 +16,7 @@ public class TokenManagerImpl implements TokenManager {
 
     @Override
     public String getSigningKey() {
-        return environment.getRequiredProperty("token.secret");
+        return environment.getProperty("token.secret");
     }
 
     @Override
@@ -0,0 +1,14 @@
+package com.healthy.gym.equipment.configuration;
+
+import com.healthy.gym.image.component.ImageProcessorImpl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ImageProcessorConfiguration {
+
+    @Bean
+    public ImageProcessorImpl getImageProcessor() {
+        return new ImageProcessorImpl();
+    }
+}
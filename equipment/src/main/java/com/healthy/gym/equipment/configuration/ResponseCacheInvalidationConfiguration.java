@@ -0,0 +1,28 @@
+package com.healthy.gym.equipment.configuration;
+
+import com.healthy.gym.cache.filter.ResponseCacheInvalidationFilter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class ResponseCacheInvalidationConfiguration {
+
+    @Bean
+    public ResponseCacheInvalidationFilter getResponseCacheInvalidationFilter(
+            ApplicationEventPublisher applicationEventPublisher,
+            Environment environment
+    ) {
+        return new ResponseCacheInvalidationFilter(
+                applicationEventPublisher,
+                environment,
+                Map.of(
+                        "/**", List.of("equipment")
+                )
+        );
+    }
+}
@@ -2,15 +2,17 @@ package com.healthy.gym.equipment.controller;
 
 import com.healthy.gym.equipment.component.Translator;
 import com.healthy.gym.equipment.exception.ImageNotFoundException;
+import com.healthy.gym.equipment.pojo.ImageContent;
 import com.healthy.gym.equipment.service.PhotoService;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
-import org.springframework.util.DigestUtils;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Duration;
+import java.util.List;
 
 @RestController
 public class PhotoController {
@@ -24,14 +26,24 @@ public class PhotoController {
     }
 
     @GetMapping("/image/{imageId}")
-    public ResponseEntity<byte[]> getAvatar(@PathVariable String imageId) {
+    public ResponseEntity<Resource> getAvatar(
+            @PathVariable String imageId,
+            @RequestParam(required = false) String version,
+            @RequestParam(required = false) String size,
+            @RequestParam(required = false) String format,
+            @RequestHeader HttpHeaders requestHeaders
+    ) {
         try {
-            byte[] image = photoService.getImage(imageId);
-            String etag = DigestUtils.md5DigestAsHex(image);
+            ImageContent image = photoService.getImage(
+                    imageId,
+                    version,
+                    ImageSize.fromName(size),
+                    ImageFormat.negotiate(format, requestHeaders.getAccept())
+            );
 
             HttpHeaders headers = new HttpHeaders();
-            headers.setContentLength(image.length);
-            headers.setContentType(MediaType.IMAGE_JPEG);
+            headers.setContentType(getContentType(image));
+            headers.setVary(List.of(HttpHeaders.ACCEPT));
 
             CacheControl cacheControl = CacheControl.maxAge(Duration.ofMinutes(10));
             cacheControl.cachePrivate();
@@ -40,8 +52,8 @@ public class PhotoController {
                     .status(HttpStatus.OK)
                     .headers(headers)
                     .cacheControl(cacheControl)
-                    .eTag(etag)
-                    .body(image);
+                    .eTag(image.getContentHash())
+                    .body(image.getContent());
 
         } catch (ImageNotFoundException exception) {
             String reason = translator.toLocale("avatar.not.found.exception");
@@ -53,4 +65,12 @@ public class PhotoController {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, reason, exception);
         }
     }
+
+    private MediaType getContentType(ImageContent image) {
+        try {
+            return MediaType.parseMediaType(image.getContentType());
+        } catch (InvalidMediaTypeException exception) {
+            return MediaType.IMAGE_JPEG;
+        }
+    }
 }
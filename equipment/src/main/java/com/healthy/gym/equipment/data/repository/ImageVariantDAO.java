@@ -0,0 +1,9 @@
+package com.healthy.gym.equipment.data.repository;
+
+import com.healthy.gym.equipment.data.document.ImageVariantDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ImageVariantDAO extends MongoRepository<ImageVariantDocument, String> {
+
+    void deleteAllByImageId(String imageId);
+}
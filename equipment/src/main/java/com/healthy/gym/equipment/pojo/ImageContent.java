@@ -0,0 +1,51 @@
+package com.healthy.gym.equipment.pojo;
+
+import com.healthy.gym.image.component.CacheableImage;
+import org.springframework.core.io.Resource;
+
+public class ImageContent implements CacheableImage<ImageContent> {
+
+    private final String contentType;
+    private final long length;
+    private final String contentHash;
+    private final Resource content;
+
+    public ImageContent(String contentType, long length, String contentHash, Resource content) {
+        this.contentType = contentType;
+        this.length = length;
+        this.contentHash = contentHash;
+        this.content = content;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public long getLength() {
+        return length;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public Resource getContent() {
+        return content;
+    }
+
+    @Override
+    public ImageContent withContent(long length, Resource content) {
+        return new ImageContent(contentType, length, contentHash, content);
+    }
+
+    @Override
+    public String toString() {
+        return "ImageContent{" +
+                "contentType='" + contentType + '\'' +
+                ", length=" + length +
+                ", contentHash='" + contentHash + '\'' +
+                '}';
+    }
+}
@@ -6,11 +6,15 @@ import com.healthy.gym.equipment.data.document.ImageDocument;
 import com.healthy.gym.equipment.data.document.TrainingTypeDocument;
 import com.healthy.gym.equipment.data.repository.EquipmentDAO;
 import com.healthy.gym.equipment.data.repository.ImageDAO;
+import com.healthy.gym.equipment.data.repository.ImageVariantDAO;
 import com.healthy.gym.equipment.data.repository.TrainingTypeDAO;
 import com.healthy.gym.equipment.dto.EquipmentDTO;
 import com.healthy.gym.equipment.exception.DuplicatedEquipmentTypeException;
 import com.healthy.gym.equipment.exception.EquipmentNotFoundException;
 import com.healthy.gym.equipment.model.request.EquipmentRequest;
+import com.healthy.gym.equipment.pojo.ImageContent;
+import com.healthy.gym.image.component.ImageCache;
+import com.healthy.gym.image.component.ImageProcessor;
 import org.bson.types.Binary;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
@@ -33,18 +37,27 @@ public class EquipmentServiceImpl implements EquipmentService {
     private final ImageDAO imageDAO;
     private final TrainingTypeDAO trainingTypeDAO;
     private final ImageUrlCreator imageUrlCreator;
+    private final ImageVariantDAO imageVariantDAO;
+    private final ImageProcessor imageProcessor;
+    private final ImageCache<ImageContent> imageCache;
     private final ModelMapper modelMapper;
 
     public EquipmentServiceImpl(
             EquipmentDAO equipmentDAO,
             ImageDAO imageDAO,
             TrainingTypeDAO trainingTypeDAO,
-            ImageUrlCreator imageUrlCreator
+            ImageUrlCreator imageUrlCreator,
+            ImageVariantDAO imageVariantDAO,
+            ImageProcessor imageProcessor,
+            ImageCache<ImageContent> imageCache
     ) {
         this.equipmentDAO = equipmentDAO;
         this.trainingTypeDAO = trainingTypeDAO;
         this.imageDAO = imageDAO;
         this.imageUrlCreator = imageUrlCreator;
+        this.imageVariantDAO = imageVariantDAO;
+        this.imageProcessor = imageProcessor;
+        this.imageCache = imageCache;
         this.modelMapper = new ModelMapper();
         this.modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
     }
@@ -73,7 +86,7 @@ public class EquipmentServiceImpl implements EquipmentService {
             try {
                 ImageDocument imageDocument = new ImageDocument(
                         UUID.randomUUID().toString(),
-                        new Binary(multipartFile.getBytes()),
+                        new Binary(sanitizeImage(multipartFile)),
                         multipartFile.getContentType()
                 );
                 savedImageDocument = imageDAO.save(imageDocument);
@@ -110,6 +123,8 @@ public class EquipmentServiceImpl implements EquipmentService {
         if (imageDocument != null) {
             String imageId = imageDocument.getImageId();
             imageDAO.deleteByImageId(imageId);
+            imageVariantDAO.deleteAllByImageId(imageId);
+            imageCache.invalidate(imageId);
         }
 
         return mapEquipmentDocumentToEquipmentDTO(equipmentDocumentToRemove);
@@ -138,13 +153,15 @@ public class EquipmentServiceImpl implements EquipmentService {
                 ImageDocument imageToUpdate;
                 if (!equipmentDocumentToUpdate.getImagesDocuments().isEmpty()) {
                     imageToUpdate = equipmentDocumentToUpdate.getImagesDocuments().get(0);
-                    imageToUpdate.setImageData(new Binary(multipartFile.getBytes()));
+                    imageToUpdate.setImageData(new Binary(sanitizeImage(multipartFile)));
                     imageToUpdate.setContentType(multipartFile.getContentType());
+                    imageVariantDAO.deleteAllByImageId(imageToUpdate.getImageId());
+                    imageCache.invalidate(imageToUpdate.getImageId());
 
                 } else {
                     imageToUpdate = new ImageDocument(
                             UUID.randomUUID().toString(),
-                            new Binary(multipartFile.getBytes()),
+                            new Binary(sanitizeImage(multipartFile)),
                             multipartFile.getContentType()
                     );
                 }
@@ -182,4 +199,7 @@ public class EquipmentServiceImpl implements EquipmentService {
         return trainingTypeDocuments;
     }
 
+    private byte[] sanitizeImage(MultipartFile multipartFile) throws IOException {
+        return imageProcessor.sanitize(multipartFile.getBytes(), multipartFile.getContentType());
+    }
 }
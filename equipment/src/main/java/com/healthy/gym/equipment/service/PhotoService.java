@@ -1,8 +1,14 @@
 package com.healthy.gym.equipment.service;
 
 import com.healthy.gym.equipment.exception.ImageNotFoundException;
+import com.healthy.gym.equipment.pojo.ImageContent;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+
+import java.io.IOException;
 
 public interface PhotoService {
 
-    byte[] getImage(String userId) throws ImageNotFoundException;
+    ImageContent getImage(String imageId, String version, ImageSize size, ImageFormat format)
+            throws ImageNotFoundException, IOException;
 }
@@ -1,26 +1,88 @@
 package com.healthy.gym.equipment.service;
 
 import com.healthy.gym.equipment.data.document.ImageDocument;
+import com.healthy.gym.equipment.data.document.ImageVariantDocument;
 import com.healthy.gym.equipment.data.repository.ImageDAO;
+import com.healthy.gym.equipment.data.repository.ImageVariantDAO;
 import com.healthy.gym.equipment.exception.ImageNotFoundException;
+import com.healthy.gym.equipment.pojo.ImageContent;
+import com.healthy.gym.image.component.ImageCache;
+import com.healthy.gym.image.component.ImageProcessor;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
 import org.bson.types.Binary;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
 
 @Service
 public class PhotoServiceImpl implements PhotoService {
 
     private final ImageDAO imageDAO;
+    private final ImageVariantDAO imageVariantDAO;
+    private final ImageProcessor imageProcessor;
+    private final ImageCache<ImageContent> imageCache;
 
-    public PhotoServiceImpl(ImageDAO imageDAO) {
+    public PhotoServiceImpl(
+            ImageDAO imageDAO,
+            ImageVariantDAO imageVariantDAO,
+            ImageProcessor imageProcessor,
+            ImageCache<ImageContent> imageCache
+    ) {
         this.imageDAO = imageDAO;
+        this.imageVariantDAO = imageVariantDAO;
+        this.imageProcessor = imageProcessor;
+        this.imageCache = imageCache;
     }
 
     @Override
-    public byte[] getImage(String imageId) throws ImageNotFoundException {
+    public ImageContent getImage(String imageId, String version, ImageSize size, ImageFormat format)
+            throws ImageNotFoundException, IOException {
+        String cacheVersion = getCacheVersion(version, size, format);
+        ImageContent cachedImage = imageCache.get(imageId, cacheVersion);
+        if (cachedImage != null) return cachedImage;
+
+        ImageDocument imageDocument = getImageDocument(imageId, size, format);
+        byte[] content = imageDocument.getImageData().getData();
+        ImageContent image = new ImageContent(
+                imageDocument.getContentType(),
+                content.length,
+                DigestUtils.md5DigestAsHex(content),
+                new ByteArrayResource(content)
+        );
+        return imageCache.put(imageId, cacheVersion, image);
+    }
+
+    private String getCacheVersion(String version, ImageSize size, ImageFormat format) {
+        if (version == null) return null;
+        String formatName = format == null ? "source" : format.getFormatName();
+        return version + ":" + size.getName() + "." + formatName;
+    }
+
+    private ImageDocument getImageDocument(String imageId, ImageSize size, ImageFormat format)
+            throws ImageNotFoundException, IOException {
         ImageDocument imageDocument = imageDAO.findByImageId(imageId);
         if (imageDocument == null) throw new ImageNotFoundException();
 
-        Binary binary = imageDocument.getImageData();
-        return binary.getData();
+        ImageFormat sourceFormat = ImageFormat.fromContentType(imageDocument.getContentType());
+        ImageFormat targetFormat = format == null ? sourceFormat : format;
+        if (size == ImageSize.ORIGINAL && targetFormat == sourceFormat) return imageDocument;
+
+        String variant = size.getName() + "." + targetFormat.getFormatName();
+        ImageVariantDocument variantDocument = imageVariantDAO.findById(imageId + ":" + variant).orElse(null);
+        if (variantDocument == null) {
+            Binary binary = imageDocument.getImageData();
+            byte[] content = imageProcessor.resize(binary.getData(), size, targetFormat);
+            variantDocument = imageVariantDAO.save(new ImageVariantDocument(
+                    imageId,
+                    variant,
+                    new Binary(content),
+                    targetFormat.getMediaType().toString()
+            ));
+        }
+
+        return new ImageDocument(imageId, variantDocument.getImageData(), variantDocument.getContentType());
     }
 }
@@ -1,13 +1,14 @@
 package com.healthy.gym.gateway;
 
+import com.healthy.gym.cache.event.ResponseCacheInvalidationEvent;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
-import org.springframework.cloud.netflix.zuul.EnableZuulProxy;
 
 @SpringBootApplication
 @EnableDiscoveryClient
-@EnableZuulProxy
+@RemoteApplicationEventScan(basePackageClasses = ResponseCacheInvalidationEvent.class)
 public class GatewayApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,67 @@
+package com.healthy.gym.gateway.component.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public class CachedResponse {
+
+    private static final Set<String> NOT_REPLAYED_HEADERS = Set.of(
+            "connection",
+            "keep-alive",
+            "proxy-authenticate",
+            "proxy-authorization",
+            "te",
+            "trailer",
+            "transfer-encoding",
+            "upgrade",
+            "content-length",
+            "set-cookie"
+    );
+    private static final String ACCESS_CONTROL_HEADER_PREFIX = "access-control-";
+
+    private final byte[] body;
+    private final HttpHeaders headers;
+
+    public CachedResponse(byte[] body, HttpHeaders upstreamHeaders) {
+        this.body = body;
+
+        Set<String> notReplayedHeaders = new HashSet<>(NOT_REPLAYED_HEADERS);
+        upstreamHeaders.getConnection()
+                .forEach(header -> notReplayedHeaders.add(header.trim().toLowerCase(Locale.ROOT)));
+
+        HttpHeaders replayedHeaders = new HttpHeaders();
+        upstreamHeaders.forEach((name, values) -> {
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            // CORS headers depend on the origin of each request and are added by the gateway itself
+            if (notReplayedHeaders.contains(lowerCaseName) || lowerCaseName.startsWith(ACCESS_CONTROL_HEADER_PREFIX))
+                return;
+            replayedHeaders.put(name, List.copyOf(values));
+        });
+        if (replayedHeaders.getETag() == null) {
+            replayedHeaders.setETag("\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        }
+        this.headers = HttpHeaders.readOnlyHttpHeaders(replayedHeaders);
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    public MediaType getContentType() {
+        return headers.getContentType();
+    }
+
+    public String getETag() {
+        return headers.getETag();
+    }
+}
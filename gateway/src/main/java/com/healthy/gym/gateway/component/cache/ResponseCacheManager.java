@@ -0,0 +1,13 @@
+package com.healthy.gym.gateway.component.cache;
+
+public interface ResponseCacheManager {
+    String getRouteId(String path);
+
+    CachedResponse get(String routeId, String key);
+
+    void put(String routeId, String key, CachedResponse response);
+
+    void invalidate(String routeId);
+
+    void invalidateAll();
+}
@@ -0,0 +1,74 @@
+package com.healthy.gym.gateway.component.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.healthy.gym.gateway.configuration.ResponseCacheProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class ResponseCacheManagerImpl implements ResponseCacheManager {
+
+    private final Map<String, Cache<String, CachedResponse>> caches = new LinkedHashMap<>();
+    private final Map<PathPattern, String> routeIdsByPattern = new LinkedHashMap<>();
+
+    @Autowired
+    public ResponseCacheManagerImpl(ResponseCacheProperties properties) {
+        PathPatternParser parser = new PathPatternParser();
+
+        for (ResponseCacheProperties.Route route : properties.getRoutes()) {
+            Cache<String, CachedResponse> cache = Caffeine.newBuilder()
+                    .expireAfterWrite(route.getTimeToLive())
+                    .maximumSize(route.getMaximumSize())
+                    .build();
+            caches.put(route.getId(), cache);
+
+            for (String path : route.getPaths()) {
+                routeIdsByPattern.put(parser.parse(path), route.getId());
+            }
+        }
+    }
+
+    @Override
+    public String getRouteId(String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+
+        for (Map.Entry<PathPattern, String> entry : routeIdsByPattern.entrySet()) {
+            if (entry.getKey().matches(pathContainer)) return entry.getValue();
+        }
+
+        return null;
+    }
+
+    @Override
+    public CachedResponse get(String routeId, String key) {
+        Cache<String, CachedResponse> cache = caches.get(routeId);
+        if (cache == null) return null;
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(String routeId, String key, CachedResponse response) {
+        Cache<String, CachedResponse> cache = caches.get(routeId);
+        if (cache == null) return;
+        cache.put(key, response);
+    }
+
+    @Override
+    public void invalidate(String routeId) {
+        Cache<String, CachedResponse> cache = caches.get(routeId);
+        if (cache == null) return;
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void invalidateAll() {
+        caches.values().forEach(Cache::invalidateAll);
+    }
+}
@@ -0,0 +1,31 @@
+package com.healthy.gym.gateway.component.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrencyLimiter {
+
+    private final int maxConcurrentRequests;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    public ConcurrencyLimiter(int maxConcurrentRequests) {
+        if (maxConcurrentRequests <= 0)
+            throw new IllegalArgumentException("Max concurrent requests must be positive.");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlightRequests.get();
+            if (current >= maxConcurrentRequests) return false;
+            if (inFlightRequests.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    public void release() {
+        inFlightRequests.decrementAndGet();
+    }
+
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+}
@@ -0,0 +1,11 @@
+package com.healthy.gym.gateway.component.ratelimit;
+
+public interface RateLimiter {
+    String getRouteId(String path);
+
+    long tryConsume(String routeId, String key);
+
+    boolean tryAcquirePermit(String routeId);
+
+    void releasePermit(String routeId);
+}
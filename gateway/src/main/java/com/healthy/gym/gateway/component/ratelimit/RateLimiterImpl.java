@@ -0,0 +1,134 @@
+package com.healthy.gym.gateway.component.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.healthy.gym.gateway.configuration.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class RateLimiterImpl implements RateLimiter {
+
+    private final Map<PathPattern, String> routeIdsByPattern = new LinkedHashMap<>();
+    private final Map<String, RouteLimiter> routeLimiters = new HashMap<>();
+
+    @Autowired
+    public RateLimiterImpl(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        PathPatternParser parser = new PathPatternParser();
+
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            routeLimiters.put(route.getId(), new RouteLimiter(route, properties, meterRegistry));
+
+            for (String path : route.getPaths()) {
+                routeIdsByPattern.put(parser.parse(path), route.getId());
+            }
+        }
+    }
+
+    @Override
+    public String getRouteId(String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+
+        for (Map.Entry<PathPattern, String> entry : routeIdsByPattern.entrySet()) {
+            if (entry.getKey().matches(pathContainer)) return entry.getValue();
+        }
+
+        return null;
+    }
+
+    @Override
+    public long tryConsume(String routeId, String key) {
+        RouteLimiter routeLimiter = routeLimiters.get(routeId);
+        if (routeLimiter == null) return 0;
+        return routeLimiter.tryConsume(key);
+    }
+
+    @Override
+    public boolean tryAcquirePermit(String routeId) {
+        RouteLimiter routeLimiter = routeLimiters.get(routeId);
+        if (routeLimiter == null) return true;
+        return routeLimiter.tryAcquirePermit();
+    }
+
+    @Override
+    public void releasePermit(String routeId) {
+        RouteLimiter routeLimiter = routeLimiters.get(routeId);
+        if (routeLimiter == null) return;
+        routeLimiter.concurrencyLimiter.release();
+    }
+
+    private static class RouteLimiter {
+        private final double replenishRate;
+        private final long burstCapacity;
+        private final Cache<String, TokenBucket> buckets;
+        private final ConcurrencyLimiter concurrencyLimiter;
+        private final Counter rateLimitedRequests;
+        private final Counter shedRequests;
+
+        private RouteLimiter(
+                RateLimitProperties.Route route,
+                RateLimitProperties properties,
+                MeterRegistry meterRegistry
+        ) {
+            this.replenishRate = route.getReplenishRate();
+            this.burstCapacity = route.getBurstCapacity();
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaximumNumberOfBuckets())
+                    .expireAfterAccess(properties.getBucketIdleTime())
+                    .build();
+            this.concurrencyLimiter = new ConcurrencyLimiter(route.getMaxConcurrentRequests());
+
+            String routeId = route.getId();
+            this.rateLimitedRequests = Counter.builder("gateway.rate-limit.rejected")
+                    .tag("route", routeId)
+                    .tag("reason", "rate")
+                    .register(meterRegistry);
+            this.shedRequests = Counter.builder("gateway.rate-limit.rejected")
+                    .tag("route", routeId)
+                    .tag("reason", "concurrency")
+                    .register(meterRegistry);
+            Gauge.builder("gateway.rate-limit.in-flight", concurrencyLimiter, ConcurrencyLimiter::getInFlightRequests)
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.rate-limit.buckets", buckets, Cache::estimatedSize)
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.rate-limit.exhausted-buckets", this, RouteLimiter::countExhaustedBuckets)
+                    .tag("route", routeId)
+                    .register(meterRegistry);
+        }
+
+        private long tryConsume(String key) {
+            long now = System.nanoTime();
+            TokenBucket bucket = buckets.get(key, ignored -> new TokenBucket(replenishRate, burstCapacity, now));
+            long waitTime = bucket.tryConsume(now);
+            if (waitTime > 0) rateLimitedRequests.increment();
+            return waitTime;
+        }
+
+        private boolean tryAcquirePermit() {
+            boolean acquired = concurrencyLimiter.tryAcquire();
+            if (!acquired) shedRequests.increment();
+            return acquired;
+        }
+
+        private double countExhaustedBuckets() {
+            long now = System.nanoTime();
+            return buckets.asMap()
+                    .values()
+                    .stream()
+                    .filter(bucket -> bucket.getAvailableTokens(now) < 1)
+                    .count();
+        }
+    }
+}
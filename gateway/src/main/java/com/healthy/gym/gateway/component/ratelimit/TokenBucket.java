@@ -0,0 +1,38 @@
+package com.healthy.gym.gateway.component.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucket {
+
+    private final long emissionIntervalInNanos;
+    private final long burstToleranceInNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    public TokenBucket(double replenishRate, long burstCapacity, long nowInNanos) {
+        if (replenishRate <= 0) throw new IllegalArgumentException("Replenish rate must be positive.");
+        if (burstCapacity <= 0) throw new IllegalArgumentException("Burst capacity must be positive.");
+
+        this.emissionIntervalInNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / replenishRate));
+        this.burstToleranceInNanos = emissionIntervalInNanos * (burstCapacity - 1);
+        this.theoreticalArrivalTime = new AtomicLong(nowInNanos);
+    }
+
+    public long tryConsume(long nowInNanos) {
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long arrivalTime = Math.max(current, nowInNanos);
+            long waitTime = arrivalTime - nowInNanos - burstToleranceInNanos;
+
+            if (waitTime > 0) return waitTime;
+
+            if (theoreticalArrivalTime.compareAndSet(current, arrivalTime + emissionIntervalInNanos)) return 0;
+        }
+    }
+
+    public double getAvailableTokens(long nowInNanos) {
+        long backlog = Math.max(theoreticalArrivalTime.get() - nowInNanos, 0);
+        long available = burstToleranceInNanos + emissionIntervalInNanos - backlog;
+        return Math.max(available, 0) / (double) emissionIntervalInNanos;
+    }
+}
@@ -0,0 +1,67 @@
+package com.healthy.gym.gateway.component.token;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long numberOfBits;
+    private final int numberOfHashFunctions;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0)
+            throw new IllegalArgumentException("Expected insertions must be positive.");
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1)
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1.");
+
+        double ln2 = Math.log(2);
+        long optimalNumberOfBits = (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2)
+        );
+        int numberOfWords = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (optimalNumberOfBits + 63) / 64));
+
+        this.bits = new AtomicLongArray(numberOfWords);
+        this.numberOfBits = (long) numberOfWords * Long.SIZE;
+        this.numberOfHashFunctions = (int) Math.max(1, Math.round((double) numberOfBits / expectedInsertions * ln2));
+    }
+
+    public void put(byte[] digest) {
+        long hash1 = readLong(digest, 0);
+        long hash2 = readLong(digest, Long.BYTES);
+
+        for (int i = 0; i < numberOfHashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, numberOfBits);
+            int wordIndex = (int) (index >>> 6);
+            long mask = 1L << index;
+
+            long word;
+            do {
+                word = bits.get(wordIndex);
+                if ((word & mask) != 0) break;
+            } while (!bits.compareAndSet(wordIndex, word, word | mask));
+        }
+    }
+
+    public boolean mightContain(byte[] digest) {
+        long hash1 = readLong(digest, 0);
+        long hash2 = readLong(digest, Long.BYTES);
+
+        for (int i = 0; i < numberOfHashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, numberOfBits);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+        }
+
+        return true;
+    }
+
+    private long readLong(byte[] bytes, int offset) {
+        if (bytes.length < offset + Long.BYTES)
+            throw new IllegalArgumentException("Digest must have at least 16 bytes.");
+
+        long value = 0;
+        for (int i = offset; i < offset + Long.BYTES; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,140 @@
+package com.healthy.gym.gateway.component.token;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class PublicKeyProviderImpl implements PublicKeyProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicKeyProviderImpl.class);
+
+    private final WebClient webClient;
+    private final String jsonWebKeySetUri;
+    private final boolean refreshEnabled;
+    private final Duration refreshInterval;
+    private final long minimumRefreshIntervalInMillis;
+    private final AtomicLong lastRefreshRequestTime = new AtomicLong();
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    private volatile Map<String, PublicKey> publicKeys = Map.of();
+
+    @Autowired
+    public PublicKeyProviderImpl(
+            ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction,
+            Environment environment
+    ) {
+        this.webClient = WebClient.builder().filter(loadBalancerFunction).build();
+        this.jsonWebKeySetUri = environment.getProperty(
+                "token.jwks.uri",
+                "http://auth/.well-known/jwks.json"
+        );
+        this.refreshEnabled = environment.getProperty(
+                "token.jwks.refresh.enabled",
+                Boolean.class,
+                true
+        );
+        this.refreshInterval = Duration.ofMillis(
+                environment.getProperty("token.jwks.refresh-interval", Long.class, 900_000L)
+        );
+        this.minimumRefreshIntervalInMillis = environment.getProperty(
+                "token.jwks.minimum-refresh-interval",
+                Long.class,
+                30_000L
+        );
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!refreshEnabled) return;
+
+        subscriptions.add(
+                Flux.interval(Duration.ZERO, refreshInterval)
+                        .onBackpressureDrop()
+                        .concatMap(tick -> refresh())
+                        .subscribe()
+        );
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    @Override
+    public PublicKey getPublicKey(String keyId) {
+        if (keyId == null) return null;
+
+        PublicKey publicKey = publicKeys.get(keyId);
+        if (publicKey == null) requestRefresh();
+
+        return publicKey;
+    }
+
+    private void requestRefresh() {
+        if (!refreshEnabled) return;
+
+        long now = System.currentTimeMillis();
+        long lastRequestTime = lastRefreshRequestTime.get();
+
+        if (now - lastRequestTime < minimumRefreshIntervalInMillis) return;
+        if (!lastRefreshRequestTime.compareAndSet(lastRequestTime, now)) return;
+
+        subscriptions.add(refresh().subscribe());
+    }
+
+    private Mono<Void> refresh() {
+        return webClient.get()
+                .uri(jsonWebKeySetUri)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .flatMap(jsonWebKeySet -> Mono.fromCallable(() -> toPublicKeys(jsonWebKeySet)))
+                .doOnNext(keys -> publicKeys = keys)
+                .doOnError(exception -> logger.warn("Unable to refresh public keys from {}", jsonWebKeySetUri, exception))
+                .onErrorResume(exception -> Mono.empty())
+                .then();
+    }
+
+    private Map<String, PublicKey> toPublicKeys(JsonNode jsonWebKeySet) throws GeneralSecurityException {
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        Map<String, PublicKey> keys = new HashMap<>();
+
+        for (JsonNode jsonWebKey : jsonWebKeySet.path("keys")) {
+            if (!"RSA".equals(jsonWebKey.path("kty").asText())) continue;
+
+            RSAPublicKeySpec keySpec = new RSAPublicKeySpec(
+                    decode(jsonWebKey.path("n").asText()),
+                    decode(jsonWebKey.path("e").asText())
+            );
+            keys.put(jsonWebKey.path("kid").asText(), keyFactory.generatePublic(keySpec));
+        }
+
+        return Map.copyOf(keys);
+    }
+
+    private BigInteger decode(String value) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+}
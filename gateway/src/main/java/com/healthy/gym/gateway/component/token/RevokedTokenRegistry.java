@@ -0,0 +1,11 @@
+package com.healthy.gym.gateway.component.token;
+
+import java.util.Collection;
+
+public interface RevokedTokenRegistry {
+    boolean isRevoked(String token);
+
+    void revoke(String tokenDigest);
+
+    void replaceAll(Collection<String> tokenDigests, long revokedSinceInMillis);
+}
@@ -0,0 +1,71 @@
+package com.healthy.gym.gateway.component.token;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class RevokedTokenRegistryImpl implements RevokedTokenRegistry {
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private volatile RevokedTokens revokedTokens;
+
+    @Autowired
+    public RevokedTokenRegistryImpl(Environment environment) {
+        this.expectedInsertions = environment
+                .getProperty("token.revocation.expected-insertions", Long.class, 100_000L);
+        this.falsePositiveProbability = environment
+                .getProperty("token.revocation.false-positive-probability", Double.class, 0.01);
+        this.revokedTokens = new RevokedTokens(expectedInsertions, falsePositiveProbability);
+    }
+
+    @Override
+    public boolean isRevoked(String token) {
+        byte[] digest = TokenDigest.digest(token);
+        RevokedTokens current = revokedTokens;
+
+        if (!current.bloomFilter.mightContain(digest)) return false;
+
+        return current.revocationTimes.containsKey(TokenDigest.encode(digest));
+    }
+
+    @Override
+    public synchronized void revoke(String tokenDigest) {
+        revokedTokens.add(tokenDigest, System.currentTimeMillis());
+    }
+
+    @Override
+    public synchronized void replaceAll(Collection<String> tokenDigests, long revokedSinceInMillis) {
+        RevokedTokens replacement = new RevokedTokens(expectedInsertions, falsePositiveProbability);
+
+        for (String tokenDigest : tokenDigests) {
+            replacement.add(tokenDigest, revokedSinceInMillis);
+        }
+
+        revokedTokens.revocationTimes.forEach((tokenDigest, revocationTime) -> {
+            if (revocationTime >= revokedSinceInMillis) replacement.add(tokenDigest, revocationTime);
+        });
+
+        revokedTokens = replacement;
+    }
+
+    private static class RevokedTokens {
+        private final BloomFilter bloomFilter;
+        private final Map<String, Long> revocationTimes;
+
+        private RevokedTokens(long expectedInsertions, double falsePositiveProbability) {
+            this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+            this.revocationTimes = new ConcurrentHashMap<>();
+        }
+
+        private void add(String tokenDigest, long revocationTime) {
+            revocationTimes.put(tokenDigest, revocationTime);
+            bloomFilter.put(TokenDigest.decode(tokenDigest));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.healthy.gym.gateway.component.token;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+
+@Component
+@ConditionalOnProperty(
+        name = "token.revocation.synchronization.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class RevokedTokenSynchronizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevokedTokenSynchronizer.class);
+    private static final String KEY_PREFIX = "revoked-token:";
+
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final String channel;
+    private final Duration reloadInterval;
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    @Autowired
+    public RevokedTokenSynchronizer(
+            RevokedTokenRegistry revokedTokenRegistry,
+            ReactiveStringRedisTemplate redisTemplate,
+            ReactiveRedisMessageListenerContainer listenerContainer,
+            Environment environment
+    ) {
+        this.revokedTokenRegistry = revokedTokenRegistry;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.channel = environment.getRequiredProperty("token.revocation.channel");
+        this.reloadInterval = Duration.ofMillis(
+                environment.getProperty("token.revocation.reload-interval", Long.class, 3_600_000L)
+        );
+    }
+
+    @PostConstruct
+    public void start() {
+        subscriptions.add(subscribeToRevocations());
+        subscriptions.add(scheduleReload());
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    private Disposable subscribeToRevocations() {
+        return listenerContainer.receive(ChannelTopic.of(channel))
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnNext(this::revoke)
+                .retryWhen(getRetrySpec())
+                .subscribe();
+    }
+
+    private void revoke(String tokenDigest) {
+        try {
+            revokedTokenRegistry.revoke(tokenDigest);
+        } catch (IllegalArgumentException exception) {
+            logger.warn("Ignoring malformed revoked token digest received on channel {}", channel);
+        }
+    }
+
+    private boolean isValidDigest(String tokenDigest) {
+        try {
+            return TokenDigest.decode(tokenDigest).length > 0;
+        } catch (IllegalArgumentException exception) {
+            logger.warn("Ignoring malformed revoked token key {}{}", KEY_PREFIX, tokenDigest);
+            return false;
+        }
+    }
+
+    private Disposable scheduleReload() {
+        return Flux.interval(Duration.ZERO, reloadInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> reload())
+                .subscribe();
+    }
+
+    private Mono<Void> reload() {
+        long reloadStartTime = System.currentTimeMillis();
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(KEY_PREFIX + "*")
+                .count(1000)
+                .build();
+
+        return redisTemplate.scan(scanOptions)
+                .map(key -> key.substring(KEY_PREFIX.length()))
+                .filter(this::isValidDigest)
+                .collectList()
+                .doOnNext(tokenDigests -> revokedTokenRegistry.replaceAll(tokenDigests, reloadStartTime))
+                .retryWhen(getRetrySpec().maxAttempts(5))
+                .doOnError(exception -> logger.warn("Could not reload revoked tokens from Redis", exception))
+                .onErrorResume(exception -> Mono.empty())
+                .then();
+    }
+
+    private RetryBackoffSpec getRetrySpec() {
+        return Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                .maxBackoff(Duration.ofMinutes(1));
+    }
+}
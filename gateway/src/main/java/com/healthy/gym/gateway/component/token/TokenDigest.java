@@ -0,0 +1,29 @@
+package com.healthy.gym.gateway.component.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    static byte[] digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    static String encode(byte[] digest) {
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    static byte[] decode(String digest) {
+        return Base64.getDecoder().decode(digest);
+    }
+}
@@ -0,0 +1,15 @@
+package com.healthy.gym.gateway.component.token;
+
+public interface TokenManager {
+
+    /**
+     * Returns the shared signing key of legacy tokens while they are still accepted, otherwise null.
+     */
+    String getSigningKey();
+
+    String getHttpHeaderName();
+
+    String getTokenPrefix();
+
+    long getCacheMaximumSize();
+}
@@ -0,0 +1,54 @@
+package com.healthy.gym.gateway.component.token;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+public class TokenManagerImpl implements TokenManager {
+
+    private final String signingKey;
+    private final Instant signingKeyAcceptedUntil;
+    private final String httpHeaderName;
+    private final String tokenPrefix;
+    private final long cacheMaximumSize;
+
+    @Autowired
+    public TokenManagerImpl(Environment environment) {
+        if (environment.getProperty("token.legacy.enabled", Boolean.class, false)) {
+            this.signingKey = environment.getRequiredProperty("token.secret");
+            this.signingKeyAcceptedUntil =
+                    Instant.parse(environment.getRequiredProperty("token.legacy.accepted-until"));
+        } else {
+            this.signingKey = null;
+            this.signingKeyAcceptedUntil = null;
+        }
+        this.httpHeaderName = environment.getRequiredProperty("authorization.token.header.name");
+        this.tokenPrefix = environment.getRequiredProperty("authorization.token.header.prefix");
+        this.cacheMaximumSize = environment
+                .getProperty("authorization.token.cache.maximum-size", Long.class, 10_000L);
+    }
+
+    @Override
+    public String getSigningKey() {
+        if (signingKey == null || !Instant.now().isBefore(signingKeyAcceptedUntil)) return null;
+        return signingKey;
+    }
+
+    @Override
+    public String getHttpHeaderName() {
+        return httpHeaderName;
+    }
+
+    @Override
+    public String getTokenPrefix() {
+        return tokenPrefix;
+    }
+
+    @Override
+    public long getCacheMaximumSize() {
+        return cacheMaximumSize;
+    }
+}
@@ -0,0 +1,40 @@
+package com.healthy.gym.gateway.component.token;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.impl.TextCodec;
+
+import java.security.Key;
+
+class TokenSigningKeyResolver extends SigningKeyResolverAdapter {
+
+    private final PublicKeyProvider publicKeyProvider;
+    private final TokenManager tokenManager;
+
+    TokenSigningKeyResolver(PublicKeyProvider publicKeyProvider, TokenManager tokenManager) {
+        this.publicKeyProvider = publicKeyProvider;
+        this.tokenManager = tokenManager;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String keyId = header.getKeyId();
+        if (keyId == null) return super.resolveSigningKey(header, claims);
+
+        Key publicKey = publicKeyProvider.getPublicKey(keyId);
+        if (publicKey == null) throw new IllegalArgumentException("Unknown signing key: " + keyId);
+
+        return publicKey;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public byte[] resolveSigningKeyBytes(JwsHeader header, Claims claims) {
+        String signingKey = tokenManager.getSigningKey();
+        if (signingKey == null) throw new IllegalArgumentException("Shared signing key is disabled.");
+
+        return TextCodec.BASE64.decode(signingKey);
+    }
+}
@@ -0,0 +1,5 @@
+package com.healthy.gym.gateway.component.token;
+
+public interface TokenVerifier {
+    String getUserId(String token);
+}
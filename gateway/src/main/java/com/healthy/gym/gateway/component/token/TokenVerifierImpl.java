@@ -0,0 +1,89 @@
+package com.healthy.gym.gateway.component.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TokenVerifierImpl implements TokenVerifier {
+
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    @Autowired
+    public TokenVerifierImpl(TokenManager tokenManager, PublicKeyProvider publicKeyProvider) {
+        this.jwtParser = Jwts.parser()
+                .setSigningKeyResolver(new TokenSigningKeyResolver(publicKeyProvider, tokenManager));
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenManager.getCacheMaximumSize())
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
+    }
+
+    @Override
+    public String getUserId(String token) {
+        String digest = TokenDigest.encode(TokenDigest.digest(token));
+
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(digest);
+        if (verifiedToken != null && !verifiedToken.isExpired()) return verifiedToken.getUserId();
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        String userId = claims.getSubject();
+        Date expiration = claims.getExpiration();
+
+        if (userId != null && expiration != null) {
+            verifiedTokens.put(digest, new VerifiedToken(userId, expiration.getTime()));
+        }
+
+        return userId;
+    }
+
+    private static class VerifiedToken {
+        private final String userId;
+        private final long expirationTimeInMillis;
+
+        private VerifiedToken(String userId, long expirationTimeInMillis) {
+            this.userId = userId;
+            this.expirationTimeInMillis = expirationTimeInMillis;
+        }
+
+        private String getUserId() {
+            return userId;
+        }
+
+        private long getRemainingTimeInNanos() {
+            long remainingMillis = expirationTimeInMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        private boolean isExpired() {
+            return expirationTimeInMillis <= System.currentTimeMillis();
+        }
+    }
+
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return value.getRemainingTimeInNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return value.getRemainingTimeInNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.healthy.gym.gateway.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private long maximumNumberOfBuckets = 100_000;
+    private Duration bucketIdleTime = Duration.ofMinutes(10);
+    private List<Route> routes = new ArrayList<>();
+
+    public long getMaximumNumberOfBuckets() {
+        return maximumNumberOfBuckets;
+    }
+
+    public void setMaximumNumberOfBuckets(long maximumNumberOfBuckets) {
+        this.maximumNumberOfBuckets = maximumNumberOfBuckets;
+    }
+
+    public Duration getBucketIdleTime() {
+        return bucketIdleTime;
+    }
+
+    public void setBucketIdleTime(Duration bucketIdleTime) {
+        this.bucketIdleTime = bucketIdleTime;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<Route> routes) {
+        this.routes = routes;
+    }
+
+    public static class Route {
+        private String id;
+        private List<String> paths = new ArrayList<>();
+        private double replenishRate = 10;
+        private long burstCapacity = 20;
+        private int maxConcurrentRequests = 200;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public double getReplenishRate() {
+            return replenishRate;
+        }
+
+        public void setReplenishRate(double replenishRate) {
+            this.replenishRate = replenishRate;
+        }
+
+        public long getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public void setBurstCapacity(long burstCapacity) {
+            this.burstCapacity = burstCapacity;
+        }
+
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.healthy.gym.gateway.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(
+            name = "token.revocation.synchronization.enabled",
+            havingValue = "true",
+            matchIfMissing = true
+    )
+    public ReactiveRedisMessageListenerContainer reactiveRedisMessageListenerContainer(
+            ReactiveRedisConnectionFactory connectionFactory
+    ) {
+        return new ReactiveRedisMessageListenerContainer(connectionFactory);
+    }
+}
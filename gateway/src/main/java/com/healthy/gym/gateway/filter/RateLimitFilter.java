@@ -0,0 +1,70 @@
+package com.healthy.gym.gateway.filter;
+
+import com.healthy.gym.gateway.component.ratelimit.RateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private static final String ANONYMOUS_KEY_PREFIX = "anonymous:";
+
+    private final RateLimiter rateLimiter;
+
+    @Autowired
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String routeId = rateLimiter.getRouteId(exchange.getRequest().getPath().pathWithinApplication().value());
+        if (routeId == null) return chain.filter(exchange);
+
+        return exchange.getPrincipal()
+                .map(Principal::getName)
+                .switchIfEmpty(Mono.fromSupplier(() -> getAnonymousKey(exchange)))
+                .flatMap(key -> {
+                    long waitTimeInNanos = rateLimiter.tryConsume(routeId, key);
+                    if (waitTimeInNanos > 0) return reject(exchange, HttpStatus.TOO_MANY_REQUESTS, waitTimeInNanos);
+
+                    if (!rateLimiter.tryAcquirePermit(routeId)) {
+                        return reject(exchange, HttpStatus.SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1));
+                    }
+
+                    return chain.filter(exchange).doFinally(signal -> rateLimiter.releasePermit(routeId));
+                });
+    }
+
+    private String getAnonymousKey(ServerWebExchange exchange) {
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress == null) return ANONYMOUS_KEY_PREFIX;
+        return ANONYMOUS_KEY_PREFIX + remoteAddress.getHostString();
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, HttpStatus status, long retryAfterInNanos) {
+        long retryAfterInSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterInNanos + 999_999_999));
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterInSeconds));
+        return response.setComplete();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
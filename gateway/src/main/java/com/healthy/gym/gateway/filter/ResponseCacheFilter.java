@@ -0,0 +1,120 @@
+package com.healthy.gym.gateway.filter;
+
+import com.healthy.gym.gateway.component.cache.CachedResponse;
+import com.healthy.gym.gateway.component.cache.ResponseCacheManager;
+import com.healthy.gym.gateway.component.token.TokenManager;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private final ResponseCacheManager responseCacheManager;
+    private final String authorizationHeaderName;
+
+    @Autowired
+    public ResponseCacheFilter(ResponseCacheManager responseCacheManager, TokenManager tokenManager) {
+        this.responseCacheManager = responseCacheManager;
+        this.authorizationHeaderName = tokenManager.getHttpHeaderName();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        if (request.getMethod() != HttpMethod.GET || request.getHeaders().containsKey(authorizationHeaderName)) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = responseCacheManager.getRouteId(request.getPath().pathWithinApplication().value());
+        if (routeId == null) return chain.filter(exchange);
+
+        String key = getCacheKey(request);
+        CachedResponse cachedResponse = responseCacheManager.get(routeId, key);
+        if (cachedResponse != null) return writeCachedResponse(exchange, cachedResponse);
+
+        ServerHttpResponse cachingResponse = new CachingResponseDecorator(exchange.getResponse(), routeId, key);
+        return chain.filter(exchange.mutate().response(cachingResponse).build());
+    }
+
+    private String getCacheKey(ServerHttpRequest request) {
+        // responses are negotiated on both headers, e.g. image format on Accept and messages on Accept-Language
+        HttpHeaders headers = request.getHeaders();
+        String language = headers.getFirst(HttpHeaders.ACCEPT_LANGUAGE);
+        String accept = String.join(",", headers.getOrEmpty(HttpHeaders.ACCEPT));
+        return request.getURI().getRawPath() + "?" + request.getURI().getRawQuery() + "#" + language + "#" + accept;
+    }
+
+    private Mono<Void> writeCachedResponse(ServerWebExchange exchange, CachedResponse cachedResponse) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders responseHeaders = response.getHeaders();
+        cachedResponse.getHeaders().forEach((name, values) -> {
+            if (!responseHeaders.containsKey(name)) responseHeaders.put(name, values);
+        });
+
+        List<String> ifNoneMatch = exchange.getRequest().getHeaders().getIfNoneMatch();
+        if (ifNoneMatch.contains(cachedResponse.getETag()) || ifNoneMatch.contains("*")) {
+            responseHeaders.remove(HttpHeaders.CONTENT_TYPE);
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        responseHeaders.setContentLength(cachedResponse.getBody().length);
+        DataBuffer body = response.bufferFactory().wrap(cachedResponse.getBody());
+        return response.writeWith(Mono.just(body));
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final String routeId;
+        private final String key;
+
+        private CachingResponseDecorator(ServerHttpResponse delegate, String routeId, String key) {
+            super(delegate);
+            this.routeId = routeId;
+            this.key = key;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (getStatusCode() != HttpStatus.OK) return super.writeWith(body);
+
+            return DataBufferUtils.join(Flux.from(body))
+                    .flatMap(joinedBody -> {
+                        byte[] content = new byte[joinedBody.readableByteCount()];
+                        joinedBody.read(content);
+                        DataBufferUtils.release(joinedBody);
+
+                        CachedResponse cachedResponse = new CachedResponse(content, getHeaders());
+                        responseCacheManager.put(routeId, key, cachedResponse);
+                        getHeaders().setETag(cachedResponse.getETag());
+
+                        return super.writeWith(Mono.just(bufferFactory().wrap(content)));
+                    });
+        }
+    }
+}
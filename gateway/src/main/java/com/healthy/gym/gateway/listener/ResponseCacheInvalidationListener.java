@@ -0,0 +1,30 @@
+package com.healthy.gym.gateway.listener;
+
+import com.healthy.gym.cache.event.ResponseCacheInvalidationEvent;
+import com.healthy.gym.gateway.component.cache.ResponseCacheManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ResponseCacheInvalidationListener {
+
+    private final ResponseCacheManager responseCacheManager;
+
+    @Autowired
+    public ResponseCacheInvalidationListener(ResponseCacheManager responseCacheManager) {
+        this.responseCacheManager = responseCacheManager;
+    }
+
+    @EventListener
+    public void invalidateCache(ResponseCacheInvalidationEvent event) {
+        String cacheName = event.getCacheName();
+
+        if (cacheName == null) {
+            responseCacheManager.invalidateAll();
+            return;
+        }
+
+        responseCacheManager.invalidate(cacheName);
+    }
+}
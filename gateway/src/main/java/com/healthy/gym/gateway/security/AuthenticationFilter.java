@@ -1,73 +1,69 @@
 package com.healthy.gym.gateway.security;
 
-import io.jsonwebtoken.Jwts;
-import org.springframework.core.env.Environment;
-import org.springframework.security.authentication.AuthenticationManager;
+import com.healthy.gym.gateway.component.token.RevokedTokenRegistry;
+import com.healthy.gym.gateway.component.token.TokenManager;
+import com.healthy.gym.gateway.component.token.TokenVerifier;
+import io.jsonwebtoken.JwtException;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
 
-import javax.servlet.FilterChain;
-import javax.servlet.ServletException;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
-import java.io.IOException;
 import java.util.ArrayList;
 
-public class AuthenticationFilter extends BasicAuthenticationFilter {
+public class AuthenticationFilter implements WebFilter {
 
-    private final Environment environment;
+    private final TokenVerifier tokenVerifier;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final String headerName;
+    private final String headerPrefix;
 
     public AuthenticationFilter(
-            AuthenticationManager authenticationManager,
-            Environment environment
+            TokenManager tokenManager,
+            TokenVerifier tokenVerifier,
+            RevokedTokenRegistry revokedTokenRegistry
     ) {
-        super(authenticationManager);
-        this.environment = environment;
+        this.tokenVerifier = tokenVerifier;
+        this.revokedTokenRegistry = revokedTokenRegistry;
+        this.headerName = tokenManager.getHttpHeaderName();
+        this.headerPrefix = tokenManager.getTokenPrefix();
     }
 
     @Override
-    protected void doFilterInternal(
-            HttpServletRequest request,
-            HttpServletResponse response,
-            FilterChain chain
-    ) throws IOException, ServletException {
-        String headerName = environment.getProperty("authorization.token.header.name");
-        if (headerName == null) return;
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authorizationHeader = exchange.getRequest().getHeaders().getFirst(headerName);
 
-        String authorizationHeader = request.getHeader(headerName);
+        if (authorizationHeader == null || !authorizationHeader.startsWith(headerPrefix)) {
+            return chain.filter(exchange);
+        }
 
-        String headerPrefix = environment.getProperty("authorization.token.header.prefix");
-        if (headerPrefix == null) return;
+        String token = authorizationHeader
+                .substring(headerPrefix.length())
+                .trim();
 
-        if (authorizationHeader == null || !authorizationHeader.startsWith(headerPrefix)) {
-            chain.doFilter(request, response);
-            return;
+        if (revokedTokenRegistry.isRevoked(token)) {
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return exchange.getResponse().setComplete();
         }
 
-        UsernamePasswordAuthenticationToken authenticationToken =
-                getAuthentication(authorizationHeader, headerPrefix);
+        UsernamePasswordAuthenticationToken authenticationToken = getAuthentication(token);
+        if (authenticationToken == null) return chain.filter(exchange);
 
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        chain.doFilter(request, response);
+        return chain.filter(exchange)
+                .subscriberContext(ReactiveSecurityContextHolder.withAuthentication(authenticationToken));
     }
 
-    private UsernamePasswordAuthenticationToken getAuthentication(
-            String authorizationHeader,
-            String headerPrefix
-    ) {
-        String token = authorizationHeader
-                .replace(headerPrefix, "")
-                .trim();
+    private UsernamePasswordAuthenticationToken getAuthentication(String token) {
+        String userId;
 
-        String secretToken = environment.getProperty("token.secret");
-        if (secretToken == null) return null;
-
-        String userId = Jwts.parser()
-                .setSigningKey(secretToken)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        try {
+            userId = tokenVerifier.getUserId(token);
+        } catch (JwtException | IllegalArgumentException exception) {
+            return null;
+        }
 
         if (userId == null) return null;
 
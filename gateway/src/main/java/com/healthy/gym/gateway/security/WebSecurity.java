@@ -1,45 +1,64 @@
 package com.healthy.gym.gateway.security;
 
+import com.healthy.gym.gateway.component.token.RevokedTokenRegistry;
+import com.healthy.gym.gateway.component.token.TokenManager;
+import com.healthy.gym.gateway.component.token.TokenVerifier;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
-import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
-import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
 import org.springframework.web.cors.CorsConfiguration;
-import org.springframework.web.cors.CorsConfigurationSource;
-import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.List;
 
 @Configuration
-@EnableWebSecurity
-public class WebSecurity extends WebSecurityConfigurerAdapter {
+@EnableWebFluxSecurity
+public class WebSecurity {
 
-    private final Environment environment;
+    private final TokenManager tokenManager;
+    private final TokenVerifier tokenVerifier;
+    private final RevokedTokenRegistry revokedTokenRegistry;
 
     @Autowired
-    public WebSecurity(Environment environment) {
-        this.environment = environment;
+    public WebSecurity(
+            TokenManager tokenManager,
+            TokenVerifier tokenVerifier,
+            RevokedTokenRegistry revokedTokenRegistry
+    ) {
+        this.tokenManager = tokenManager;
+        this.tokenVerifier = tokenVerifier;
+        this.revokedTokenRegistry = revokedTokenRegistry;
     }
 
-    @Override
-    protected void configure(HttpSecurity http) throws Exception {
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
         http.cors();
         http.csrf().disable();
         http.headers().frameOptions().disable();
+        http.httpBasic().disable();
+        http.formLogin().disable();
 
-        http.authorizeRequests()
-                .antMatchers("/auth/users/status").authenticated()
-                .antMatchers("/auth/**").permitAll()
+        http.authorizeExchange()
+                .pathMatchers("/auth/users/status").authenticated()
+                .pathMatchers("/auth/**").permitAll()
+                .anyExchange().permitAll()
                 .and()
-                .addFilter(new AuthenticationFilter(authenticationManager(), environment));
+                .addFilterAt(
+                        new AuthenticationFilter(tokenManager, tokenVerifier, revokedTokenRegistry),
+                        SecurityWebFiltersOrder.AUTHENTICATION
+                );
+
+        http.securityContextRepository(NoOpServerSecurityContextRepository.getInstance());
 
-        http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+        return http.build();
     }
 
     @Bean
@@ -70,7 +89,8 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
                         "Set-Cookie",
                         "x-xsrf-token",
                         "X-Requested-With",
-                        "token"
+                        "token",
+                        "refreshToken"
                 )
         );
 
@@ -79,4 +99,4 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
 
         return source;
     }
-}
\ No newline at end of file
+}
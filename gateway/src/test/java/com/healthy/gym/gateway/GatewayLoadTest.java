@@ -0,0 +1,101 @@
+package com.healthy.gym.gateway;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+class GatewayLoadTest {
+
+    private static final int CONCURRENT_REQUESTS = 400;
+    private static final Duration DOWNSTREAM_DELAY = Duration.ofSeconds(2);
+
+    private static DisposableServer slowService;
+
+    @LocalServerPort
+    private int port;
+
+    private WebClient webClient;
+
+    @BeforeAll
+    static void startSlowService() {
+        slowService = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get(
+                        "/slow",
+                        (request, response) -> response.sendString(Mono.just("ok").delayElement(DOWNSTREAM_DELAY))
+                ))
+                .bindNow();
+    }
+
+    @AfterAll
+    static void stopSlowService() {
+        slowService.disposeNow();
+    }
+
+    @DynamicPropertySource
+    static void registerRoutes(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.gateway.routes[0].id", () -> "slow-service");
+        registry.add("spring.cloud.gateway.routes[0].uri", () -> "http://localhost:" + slowService.port());
+        registry.add("spring.cloud.gateway.routes[0].predicates[0]", () -> "Path=/slow-service/**");
+        registry.add("spring.cloud.gateway.routes[0].filters[0]", () -> "StripPrefix=1");
+    }
+
+    @BeforeEach
+    void setUp() {
+        webClient = WebClient.create("http://localhost:" + port);
+        sendConcurrentRequests(4);
+    }
+
+    @Test
+    void shouldServeConcurrentSlowRequestsWithoutThreadPerRequest() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        int threadCountBeforeLoad = threadMXBean.getThreadCount();
+        threadMXBean.resetPeakThreadCount();
+
+        long start = System.nanoTime();
+        List<HttpStatus> statuses = sendConcurrentRequests(CONCURRENT_REQUESTS);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        int additionalThreads = threadMXBean.getPeakThreadCount() - threadCountBeforeLoad;
+
+        assertThat(statuses)
+                .hasSize(CONCURRENT_REQUESTS)
+                .containsOnly(HttpStatus.OK);
+        assertThat(elapsed).isLessThan(DOWNSTREAM_DELAY.multipliedBy(4));
+        assertThat(additionalThreads).isLessThan(CONCURRENT_REQUESTS / 10);
+    }
+
+    private List<HttpStatus> sendConcurrentRequests(int numberOfRequests) {
+        return Flux.range(0, numberOfRequests)
+                .flatMap(request -> webClient.get()
+                                .uri("/slow-service/slow")
+                                .exchange()
+                                .flatMap(response -> response.releaseBody().thenReturn(response.statusCode())),
+                        numberOfRequests
+                )
+                .collectList()
+                .block(Duration.ofMinutes(1));
+    }
+}
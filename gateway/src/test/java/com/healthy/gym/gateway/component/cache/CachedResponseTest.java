@@ -0,0 +1,54 @@
+package com.healthy.gym.gateway.component.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedResponseTest {
+
+    private final byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void shouldKeepEndToEndHeadersOfUpstreamResponse() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setCacheControl("no-cache");
+        headers.setVary(List.of(HttpHeaders.ACCEPT_LANGUAGE));
+        headers.set(HttpHeaders.CONTENT_LANGUAGE, "pl");
+        headers.setETag("\"upstream\"");
+
+        CachedResponse cachedResponse = new CachedResponse(body, headers);
+
+        assertThat(cachedResponse.getHeaders()).isEqualTo(headers);
+        assertThat(cachedResponse.getETag()).isEqualTo("\"upstream\"");
+    }
+
+    @Test
+    void shouldDropHopByHopHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(body.length);
+        headers.setConnection("X-Upstream-Hop");
+        headers.set("X-Upstream-Hop", "value");
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        headers.set(HttpHeaders.SET_COOKIE, "SESSION=1");
+        headers.setAccessControlAllowOrigin("http://localhost:3000");
+
+        CachedResponse cachedResponse = new CachedResponse(body, headers);
+
+        assertThat(cachedResponse.getHeaders().keySet())
+                .containsExactlyInAnyOrder(HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG);
+    }
+
+    @Test
+    void shouldComputeETagWhenUpstreamHasNone() {
+        CachedResponse cachedResponse = new CachedResponse(body, new HttpHeaders());
+
+        assertThat(cachedResponse.getETag()).isEqualTo("\"d751713988987e9331980363e24189ce\"");
+    }
+}
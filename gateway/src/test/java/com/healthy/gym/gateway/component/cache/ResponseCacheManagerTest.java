@@ -0,0 +1,77 @@
+package com.healthy.gym.gateway.component.cache;
+
+import com.healthy.gym.gateway.configuration.ResponseCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheManagerTest {
+
+    private ResponseCacheManager responseCacheManager;
+    private CachedResponse cachedResponse;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties.Route timetable = new ResponseCacheProperties.Route();
+        timetable.setId("trainings-timetable");
+        timetable.setPaths(List.of("/trainings/group/public", "/trainings/group/public/type/*"));
+
+        ResponseCacheProperties.Route reviews = new ResponseCacheProperties.Route();
+        reviews.setId("trainings-reviews");
+        reviews.setPaths(List.of("/trainings/review/trainingType/*/public/page/*"));
+
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setRoutes(List.of(timetable, reviews));
+
+        responseCacheManager = new ResponseCacheManagerImpl(properties);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        cachedResponse = new CachedResponse("[]".getBytes(StandardCharsets.UTF_8), headers);
+    }
+
+    @Test
+    void shouldResolveRouteIdForConfiguredPaths() {
+        assertThat(responseCacheManager.getRouteId("/trainings/group/public"))
+                .isEqualTo("trainings-timetable");
+        assertThat(responseCacheManager.getRouteId("/trainings/group/public/type/123"))
+                .isEqualTo("trainings-timetable");
+        assertThat(responseCacheManager.getRouteId("/trainings/review/trainingType/123/public/page/1"))
+                .isEqualTo("trainings-reviews");
+    }
+
+    @Test
+    void shouldNotResolveRouteIdForOtherPaths() {
+        assertThat(responseCacheManager.getRouteId("/trainings/group")).isNull();
+        assertThat(responseCacheManager.getRouteId("/account/photos")).isNull();
+    }
+
+    @Test
+    void shouldReturnStoredResponse() {
+        responseCacheManager.put("trainings-timetable", "key", cachedResponse);
+
+        assertThat(responseCacheManager.get("trainings-timetable", "key")).isEqualTo(cachedResponse);
+        assertThat(responseCacheManager.get("trainings-reviews", "key")).isNull();
+    }
+
+    @Test
+    void shouldInvalidateOnlySelectedRoute() {
+        responseCacheManager.put("trainings-timetable", "key", cachedResponse);
+        responseCacheManager.put("trainings-reviews", "key", cachedResponse);
+
+        responseCacheManager.invalidate("trainings-timetable");
+
+        assertThat(responseCacheManager.get("trainings-timetable", "key")).isNull();
+        assertThat(responseCacheManager.get("trainings-reviews", "key")).isEqualTo(cachedResponse);
+    }
+
+    @Test
+    void shouldComputeQuotedETag() {
+        assertThat(cachedResponse.getETag()).startsWith("\"").endsWith("\"");
+    }
+}
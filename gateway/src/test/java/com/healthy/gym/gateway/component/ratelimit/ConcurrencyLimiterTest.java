@@ -0,0 +1,29 @@
+package com.healthy.gym.gateway.component.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    void shouldRejectWhenLimitIsReached() {
+        ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(2);
+
+        assertThat(concurrencyLimiter.tryAcquire()).isTrue();
+        assertThat(concurrencyLimiter.tryAcquire()).isTrue();
+        assertThat(concurrencyLimiter.tryAcquire()).isFalse();
+        assertThat(concurrencyLimiter.getInFlightRequests()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAcceptAgainAfterRelease() {
+        ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(1);
+
+        assertThat(concurrencyLimiter.tryAcquire()).isTrue();
+        concurrencyLimiter.release();
+
+        assertThat(concurrencyLimiter.tryAcquire()).isTrue();
+        assertThat(concurrencyLimiter.getInFlightRequests()).isEqualTo(1);
+    }
+}
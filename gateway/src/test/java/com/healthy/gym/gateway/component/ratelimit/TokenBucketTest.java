@@ -0,0 +1,69 @@
+package com.healthy.gym.gateway.component.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldAllowBurstUpToCapacity() {
+        TokenBucket tokenBucket = new TokenBucket(1, 3, 0);
+
+        assertThat(tokenBucket.tryConsume(0)).isZero();
+        assertThat(tokenBucket.tryConsume(0)).isZero();
+        assertThat(tokenBucket.tryConsume(0)).isZero();
+        assertThat(tokenBucket.tryConsume(0)).isPositive();
+    }
+
+    @Test
+    void shouldReturnTimeUntilNextToken() {
+        TokenBucket tokenBucket = new TokenBucket(1, 1, 0);
+
+        assertThat(tokenBucket.tryConsume(0)).isZero();
+        assertThat(tokenBucket.tryConsume(ONE_SECOND / 4)).isEqualTo(ONE_SECOND * 3 / 4);
+    }
+
+    @Test
+    void shouldReplenishTokensOverTime() {
+        TokenBucket tokenBucket = new TokenBucket(2, 2, 0);
+
+        assertThat(tokenBucket.tryConsume(0)).isZero();
+        assertThat(tokenBucket.tryConsume(0)).isZero();
+        assertThat(tokenBucket.tryConsume(0)).isPositive();
+        assertThat(tokenBucket.tryConsume(ONE_SECOND / 2)).isZero();
+        assertThat(tokenBucket.getAvailableTokens(ONE_SECOND / 2)).isLessThan(1);
+        assertThat(tokenBucket.getAvailableTokens(10 * ONE_SECOND)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotGrantMoreTokensThanCapacityUnderContention() throws InterruptedException {
+        TokenBucket tokenBucket = new TokenBucket(0.001, 100, 0);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 1000; i++) {
+            executorService.submit(() -> {
+                if (tokenBucket.tryConsume(0) == 0) granted.incrementAndGet();
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(granted.get()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenReplenishRateIsInvalid() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
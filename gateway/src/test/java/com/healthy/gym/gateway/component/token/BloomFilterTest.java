@@ -0,0 +1,51 @@
+package com.healthy.gym.gateway.component.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    void shouldContainEveryInsertedDigest() {
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+
+        for (int i = 0; i < 1000; i++) {
+            byte[] digest = TokenDigest.digest("token" + i);
+            bloomFilter.put(digest);
+            assertThat(bloomFilter.mightContain(digest)).isTrue();
+        }
+    }
+
+    @Test
+    void shouldKeepFalsePositiveRateCloseToConfiguredProbability() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put(TokenDigest.digest(UUID.randomUUID().toString()));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (bloomFilter.mightContain(TokenDigest.digest(UUID.randomUUID().toString()))) falsePositives++;
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenDigestIsTooShort() {
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+
+        assertThatThrownBy(() -> bloomFilter.put(new byte[8]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenFalsePositiveProbabilityIsInvalid() {
+        assertThatThrownBy(() -> new BloomFilter(1000, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.healthy.gym.gateway.component.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedTokenRegistryTest {
+
+    private RevokedTokenRegistry revokedTokenRegistry;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRegistry = new RevokedTokenRegistryImpl(new MockEnvironment());
+    }
+
+    private String getDigest(String token) {
+        return TokenDigest.encode(TokenDigest.digest(token));
+    }
+
+    @Test
+    void shouldNotReportTokenAsRevokedByDefault() {
+        assertThat(revokedTokenRegistry.isRevoked("testToken")).isFalse();
+    }
+
+    @Test
+    void shouldReportTokenAsRevokedAfterRevocation() {
+        revokedTokenRegistry.revoke(getDigest("testToken"));
+
+        assertThat(revokedTokenRegistry.isRevoked("testToken")).isTrue();
+        assertThat(revokedTokenRegistry.isRevoked("otherToken")).isFalse();
+    }
+
+    @Test
+    void shouldDropTokensMissingFromReloadedSnapshot() {
+        revokedTokenRegistry.revoke(getDigest("expiredToken"));
+
+        revokedTokenRegistry.replaceAll(List.of(getDigest("revokedToken")), System.currentTimeMillis() + 1);
+
+        assertThat(revokedTokenRegistry.isRevoked("expiredToken")).isFalse();
+        assertThat(revokedTokenRegistry.isRevoked("revokedToken")).isTrue();
+    }
+
+    @Test
+    void shouldKeepTokensRevokedDuringReload() {
+        long reloadStartTime = System.currentTimeMillis();
+        revokedTokenRegistry.revoke(getDigest("testToken"));
+
+        revokedTokenRegistry.replaceAll(List.of(), reloadStartTime);
+
+        assertThat(revokedTokenRegistry.isRevoked("testToken")).isTrue();
+    }
+}
@@ -0,0 +1,49 @@
+package com.healthy.gym.gateway.component.token;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenManagerTest {
+
+    private MockEnvironment getEnvironment() {
+        return new MockEnvironment()
+                .withProperty("token.secret", "testSigningKey")
+                .withProperty("authorization.token.header.name", "Authorization")
+                .withProperty("authorization.token.header.prefix", "Bearer");
+    }
+
+    @Test
+    void shouldNotReturnSigningKeyByDefault() {
+        assertThat(new TokenManagerImpl(getEnvironment()).getSigningKey()).isNull();
+    }
+
+    @Test
+    void shouldReturnSigningKeyWhileLegacyTokensAreAccepted() {
+        MockEnvironment environment = getEnvironment()
+                .withProperty("token.legacy.enabled", "true")
+                .withProperty("token.legacy.accepted-until", Instant.now().plusSeconds(3600).toString());
+
+        assertThat(new TokenManagerImpl(environment).getSigningKey()).isEqualTo("testSigningKey");
+    }
+
+    @Test
+    void shouldNotReturnSigningKeyAfterLegacyTokensAreNoLongerAccepted() {
+        MockEnvironment environment = getEnvironment()
+                .withProperty("token.legacy.enabled", "true")
+                .withProperty("token.legacy.accepted-until", Instant.now().minusSeconds(1).toString());
+
+        assertThat(new TokenManagerImpl(environment).getSigningKey()).isNull();
+    }
+
+    @Test
+    void shouldRequireExpiryWhenLegacyTokensAreEnabled() {
+        MockEnvironment environment = getEnvironment().withProperty("token.legacy.enabled", "true");
+
+        assertThatThrownBy(() -> new TokenManagerImpl(environment)).isInstanceOf(IllegalStateException.class);
+    }
+}
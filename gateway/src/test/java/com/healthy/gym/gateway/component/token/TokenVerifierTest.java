@@ -0,0 +1,122 @@
+package com.healthy.gym.gateway.component.token;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenVerifierTest {
+
+    private final String testSigningKey = "testSigningKey";
+    private TokenVerifier tokenVerifier;
+    private PublicKeyProvider publicKeyProvider;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        TokenManager tokenManager = mock(TokenManager.class);
+        when(tokenManager.getSigningKey()).thenReturn(testSigningKey);
+        when(tokenManager.getCacheMaximumSize()).thenReturn(100L);
+        publicKeyProvider = mock(PublicKeyProvider.class);
+        tokenVerifier = new TokenVerifierImpl(tokenManager, publicKeyProvider);
+        userId = UUID.randomUUID().toString();
+    }
+
+    private String getToken(String keyId, KeyPair keyPair) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
+                .setSubject(userId)
+                .setExpiration(Date.from(Instant.now().plusSeconds(300)))
+                .signWith(SignatureAlgorithm.RS256, keyPair.getPrivate())
+                .compact();
+    }
+
+    private KeyPair getKeyPair() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    @Test
+    void shouldReturnUserIdWhenTokenIsSignedWithPublishedKey() throws Exception {
+        KeyPair keyPair = getKeyPair();
+        when(publicKeyProvider.getPublicKey("key-1")).thenReturn(keyPair.getPublic());
+
+        assertThat(tokenVerifier.getUserId(getToken("key-1", keyPair))).isEqualTo(userId);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTokenIsSignedWithUnknownKey() throws Exception {
+        KeyPair keyPair = getKeyPair();
+        String token = getToken("key-2", keyPair);
+
+        assertThatThrownBy(() -> tokenVerifier.getUserId(token))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String getToken(String signingKey, Instant expiration) {
+        return Jwts.builder()
+                .setSubject(userId)
+                .setExpiration(Date.from(expiration))
+                .signWith(SignatureAlgorithm.HS256, signingKey)
+                .compact();
+    }
+
+    @Test
+    void shouldReturnUserIdWhenTokenIsValid() {
+        String token = getToken(testSigningKey, Instant.now().plusSeconds(300));
+
+        assertThat(tokenVerifier.getUserId(token)).isEqualTo(userId);
+    }
+
+    @Test
+    void shouldReturnSameUserIdWhenTokenIsVerifiedAgain() {
+        String token = getToken(testSigningKey, Instant.now().plusSeconds(300));
+
+        assertThat(tokenVerifier.getUserId(token)).isEqualTo(userId);
+        assertThat(tokenVerifier.getUserId(token)).isEqualTo(userId);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTokenIsSignedWithDifferentKey() {
+        String token = getToken("otherSigningKey", Instant.now().plusSeconds(300));
+
+        assertThatThrownBy(() -> tokenVerifier.getUserId(token))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTokenIsExpired() {
+        String token = getToken(testSigningKey, Instant.now().minusSeconds(1));
+
+        assertThatThrownBy(() -> tokenVerifier.getUserId(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void shouldNotReturnCachedUserIdAfterTokenExpiration() throws InterruptedException {
+        String token = getToken(testSigningKey, Instant.now().plusSeconds(2));
+
+        assertThat(tokenVerifier.getUserId(token)).isEqualTo(userId);
+
+        Thread.sleep(2500);
+
+        assertThatThrownBy(() -> tokenVerifier.getUserId(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+}
@@ -1,9 +1,12 @@
 package com.healthy.gym.gympass;
 
+import com.healthy.gym.cache.event.ResponseCacheInvalidationEvent;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 
 @SpringBootApplication
+@RemoteApplicationEventScan(basePackageClasses = ResponseCacheInvalidationEvent.class)
 public class GympassApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,31 @@
+package com.healthy.gym.gympass.configuration;
+
+import com.healthy.gym.security.component.PublicKeyProvider;
+import com.healthy.gym.security.component.PublicKeyProviderImpl;
+import com.healthy.gym.security.component.TokenSigningKeyResolver;
+import com.healthy.gym.security.component.TokenVerifier;
+import com.healthy.gym.security.component.TokenVerifierImpl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class TokenVerificationConfig {
+
+    @Bean
+    public PublicKeyProvider getPublicKeyProvider(RestTemplate restTemplate, Environment environment) {
+        return new PublicKeyProviderImpl(restTemplate, environment);
+    }
+
+    @Bean
+    public TokenVerifier getTokenVerifier(PublicKeyProvider publicKeyProvider, Environment environment) {
+        long cacheMaximumSize = environment
+                .getProperty("authorization.token.cache.maximum-size", Long.class, 10_000L);
+
+        return new TokenVerifierImpl(
+                new TokenSigningKeyResolver(publicKeyProvider, environment),
+                cacheMaximumSize
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.healthy.gym.image.component;
+
+import org.springframework.core.io.Resource;
+
+public interface CacheableImage<T extends CacheableImage<T>> {
+
+    long getLength();
+
+    Resource getContent();
+
+    /**
+     * Returns a copy of this image served from the given content.
+     */
+    T withContent(long length, Resource content);
+}
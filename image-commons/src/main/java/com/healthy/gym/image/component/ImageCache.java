@@ -0,0 +1,12 @@
+package com.healthy.gym.image.component;
+
+import java.io.IOException;
+
+public interface ImageCache<T extends CacheableImage<T>> {
+
+    T get(String imageId, String version);
+
+    T put(String imageId, String version, T image) throws IOException;
+
+    void invalidate(String imageId);
+}
@@ -0,0 +1,209 @@
+package com.healthy.gym.image.component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImageCacheImpl<T extends CacheableImage<T>> implements ImageCache<T>, MeterBinder {
+
+    private static final String METRIC_PREFIX = "image.cache";
+
+    private final long maxSizeInBytes;
+    private final long maxEntrySizeInBytes;
+    private final Map<String, CacheEntry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long sizeInBytes;
+
+    public ImageCacheImpl(Environment environment) {
+        this.maxSizeInBytes = environment.getProperty("image.cache.max-size", Long.class, 64L * 1024 * 1024);
+        this.maxEntrySizeInBytes = environment.getProperty("image.cache.max-entry-size", Long.class, 2L * 1024 * 1024);
+    }
+
+    @Override
+    public T get(String imageId, String version) {
+        if (version == null) return null;
+
+        CacheEntry<T> entry;
+        synchronized (this) {
+            entry = entries.get(getKey(imageId, version));
+        }
+
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.image;
+    }
+
+    @Override
+    public T put(String imageId, String version, T image) throws IOException {
+        long length = image.getLength();
+        if (version == null || length > maxEntrySizeInBytes || length > maxSizeInBytes) return image;
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) length);
+        try (ReadableByteChannel channel = Channels.newChannel(image.getContent().getInputStream())) {
+            int read = 0;
+            while (buffer.hasRemaining() && read >= 0) read = channel.read(buffer);
+        }
+        buffer.flip();
+        Resource content = new ByteBufferResource(buffer.asReadOnlyBuffer());
+
+        // the source has been consumed, so an image shorter than announced is served from the bytes read
+        if (buffer.limit() < length) return image.withContent(buffer.limit(), content);
+
+        T cachedImage = image.withContent(length, content);
+        store(getKey(imageId, version), new CacheEntry<>(imageId, cachedImage));
+        return cachedImage;
+    }
+
+    private synchronized void store(String key, CacheEntry<T> entry) {
+        CacheEntry<T> previous = entries.put(key, entry);
+        if (previous != null) sizeInBytes -= previous.image.getLength();
+        sizeInBytes += entry.image.getLength();
+
+        Iterator<CacheEntry<T>> iterator = entries.values().iterator();
+        while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+            CacheEntry<T> eldest = iterator.next();
+            iterator.remove();
+            sizeInBytes -= eldest.image.getLength();
+            evictions.incrementAndGet();
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(String imageId) {
+        Iterator<CacheEntry<T>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            CacheEntry<T> entry = iterator.next();
+            if (!entry.imageId.equals(imageId)) continue;
+            iterator.remove();
+            sizeInBytes -= entry.image.getLength();
+        }
+    }
+
+    private String getKey(String imageId, String version) {
+        return imageId + ":" + version;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", hits, AtomicLong::get)
+                .description("Image requests served from the off-heap cache")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".requests", misses, AtomicLong::get)
+                .description("Image requests that had to be loaded from storage")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".evictions", evictions, AtomicLong::get)
+                .description("Images evicted from the off-heap cache to stay within its size limit")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, ImageCacheImpl::getSizeInBytes)
+                .description("Off-heap memory used by cached images")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".entries", this, ImageCacheImpl::getNumberOfEntries)
+                .description("Images held in the off-heap cache")
+                .register(registry);
+    }
+
+    private synchronized double getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    private synchronized double getNumberOfEntries() {
+        return entries.size();
+    }
+
+    private static class CacheEntry<T extends CacheableImage<T>> {
+        private final String imageId;
+        private final T image;
+
+        private CacheEntry(String imageId, T image) {
+            this.imageId = imageId;
+            this.image = image;
+        }
+    }
+
+    private static class ByteBufferResource extends AbstractResource {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferResource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteBufferInputStream(buffer.duplicate());
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.limit();
+        }
+
+        @Override
+        public String getDescription() {
+            return "Off-heap image buffer [" + buffer.limit() + " bytes]";
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
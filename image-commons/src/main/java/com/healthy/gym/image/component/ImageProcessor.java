@@ -0,0 +1,12 @@
+package com.healthy.gym.image.component;
+
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+
+import java.io.IOException;
+
+public interface ImageProcessor {
+    byte[] sanitize(byte[] content, String contentType) throws IOException;
+
+    byte[] resize(byte[] content, ImageSize size, ImageFormat format) throws IOException;
+}
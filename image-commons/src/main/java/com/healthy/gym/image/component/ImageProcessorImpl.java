@@ -0,0 +1,210 @@
+package com.healthy.gym.image.component;
+
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+
+import javax.activation.UnsupportedDataTypeException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+public class ImageProcessorImpl implements ImageProcessor {
+
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+    private static final long MAX_PIXELS = 50_000_000L;
+
+    @Override
+    public byte[] sanitize(byte[] content, String contentType) throws IOException {
+        return resize(content, ImageSize.ORIGINAL, ImageFormat.fromContentType(contentType));
+    }
+
+    @Override
+    public byte[] resize(byte[] content, ImageSize size, ImageFormat format) throws IOException {
+        BufferedImage image = read(content);
+        image = orient(image, readExifOrientation(content));
+        image = scaleDown(image, size.getMaxDimension());
+        return write(image, format);
+    }
+
+    private BufferedImage read(byte[] content) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+            if (!readers.hasNext()) throw new UnsupportedDataTypeException();
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream, true, true);
+                // dimensions come from the header, so oversized images are rejected before their pixels are decoded
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS)
+                    throw new UnsupportedDataTypeException("Image dimensions exceed the limit.");
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (UnsupportedDataTypeException exception) {
+            throw exception;
+        } catch (IOException exception) {
+            throw new UnsupportedDataTypeException(exception.getMessage());
+        }
+    }
+
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform transform;
+        switch (orientation) {
+            case 2:
+                transform = new AffineTransform(-1, 0, 0, 1, width, 0);
+                break;
+            case 3:
+                transform = new AffineTransform(-1, 0, 0, -1, width, height);
+                break;
+            case 4:
+                transform = new AffineTransform(1, 0, 0, -1, 0, height);
+                break;
+            case 5:
+                transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+                break;
+            case 6:
+                transform = new AffineTransform(0, 1, -1, 0, height, 0);
+                break;
+            case 7:
+                transform = new AffineTransform(0, -1, -1, 0, height, width);
+                break;
+            case 8:
+                transform = new AffineTransform(0, -1, 1, 0, 0, width);
+                break;
+            default:
+                return image;
+        }
+
+        boolean swapsDimensions = orientation >= 5;
+        BufferedImage oriented = createImage(
+                image,
+                swapsDimensions ? height : width,
+                swapsDimensions ? width : height
+        );
+        Graphics2D graphics = oriented.createGraphics();
+        graphics.drawImage(image, transform, null);
+        graphics.dispose();
+        return oriented;
+    }
+
+    private BufferedImage scaleDown(BufferedImage image, int maxDimension) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = (double) maxDimension / Math.max(width, height);
+        if (scale >= 1) return image;
+
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage scaled = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage step = createImage(scaled, width, height);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(scaled, 0, 0, width, height, null);
+            graphics.dispose();
+            scaled = step;
+        } while (width != targetWidth || height != targetHeight);
+
+        return scaled;
+    }
+
+    private BufferedImage createImage(BufferedImage source, int width, int height) {
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        return new BufferedImage(width, height, type);
+    }
+
+    private byte[] write(BufferedImage image, ImageFormat format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (format == ImageFormat.PNG) {
+            ImageIO.write(image, format.getFormatName(), outputStream);
+            return outputStream.toByteArray();
+        }
+
+        BufferedImage rgbImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgbImage.createGraphics();
+        graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        graphics.dispose();
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format.getFormatName()).next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(rgbImage, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private int readExifOrientation(byte[] content) {
+        try {
+            if (readUnsignedShort(content, 0, false) != 0xFFD8) return 1;
+
+            int offset = 2;
+            while ((content[offset] & 0xFF) == 0xFF) {
+                int marker = content[offset + 1] & 0xFF;
+                int length = readUnsignedShort(content, offset + 2, false);
+                if (marker == 0xDA) return 1;
+                if (marker == 0xE1 && isExifHeader(content, offset + 4)) {
+                    return readTiffOrientation(content, offset + 10);
+                }
+                offset += 2 + length;
+            }
+            return 1;
+        } catch (IndexOutOfBoundsException exception) {
+            return 1;
+        }
+    }
+
+    private boolean isExifHeader(byte[] content, int offset) {
+        return content[offset] == 'E' && content[offset + 1] == 'x' && content[offset + 2] == 'i'
+                && content[offset + 3] == 'f' && content[offset + 4] == 0 && content[offset + 5] == 0;
+    }
+
+    private int readTiffOrientation(byte[] content, int tiffStart) {
+        boolean littleEndian = content[tiffStart] == 'I';
+        int ifdOffset = tiffStart + readInt(content, tiffStart + 4, littleEndian);
+        int entries = readUnsignedShort(content, ifdOffset, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifdOffset + 2 + i * 12;
+            if (readUnsignedShort(content, entry, littleEndian) == EXIF_ORIENTATION_TAG) {
+                return readUnsignedShort(content, entry + 8, littleEndian);
+            }
+        }
+        return 1;
+    }
+
+    private int readUnsignedShort(byte[] content, int offset, boolean littleEndian) {
+        int first = content[offset] & 0xFF;
+        int second = content[offset + 1] & 0xFF;
+        return littleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private int readInt(byte[] content, int offset, boolean littleEndian) {
+        int high = readUnsignedShort(content, offset, littleEndian);
+        int low = readUnsignedShort(content, offset + 2, littleEndian);
+        return littleEndian ? (low << 16) | high : (high << 16) | low;
+    }
+}
@@ -0,0 +1,52 @@
+package com.healthy.gym.image.enums;
+
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public enum ImageFormat {
+    JPEG("jpeg", MediaType.IMAGE_JPEG),
+    PNG("png", MediaType.IMAGE_PNG);
+
+    private final String formatName;
+    private final MediaType mediaType;
+
+    ImageFormat(String formatName, MediaType mediaType) {
+        this.formatName = formatName;
+        this.mediaType = mediaType;
+    }
+
+    public static ImageFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.equalsIgnoreCase(MediaType.IMAGE_PNG_VALUE)) return PNG;
+        return JPEG;
+    }
+
+    public static ImageFormat negotiate(String requestedFormat, List<MediaType> acceptedMediaTypes) {
+        if (requestedFormat != null) {
+            for (ImageFormat format : values()) {
+                if (format.formatName.equalsIgnoreCase(requestedFormat)) return format;
+            }
+            if ("jpg".equalsIgnoreCase(requestedFormat)) return JPEG;
+        }
+
+        List<MediaType> mediaTypes = new ArrayList<>(acceptedMediaTypes);
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0) continue;
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) return null;
+            for (ImageFormat format : values()) {
+                if (format.mediaType.equalsTypeAndSubtype(mediaType)) return format;
+            }
+        }
+        return null;
+    }
+
+    public String getFormatName() {
+        return formatName;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
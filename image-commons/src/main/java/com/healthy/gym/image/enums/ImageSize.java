@@ -0,0 +1,30 @@
+package com.healthy.gym.image.enums;
+
+public enum ImageSize {
+    THUMBNAIL(96),
+    SMALL(320),
+    MEDIUM(800),
+    ORIGINAL(1920);
+
+    private final int maxDimension;
+
+    ImageSize(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+
+    public static ImageSize fromName(String name) {
+        if (name == null) return ORIGINAL;
+        for (ImageSize size : values()) {
+            if (size.name().equalsIgnoreCase(name)) return size;
+        }
+        return ORIGINAL;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    public String getName() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,153 @@
+package com.healthy.gym.image.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ImageCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageCacheImpl<TestImage> imageCache;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("image.cache.max-size", "10")
+                .withProperty("image.cache.max-entry-size", "6");
+        meterRegistry = new SimpleMeterRegistry();
+        imageCache = new ImageCacheImpl<>(environment);
+        imageCache.bindTo(meterRegistry);
+    }
+
+    private TestImage getImage(byte[] content) {
+        return new TestImage("hash", content.length, new ByteArrayResource(content));
+    }
+
+    private byte[] readContent(TestImage image) throws IOException {
+        try (InputStream inputStream = image.getContent().getInputStream()) {
+            return StreamUtils.copyToByteArray(inputStream);
+        }
+    }
+
+    private double getRequests(String result) {
+        return meterRegistry.get("image.cache.requests").tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    void shouldServeCachedImageWithoutReadingSourceAgain() throws IOException {
+        Resource content = spy(new ByteArrayResource(new byte[]{1, 2, 3, 4}));
+        TestImage image = new TestImage("hash", 4, content);
+
+        imageCache.put("image", "v1", image);
+        TestImage cachedImage = imageCache.get("image", "v1");
+
+        assertThat(readContent(cachedImage)).isEqualTo(new byte[]{1, 2, 3, 4});
+        assertThat(readContent(cachedImage)).isEqualTo(new byte[]{1, 2, 3, 4});
+        assertThat(cachedImage.getContentHash()).isEqualTo("hash");
+        assertThat(cachedImage.getContent().contentLength()).isEqualTo(4);
+        verify(content, times(1)).getInputStream();
+        assertThat(getRequests("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeBytesReadWhenSourceIsShorterThanAnnounced() throws IOException {
+        Resource content = new InputStreamResource(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        TestImage image = new TestImage("hash", 4, content);
+
+        TestImage servedImage = imageCache.put("image", "v1", image);
+
+        assertThat(servedImage.getLength()).isEqualTo(3);
+        assertThat(readContent(servedImage)).isEqualTo(new byte[]{1, 2, 3});
+        assertThat(imageCache.get("image", "v1")).isNull();
+    }
+
+    @Test
+    void shouldMissDifferentVersionOfImage() throws IOException {
+        imageCache.put("image", "v1", getImage(new byte[]{1}));
+
+        assertThat(imageCache.get("image", "v2")).isNull();
+        assertThat(imageCache.get("image", null)).isNull();
+        assertThat(getRequests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedImagesWhenFull() throws IOException {
+        imageCache.put("first", "v1", getImage(new byte[4]));
+        imageCache.put("second", "v1", getImage(new byte[4]));
+        imageCache.get("first", "v1");
+
+        imageCache.put("third", "v1", getImage(new byte[4]));
+
+        assertThat(imageCache.get("first", "v1")).isNotNull();
+        assertThat(imageCache.get("second", "v1")).isNull();
+        assertThat(imageCache.get("third", "v1")).isNotNull();
+        assertThat(meterRegistry.get("image.cache.evictions").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.cache.size").gauge().value()).isEqualTo(8);
+        assertThat(meterRegistry.get("image.cache.entries").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotCacheImagesLargerThanEntryLimit() throws IOException {
+        TestImage image = getImage(new byte[7]);
+
+        assertThat(imageCache.put("image", "v1", image)).isSameAs(image);
+        assertThat(imageCache.get("image", "v1")).isNull();
+    }
+
+    @Test
+    void shouldInvalidateAllVersionsOfImage() throws IOException {
+        imageCache.put("image", "v1", getImage(new byte[2]));
+        imageCache.put("image", "v1:thumbnail.png", getImage(new byte[2]));
+        imageCache.put("other", "v1", getImage(new byte[2]));
+
+        imageCache.invalidate("image");
+
+        assertThat(imageCache.get("image", "v1")).isNull();
+        assertThat(imageCache.get("image", "v1:thumbnail.png")).isNull();
+        assertThat(imageCache.get("other", "v1")).isNotNull();
+        assertThat(meterRegistry.get("image.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    private static class TestImage implements CacheableImage<TestImage> {
+        private final String contentHash;
+        private final long length;
+        private final Resource content;
+
+        private TestImage(String contentHash, long length, Resource content) {
+            this.contentHash = contentHash;
+            this.length = length;
+            this.content = content;
+        }
+
+        private String getContentHash() {
+            return contentHash;
+        }
+
+        @Override
+        public long getLength() {
+            return length;
+        }
+
+        @Override
+        public Resource getContent() {
+            return content;
+        }
+
+        @Override
+        public TestImage withContent(long length, Resource content) {
+            return new TestImage(contentHash, length, content);
+        }
+    }
+}
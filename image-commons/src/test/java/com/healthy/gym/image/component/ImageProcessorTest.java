@@ -0,0 +1,130 @@
+package com.healthy.gym.image.component;
+
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import javax.activation.UnsupportedDataTypeException;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageProcessorTest {
+
+    private ImageProcessor imageProcessor;
+
+    @BeforeEach
+    void setUp() {
+        imageProcessor = new ImageProcessorImpl();
+    }
+
+    private byte[] createImage(int width, int height, String formatName) throws IOException {
+        int type = "png".equals(formatName) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), formatName, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0, 34,
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 0x2A, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        byte[] result = new byte[jpeg.length + app1.length];
+        System.arraycopy(jpeg, 0, result, 0, 2);
+        System.arraycopy(app1, 0, result, 2, app1.length);
+        System.arraycopy(jpeg, 2, result, 2 + app1.length, jpeg.length - 2);
+        return result;
+    }
+
+    private byte[] createPngHeader(int width, int height) {
+        ByteBuffer header = ByteBuffer.allocate(8 + 25);
+        header.put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        header.putInt(13);
+        int chunkStart = header.position();
+        header.put(new byte[]{'I', 'H', 'D', 'R'});
+        header.putInt(width).putInt(height).put(new byte[]{8, 6, 0, 0, 0});
+        CRC32 crc = new CRC32();
+        crc.update(header.array(), chunkStart, header.position() - chunkStart);
+        header.putInt((int) crc.getValue());
+        return header.array();
+    }
+
+    private BufferedImage read(byte[] content) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+    @Test
+    void shouldScaleDownImageKeepingAspectRatio() throws IOException {
+        byte[] content = createImage(1000, 500, "jpeg");
+
+        BufferedImage thumbnail = read(imageProcessor.resize(content, ImageSize.THUMBNAIL, ImageFormat.JPEG));
+
+        assertThat(thumbnail.getWidth()).isEqualTo(96);
+        assertThat(thumbnail.getHeight()).isEqualTo(48);
+    }
+
+    @Test
+    void shouldNotScaleUpSmallImage() throws IOException {
+        byte[] content = createImage(40, 20, "png");
+
+        BufferedImage image = read(imageProcessor.resize(content, ImageSize.MEDIUM, ImageFormat.PNG));
+
+        assertThat(image.getWidth()).isEqualTo(40);
+        assertThat(image.getHeight()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldConvertPngToJpeg() throws IOException {
+        byte[] content = createImage(40, 20, "png");
+
+        byte[] jpeg = imageProcessor.resize(content, ImageSize.ORIGINAL, ImageFormat.JPEG);
+
+        assertThat(jpeg[0]).isEqualTo((byte) 0xFF);
+        assertThat(jpeg[1]).isEqualTo((byte) 0xD8);
+        assertThat(read(jpeg).getColorModel().hasAlpha()).isFalse();
+    }
+
+    @Test
+    void shouldApplyExifOrientationAndStripMetadataWhenSanitizing() throws IOException {
+        byte[] content = withExifOrientation(createImage(40, 20, "jpeg"), 6);
+
+        byte[] sanitized = imageProcessor.sanitize(content, MediaType.IMAGE_JPEG_VALUE);
+
+        BufferedImage image = read(sanitized);
+        assertThat(image.getWidth()).isEqualTo(20);
+        assertThat(image.getHeight()).isEqualTo(40);
+        assertThat(new String(sanitized, StandardCharsets.ISO_8859_1)).doesNotContain("Exif");
+    }
+
+    @Test
+    void shouldThrowWhenContentIsNotAnImage() {
+        byte[] content = "data".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> imageProcessor.sanitize(content, MediaType.IMAGE_JPEG_VALUE))
+                .isInstanceOf(UnsupportedDataTypeException.class);
+    }
+
+    @Test
+    void shouldThrowWhenImageDimensionsExceedLimitBeforeDecoding() {
+        byte[] content = createPngHeader(100_000, 100_000);
+
+        assertThatThrownBy(() -> imageProcessor.sanitize(content, MediaType.IMAGE_PNG_VALUE))
+                .isInstanceOf(UnsupportedDataTypeException.class)
+                .hasMessage("Image dimensions exceed the limit.");
+    }
+}
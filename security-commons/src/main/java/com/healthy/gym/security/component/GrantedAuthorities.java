@@ -0,0 +1,42 @@
+package com.healthy.gym.security.component;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class GrantedAuthorities {
+
+    private static final Map<String, GrantedAuthority> GYM_ROLES = Stream.of(
+            "ROLE_ADMIN",
+            "ROLE_EMPLOYEE",
+            "ROLE_MANAGER",
+            "ROLE_TRAINER",
+            "ROLE_USER"
+    ).collect(Collectors.toUnmodifiableMap(Function.identity(), SimpleGrantedAuthority::new));
+
+    private GrantedAuthorities() {
+    }
+
+    public static GrantedAuthority of(String role) {
+        GrantedAuthority authority = GYM_ROLES.get(role);
+        return authority != null ? authority : new SimpleGrantedAuthority(role);
+    }
+
+    public static List<GrantedAuthority> of(List<?> roles) {
+        if (roles == null || roles.isEmpty()) return Collections.emptyList();
+
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (Object role : roles) {
+            authorities.add(of(String.valueOf(role)));
+        }
+
+        return Collections.unmodifiableList(authorities);
+    }
+}
@@ -0,0 +1,7 @@
+package com.healthy.gym.security.component;
+
+import java.security.PublicKey;
+
+public interface PublicKeyProvider {
+    PublicKey getPublicKey(String keyId);
+}
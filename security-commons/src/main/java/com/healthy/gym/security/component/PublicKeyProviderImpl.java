@@ -0,0 +1,114 @@
+package com.healthy.gym.security.component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class PublicKeyProviderImpl implements PublicKeyProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicKeyProviderImpl.class);
+
+    private final RestTemplate restTemplate;
+    private final String jsonWebKeySetUri;
+    private final long refreshIntervalInMillis;
+    private final long minimumRefreshIntervalInMillis;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> publicKeys = Map.of();
+    private volatile long lastRefreshTime;
+    private volatile long lastRefreshAttemptTime;
+
+    public PublicKeyProviderImpl(RestTemplate restTemplate, Environment environment) {
+        this.restTemplate = restTemplate;
+        this.jsonWebKeySetUri = environment.getProperty(
+                "token.jwks.uri",
+                "http://auth/.well-known/jwks.json"
+        );
+        this.refreshIntervalInMillis = environment.getProperty(
+                "token.jwks.refresh-interval",
+                Long.class,
+                900_000L
+        );
+        this.minimumRefreshIntervalInMillis = environment.getProperty(
+                "token.jwks.minimum-refresh-interval",
+                Long.class,
+                30_000L
+        );
+    }
+
+    @Override
+    public PublicKey getPublicKey(String keyId) {
+        if (keyId == null) return null;
+
+        PublicKey publicKey = publicKeys.get(keyId);
+        long now = System.currentTimeMillis();
+
+        if (publicKey == null) {
+            refreshLock.lock();
+            try {
+                refresh(now);
+            } finally {
+                refreshLock.unlock();
+            }
+            return publicKeys.get(keyId);
+        }
+
+        if (now - lastRefreshTime > refreshIntervalInMillis && refreshLock.tryLock()) {
+            try {
+                refresh(now);
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+
+        return publicKey;
+    }
+
+    private void refresh(long now) {
+        if (now - lastRefreshAttemptTime < minimumRefreshIntervalInMillis) return;
+        lastRefreshAttemptTime = now;
+
+        try {
+            JsonNode jsonWebKeySet = restTemplate.getForObject(jsonWebKeySetUri, JsonNode.class);
+            publicKeys = toPublicKeys(jsonWebKeySet);
+            lastRefreshTime = now;
+        } catch (Exception exception) {
+            logger.warn("Unable to refresh public keys from {}", jsonWebKeySetUri, exception);
+        }
+    }
+
+    private Map<String, PublicKey> toPublicKeys(JsonNode jsonWebKeySet) throws GeneralSecurityException {
+        if (jsonWebKeySet == null) throw new IllegalStateException("Empty JSON Web Key Set.");
+
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        Map<String, PublicKey> keys = new HashMap<>();
+
+        for (JsonNode jsonWebKey : jsonWebKeySet.path("keys")) {
+            if (!"RSA".equals(jsonWebKey.path("kty").asText())) continue;
+
+            RSAPublicKeySpec keySpec = new RSAPublicKeySpec(
+                    decode(jsonWebKey.path("n").asText()),
+                    decode(jsonWebKey.path("e").asText())
+            );
+            keys.put(jsonWebKey.path("kid").asText(), keyFactory.generatePublic(keySpec));
+        }
+
+        return Map.copyOf(keys);
+    }
+
+    private BigInteger decode(String value) {
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+}
@@ -0,0 +1,60 @@
+package com.healthy.gym.security.component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.impl.TextCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+
+import java.security.Key;
+import java.time.Instant;
+
+public class TokenSigningKeyResolver extends SigningKeyResolverAdapter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenSigningKeyResolver.class);
+
+    private final PublicKeyProvider publicKeyProvider;
+    private final byte[] legacySigningKey;
+    private final Instant legacySigningKeyAcceptedUntil;
+
+    /**
+     * Tokens without a key id, signed with the shared {@code token.secret}, are accepted only when
+     * {@code token.legacy.enabled} is set, and only until {@code token.legacy.accepted-until}.
+     */
+    public TokenSigningKeyResolver(PublicKeyProvider publicKeyProvider, Environment environment) {
+        this.publicKeyProvider = publicKeyProvider;
+
+        if (environment.getProperty("token.legacy.enabled", Boolean.class, false)) {
+            this.legacySigningKey = TextCodec.BASE64.decode(environment.getRequiredProperty("token.secret"));
+            this.legacySigningKeyAcceptedUntil =
+                    Instant.parse(environment.getRequiredProperty("token.legacy.accepted-until"));
+            logger.warn("Tokens signed with the shared key are accepted until {}.", legacySigningKeyAcceptedUntil);
+        } else {
+            this.legacySigningKey = null;
+            this.legacySigningKeyAcceptedUntil = null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String keyId = header.getKeyId();
+        if (keyId == null) return super.resolveSigningKey(header, claims);
+
+        Key publicKey = publicKeyProvider.getPublicKey(keyId);
+        if (publicKey == null) throw new IllegalArgumentException("Unknown signing key: " + keyId);
+
+        return publicKey;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public byte[] resolveSigningKeyBytes(JwsHeader header, Claims claims) {
+        if (legacySigningKey == null || !Instant.now().isBefore(legacySigningKeyAcceptedUntil))
+            throw new IllegalArgumentException("Shared signing key is disabled.");
+
+        return legacySigningKey;
+    }
+}
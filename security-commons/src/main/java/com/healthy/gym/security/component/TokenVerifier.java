@@ -0,0 +1,7 @@
+package com.healthy.gym.security.component;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+public interface TokenVerifier {
+    UsernamePasswordAuthenticationToken getAuthentication(String token);
+}
@@ -0,0 +1,90 @@
+package com.healthy.gym.security.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolver;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class TokenVerifierImpl implements TokenVerifier {
+
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public TokenVerifierImpl(SigningKeyResolver signingKeyResolver, long cacheMaximumSize) {
+        this.jwtParser = Jwts.parser().setSigningKeyResolver(signingKeyResolver);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
+    }
+
+    @Override
+    public UsernamePasswordAuthenticationToken getAuthentication(String token) {
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(token);
+        if (verifiedToken != null && !verifiedToken.isExpired()) return verifiedToken.getAuthentication();
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        String userId = claims.getSubject();
+        if (userId == null) return null;
+
+        List<?> roles = claims.get("roles", List.class);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userId, null, GrantedAuthorities.of(roles));
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            verifiedTokens.put(token, new VerifiedToken(authentication, expiration.getTime()));
+        }
+
+        return authentication;
+    }
+
+    private static class VerifiedToken {
+        private final UsernamePasswordAuthenticationToken authentication;
+        private final long expirationTimeInMillis;
+
+        private VerifiedToken(UsernamePasswordAuthenticationToken authentication, long expirationTimeInMillis) {
+            this.authentication = authentication;
+            this.expirationTimeInMillis = expirationTimeInMillis;
+        }
+
+        private UsernamePasswordAuthenticationToken getAuthentication() {
+            return authentication;
+        }
+
+        private long getRemainingTimeInNanos() {
+            long remainingMillis = expirationTimeInMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        private boolean isExpired() {
+            return expirationTimeInMillis <= System.currentTimeMillis();
+        }
+    }
+
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return value.getRemainingTimeInNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return value.getRemainingTimeInNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.healthy.gym.security.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+
+public class ApplicationEventExecutor implements Executor, MeterBinder, DisposableBean {
+
+    private static final String METRIC_PREFIX = "application.events.executor";
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxSize;
+    private volatile Timer latency;
+    private volatile Counter callerRuns;
+
+    public ApplicationEventExecutor(Environment environment) {
+        int coreSize = environment.getProperty("events.executor.core-size", Integer.class, 2);
+        this.maxSize = environment.getProperty("events.executor.max-size", Integer.class, 8);
+        int queueCapacity = environment.getProperty("events.executor.queue-capacity", Integer.class, 500);
+        boolean virtualThreads = environment.getProperty("events.executor.virtual-threads", Boolean.class, false);
+
+        if (virtualThreads) {
+            this.executor = createVirtualThreadExecutor();
+            this.permits = new Semaphore(maxSize);
+        } else {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("application-event-");
+            threadFactory.setDaemon(true);
+
+            this.executor = new ThreadPoolExecutor(
+                    coreSize,
+                    maxSize,
+                    60L,
+                    TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    threadFactory,
+                    (task, threadPoolExecutor) -> runInCallerThread(task)
+            );
+            this.permits = null;
+        }
+    }
+
+    private ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("Virtual threads require JDK 21 or newer.", exception);
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Runnable timedTask = timed(task);
+
+        if (permits == null) {
+            executor.execute(timedTask);
+            return;
+        }
+
+        if (!permits.tryAcquire()) {
+            runInCallerThread(timedTask);
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    timedTask.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            permits.release();
+            runInCallerThread(timedTask);
+        }
+    }
+
+    private Runnable timed(Runnable task) {
+        long submittedAt = System.nanoTime();
+        return () -> {
+            try {
+                task.run();
+            } finally {
+                Timer timer = latency;
+                if (timer != null) timer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private void runInCallerThread(Runnable task) {
+        Counter counter = callerRuns;
+        if (counter != null) counter.increment();
+        task.run();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".queued", this, ApplicationEventExecutor::getQueueSize)
+                .description("Application events waiting for a dispatch thread")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".active", this, ApplicationEventExecutor::getActiveCount)
+                .description("Application events being dispatched")
+                .register(registry);
+        latency = Timer.builder(METRIC_PREFIX + ".latency")
+                .description("Time from publishing an application event to finishing its listener")
+                .publishPercentileHistogram()
+                .register(registry);
+        callerRuns = Counter.builder(METRIC_PREFIX + ".caller.runs")
+                .description("Application events dispatched on the publishing thread because the executor was saturated")
+                .register(registry);
+    }
+
+    private double getQueueSize() {
+        if (executor instanceof ThreadPoolExecutor) return ((ThreadPoolExecutor) executor).getQueue().size();
+        return 0;
+    }
+
+    private double getActiveCount() {
+        if (executor instanceof ThreadPoolExecutor) return ((ThreadPoolExecutor) executor).getActiveCount();
+        return (double) maxSize - permits.availablePermits();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) executor.shutdownNow();
+    }
+}
@@ -0,0 +1,51 @@
+package com.healthy.gym.security.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Executor;
+
+public class BoundedApplicationEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedApplicationEventMulticaster.class);
+
+    private final String applicationPackage;
+
+    public BoundedApplicationEventMulticaster(Executor executor, String applicationPackage) {
+        setTaskExecutor(executor);
+        this.applicationPackage = applicationPackage;
+    }
+
+    @Override
+    public void multicastEvent(ApplicationEvent event, @Nullable ResolvableType eventType) {
+        ResolvableType type = eventType != null ? eventType : ResolvableType.forInstance(event);
+        Executor executor = getTaskExecutor();
+        boolean dispatchAsynchronously = executor != null && isApplicationEvent(event);
+
+        for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
+            if (dispatchAsynchronously) executor.execute(() -> invokeListenerAndLogError(listener, event));
+            else invokeListener(listener, event);
+        }
+    }
+
+    private void invokeListenerAndLogError(ApplicationListener<?> listener, ApplicationEvent event) {
+        try {
+            invokeListener(listener, event);
+        } catch (RuntimeException exception) {
+            logger.error("Application event listener failed for " + event.getClass().getSimpleName() + ".", exception);
+        }
+    }
+
+    private boolean isApplicationEvent(ApplicationEvent event) {
+        Object source = event instanceof PayloadApplicationEvent
+                ? ((PayloadApplicationEvent<?>) event).getPayload()
+                : event;
+        return source.getClass().getName().startsWith(applicationPackage);
+    }
+}
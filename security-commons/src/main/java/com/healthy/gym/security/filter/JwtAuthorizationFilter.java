@@ -0,0 +1,61 @@
+package com.healthy.gym.security.filter;
+
+import com.healthy.gym.security.component.TokenVerifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
+
+    private final String headerName;
+    private final String headerPrefix;
+    private final TokenVerifier tokenVerifier;
+
+    public JwtAuthorizationFilter(
+            AuthenticationManager authenticationManager,
+            String headerName,
+            String headerPrefix,
+            TokenVerifier tokenVerifier
+    ) {
+        super(authenticationManager);
+        this.headerName = headerName;
+        this.headerPrefix = headerPrefix;
+        this.tokenVerifier = tokenVerifier;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain
+    ) throws IOException, ServletException {
+        String authorizationHeader = request.getHeader(headerName);
+
+        if (authorizationHeader == null || !authorizationHeader.startsWith(headerPrefix)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String token = authorizationHeader.substring(headerPrefix.length()).trim();
+
+        UsernamePasswordAuthenticationToken authenticationToken;
+
+        try {
+            authenticationToken = tokenVerifier.getAuthentication(token);
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        chain.doFilter(request, response);
+    }
+}
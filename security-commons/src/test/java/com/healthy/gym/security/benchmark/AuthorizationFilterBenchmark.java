@@ -0,0 +1,101 @@
+package com.healthy.gym.security.benchmark;
+
+import com.healthy.gym.security.component.TokenSigningKeyResolver;
+import com.healthy.gym.security.component.TokenVerifierImpl;
+import com.healthy.gym.security.filter.JwtAuthorizationFilter;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AuthorizationFilterBenchmark {
+
+    private static final String HEADER_NAME = "Authorization";
+    private static final String HEADER_PREFIX = "Bearer";
+    private static final String SIGNING_KEY = "benchmarkSigningKeyWhichIsLongEnoughForHmacSha256Signing";
+
+    private final FilterChain filterChain = (request, response) -> {
+    };
+
+    private LegacyAuthorizationFilter legacyFilter;
+    private JwtAuthorizationFilter sharedFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AuthorizationFilterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setUp() {
+        AuthenticationManager authenticationManager = authentication -> authentication;
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("token.secret", SIGNING_KEY)
+                .withProperty("token.legacy.enabled", "true")
+                .withProperty("token.legacy.accepted-until", Instant.now().plusSeconds(3600).toString());
+
+        legacyFilter = new LegacyAuthorizationFilter(
+                authenticationManager,
+                HEADER_NAME,
+                HEADER_PREFIX,
+                SIGNING_KEY
+        );
+        sharedFilter = new JwtAuthorizationFilter(
+                authenticationManager,
+                HEADER_NAME,
+                HEADER_PREFIX,
+                new TokenVerifierImpl(new TokenSigningKeyResolver(keyId -> null, environment), 10_000)
+        );
+
+        String token = Jwts.builder()
+                .setSubject(UUID.randomUUID().toString())
+                .claim("roles", List.of("ROLE_USER", "ROLE_TRAINER"))
+                .setExpiration(Date.from(Instant.now().plusSeconds(3600)))
+                .signWith(SignatureAlgorithm.HS256, SIGNING_KEY)
+                .compact();
+
+        request = new MockHttpServletRequest("GET", "/group");
+        request.addHeader(HEADER_NAME, HEADER_PREFIX + " " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void legacyFilter() throws IOException, ServletException {
+        legacyFilter.doFilter(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void sharedFilter() throws IOException, ServletException {
+        sharedFilter.doFilter(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -1,6 +1,5 @@
-package com.healthy.gym.task.security;
+package com.healthy.gym.security.benchmark;
 
-import com.healthy.gym.task.component.TokenManager;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
@@ -21,16 +20,22 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-public class AuthorizationFilter extends BasicAuthenticationFilter {
+class LegacyAuthorizationFilter extends BasicAuthenticationFilter {
 
-    private final TokenManager tokenManager;
+    private final String headerName;
+    private final String headerPrefix;
+    private final String signingKey;
 
-    public AuthorizationFilter(
+    LegacyAuthorizationFilter(
             AuthenticationManager authenticationManager,
-            TokenManager tokenManager
+            String headerName,
+            String headerPrefix,
+            String signingKey
     ) {
         super(authenticationManager);
-        this.tokenManager = tokenManager;
+        this.headerName = headerName;
+        this.headerPrefix = headerPrefix;
+        this.signingKey = signingKey;
     }
 
     @Override
@@ -39,37 +44,24 @@ public class AuthorizationFilter extends BasicAuthenticationFilter {
             HttpServletResponse response,
             FilterChain chain
     ) throws IOException, ServletException {
-        String headerName = tokenManager.getHttpHeaderName();
-        if (headerName == null) return;
-
         String authorizationHeader = request.getHeader(headerName);
 
-        String headerPrefix = tokenManager.getTokenPrefix();
-        if (headerPrefix == null) return;
-
         if (authorizationHeader == null || !authorizationHeader.startsWith(headerPrefix)) {
             chain.doFilter(request, response);
             return;
         }
 
-        UsernamePasswordAuthenticationToken authenticationToken =
-                getAuthentication(authorizationHeader, headerPrefix);
+        UsernamePasswordAuthenticationToken authenticationToken = getAuthentication(authorizationHeader);
 
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         chain.doFilter(request, response);
     }
 
-    private UsernamePasswordAuthenticationToken getAuthentication(
-            String authorizationHeader,
-            String headerPrefix
-    ) {
+    private UsernamePasswordAuthenticationToken getAuthentication(String authorizationHeader) {
         String token = authorizationHeader
                 .replace(headerPrefix, "")
                 .trim();
 
-        String signingKey = tokenManager.getSigningKey();
-        if (signingKey == null) return null;
-
         Jws<Claims> claimsJws;
 
         try {
@@ -85,16 +77,11 @@ public class AuthorizationFilter extends BasicAuthenticationFilter {
 
         if (userId == null) return null;
 
-        return new UsernamePasswordAuthenticationToken(userId, null, getAuthorities(roles));
-    }
-
-    private List<GrantedAuthority> getAuthorities(List<String> roles) {
         List<GrantedAuthority> authorities = new ArrayList<>();
-
         for (String role : roles) {
             authorities.add(new SimpleGrantedAuthority(role));
         }
 
-        return authorities;
+        return new UsernamePasswordAuthenticationToken(userId, null, authorities);
     }
 }
@@ -0,0 +1,114 @@
+package com.healthy.gym.security.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class PublicKeyProviderTest {
+
+    private static final String JWKS_URI = "http://auth/.well-known/jwks.json";
+
+    private MockRestServiceServer server;
+    private MockEnvironment environment;
+    private RestTemplate restTemplate;
+    private KeyPair firstKeyPair;
+    private KeyPair secondKeyPair;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        environment = new MockEnvironment()
+                .withProperty("token.jwks.uri", JWKS_URI)
+                .withProperty("token.jwks.minimum-refresh-interval", "0");
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        firstKeyPair = generator.generateKeyPair();
+        secondKeyPair = generator.generateKeyPair();
+    }
+
+    private String getJsonWebKeySet(String... keys) {
+        return "{\"keys\":[" + String.join(",", keys) + "]}";
+    }
+
+    private String getJsonWebKey(String keyId, KeyPair keyPair) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        return "{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\"," +
+                "\"kid\":\"" + keyId + "\"," +
+                "\"n\":\"" + encode(publicKey.getModulus()) + "\"," +
+                "\"e\":\"" + encode(publicKey.getPublicExponent()) + "\"}";
+    }
+
+    private String encode(BigInteger value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toByteArray());
+    }
+
+    @Test
+    void shouldFetchKeysOnceAndServeThemFromMemory() {
+        server.expect(once(), requestTo(JWKS_URI))
+                .andRespond(withSuccess(
+                        getJsonWebKeySet(getJsonWebKey("first", firstKeyPair)),
+                        MediaType.APPLICATION_JSON
+                ));
+        PublicKeyProvider publicKeyProvider = new PublicKeyProviderImpl(restTemplate, environment);
+
+        assertThat(publicKeyProvider.getPublicKey("first")).isEqualTo(firstKeyPair.getPublic());
+        assertThat(publicKeyProvider.getPublicKey("first")).isEqualTo(firstKeyPair.getPublic());
+        server.verify();
+    }
+
+    @Test
+    void shouldRefetchKeysWhenUnknownKeyIdAppears() {
+        server.expect(requestTo(JWKS_URI))
+                .andRespond(withSuccess(
+                        getJsonWebKeySet(getJsonWebKey("first", firstKeyPair)),
+                        MediaType.APPLICATION_JSON
+                ));
+        server.expect(requestTo(JWKS_URI))
+                .andRespond(withSuccess(
+                        getJsonWebKeySet(
+                                getJsonWebKey("first", firstKeyPair),
+                                getJsonWebKey("second", secondKeyPair)
+                        ),
+                        MediaType.APPLICATION_JSON
+                ));
+        PublicKeyProvider publicKeyProvider = new PublicKeyProviderImpl(restTemplate, environment);
+
+        assertThat(publicKeyProvider.getPublicKey("first")).isEqualTo(firstKeyPair.getPublic());
+        assertThat(publicKeyProvider.getPublicKey("second")).isEqualTo(secondKeyPair.getPublic());
+        server.verify();
+    }
+
+    @Test
+    void shouldKeepKnownKeysWhenRefreshFails() throws Exception {
+        environment.setProperty("token.jwks.refresh-interval", "0");
+        server.expect(requestTo(JWKS_URI))
+                .andRespond(withSuccess(
+                        getJsonWebKeySet(getJsonWebKey("first", firstKeyPair)),
+                        MediaType.APPLICATION_JSON
+                ));
+        server.expect(requestTo(JWKS_URI)).andRespond(withServerError());
+        PublicKeyProvider publicKeyProvider = new PublicKeyProviderImpl(restTemplate, environment);
+
+        assertThat(publicKeyProvider.getPublicKey("first")).isEqualTo(firstKeyPair.getPublic());
+        Thread.sleep(10);
+        assertThat(publicKeyProvider.getPublicKey("first")).isEqualTo(firstKeyPair.getPublic());
+        server.verify();
+    }
+}
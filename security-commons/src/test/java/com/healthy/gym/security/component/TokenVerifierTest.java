@@ -0,0 +1,155 @@
+package com.healthy.gym.security.component;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenVerifierTest {
+
+    private final String testSigningKey = "testSigningKey";
+    private PublicKeyProvider publicKeyProvider;
+    private TokenVerifier tokenVerifier;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        publicKeyProvider = mock(PublicKeyProvider.class);
+        tokenVerifier = getTokenVerifier(Instant.now().plusSeconds(3600).toString());
+        userId = UUID.randomUUID().toString();
+    }
+
+    private TokenVerifier getTokenVerifier(String legacyAcceptedUntil) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("token.secret", testSigningKey)
+                .withProperty("token.legacy.enabled", "true")
+                .withProperty("token.legacy.accepted-until", legacyAcceptedUntil);
+        return new TokenVerifierImpl(new TokenSigningKeyResolver(publicKeyProvider, environment), 100);
+    }
+
+    private String getToken(String signingKey, Instant expiration) {
+        return Jwts.builder()
+                .setSubject(userId)
+                .claim("roles", List.of("ROLE_USER", "ROLE_ADMIN"))
+                .setExpiration(Date.from(expiration))
+                .signWith(SignatureAlgorithm.HS256, signingKey)
+                .compact();
+    }
+
+    @Test
+    void shouldReturnAuthenticationWithUserIdAndRoles() {
+        String token = getToken(testSigningKey, Instant.now().plusSeconds(300));
+
+        UsernamePasswordAuthenticationToken authentication = tokenVerifier.getAuthentication(token);
+
+        assertThat(authentication.getPrincipal()).isEqualTo(userId);
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void shouldReuseInternedAuthorities() {
+        UsernamePasswordAuthenticationToken first =
+                tokenVerifier.getAuthentication(getToken(testSigningKey, Instant.now().plusSeconds(300)));
+        UsernamePasswordAuthenticationToken second =
+                tokenVerifier.getAuthentication(getToken(testSigningKey, Instant.now().plusSeconds(301)));
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getAuthorities().iterator().next())
+                .isSameAs(second.getAuthorities().iterator().next())
+                .isSameAs(GrantedAuthorities.of("ROLE_USER"));
+    }
+
+    @Test
+    void shouldReturnCachedAuthenticationWhenTokenIsVerifiedAgain() {
+        String token = getToken(testSigningKey, Instant.now().plusSeconds(300));
+
+        assertThat(tokenVerifier.getAuthentication(token)).isSameAs(tokenVerifier.getAuthentication(token));
+    }
+
+    @Test
+    void shouldVerifyTokenSignedWithPublishedKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        when(publicKeyProvider.getPublicKey("key-1")).thenReturn(keyPair.getPublic());
+
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "key-1")
+                .setSubject(userId)
+                .setExpiration(Date.from(Instant.now().plusSeconds(300)))
+                .signWith(SignatureAlgorithm.RS256, keyPair.getPrivate())
+                .compact();
+
+        assertThat(tokenVerifier.getAuthentication(token).getPrincipal()).isEqualTo(userId);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTokenIsSignedWithDifferentKey() {
+        String token = getToken("otherSigningKey", Instant.now().plusSeconds(300));
+
+        assertThatThrownBy(() -> tokenVerifier.getAuthentication(token))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTokenIsExpired() {
+        String token = getToken(testSigningKey, Instant.now().minusSeconds(1));
+
+        assertThatThrownBy(() -> tokenVerifier.getAuthentication(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithSharedKeyByDefault() {
+        TokenVerifier defaultTokenVerifier = new TokenVerifierImpl(
+                new TokenSigningKeyResolver(publicKeyProvider, new MockEnvironment()),
+                100
+        );
+        String token = getToken(testSigningKey, Instant.now().plusSeconds(300));
+
+        assertThatThrownBy(() -> defaultTokenVerifier.getAuthentication(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Shared signing key is disabled.");
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithSharedKeyAfterItIsNoLongerAccepted() {
+        TokenVerifier expiredTokenVerifier = getTokenVerifier(Instant.now().minusSeconds(1).toString());
+        String token = getToken(testSigningKey, Instant.now().plusSeconds(300));
+
+        assertThatThrownBy(() -> expiredTokenVerifier.getAuthentication(token))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Shared signing key is disabled.");
+    }
+
+    @Test
+    void shouldRequireExpiryWhenSharedKeyIsEnabled() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("token.secret", testSigningKey)
+                .withProperty("token.legacy.enabled", "true");
+
+        assertThatThrownBy(() -> new TokenSigningKeyResolver(publicKeyProvider, environment))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
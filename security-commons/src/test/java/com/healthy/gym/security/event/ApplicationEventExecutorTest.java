@@ -0,0 +1,77 @@
+package com.healthy.gym.security.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationEventExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationEventExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("events.executor.core-size", "1")
+                .withProperty("events.executor.max-size", "1")
+                .withProperty("events.executor.queue-capacity", "1");
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new ApplicationEventExecutor(environment);
+        executor.bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.destroy();
+    }
+
+    @Test
+    void shouldRunEventInCallerThreadWhenExecutorIsSaturated() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> await(release));
+
+        assertThat(meterRegistry.get("application.events.executor.queued").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("application.events.executor.active").gauge().value()).isEqualTo(1);
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        assertThat(thread.get()).isEqualTo(Thread.currentThread());
+        assertThat(meterRegistry.get("application.events.executor.caller.runs").counter().count()).isEqualTo(1);
+
+        release.countDown();
+    }
+
+    @Test
+    void shouldRecordEventLatency() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+
+        executor.execute(finished::countDown);
+
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.destroy();
+        assertThat(meterRegistry.get("application.events.executor.latency").timer().count()).isEqualTo(1);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.healthy.gym.task.security;
 
 
 import com.healthy.gym.task.component.TokenManager;
+import com.healthy.gym.security.component.TokenVerifier;
+import com.healthy.gym.security.filter.JwtAuthorizationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
@@ -16,10 +18,12 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
 
     private static final String ACTUATOR = "/actuator/**";
     private final TokenManager tokenManager;
+    private final TokenVerifier tokenVerifier;
 
     @Autowired
-    public WebSecurity(TokenManager tokenManager) {
+    public WebSecurity(TokenManager tokenManager, TokenVerifier tokenVerifier) {
         this.tokenManager = tokenManager;
+        this.tokenVerifier = tokenVerifier;
     }
 
     @Override
@@ -38,7 +42,12 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
         http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
     }
 
-    private AuthorizationFilter getAuthorizationFilter() throws Exception {
-        return new AuthorizationFilter(authenticationManager(), tokenManager);
+    private JwtAuthorizationFilter getAuthorizationFilter() throws Exception {
+        return new JwtAuthorizationFilter(
+                authenticationManager(),
+                tokenManager.getHttpHeaderName(),
+                tokenManager.getTokenPrefix(),
+                tokenVerifier
+        );
     }
 }
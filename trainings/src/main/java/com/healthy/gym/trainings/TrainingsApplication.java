@@ -1,13 +1,16 @@
 package com.healthy.gym.trainings;
 
+import com.healthy.gym.cache.event.ResponseCacheInvalidationEvent;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.context.annotation.Bean;
 
 import java.time.Clock;
 
 @SpringBootApplication
+@RemoteApplicationEventScan(basePackageClasses = ResponseCacheInvalidationEvent.class)
 @EnableDiscoveryClient
 public class TrainingsApplication {
 
@@ -5,83 +5,146 @@ import com.healthy.gym.trainings.data.document.IndividualTrainingDocument;
 import com.healthy.gym.trainings.data.repository.group.training.GroupTrainingsDAO;
 import com.healthy.gym.trainings.data.repository.individual.training.IndividualTrainingRepository;
 import com.healthy.gym.trainings.utils.CollisionValidator;
-import org.springframework.data.domain.Sort;
+import com.healthy.gym.trainings.utils.TrainingIntervalIndex;
+import org.bson.Document;
+import org.springframework.core.env.Environment;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
+import java.time.Clock;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.List;
 
 @Component
-public class CollisionValidatorComponentImpl implements CollisionValidatorComponent {
+public class CollisionValidatorComponentImpl extends AbstractMongoEventListener<Object>
+        implements CollisionValidatorComponent {
+
     private final GroupTrainingsDAO groupTrainingsDAO;
     private final IndividualTrainingRepository individualTrainingRepository;
+    private final Clock clock;
+    private final int retentionHours;
+    private final int pruneIntervalHours;
+    private volatile IndexSnapshot indexSnapshot;
 
     public CollisionValidatorComponentImpl(
             GroupTrainingsDAO groupTrainingsDAO,
-            IndividualTrainingRepository individualTrainingRepository
+            IndividualTrainingRepository individualTrainingRepository,
+            Clock clock,
+            Environment environment
     ) {
         this.groupTrainingsDAO = groupTrainingsDAO;
         this.individualTrainingRepository = individualTrainingRepository;
+        this.clock = clock;
+        this.retentionHours = environment.getProperty("collision.index.retention-hours", Integer.class, 24);
+        this.pruneIntervalHours = environment.getProperty("collision.index.prune-interval-hours", Integer.class, 1);
     }
 
     @Override
     public CollisionValidator getCollisionValidator(LocalDateTime startDateTime, LocalDateTime endDateTime) {
-        LocalDateTime startOfDay = getStartOfDate(startDateTime);
-        LocalDateTime endOfDay = getEndOfDate(endDateTime);
-
-        List<GroupTrainingDocument> groupTrainingList = groupTrainingsDAO
-                .findAllByStartDateIsAfterAndEndDateIsBefore(startOfDay, endOfDay, Sort.by("startDate"));
-
-        List<IndividualTrainingDocument> individualTrainingList = individualTrainingRepository
-                .findAllByStartDateTimeIsAfterAndEndDateTimeIsBeforeAndCancelledIsFalseAndRejectedIsFalse(
-                        startOfDay, endOfDay, Sort.by("startDateTime")
-                );
+        return getCollisionValidator(startDateTime, endDateTime, null);
+    }
 
+    @Override
+    public CollisionValidator getCollisionValidator(
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            String trainingId
+    ) {
         return new CollisionValidator(
-                groupTrainingList,
-                individualTrainingList,
+                getTrainingIntervalIndex(startDateTime, endDateTime),
                 startDateTime,
-                endDateTime
+                endDateTime,
+                trainingId
+        );
+    }
+
+    private TrainingIntervalIndex getTrainingIntervalIndex(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        LocalDateTime horizon = LocalDateTime.now(clock).minusHours(retentionHours);
+
+        // the index holds only trainings ending after the horizon, so older slots are checked against the database
+        if (startDateTime.isBefore(horizon)) {
+            return new TrainingIntervalIndex(
+                    groupTrainingsDAO.findAllByStartDateBeforeAndEndDateAfter(endDateTime, startDateTime),
+                    individualTrainingRepository
+                            .findAllByStartDateTimeBeforeAndEndDateTimeAfterAndCancelledFalseAndRejectedFalse(
+                                    endDateTime, startDateTime
+                            )
+            );
+        }
+
+        IndexSnapshot snapshot = indexSnapshot;
+        if (snapshot == null) return load(horizon);
+        if (horizon.isAfter(snapshot.prunedUntil.plusHours(pruneIntervalHours))) prune(horizon);
+        return snapshot.index;
+    }
+
+    private synchronized TrainingIntervalIndex load(LocalDateTime horizon) {
+        if (indexSnapshot == null) reload(horizon);
+        return indexSnapshot.index;
+    }
+
+    /**
+     * Builds a new index and swaps it in at once, so concurrent queries keep using the previous one meanwhile.
+     * Event handlers wait for the swap and then update the new index.
+     */
+    private synchronized void reload(LocalDateTime horizon) {
+        TrainingIntervalIndex index = new TrainingIntervalIndex(
+                groupTrainingsDAO.findAllByEndDateAfter(horizon),
+                individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(horizon)
         );
+        indexSnapshot = new IndexSnapshot(index, horizon);
     }
 
-    private LocalDateTime getStartOfDate(LocalDateTime startDateTime) {
-        LocalDate startDate = startDateTime.toLocalDate();
-        return LocalDateTime.of(startDate, LocalTime.MIN);
+    private synchronized void prune(LocalDateTime horizon) {
+        IndexSnapshot snapshot = indexSnapshot;
+        if (!horizon.isAfter(snapshot.prunedUntil)) return;
+
+        snapshot.index.removeEndedBy(horizon);
+        indexSnapshot = new IndexSnapshot(snapshot.index, horizon);
     }
 
-    private LocalDateTime getEndOfDate(LocalDateTime endDateTime) {
-        LocalDate endDate = endDateTime.toLocalDate();
-        return LocalDateTime.of(endDate, LocalTime.MAX);
+    @Override
+    public synchronized void onAfterSave(AfterSaveEvent<Object> event) {
+        IndexSnapshot snapshot = indexSnapshot;
+        if (snapshot == null) return;
+        TrainingIntervalIndex index = snapshot.index;
+
+        Object source = event.getSource();
+        if (source instanceof GroupTrainingDocument) {
+            index.put((GroupTrainingDocument) source);
+        } else if (source instanceof IndividualTrainingDocument) {
+            index.put((IndividualTrainingDocument) source);
+        }
     }
 
     @Override
-    public CollisionValidator getCollisionValidator(
-            LocalDateTime startDateTime,
-            LocalDateTime endDateTime,
-            String trainingId
-    ) {
-        LocalDateTime startOfDay = getStartOfDate(startDateTime);
-        LocalDateTime endOfDay = getEndOfDate(endDateTime);
+    public synchronized void onAfterDelete(AfterDeleteEvent<Object> event) {
+        IndexSnapshot snapshot = indexSnapshot;
+        if (snapshot == null) return;
+
+        Class<?> type = event.getType();
+        if (type != GroupTrainingDocument.class && type != IndividualTrainingDocument.class) return;
 
-        List<GroupTrainingDocument> groupTrainingList = groupTrainingsDAO
-                .findAllByStartDateIsAfterAndEndDateIsBeforeAndGroupTrainingIdIsNot(
-                        startOfDay,
-                        endOfDay,
-                        trainingId,
-                        Sort.by("startDate")
-                );
+        Document query = event.getSource();
+        Object id = query.get("_id");
+        if (id == null || id instanceof Document) {
+            reload(LocalDateTime.now(clock).minusHours(retentionHours));
+            return;
+        }
+        snapshot.index.remove(id.toString());
+    }
 
-        List<IndividualTrainingDocument> individualTrainingList = individualTrainingRepository
-                .findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(startOfDay, endOfDay, Sort.by("startDateTime"));
+    /**
+     * Publishes the index together with the horizon it was pruned to, so readers never see one without the other.
+     */
+    private static class IndexSnapshot {
+        private final TrainingIntervalIndex index;
+        private final LocalDateTime prunedUntil;
 
-        return new CollisionValidator(
-                groupTrainingList,
-                individualTrainingList,
-                startDateTime,
-                endDateTime
-        );
+        private IndexSnapshot(TrainingIntervalIndex index, LocalDateTime prunedUntil) {
+            this.index = index;
+            this.prunedUntil = prunedUntil;
+        }
     }
 }
@@ -0,0 +1,77 @@
+package com.healthy.gym.trainings.component;
+
+import com.healthy.gym.trainings.service.EmbeddedSummaryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class EmbeddedSummaryWorker implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedSummaryWorker.class);
+
+    private final EmbeddedSummaryService embeddedSummaryService;
+    private final boolean enabled;
+    private final long pollIntervalInMillis;
+    private ScheduledExecutorService executor;
+    private volatile boolean running;
+
+    @Autowired
+    public EmbeddedSummaryWorker(EmbeddedSummaryService embeddedSummaryService, Environment environment) {
+        this.embeddedSummaryService = embeddedSummaryService;
+        this.enabled = environment.getProperty("summaries.worker.enabled", Boolean.class, true);
+        this.pollIntervalInMillis = environment.getProperty(
+                "summaries.worker.poll-interval",
+                Long.class,
+                60_000L
+        );
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || isRunning()) return;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("embedded-summaries-");
+        threadFactory.setDaemon(true);
+
+        running = true;
+        executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        executor.scheduleWithFixedDelay(this::synchronize, 0, pollIntervalInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void synchronize() {
+        try {
+            embeddedSummaryService.migrateLegacyReferences();
+            embeddedSummaryService.synchronizeUserSummaries();
+        } catch (RuntimeException exception) {
+            logger.warn("Could not synchronize embedded summaries.", exception);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!isRunning()) return;
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) executor.shutdownNow();
+        } catch (InterruptedException exception) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
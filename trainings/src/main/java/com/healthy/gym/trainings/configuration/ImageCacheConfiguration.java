@@ -0,0 +1,16 @@
+package com.healthy.gym.trainings.configuration;
+
+import com.healthy.gym.trainings.pojo.ImageContent;
+import com.healthy.gym.image.component.ImageCacheImpl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class ImageCacheConfiguration {
+
+    @Bean
+    public ImageCacheImpl<ImageContent> getImageCache(Environment environment) {
+        return new ImageCacheImpl<>(environment);
+    }
+}
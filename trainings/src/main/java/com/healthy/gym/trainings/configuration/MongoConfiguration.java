@@ -27,6 +27,11 @@ public class MongoConfiguration extends AbstractMongoClientConfiguration {
         return environment.getRequiredProperty("spring.data.mongodb.database");
     }
 
+    @Override
+    protected boolean autoIndexCreation() {
+        return environment.getProperty("spring.data.mongodb.auto-index-creation", Boolean.class, false);
+    }
+
     @Bean
     public MongoClient mongoClient() {
         String uri = environment.getRequiredProperty("spring.data.mongodb.uri");
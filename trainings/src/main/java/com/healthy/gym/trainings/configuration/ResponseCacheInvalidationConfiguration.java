@@ -0,0 +1,30 @@
+package com.healthy.gym.trainings.configuration;
+
+import com.healthy.gym.cache.filter.ResponseCacheInvalidationFilter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class ResponseCacheInvalidationConfiguration {
+
+    @Bean
+    public ResponseCacheInvalidationFilter getResponseCacheInvalidationFilter(
+            ApplicationEventPublisher applicationEventPublisher,
+            Environment environment
+    ) {
+        return new ResponseCacheInvalidationFilter(
+                applicationEventPublisher,
+                environment,
+                Map.of(
+                        "/group/**", List.of("trainings-timetable"),
+                        "/trainingType/**", List.of("trainings-training-types", "trainings-timetable"),
+                        "/review/**", List.of("trainings-reviews")
+                )
+        );
+    }
+}
@@ -2,10 +2,13 @@ package com.healthy.gym.trainings.controller.group.training;
 
 import com.healthy.gym.trainings.component.Translator;
 import com.healthy.gym.trainings.dto.GroupTrainingDTO;
+import com.healthy.gym.trainings.dto.GroupTrainingScheduleDTO;
 import com.healthy.gym.trainings.exception.PastDateException;
 import com.healthy.gym.trainings.exception.ResponseBindException;
 import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
 import com.healthy.gym.trainings.exception.StartEndDateNotSameDayException;
+import com.healthy.gym.trainings.exception.invalid.EmptyScheduleException;
+import com.healthy.gym.trainings.exception.invalid.ScheduleTooLongException;
 import com.healthy.gym.trainings.exception.notexisting.NotExistingGroupTrainingException;
 import com.healthy.gym.trainings.exception.notfound.LocationNotFoundException;
 import com.healthy.gym.trainings.exception.notfound.TrainerNotFoundException;
@@ -13,7 +16,9 @@ import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundExceptio
 import com.healthy.gym.trainings.exception.occupied.LocationOccupiedException;
 import com.healthy.gym.trainings.exception.occupied.TrainerOccupiedException;
 import com.healthy.gym.trainings.model.request.ManagerGroupTrainingRequest;
+import com.healthy.gym.trainings.model.request.ManagerGroupTrainingScheduleRequest;
 import com.healthy.gym.trainings.model.response.GroupTrainingResponse;
+import com.healthy.gym.trainings.model.response.GroupTrainingScheduleResponse;
 import com.healthy.gym.trainings.service.group.training.ManagerGroupTrainingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -103,6 +108,65 @@ public class ManagerGroupTrainingController {
         }
     }
 
+    @PostMapping(value = "/schedule", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<GroupTrainingScheduleResponse> createGroupTrainingSchedule(
+            @Valid @RequestBody final ManagerGroupTrainingScheduleRequest scheduleRequest,
+            final BindingResult bindingResult
+    ) throws ResponseBindException {
+        try {
+            if (bindingResult.hasErrors()) throw new BindException(bindingResult);
+
+            GroupTrainingScheduleDTO schedule = managerGroupTrainingService
+                    .createGroupTrainingSchedule(scheduleRequest);
+
+            boolean isCreated = !schedule.getTrainings().isEmpty() || schedule.getConflicts().isEmpty();
+            String message = isCreated
+                    ? translator.toLocale("request.create.training.schedule.success")
+                    : translator.toLocale("request.create.training.schedule.conflict");
+
+            return ResponseEntity
+                    .status(isCreated ? HttpStatus.CREATED : HttpStatus.CONFLICT)
+                    .body(new GroupTrainingScheduleResponse(
+                            message,
+                            schedule.getTrainings(),
+                            schedule.getConflicts()
+                    ));
+
+        } catch (BindException exception) {
+            String reason = translator.toLocale("request.bind.exception");
+            throw new ResponseBindException(HttpStatus.BAD_REQUEST, reason, exception);
+
+        } catch (EmptyScheduleException exception) {
+            String reason = translator.toLocale("exception.schedule.empty");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, reason, exception);
+
+        } catch (LocationNotFoundException exception) {
+            String reason = translator.toLocale("exception.location.not.found");
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, reason, exception);
+
+        } catch (ScheduleTooLongException exception) {
+            String reason = translator.toLocale("exception.schedule.too.long");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, reason, exception);
+
+        } catch (StartDateAfterEndDateException exception) {
+            String reason = translator.toLocale("exception.start.date.after.end.date");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, reason, exception);
+
+        } catch (TrainerNotFoundException exception) {
+            String reason = translator.toLocale("exception.create.group.training.trainer.not.found");
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, reason, exception);
+
+        } catch (TrainingTypeNotFoundException exception) {
+            String reason = translator.toLocale("exception.create.group.training.trainingType.not.found");
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, reason, exception);
+
+        } catch (Exception exception) {
+            String reason = translator.toLocale(INTERNAL_ERROR_EXCEPTION);
+            exception.printStackTrace();
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, reason, exception);
+        }
+    }
+
     @PutMapping(value = "/{trainingId}", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<GroupTrainingResponse> updateGroupTraining(
             @PathVariable("trainingId") final String trainingId,
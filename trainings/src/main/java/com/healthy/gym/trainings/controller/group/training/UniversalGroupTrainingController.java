@@ -2,15 +2,18 @@ package com.healthy.gym.trainings.controller.group.training;
 
 import com.healthy.gym.trainings.component.Translator;
 import com.healthy.gym.trainings.dto.GroupTrainingDTO;
-import com.healthy.gym.trainings.dto.GroupTrainingWithoutParticipantsDTO;
 import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
 import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundException;
+import com.healthy.gym.trainings.pojo.GroupTrainingTimetable;
+import com.healthy.gym.trainings.service.group.training.GroupTrainingTimetableService;
 import com.healthy.gym.trainings.service.group.training.UniversalGroupTrainingService;
 import com.healthy.gym.trainings.validation.ValidDateFormat;
 import com.healthy.gym.trainings.validation.ValidIDFormat;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -28,23 +31,26 @@ public class UniversalGroupTrainingController {
 
     private final Translator translator;
     private final UniversalGroupTrainingService groupTrainingsService;
+    private final GroupTrainingTimetableService groupTrainingTimetableService;
 
     @Autowired
     public UniversalGroupTrainingController(
             Translator translator,
-            UniversalGroupTrainingService groupTrainingsService
+            UniversalGroupTrainingService groupTrainingsService,
+            GroupTrainingTimetableService groupTrainingTimetableService
     ) {
         this.translator = translator;
         this.groupTrainingsService = groupTrainingsService;
+        this.groupTrainingTimetableService = groupTrainingTimetableService;
     }
 
     @GetMapping("/public")
-    public List<GroupTrainingWithoutParticipantsDTO> getGroupTrainingsWithoutParticipants(
+    public ResponseEntity<String> getGroupTrainingsWithoutParticipants(
             @RequestParam @ValidDateFormat final String startDate,
             @RequestParam @ValidDateFormat final String endDate
     ) {
         try {
-            return groupTrainingsService.getGroupTrainingsWithoutParticipants(startDate, endDate);
+            return getTimetableResponse(groupTrainingTimetableService.getTimetable(startDate, endDate));
 
         } catch (StartDateAfterEndDateException e) {
             String reason = translator.toLocale(EXCEPTION_START_DATE_AFTER_END_DATE);
@@ -57,6 +63,16 @@ public class UniversalGroupTrainingController {
         }
     }
 
+    private ResponseEntity<String> getTimetableResponse(GroupTrainingTimetable timetable) {
+        // clients revalidate the timetable on every visit, unchanged weeks are answered with 304 Not Modified
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(timetable.getContentHash())
+                .body(timetable.getJson());
+    }
+
     @PreAuthorize("hasRole('USER')")
     @GetMapping
     public List<GroupTrainingDTO> getGroupTrainingsWithParticipants(
@@ -78,14 +94,15 @@ public class UniversalGroupTrainingController {
     }
 
     @GetMapping("/public/type/{trainingTypeId}")
-    public List<GroupTrainingWithoutParticipantsDTO> getGroupTrainingsByTypeWithoutParticipants(
+    public ResponseEntity<String> getGroupTrainingsByTypeWithoutParticipants(
             @PathVariable @ValidIDFormat final String trainingTypeId,
             @RequestParam @ValidDateFormat final String startDate,
             @RequestParam @ValidDateFormat final String endDate
     ) {
         try {
-            return groupTrainingsService
-                    .getGroupTrainingsByTypeWithoutParticipants(trainingTypeId, startDate, endDate);
+            return getTimetableResponse(
+                    groupTrainingTimetableService.getTimetableByType(trainingTypeId, startDate, endDate)
+            );
 
         } catch (TrainingTypeNotFoundException e) {
             String reason = translator.toLocale("exception.not.found.training.type");
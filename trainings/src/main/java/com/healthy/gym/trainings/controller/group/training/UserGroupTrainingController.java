@@ -7,6 +7,7 @@ import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
 import com.healthy.gym.trainings.exception.UserAlreadyEnrolledToTrainingException;
 import com.healthy.gym.trainings.exception.notexisting.NotExistingGroupTrainingException;
 import com.healthy.gym.trainings.exception.notfound.UserNotFoundException;
+import com.healthy.gym.trainings.exception.training.TrainingEnrollmentConflictException;
 import com.healthy.gym.trainings.exception.training.TrainingEnrollmentException;
 import com.healthy.gym.trainings.model.response.GroupTrainingResponse;
 import com.healthy.gym.trainings.service.group.training.UserGroupTrainingService;
@@ -104,6 +105,10 @@ public class UserGroupTrainingController {
             String reason = translator.toLocale("exception.user.already.enrolled.to.training");
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, reason, exception);
 
+        } catch (TrainingEnrollmentConflictException exception) {
+            String reason = translator.toLocale("exception.group.training.enrollment.conflict");
+            throw new ResponseStatusException(HttpStatus.CONFLICT, reason, exception);
+
         } catch (Exception exception) {
             String reason = translator.toLocale(EXCEPTION_INTERNAL_ERROR);
             exception.printStackTrace();
@@ -149,6 +154,10 @@ public class UserGroupTrainingController {
             String reason = translator.toLocale("exception.group.training.enrollment.remove");
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, reason, exception);
 
+        } catch (TrainingEnrollmentConflictException exception) {
+            String reason = translator.toLocale("exception.group.training.enrollment.conflict");
+            throw new ResponseStatusException(HttpStatus.CONFLICT, reason, exception);
+
         } catch (Exception exception) {
             String reason = translator.toLocale(EXCEPTION_INTERNAL_ERROR);
             exception.printStackTrace();
@@ -1,7 +1,8 @@
 package com.healthy.gym.trainings.data.document;
 
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -9,23 +10,24 @@ import java.util.List;
 import java.util.Objects;
 
 @Document(collection = "groupTrainings")
+@CompoundIndexes({
+        @CompoundIndex(name = "training_trainingTypeId", def = "{'training.trainingTypeId': 1}"),
+        @CompoundIndex(name = "trainers_userId", def = "{'trainers.userId': 1}"),
+        @CompoundIndex(name = "basicList_userId", def = "{'basicList.userId': 1}"),
+        @CompoundIndex(name = "reserveList_userId", def = "{'reserveList.userId': 1}")
+})
 public class GroupTrainingDocument {
 
     @Id
     private String id;
     private String groupTrainingId;
-    @DBRef
     private TrainingTypeDocument training;
-    @DBRef
     private List<UserDocument> trainers;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
-    @DBRef
     private LocationDocument location;
     private int limit;
-    @DBRef
     private List<UserDocument> basicList;
-    @DBRef
     private List<UserDocument> reserveList;
 
     public GroupTrainingDocument() {
@@ -0,0 +1,76 @@
+package com.healthy.gym.trainings.data.document;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Public timetable of one week, identified by the ISO date of its monday.
+ */
+@Document(collection = "groupTrainingTimetables")
+public class GroupTrainingTimetableDocument {
+
+    @Id
+    private String id;
+    private long revision;
+    private List<GroupTrainingTimetableEntry> entries;
+
+    public GroupTrainingTimetableDocument() {
+        //empty constructor required by spring data mapper
+    }
+
+    public GroupTrainingTimetableDocument(String id, List<GroupTrainingTimetableEntry> entries) {
+        this.id = id;
+        this.entries = entries;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public List<GroupTrainingTimetableEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<GroupTrainingTimetableEntry> entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GroupTrainingTimetableDocument that = (GroupTrainingTimetableDocument) o;
+        return revision == that.revision
+                && Objects.equals(id, that.id)
+                && Objects.equals(entries, that.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, revision, entries);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupTrainingTimetableDocument{" +
+                "id='" + id + '\'' +
+                ", revision=" + revision +
+                ", entries=" + entries +
+                '}';
+    }
+}
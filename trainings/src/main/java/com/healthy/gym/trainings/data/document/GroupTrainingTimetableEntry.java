@@ -0,0 +1,99 @@
+package com.healthy.gym.trainings.data.document;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class GroupTrainingTimetableEntry {
+
+    private String groupTrainingId;
+    private String trainingTypeId;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private String json;
+
+    public GroupTrainingTimetableEntry() {
+        //empty constructor required by spring data mapper
+    }
+
+    public GroupTrainingTimetableEntry(
+            String groupTrainingId,
+            String trainingTypeId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String json
+    ) {
+        this.groupTrainingId = groupTrainingId;
+        this.trainingTypeId = trainingTypeId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.json = json;
+    }
+
+    public String getGroupTrainingId() {
+        return groupTrainingId;
+    }
+
+    public void setGroupTrainingId(String groupTrainingId) {
+        this.groupTrainingId = groupTrainingId;
+    }
+
+    public String getTrainingTypeId() {
+        return trainingTypeId;
+    }
+
+    public void setTrainingTypeId(String trainingTypeId) {
+        this.trainingTypeId = trainingTypeId;
+    }
+
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDateTime startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDateTime endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getJson() {
+        return json;
+    }
+
+    public void setJson(String json) {
+        this.json = json;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GroupTrainingTimetableEntry that = (GroupTrainingTimetableEntry) o;
+        return Objects.equals(groupTrainingId, that.groupTrainingId)
+                && Objects.equals(trainingTypeId, that.trainingTypeId)
+                && Objects.equals(startDate, that.startDate)
+                && Objects.equals(endDate, that.endDate)
+                && Objects.equals(json, that.json);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(groupTrainingId, trainingTypeId, startDate, endDate, json);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupTrainingTimetableEntry{" +
+                "groupTrainingId='" + groupTrainingId + '\'' +
+                ", trainingTypeId='" + trainingTypeId + '\'' +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", json='" + json + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,98 @@
+package com.healthy.gym.trainings.data.document;
+
+import org.bson.types.Binary;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Objects;
+
+@Document(collection = "imageVariants")
+public class ImageVariantDocument {
+
+    @Id
+    private String id;
+    private String imageId;
+    private String variant;
+    private Binary imageData;
+    private String contentType;
+
+    public ImageVariantDocument() {
+        //empty constructor required by spring data mapper
+    }
+
+    public ImageVariantDocument(String imageId, String variant, Binary imageData, String contentType) {
+        this.id = imageId + ":" + variant;
+        this.imageId = imageId;
+        this.variant = variant;
+        this.imageData = imageData;
+        this.contentType = contentType;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getImageId() {
+        return imageId;
+    }
+
+    public void setImageId(String imageId) {
+        this.imageId = imageId;
+    }
+
+    public String getVariant() {
+        return variant;
+    }
+
+    public void setVariant(String variant) {
+        this.variant = variant;
+    }
+
+    public Binary getImageData() {
+        return imageData;
+    }
+
+    public void setImageData(Binary imageData) {
+        this.imageData = imageData;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImageVariantDocument that = (ImageVariantDocument) o;
+        return Objects.equals(id, that.id)
+                && Objects.equals(imageId, that.imageId)
+                && Objects.equals(variant, that.variant)
+                && Objects.equals(imageData, that.imageData)
+                && Objects.equals(contentType, that.contentType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, imageId, variant, imageData, contentType);
+    }
+
+    @Override
+    public String toString() {
+        return "ImageVariantDocument{" +
+                "id='" + id + '\'' +
+                ", imageId='" + imageId + '\'' +
+                ", variant='" + variant + '\'' +
+                ", imageData=" + imageData +
+                ", contentType=" + contentType +
+                '}';
+    }
+}
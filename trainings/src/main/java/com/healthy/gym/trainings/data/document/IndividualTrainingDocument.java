@@ -1,7 +1,8 @@
 package com.healthy.gym.trainings.data.document;
 
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -9,20 +10,20 @@ import java.util.List;
 import java.util.Objects;
 
 @Document(collection = "individualTrainings")
+@CompoundIndexes({
+        @CompoundIndex(name = "trainers_userId", def = "{'trainers.userId': 1}"),
+        @CompoundIndex(name = "basicList_userId", def = "{'basicList.userId': 1}")
+})
 public class IndividualTrainingDocument {
 
     @Id
     private String id;
     private String individualTrainingId;
-    @DBRef
     private TrainingTypeDocument training;
-    @DBRef
     private List<UserDocument> basicList;
-    @DBRef
     private List<UserDocument> trainers;
     private LocalDateTime startDateTime;
     private LocalDateTime endDateTime;
-    @DBRef
     private LocationDocument location;
     private String remarks;
     private boolean accepted;
@@ -0,0 +1,21 @@
+package com.healthy.gym.trainings.data.repository;
+
+import com.healthy.gym.trainings.data.document.LocationDocument;
+import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
+import com.healthy.gym.trainings.data.document.UserDocument;
+
+public interface EmbeddedSummaryDAO {
+
+    long migrateLegacyReferences(int batchSize);
+
+    boolean existLegacyReferences();
+
+    /**
+     * @return number of trainings whose embedded summaries have been changed
+     */
+    long updateUserSummaries(UserDocument user);
+
+    long updateTrainingTypeSummaries(TrainingTypeDocument trainingType);
+
+    long updateLocationSummaries(LocationDocument location);
+}
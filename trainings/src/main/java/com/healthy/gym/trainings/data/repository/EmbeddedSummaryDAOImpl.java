@@ -0,0 +1,242 @@
+package com.healthy.gym.trainings.data.repository;
+
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.IndividualTrainingDocument;
+import com.healthy.gym.trainings.data.document.LocationDocument;
+import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
+import com.healthy.gym.trainings.data.document.UserDocument;
+import com.healthy.gym.trainings.utils.EmbeddedSummaryMapper;
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.healthy.gym.trainings.utils.EmbeddedSummaryMapper.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Repository
+public class EmbeddedSummaryDAOImpl implements EmbeddedSummaryDAO {
+
+    private static final String ID = "_id";
+    private static final Map<Class<?>, List<String>> USER_LISTS_BY_TRAINING = Map.of(
+            GroupTrainingDocument.class, List.of("trainers", "basicList", "reserveList"),
+            IndividualTrainingDocument.class, List.of("trainers", "basicList")
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public EmbeddedSummaryDAOImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    private static Document getLegacyReferencesFilter() {
+        List<Document> conditions = Stream.concat(Stream.of(TRAINING, LOCATION), USER_LISTS.stream())
+                .map(field -> new Document(field + ".$id", new Document("$exists", true)))
+                .collect(Collectors.toList());
+        return new Document("$or", conditions);
+    }
+
+    private static DBRef getReference(Object value) {
+        if (value instanceof DBRef) return (DBRef) value;
+        if (value instanceof Document) {
+            Document document = (Document) value;
+            if (document.containsKey("$ref") && document.containsKey("$id"))
+                return new DBRef(document.getString("$ref"), document.get("$id"));
+        }
+        return null;
+    }
+
+    private static Stream<DBRef> getReferences(Document training) {
+        Stream<Object> values = Stream.of(training.get(TRAINING), training.get(LOCATION));
+        Stream<Object> users = USER_LISTS.stream()
+                .map(training::get)
+                .filter(List.class::isInstance)
+                .flatMap(userList -> ((List<?>) userList).stream());
+
+        return Stream.concat(values, users)
+                .map(EmbeddedSummaryDAOImpl::getReference)
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public long migrateLegacyReferences(int batchSize) {
+        return USER_LISTS_BY_TRAINING.keySet()
+                .stream()
+                .mapToLong(trainingClass -> migrateLegacyReferences(getCollection(trainingClass), batchSize))
+                .sum();
+    }
+
+    private MongoCollection<Document> getCollection(Class<?> documentClass) {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(documentClass));
+    }
+
+    private long migrateLegacyReferences(MongoCollection<Document> collection, int batchSize) {
+        List<Document> trainings = collection
+                .find(getLegacyReferencesFilter())
+                .limit(batchSize)
+                .into(new ArrayList<>());
+        if (trainings.isEmpty()) return 0;
+
+        Map<String, Map<Object, Document>> referencedDocuments = findReferencedDocuments(trainings);
+
+        long migrated = 0;
+        for (Document training : trainings) {
+            Document expectedFields = new Document(ID, training.get(ID));
+            Document migratedFields = new Document();
+
+            migrateReference(training, TRAINING, EmbeddedSummaryMapper::mapToTrainingTypeSummary,
+                    referencedDocuments, expectedFields, migratedFields);
+            migrateReference(training, LOCATION, EmbeddedSummaryMapper::mapToLocationSummary,
+                    referencedDocuments, expectedFields, migratedFields);
+            for (String userList : USER_LISTS) {
+                migrateReferenceList(training, userList, referencedDocuments, expectedFields, migratedFields);
+            }
+
+            // a training changed since it has been read does not match and is picked up again by the next batch
+            migrated += collection
+                    .updateOne(expectedFields, new Document("$set", migratedFields))
+                    .getModifiedCount();
+        }
+        return migrated;
+    }
+
+    private Map<String, Map<Object, Document>> findReferencedDocuments(List<Document> trainings) {
+        Map<String, Set<Object>> idsByCollection = new HashMap<>();
+        trainings.stream()
+                .flatMap(EmbeddedSummaryDAOImpl::getReferences)
+                .forEach(reference -> idsByCollection
+                        .computeIfAbsent(reference.getCollectionName(), collectionName -> new HashSet<>())
+                        .add(reference.getId())
+                );
+
+        Map<String, Map<Object, Document>> referencedDocuments = new HashMap<>();
+        idsByCollection.forEach((collectionName, ids) -> {
+            Map<Object, Document> documentsById = new HashMap<>();
+            mongoTemplate.getCollection(collectionName)
+                    .find(new Document(ID, new Document("$in", ids)))
+                    .forEach(document -> documentsById.put(document.get(ID), document));
+            referencedDocuments.put(collectionName, documentsById);
+        });
+        return referencedDocuments;
+    }
+
+    private void migrateReference(
+            Document training,
+            String field,
+            UnaryOperator<Document> summaryMapper,
+            Map<String, Map<Object, Document>> referencedDocuments,
+            Document expectedFields,
+            Document migratedFields
+    ) {
+        Object value = training.get(field);
+        DBRef reference = getReference(value);
+        if (reference == null) return;
+
+        expectedFields.append(field, value);
+        migratedFields.append(field, resolve(reference, summaryMapper, referencedDocuments));
+    }
+
+    private void migrateReferenceList(
+            Document training,
+            String field,
+            Map<String, Map<Object, Document>> referencedDocuments,
+            Document expectedFields,
+            Document migratedFields
+    ) {
+        Object value = training.get(field);
+        if (!(value instanceof List)) return;
+
+        List<?> users = (List<?>) value;
+        if (users.stream().map(EmbeddedSummaryDAOImpl::getReference).allMatch(Objects::isNull)) return;
+
+        List<Object> summaries = users.stream()
+                .map(user -> {
+                    DBRef reference = getReference(user);
+                    if (reference == null) return user;
+                    return resolve(reference, EmbeddedSummaryMapper::mapToUserSummary, referencedDocuments);
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        expectedFields.append(field, value);
+        migratedFields.append(field, summaries);
+    }
+
+    private Document resolve(
+            DBRef reference,
+            UnaryOperator<Document> summaryMapper,
+            Map<String, Map<Object, Document>> referencedDocuments
+    ) {
+        Document document = referencedDocuments
+                .getOrDefault(reference.getCollectionName(), Map.of())
+                .get(reference.getId());
+        return document == null ? null : summaryMapper.apply(document);
+    }
+
+    @Override
+    public boolean existLegacyReferences() {
+        return USER_LISTS_BY_TRAINING.keySet()
+                .stream()
+                .map(trainingClass -> getCollection(trainingClass).find(getLegacyReferencesFilter()).first())
+                .anyMatch(Objects::nonNull);
+    }
+
+    @Override
+    public long updateUserSummaries(UserDocument user) {
+        String userId = user.getUserId();
+        long updated = 0;
+        for (Map.Entry<Class<?>, List<String>> userListsByTraining : USER_LISTS_BY_TRAINING.entrySet()) {
+            String collectionName = mongoTemplate.getCollectionName(userListsByTraining.getKey());
+            for (String userList : userListsByTraining.getValue()) {
+                Query query = new Query(where(userList).elemMatch(
+                        where("userId").is(userId).orOperator(
+                                where("name").ne(user.getName()),
+                                where("surname").ne(user.getSurname()),
+                                where("avatarUrl").ne(user.getAvatarUrl())
+                        )
+                ));
+                Update update = new Update()
+                        .set(userList + ".$[user].name", user.getName())
+                        .set(userList + ".$[user].surname", user.getSurname())
+                        .set(userList + ".$[user].avatarUrl", user.getAvatarUrl())
+                        .filterArray(where("user.userId").is(userId));
+
+                updated += mongoTemplate.updateMulti(query, update, collectionName).getModifiedCount();
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public long updateTrainingTypeSummaries(TrainingTypeDocument trainingType) {
+        return updateName(TRAINING, "trainingTypeId", trainingType.getTrainingTypeId(), trainingType.getName());
+    }
+
+    @Override
+    public long updateLocationSummaries(LocationDocument location) {
+        return updateName(LOCATION, "locationId", location.getLocationId(), location.getName());
+    }
+
+    private long updateName(String field, String idField, String id, String name) {
+        Query query = new Query(where(field + "." + idField).is(id).and(field + ".name").ne(name));
+        Update update = new Update().set(field + ".name", name);
+
+        return USER_LISTS_BY_TRAINING.keySet()
+                .stream()
+                .mapToLong(trainingClass -> mongoTemplate
+                        .updateMulti(query, update, mongoTemplate.getCollectionName(trainingClass))
+                        .getModifiedCount()
+                )
+                .sum();
+    }
+}
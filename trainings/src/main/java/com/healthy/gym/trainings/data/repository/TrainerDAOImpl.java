@@ -32,9 +32,9 @@ public class TrainerDAOImpl implements TrainerDAO {
                 .where("startDate").gte(startDateTime)
                 .and("endDate").lte(endDateTime)
                 .orOperator(
-                        Criteria.where("basicList").in(user),
-                        Criteria.where("reserveList").in(user),
-                        Criteria.where("trainers").in(user)
+                        Criteria.where("basicList.userId").is(user.getUserId()),
+                        Criteria.where("reserveList.userId").is(user.getUserId()),
+                        Criteria.where("trainers.userId").is(user.getUserId())
                 );
 
 
@@ -53,8 +53,8 @@ public class TrainerDAOImpl implements TrainerDAO {
                 .and("rejected").is(false)
                 .and("cancelled").is(false)
                 .orOperator(
-                        Criteria.where("basicList").in(user),
-                        Criteria.where("trainers").in(user)
+                        Criteria.where("basicList.userId").is(user.getUserId()),
+                        Criteria.where("trainers.userId").is(user.getUserId())
                 );
 
         return mongoTemplate.find(new Query(criteria), IndividualTrainingDocument.class);
@@ -3,8 +3,18 @@ package com.healthy.gym.trainings.data.repository;
 import com.healthy.gym.trainings.data.document.UserDocument;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 public interface UserDAO extends MongoRepository<UserDocument, String> {
     UserDocument findByEmail(String email);
 
     UserDocument findByUserId(String userId);
+
+    List<UserDocument> findAllByUserIdIn(Collection<String> userIds);
+
+    List<UserDocument> findAllByLastModifiedAtNotNull();
+
+    List<UserDocument> findAllByLastModifiedAtAfter(LocalDateTime lastModifiedAt);
 }
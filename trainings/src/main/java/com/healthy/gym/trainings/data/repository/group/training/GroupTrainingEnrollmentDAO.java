@@ -0,0 +1,17 @@
+package com.healthy.gym.trainings.data.repository.group.training;
+
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.UserDocument;
+
+import java.time.LocalDateTime;
+
+public interface GroupTrainingEnrollmentDAO {
+
+    GroupTrainingDocument addToBasicList(String groupTrainingId, UserDocument user, LocalDateTime notStartedAt);
+
+    GroupTrainingDocument addToReserveList(String groupTrainingId, UserDocument user, LocalDateTime notStartedAt);
+
+    GroupTrainingDocument removeFromBasicList(String groupTrainingId, UserDocument user, LocalDateTime notStartedAt);
+
+    GroupTrainingDocument removeFromReserveList(String groupTrainingId, UserDocument user, LocalDateTime notStartedAt);
+}
@@ -0,0 +1,166 @@
+package com.healthy.gym.trainings.data.repository.group.training;
+
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.UserDocument;
+import com.healthy.gym.trainings.utils.EmbeddedSummaryMapper;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Repository
+public class GroupTrainingEnrollmentDAOImpl implements GroupTrainingEnrollmentDAO {
+
+    private static final String BASIC_LIST = "basicList";
+    private static final String RESERVE_LIST = "reserveList";
+    private static final String USER_ID = "userId";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public GroupTrainingEnrollmentDAOImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    private static Document getSizeOfBasicList() {
+        return new Document("$size", getListOrEmpty(BASIC_LIST));
+    }
+
+    private static Document getListOrEmpty(String field) {
+        return new Document("$ifNull", List.of("$" + field, List.of()));
+    }
+
+    private static AggregationOperation getPromotionStage() {
+        Document basicList = getListOrEmpty(BASIC_LIST);
+        Document reserveList = getListOrEmpty(RESERVE_LIST);
+        Document sizeOfReserveList = new Document("$size", reserveList);
+        Document isPromotionPossible = new Document("$and", List.of(
+                new Document("$lt", List.of(new Document("$size", basicList), "$limit")),
+                new Document("$gt", List.of(sizeOfReserveList, 0))
+        ));
+
+        // both expressions see the document before this stage, so the head of the reserve
+        // list is moved to the end of the basic list
+        Document firstFromReserveList = new Document("$slice", List.of(reserveList, 1));
+        Document restOfReserveList = new Document(
+                "$slice",
+                List.of(reserveList, 1, new Document("$max", List.of(sizeOfReserveList, 1)))
+        );
+        Document promotion = new Document(
+                "$set",
+                new Document(BASIC_LIST, new Document("$cond", List.of(
+                        isPromotionPossible,
+                        new Document("$concatArrays", List.of(basicList, firstFromReserveList)),
+                        basicList
+                ))).append(RESERVE_LIST, new Document("$cond", List.of(
+                        isPromotionPossible,
+                        restOfReserveList,
+                        reserveList
+                )))
+        );
+        return context -> promotion;
+    }
+
+    private static Query getQueryWithFreeSeatCondition(Criteria criteria, boolean freeSeat) {
+        Document condition = new Document(freeSeat ? "$lt" : "$gte", List.of(getSizeOfBasicList(), "$limit"));
+        return new BasicQuery(criteria.getCriteriaObject().append("$expr", condition));
+    }
+
+    private static Criteria getNotStartedTrainingCriteria(String groupTrainingId, LocalDateTime notStartedAt) {
+        return where("groupTrainingId").is(groupTrainingId)
+                .and("startDate").gte(notStartedAt);
+    }
+
+    private static Document getUserFilter(UserDocument user) {
+        return new Document(USER_ID, user.getUserId());
+    }
+
+    @Override
+    public GroupTrainingDocument addToBasicList(
+            String groupTrainingId,
+            UserDocument user,
+            LocalDateTime notStartedAt
+    ) {
+        Criteria criteria = getNotStartedTrainingCriteria(groupTrainingId, notStartedAt)
+                .and(BASIC_LIST + "." + USER_ID).ne(user.getUserId())
+                .and(RESERVE_LIST + "." + USER_ID).ne(user.getUserId());
+
+        Query query = getQueryWithFreeSeatCondition(criteria, true);
+        return findAndModify(query, new Update().push(BASIC_LIST, getUserSummary(user)));
+    }
+
+    @Override
+    public GroupTrainingDocument addToReserveList(
+            String groupTrainingId,
+            UserDocument user,
+            LocalDateTime notStartedAt
+    ) {
+        Criteria criteria = getNotStartedTrainingCriteria(groupTrainingId, notStartedAt)
+                .and(BASIC_LIST + "." + USER_ID).ne(user.getUserId())
+                .and(RESERVE_LIST + "." + USER_ID).ne(user.getUserId());
+
+        Query query = getQueryWithFreeSeatCondition(criteria, false);
+        return findAndModify(query, new Update().push(RESERVE_LIST, getUserSummary(user)));
+    }
+
+    @Override
+    public GroupTrainingDocument removeFromBasicList(
+            String groupTrainingId,
+            UserDocument user,
+            LocalDateTime notStartedAt
+    ) {
+        Criteria criteria = getNotStartedTrainingCriteria(groupTrainingId, notStartedAt)
+                .and(BASIC_LIST + "." + USER_ID).is(user.getUserId());
+
+        Document basicListWithoutUser = new Document("$filter", new Document("input", getListOrEmpty(BASIC_LIST))
+                .append("cond", new Document("$ne", List.of("$$this." + USER_ID, user.getUserId()))));
+        AggregationOperation removalStage = context -> new Document(
+                "$set",
+                new Document(BASIC_LIST, basicListWithoutUser)
+        );
+
+        // the freed seat is handed to the head of the reserve list in the same write,
+        // so a concurrent enrollment cannot take it in between
+        return findAndModify(new Query(criteria), AggregationUpdate.from(List.of(removalStage, getPromotionStage())));
+    }
+
+    @Override
+    public GroupTrainingDocument removeFromReserveList(
+            String groupTrainingId,
+            UserDocument user,
+            LocalDateTime notStartedAt
+    ) {
+        Criteria criteria = getNotStartedTrainingCriteria(groupTrainingId, notStartedAt)
+                .and(RESERVE_LIST + "." + USER_ID).is(user.getUserId());
+
+        return findAndModify(new Query(criteria), new Update().pull(RESERVE_LIST, getUserFilter(user)));
+    }
+
+    private Document getUserSummary(UserDocument user) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(user, document);
+        return EmbeddedSummaryMapper.mapToUserSummary(document);
+    }
+
+    private GroupTrainingDocument findAndModify(Query query, UpdateDefinition update) {
+        return mongoTemplate.findAndModify(
+                query,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                GroupTrainingDocument.class
+        );
+    }
+}
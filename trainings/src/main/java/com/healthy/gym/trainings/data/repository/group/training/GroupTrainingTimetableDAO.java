@@ -0,0 +1,33 @@
+package com.healthy.gym.trainings.data.repository.group.training;
+
+import com.healthy.gym.trainings.data.document.GroupTrainingTimetableDocument;
+import com.healthy.gym.trainings.data.document.GroupTrainingTimetableEntry;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface GroupTrainingTimetableDAO {
+
+    GroupTrainingTimetableDocument findById(String id);
+
+    List<GroupTrainingTimetableDocument> findAllByIdIn(Collection<String> ids);
+
+    /**
+     * @return false when the week has been stored concurrently
+     */
+    boolean insert(GroupTrainingTimetableDocument timetable);
+
+    /**
+     * @return false when the week has been changed since its revision was read
+     */
+    boolean replaceEntries(String id, long revision, List<GroupTrainingTimetableEntry> entries);
+
+    void deleteById(String id);
+
+    /**
+     * Ids are ISO dates, so they sort chronologically.
+     */
+    void deleteAllByIdBefore(String id);
+
+    void deleteAll();
+}
@@ -0,0 +1,75 @@
+package com.healthy.gym.trainings.data.repository.group.training;
+
+import com.healthy.gym.trainings.data.document.GroupTrainingTimetableDocument;
+import com.healthy.gym.trainings.data.document.GroupTrainingTimetableEntry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Repository
+public class GroupTrainingTimetableDAOImpl implements GroupTrainingTimetableDAO {
+
+    private static final String ID = "_id";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public GroupTrainingTimetableDAOImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public GroupTrainingTimetableDocument findById(String id) {
+        return mongoTemplate.findById(id, GroupTrainingTimetableDocument.class);
+    }
+
+    @Override
+    public List<GroupTrainingTimetableDocument> findAllByIdIn(Collection<String> ids) {
+        return mongoTemplate.find(new Query(where(ID).in(ids)), GroupTrainingTimetableDocument.class);
+    }
+
+    @Override
+    public boolean insert(GroupTrainingTimetableDocument timetable) {
+        try {
+            mongoTemplate.insert(timetable);
+            return true;
+        } catch (DuplicateKeyException exception) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean replaceEntries(String id, long revision, List<GroupTrainingTimetableEntry> entries) {
+        Query query = new Query(where(ID).is(id).and("revision").is(revision));
+        Update update = new Update()
+                .set("entries", entries)
+                .inc("revision", 1);
+
+        return mongoTemplate
+                .updateFirst(query, update, GroupTrainingTimetableDocument.class)
+                .getMatchedCount() > 0;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        mongoTemplate.remove(new Query(where(ID).is(id)), GroupTrainingTimetableDocument.class);
+    }
+
+    @Override
+    public void deleteAllByIdBefore(String id) {
+        mongoTemplate.remove(new Query(where(ID).lt(id)), GroupTrainingTimetableDocument.class);
+    }
+
+    @Override
+    public void deleteAll() {
+        mongoTemplate.remove(new Query(), GroupTrainingTimetableDocument.class);
+    }
+}
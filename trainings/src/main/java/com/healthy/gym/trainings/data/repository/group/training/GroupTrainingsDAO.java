@@ -1,7 +1,6 @@
 package com.healthy.gym.trainings.data.repository.group.training;
 
 import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.time.LocalDateTime;
@@ -11,11 +10,9 @@ public interface GroupTrainingsDAO extends MongoRepository<GroupTrainingDocument
 
     GroupTrainingDocument findFirstByGroupTrainingId(String trainingId);
 
-    List<GroupTrainingDocument> findAllByStartDateIsAfterAndEndDateIsBefore(
-            LocalDateTime startDateTime, LocalDateTime endDateTime, Sort sort
-    );
+    List<GroupTrainingDocument> findAllByEndDateAfter(LocalDateTime dateTime);
 
-    List<GroupTrainingDocument> findAllByStartDateIsAfterAndEndDateIsBeforeAndGroupTrainingIdIsNot(
-            LocalDateTime startDateTime, LocalDateTime endDateTime, String trainingId, Sort sort
+    List<GroupTrainingDocument> findAllByStartDateBeforeAndEndDateAfter(
+            LocalDateTime endDateTime, LocalDateTime startDateTime
     );
 }
@@ -42,7 +42,7 @@ public class UniversalGroupTrainingDAOImpl implements UniversalGroupTrainingDAO
         Criteria criteria = Criteria
                 .where("startDate").gte(startDateTime)
                 .and("endDate").lte(endDateTime)
-                .and("training").is(trainingType);
+                .and("training.trainingTypeId").is(trainingType.getTrainingTypeId());
 
         return mongoTemplate.find(new Query(criteria), GroupTrainingDocument.class);
     }
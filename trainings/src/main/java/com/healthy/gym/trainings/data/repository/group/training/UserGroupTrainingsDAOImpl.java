@@ -33,8 +33,8 @@ public class UserGroupTrainingsDAOImpl implements UserGroupTrainingsDAO {
                 .where("startDate").gte(startDateTime)
                 .and("endDate").lte(endDateTime)
                 .orOperator(
-                        where("basicList").in(userDocument),
-                        where("reserveList").in(userDocument)
+                        where("basicList.userId").is(userDocument.getUserId()),
+                        where("reserveList.userId").is(userDocument.getUserId())
                 );
 
         return mongoTemplate.find(new Query(criteria), GroupTrainingDocument.class);
@@ -47,8 +47,8 @@ public class UserGroupTrainingsDAOImpl implements UserGroupTrainingsDAO {
         Criteria criteria = Criteria
                 .where("startDate").gte(now)
                 .orOperator(
-                        where("basicList").in(userDocument),
-                        where("reserveList").in(userDocument)
+                        where("basicList.userId").is(userDocument.getUserId()),
+                        where("reserveList.userId").is(userDocument.getUserId())
                 );
 
         return mongoTemplate.find(new Query(criteria), GroupTrainingDocument.class);
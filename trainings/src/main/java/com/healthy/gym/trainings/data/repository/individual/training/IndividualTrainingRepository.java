@@ -3,7 +3,6 @@ package com.healthy.gym.trainings.data.repository.individual.training;
 import com.healthy.gym.trainings.data.document.IndividualTrainingDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.time.LocalDateTime;
@@ -22,11 +21,11 @@ public interface IndividualTrainingRepository extends MongoRepository<Individual
             LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable
     );
 
-    List<IndividualTrainingDocument> findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(
-            LocalDateTime startDateTime, LocalDateTime endDateTime, Sort sort
+    List<IndividualTrainingDocument> findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(
+            LocalDateTime dateTime
     );
 
-    List<IndividualTrainingDocument> findAllByStartDateTimeIsAfterAndEndDateTimeIsBeforeAndCancelledIsFalseAndRejectedIsFalse(
-            LocalDateTime startDateTime, LocalDateTime endDateTime, Sort sort
+    List<IndividualTrainingDocument> findAllByStartDateTimeBeforeAndEndDateTimeAfterAndCancelledFalseAndRejectedFalse(
+            LocalDateTime endDateTime, LocalDateTime startDateTime
     );
 }
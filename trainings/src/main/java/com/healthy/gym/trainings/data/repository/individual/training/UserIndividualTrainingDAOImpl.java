@@ -32,7 +32,7 @@ public class UserIndividualTrainingDAOImpl implements UserIndividualTrainingDAO
                 .and("endDateTime").lte(endDateTime)
                 .and("cancelled").is(false)
                 .and("rejected").is(false)
-                .and("basicList").in(userDocument);
+                .and("basicList.userId").is(userDocument.getUserId());
 
         return mongoTemplate.find(new Query(criteria), IndividualTrainingDocument.class);
     }
@@ -44,7 +44,7 @@ public class UserIndividualTrainingDAOImpl implements UserIndividualTrainingDAO
                 .where("startDateTime").gte(now)
                 .and("cancelled").is(false)
                 .and("rejected").is(false)
-                .and("basicList").in(userDocument);
+                .and("basicList.userId").is(userDocument.getUserId());
         return mongoTemplate.find(new Query(criteria), IndividualTrainingDocument.class);
     }
 }
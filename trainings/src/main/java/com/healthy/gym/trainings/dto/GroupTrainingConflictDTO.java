@@ -0,0 +1,68 @@
+package com.healthy.gym.trainings.dto;
+
+import com.healthy.gym.trainings.enums.GroupTrainingConflict;
+
+import java.util.Objects;
+
+public class GroupTrainingConflictDTO {
+    private String startDate;
+    private String endDate;
+    private GroupTrainingConflict reason;
+
+    public GroupTrainingConflictDTO() {
+    }
+
+    public GroupTrainingConflictDTO(String startDate, String endDate, GroupTrainingConflict reason) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.reason = reason;
+    }
+
+    public String getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(String startDate) {
+        this.startDate = startDate;
+    }
+
+    public String getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(String endDate) {
+        this.endDate = endDate;
+    }
+
+    public GroupTrainingConflict getReason() {
+        return reason;
+    }
+
+    public void setReason(GroupTrainingConflict reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GroupTrainingConflictDTO that = (GroupTrainingConflictDTO) o;
+        return Objects.equals(startDate, that.startDate)
+                && Objects.equals(endDate, that.endDate)
+                && reason == that.reason;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, reason);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupTrainingConflictDTO{" +
+                "startDate='" + startDate + '\'' +
+                ", endDate='" + endDate + '\'' +
+                ", reason=" + reason +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+package com.healthy.gym.trainings.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class GroupTrainingScheduleDTO {
+    private List<GroupTrainingDTO> trainings;
+    private List<GroupTrainingConflictDTO> conflicts;
+
+    public GroupTrainingScheduleDTO() {
+        this.trainings = new ArrayList<>();
+        this.conflicts = new ArrayList<>();
+    }
+
+    public GroupTrainingScheduleDTO(List<GroupTrainingDTO> trainings, List<GroupTrainingConflictDTO> conflicts) {
+        this.trainings = trainings;
+        this.conflicts = conflicts;
+    }
+
+    public List<GroupTrainingDTO> getTrainings() {
+        return trainings;
+    }
+
+    public void setTrainings(List<GroupTrainingDTO> trainings) {
+        this.trainings = trainings;
+    }
+
+    public List<GroupTrainingConflictDTO> getConflicts() {
+        return conflicts;
+    }
+
+    public void setConflicts(List<GroupTrainingConflictDTO> conflicts) {
+        this.conflicts = conflicts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GroupTrainingScheduleDTO that = (GroupTrainingScheduleDTO) o;
+        return Objects.equals(trainings, that.trainings)
+                && Objects.equals(conflicts, that.conflicts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(trainings, conflicts);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupTrainingScheduleDTO{" +
+                "trainings=" + trainings +
+                ", conflicts=" + conflicts +
+                '}';
+    }
+}
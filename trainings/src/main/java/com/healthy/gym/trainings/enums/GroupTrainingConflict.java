@@ -0,0 +1,7 @@
+package com.healthy.gym.trainings.enums;
+
+public enum GroupTrainingConflict {
+    PAST_DATE,
+    LOCATION_OCCUPIED,
+    TRAINER_OCCUPIED
+}
@@ -0,0 +1,11 @@
+package com.healthy.gym.trainings.exception.invalid;
+
+public class EmptyScheduleException extends Exception {
+
+    public EmptyScheduleException() {
+    }
+
+    public EmptyScheduleException(String message) {
+        super(message);
+    }
+}
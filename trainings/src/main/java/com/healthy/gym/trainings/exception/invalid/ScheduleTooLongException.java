@@ -0,0 +1,11 @@
+package com.healthy.gym.trainings.exception.invalid;
+
+public class ScheduleTooLongException extends Exception {
+
+    public ScheduleTooLongException() {
+    }
+
+    public ScheduleTooLongException(String message) {
+        super(message);
+    }
+}
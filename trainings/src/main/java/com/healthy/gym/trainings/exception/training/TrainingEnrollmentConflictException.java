@@ -0,0 +1,11 @@
+package com.healthy.gym.trainings.exception.training;
+
+public class TrainingEnrollmentConflictException extends Exception {
+
+    public TrainingEnrollmentConflictException() {
+    }
+
+    public TrainingEnrollmentConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.healthy.gym.trainings.listener;
+
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.IndividualTrainingDocument;
+import com.healthy.gym.trainings.data.document.LocationDocument;
+import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
+import com.healthy.gym.trainings.data.repository.EmbeddedSummaryDAO;
+import com.healthy.gym.trainings.service.group.training.GroupTrainingTimetableService;
+import com.healthy.gym.trainings.utils.EmbeddedSummaryMapper;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmbeddedSummaryListener extends AbstractMongoEventListener<Object> {
+
+    private final EmbeddedSummaryDAO embeddedSummaryDAO;
+    private final GroupTrainingTimetableService groupTrainingTimetableService;
+
+    @Autowired
+    public EmbeddedSummaryListener(
+            EmbeddedSummaryDAO embeddedSummaryDAO,
+            GroupTrainingTimetableService groupTrainingTimetableService
+    ) {
+        this.embeddedSummaryDAO = embeddedSummaryDAO;
+        this.groupTrainingTimetableService = groupTrainingTimetableService;
+    }
+
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<Object> event) {
+        Object source = event.getSource();
+        Document document = event.getDocument();
+        if (document == null) return;
+
+        if (source instanceof GroupTrainingDocument || source instanceof IndividualTrainingDocument) {
+            EmbeddedSummaryMapper.mapTrainingToSummaries(document);
+        }
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Object> event) {
+        Object source = event.getSource();
+        long updated = 0;
+        if (source instanceof TrainingTypeDocument) {
+            updated = embeddedSummaryDAO.updateTrainingTypeSummaries((TrainingTypeDocument) source);
+        } else if (source instanceof LocationDocument) {
+            updated = embeddedSummaryDAO.updateLocationSummaries((LocationDocument) source);
+        }
+        // renames are rare and may touch any week
+        if (updated > 0) groupTrainingTimetableService.invalidateAll();
+    }
+}
@@ -0,0 +1,182 @@
+package com.healthy.gym.trainings.model.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.healthy.gym.trainings.validation.ValidDateFormat;
+import com.healthy.gym.trainings.validation.ValidIDFormat;
+import com.healthy.gym.trainings.validation.ValidTimeFormat;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Objects;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ManagerGroupTrainingScheduleRequest {
+
+    @NotNull(message = "{field.required}")
+    @ValidIDFormat
+    private String trainingTypeId;
+
+    @NotNull(message = "{field.required}")
+    private List<String> trainerIds;
+
+    @NotNull(message = "{field.required}")
+    @ValidIDFormat
+    private String locationId;
+
+    @NotNull(message = "{field.required}")
+    @Min(value = 1, message = "{field.training.limit.min.value}")
+    private int limit;
+
+    @NotEmpty(message = "{field.required}")
+    private List<DayOfWeek> daysOfWeek;
+
+    @NotNull(message = "{field.required}")
+    @ValidTimeFormat
+    private String startTime;
+
+    @NotNull(message = "{field.required}")
+    @ValidTimeFormat
+    private String endTime;
+
+    @NotNull(message = "{field.required}")
+    @ValidDateFormat
+    private String firstDate;
+
+    @NotNull(message = "{field.required}")
+    @ValidDateFormat
+    private String lastDate;
+
+    private boolean skipConflicts;
+
+    public String getTrainingTypeId() {
+        return trainingTypeId;
+    }
+
+    public void setTrainingTypeId(String trainingTypeId) {
+        this.trainingTypeId = trainingTypeId;
+    }
+
+    public List<String> getTrainerIds() {
+        return trainerIds;
+    }
+
+    public void setTrainerIds(List<String> trainerIds) {
+        this.trainerIds = trainerIds;
+    }
+
+    public String getLocationId() {
+        return locationId;
+    }
+
+    public void setLocationId(String locationId) {
+        this.locationId = locationId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public List<DayOfWeek> getDaysOfWeek() {
+        return daysOfWeek;
+    }
+
+    public void setDaysOfWeek(List<DayOfWeek> daysOfWeek) {
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    public String getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(String startTime) {
+        this.startTime = startTime;
+    }
+
+    public String getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(String endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getFirstDate() {
+        return firstDate;
+    }
+
+    public void setFirstDate(String firstDate) {
+        this.firstDate = firstDate;
+    }
+
+    public String getLastDate() {
+        return lastDate;
+    }
+
+    public void setLastDate(String lastDate) {
+        this.lastDate = lastDate;
+    }
+
+    public boolean shouldSkipConflicts() {
+        return skipConflicts;
+    }
+
+    public void setSkipConflicts(boolean skipConflicts) {
+        this.skipConflicts = skipConflicts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ManagerGroupTrainingScheduleRequest that = (ManagerGroupTrainingScheduleRequest) o;
+        return limit == that.limit
+                && skipConflicts == that.skipConflicts
+                && Objects.equals(trainingTypeId, that.trainingTypeId)
+                && Objects.equals(trainerIds, that.trainerIds)
+                && Objects.equals(locationId, that.locationId)
+                && Objects.equals(daysOfWeek, that.daysOfWeek)
+                && Objects.equals(startTime, that.startTime)
+                && Objects.equals(endTime, that.endTime)
+                && Objects.equals(firstDate, that.firstDate)
+                && Objects.equals(lastDate, that.lastDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                trainingTypeId,
+                trainerIds,
+                locationId,
+                limit,
+                daysOfWeek,
+                startTime,
+                endTime,
+                firstDate,
+                lastDate,
+                skipConflicts
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "ManagerGroupTrainingScheduleRequest{" +
+                "trainingTypeId='" + trainingTypeId + '\'' +
+                ", trainerIds=" + trainerIds +
+                ", locationId='" + locationId + '\'' +
+                ", limit=" + limit +
+                ", daysOfWeek=" + daysOfWeek +
+                ", startTime='" + startTime + '\'' +
+                ", endTime='" + endTime + '\'' +
+                ", firstDate='" + firstDate + '\'' +
+                ", lastDate='" + lastDate + '\'' +
+                ", skipConflicts=" + skipConflicts +
+                '}';
+    }
+}
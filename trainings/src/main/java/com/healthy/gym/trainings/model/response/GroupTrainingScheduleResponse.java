@@ -0,0 +1,64 @@
+package com.healthy.gym.trainings.model.response;
+
+import com.healthy.gym.trainings.dto.GroupTrainingConflictDTO;
+import com.healthy.gym.trainings.dto.GroupTrainingDTO;
+
+import java.util.List;
+import java.util.Objects;
+
+public class GroupTrainingScheduleResponse extends AbstractResponse {
+    private List<GroupTrainingDTO> trainings;
+    private List<GroupTrainingConflictDTO> conflicts;
+
+    public GroupTrainingScheduleResponse() {
+    }
+
+    public GroupTrainingScheduleResponse(
+            String message,
+            List<GroupTrainingDTO> trainings,
+            List<GroupTrainingConflictDTO> conflicts
+    ) {
+        super(message);
+        this.trainings = trainings;
+        this.conflicts = conflicts;
+    }
+
+    public List<GroupTrainingDTO> getTrainings() {
+        return trainings;
+    }
+
+    public void setTrainings(List<GroupTrainingDTO> trainings) {
+        this.trainings = trainings;
+    }
+
+    public List<GroupTrainingConflictDTO> getConflicts() {
+        return conflicts;
+    }
+
+    public void setConflicts(List<GroupTrainingConflictDTO> conflicts) {
+        this.conflicts = conflicts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        GroupTrainingScheduleResponse that = (GroupTrainingScheduleResponse) o;
+        return Objects.equals(trainings, that.trainings)
+                && Objects.equals(conflicts, that.conflicts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), trainings, conflicts);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupTrainingScheduleResponse{" +
+                "trainings=" + trainings +
+                ", conflicts=" + conflicts +
+                "} " + super.toString();
+    }
+}
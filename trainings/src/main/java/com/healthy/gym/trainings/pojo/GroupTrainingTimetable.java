@@ -0,0 +1,28 @@
+package com.healthy.gym.trainings.pojo;
+
+public class GroupTrainingTimetable {
+
+    private final String json;
+    private final String contentHash;
+
+    public GroupTrainingTimetable(String json, String contentHash) {
+        this.json = json;
+        this.contentHash = contentHash;
+    }
+
+    public String getJson() {
+        return json;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public String toString() {
+        return "GroupTrainingTimetable{" +
+                "json='" + json + '\'' +
+                ", contentHash='" + contentHash + '\'' +
+                '}';
+    }
+}
@@ -1,100 +0,0 @@
-package com.healthy.gym.trainings.security;
-
-import com.healthy.gym.trainings.component.TokenManager;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
-import io.jsonwebtoken.Jwts;
-import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
-import org.springframework.web.server.ResponseStatusException;
-
-import javax.servlet.FilterChain;
-import javax.servlet.ServletException;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-public class AuthorizationFilter extends BasicAuthenticationFilter {
-
-    private final TokenManager tokenManager;
-
-    public AuthorizationFilter(
-            AuthenticationManager authenticationManager,
-            TokenManager tokenManager
-    ) {
-        super(authenticationManager);
-        this.tokenManager = tokenManager;
-    }
-
-    @Override
-    protected void doFilterInternal(
-            HttpServletRequest request,
-            HttpServletResponse response,
-            FilterChain chain
-    ) throws IOException, ServletException {
-        String headerName = tokenManager.getHttpHeaderName();
-        if (headerName == null) return;
-
-        String authorizationHeader = request.getHeader(headerName);
-
-        String headerPrefix = tokenManager.getTokenPrefix();
-        if (headerPrefix == null) return;
-
-        if (authorizationHeader == null || !authorizationHeader.startsWith(headerPrefix)) {
-            chain.doFilter(request, response);
-            return;
-        }
-
-        UsernamePasswordAuthenticationToken authenticationToken =
-                getAuthentication(authorizationHeader, headerPrefix);
-
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        chain.doFilter(request, response);
-    }
-
-    private UsernamePasswordAuthenticationToken getAuthentication(
-            String authorizationHeader,
-            String headerPrefix
-    ) {
-        String token = authorizationHeader
-                .replace(headerPrefix, "")
-                .trim();
-
-        String signingKey = tokenManager.getSigningKey();
-        if (signingKey == null) return null;
-
-        Jws<Claims> claimsJws;
-
-        try {
-            claimsJws = Jwts.parser()
-                    .setSigningKey(signingKey)
-                    .parseClaimsJws(token);
-        } catch (Exception e) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
-        }
-
-        String userId = claimsJws.getBody().getSubject();
-        List<String> roles = claimsJws.getBody().get("roles", List.class);
-
-        if (userId == null) return null;
-
-        return new UsernamePasswordAuthenticationToken(userId, null, getAuthorities(roles));
-    }
-
-    private List<GrantedAuthority> getAuthorities(List<String> roles) {
-        List<GrantedAuthority> authorities = new ArrayList<>();
-
-        for (String role : roles) {
-            authorities.add(new SimpleGrantedAuthority(role));
-        }
-
-        return authorities;
-    }
-}
@@ -0,0 +1,8 @@
+package com.healthy.gym.trainings.service;
+
+public interface EmbeddedSummaryService {
+
+    long migrateLegacyReferences();
+
+    int synchronizeUserSummaries();
+}
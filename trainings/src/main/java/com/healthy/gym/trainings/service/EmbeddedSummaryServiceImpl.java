@@ -0,0 +1,77 @@
+package com.healthy.gym.trainings.service;
+
+import com.healthy.gym.trainings.data.document.UserDocument;
+import com.healthy.gym.trainings.data.repository.EmbeddedSummaryDAO;
+import com.healthy.gym.trainings.data.repository.UserDAO;
+import com.healthy.gym.trainings.service.group.training.GroupTrainingTimetableService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Service
+public class EmbeddedSummaryServiceImpl implements EmbeddedSummaryService {
+
+    private final EmbeddedSummaryDAO embeddedSummaryDAO;
+    private final UserDAO userDAO;
+    private final GroupTrainingTimetableService groupTrainingTimetableService;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration overlap;
+    private volatile boolean legacyReferencesMigrated;
+    private LocalDateTime synchronizedUntil;
+
+    @Autowired
+    public EmbeddedSummaryServiceImpl(
+            EmbeddedSummaryDAO embeddedSummaryDAO,
+            UserDAO userDAO,
+            GroupTrainingTimetableService groupTrainingTimetableService,
+            Clock clock,
+            Environment environment
+    ) {
+        this.embeddedSummaryDAO = embeddedSummaryDAO;
+        this.userDAO = userDAO;
+        this.groupTrainingTimetableService = groupTrainingTimetableService;
+        // users are modified by other services, which store their local time
+        this.clock = clock.withZone(ZoneId.systemDefault());
+        this.batchSize = environment.getProperty("summaries.migration.batch-size", Integer.class, 100);
+        this.overlap = Duration.ofMillis(
+                environment.getProperty("summaries.synchronization.overlap", Long.class, 60_000L)
+        );
+    }
+
+    @Override
+    public long migrateLegacyReferences() {
+        if (legacyReferencesMigrated) return 0;
+
+        long migrated = 0;
+        long migratedInBatch;
+        do {
+            migratedInBatch = embeddedSummaryDAO.migrateLegacyReferences(batchSize);
+            migrated += migratedInBatch;
+        } while (migratedInBatch > 0);
+
+        legacyReferencesMigrated = !embeddedSummaryDAO.existLegacyReferences();
+        return migrated;
+    }
+
+    @Override
+    public synchronized int synchronizeUserSummaries() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+
+        List<UserDocument> users = synchronizedUntil == null
+                ? userDAO.findAllByLastModifiedAtNotNull()
+                : userDAO.findAllByLastModifiedAtAfter(synchronizedUntil.minus(overlap));
+        long updated = users.stream().mapToLong(embeddedSummaryDAO::updateUserSummaries).sum();
+        // timetables show names and avatars of trainers
+        if (updated > 0) groupTrainingTimetableService.invalidateAll();
+
+        synchronizedUntil = startedAt;
+        return users.size();
+    }
+}
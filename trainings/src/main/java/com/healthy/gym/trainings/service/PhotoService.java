@@ -1,8 +1,14 @@
 package com.healthy.gym.trainings.service;
 
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
 import com.healthy.gym.trainings.exception.notfound.ImageNotFoundException;
+import com.healthy.gym.trainings.pojo.ImageContent;
+
+import java.io.IOException;
 
 public interface PhotoService {
 
-    byte[] getImage(String userId) throws ImageNotFoundException;
+    ImageContent getImage(String imageId, String version, ImageSize size, ImageFormat format)
+            throws ImageNotFoundException, IOException;
 }
@@ -1,14 +1,18 @@
 package com.healthy.gym.trainings.service;
 
+import com.healthy.gym.image.component.ImageCache;
+import com.healthy.gym.image.component.ImageProcessor;
 import com.healthy.gym.trainings.component.ImageUrlCreator;
 import com.healthy.gym.trainings.data.document.ImageDocument;
 import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
 import com.healthy.gym.trainings.data.repository.ImageDAO;
+import com.healthy.gym.trainings.data.repository.ImageVariantDAO;
 import com.healthy.gym.trainings.data.repository.TrainingTypeDAO;
 import com.healthy.gym.trainings.dto.TrainingTypeDTO;
 import com.healthy.gym.trainings.exception.DuplicatedTrainingTypeException;
 import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundException;
 import com.healthy.gym.trainings.model.request.TrainingTypeRequest;
+import com.healthy.gym.trainings.pojo.ImageContent;
 import org.bson.types.Binary;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
@@ -30,17 +34,26 @@ public class TrainingTypeServiceImpl implements TrainingTypeService {
     private final TrainingTypeDAO trainingTypeDAO;
     private final ImageDAO imageDAO;
     private final ImageUrlCreator imageUrlCreator;
+    private final ImageVariantDAO imageVariantDAO;
+    private final ImageProcessor imageProcessor;
+    private final ImageCache<ImageContent> imageCache;
     private final ModelMapper modelMapper;
 
     @Autowired
     public TrainingTypeServiceImpl(
             TrainingTypeDAO trainingTypeDAO,
             ImageDAO imageDAO,
-            ImageUrlCreator imageUrlCreator
+            ImageUrlCreator imageUrlCreator,
+            ImageVariantDAO imageVariantDAO,
+            ImageProcessor imageProcessor,
+            ImageCache<ImageContent> imageCache
     ) {
         this.trainingTypeDAO = trainingTypeDAO;
         this.imageDAO = imageDAO;
         this.imageUrlCreator = imageUrlCreator;
+        this.imageVariantDAO = imageVariantDAO;
+        this.imageProcessor = imageProcessor;
+        this.imageCache = imageCache;
         this.modelMapper = new ModelMapper();
         this.modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
     }
@@ -60,7 +73,7 @@ public class TrainingTypeServiceImpl implements TrainingTypeService {
             try {
                 ImageDocument imageDocument = new ImageDocument(
                         UUID.randomUUID().toString(),
-                        new Binary(multipartFile.getBytes()),
+                        new Binary(sanitizeImage(multipartFile)),
                         multipartFile.getContentType()
                 );
                 savedImageDocument = imageDAO.save(imageDocument);
@@ -128,13 +141,15 @@ public class TrainingTypeServiceImpl implements TrainingTypeService {
                 ImageDocument imageToUpdate;
                 if (trainingTypeDocumentFound.getImageDocument() != null) {
                     imageToUpdate = trainingTypeDocumentFound.getImageDocument();
-                    imageToUpdate.setImageData(new Binary(multipartFile.getBytes()));
+                    imageToUpdate.setImageData(new Binary(sanitizeImage(multipartFile)));
                     imageToUpdate.setContentType(multipartFile.getContentType());
+                    imageVariantDAO.deleteAllByImageId(imageToUpdate.getImageId());
+                    imageCache.invalidate(imageToUpdate.getImageId());
 
                 } else {
                     imageToUpdate = new ImageDocument(
                             UUID.randomUUID().toString(),
-                            new Binary(multipartFile.getBytes()),
+                            new Binary(sanitizeImage(multipartFile)),
                             multipartFile.getContentType()
                     );
                 }
@@ -161,7 +176,13 @@ public class TrainingTypeServiceImpl implements TrainingTypeService {
         if (imageDocument != null) {
             String imageId = imageDocument.getImageId();
             imageDAO.deleteByImageId(imageId);
+            imageVariantDAO.deleteAllByImageId(imageId);
+            imageCache.invalidate(imageId);
         }
         return modelMapper.map(trainingTypeToRemove, TrainingTypeDTO.class);
     }
+
+    private byte[] sanitizeImage(MultipartFile multipartFile) throws IOException {
+        return imageProcessor.sanitize(multipartFile.getBytes(), multipartFile.getContentType());
+    }
 }
@@ -0,0 +1,27 @@
+package com.healthy.gym.trainings.service.group.training;
+
+import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
+import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundException;
+import com.healthy.gym.trainings.pojo.GroupTrainingTimetable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface GroupTrainingTimetableService {
+
+    GroupTrainingTimetable getTimetable(String startDate, String endDate) throws StartDateAfterEndDateException;
+
+    GroupTrainingTimetable getTimetableByType(
+            String trainingTypeId,
+            String startDate,
+            String endDate
+    ) throws StartDateAfterEndDateException, TrainingTypeNotFoundException;
+
+    /**
+     * Rebuilds the weeks containing given dates, to be called after group trainings starting at them
+     * have been created, changed or removed.
+     */
+    void refreshWeeks(Collection<LocalDateTime> dates);
+
+    void invalidateAll();
+}
@@ -0,0 +1,241 @@
+package com.healthy.gym.trainings.service.group.training;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.GroupTrainingTimetableDocument;
+import com.healthy.gym.trainings.data.document.GroupTrainingTimetableEntry;
+import com.healthy.gym.trainings.data.repository.TrainingTypeDAO;
+import com.healthy.gym.trainings.data.repository.group.training.GroupTrainingTimetableDAO;
+import com.healthy.gym.trainings.data.repository.group.training.UniversalGroupTrainingDAO;
+import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
+import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundException;
+import com.healthy.gym.trainings.pojo.GroupTrainingTimetable;
+import com.healthy.gym.trainings.utils.StartEndDateValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.healthy.gym.trainings.utils.GroupTrainingMapper.mapGroupTrainingsDocumentToDTOWithoutParticipants;
+
+@Service
+public class GroupTrainingTimetableServiceImpl implements GroupTrainingTimetableService {
+
+    private static final Comparator<GroupTrainingTimetableEntry> ENTRY_ORDER = Comparator
+            .comparing(GroupTrainingTimetableEntry::getStartDate)
+            .thenComparing(GroupTrainingTimetableEntry::getGroupTrainingId);
+
+    private final GroupTrainingTimetableDAO groupTrainingTimetableDAO;
+    private final UniversalGroupTrainingDAO universalGroupTrainingDAO;
+    private final TrainingTypeDAO trainingTypeDAO;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final int storedPastWeeks;
+    private final int storedFutureWeeks;
+    private final int maxRefreshAttempts;
+
+    @Autowired
+    public GroupTrainingTimetableServiceImpl(
+            GroupTrainingTimetableDAO groupTrainingTimetableDAO,
+            UniversalGroupTrainingDAO universalGroupTrainingDAO,
+            TrainingTypeDAO trainingTypeDAO,
+            ObjectMapper objectMapper,
+            Clock clock,
+            Environment environment
+    ) {
+        this.groupTrainingTimetableDAO = groupTrainingTimetableDAO;
+        this.universalGroupTrainingDAO = universalGroupTrainingDAO;
+        this.trainingTypeDAO = trainingTypeDAO;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.storedPastWeeks = environment.getProperty("timetable.stored-weeks.past", Integer.class, 4);
+        this.storedFutureWeeks = environment.getProperty("timetable.stored-weeks.future", Integer.class, 26);
+        this.maxRefreshAttempts = environment.getProperty("timetable.refresh.max-attempts", Integer.class, 5);
+    }
+
+    @Override
+    public GroupTrainingTimetable getTimetable(String startDate, String endDate)
+            throws StartDateAfterEndDateException {
+        return getTimetable(new StartEndDateValidator(startDate, endDate), null);
+    }
+
+    @Override
+    public GroupTrainingTimetable getTimetableByType(
+            String trainingTypeId,
+            String startDate,
+            String endDate
+    ) throws StartDateAfterEndDateException, TrainingTypeNotFoundException {
+        if (trainingTypeDAO.findByTrainingTypeId(trainingTypeId) == null) throw new TrainingTypeNotFoundException();
+        return getTimetable(new StartEndDateValidator(startDate, endDate), trainingTypeId);
+    }
+
+    private GroupTrainingTimetable getTimetable(StartEndDateValidator validator, String trainingTypeId) {
+        LocalDateTime startDateTime = validator.getBeginningOfStartDate();
+        LocalDateTime endDateTime = validator.getEndOfEndDate();
+
+        List<LocalDate> weeks = Stream
+                .iterate(getWeekStart(startDateTime), week -> !week.isAfter(endDateTime.toLocalDate()),
+                        week -> week.plusWeeks(1))
+                .collect(Collectors.toList());
+
+        // only weeks around now are stored, so scanning distant dates cannot grow the store
+        LocalDate firstStoredWeek = getFirstStoredWeek();
+        LocalDate lastStoredWeek = getLastStoredWeek();
+        Stream<GroupTrainingTimetableEntry> entries = Stream.of(
+                buildEntries(getWeeks(weeks, week -> week.isBefore(firstStoredWeek))),
+                getStoredEntries(getWeeks(weeks, week -> isStored(week, firstStoredWeek, lastStoredWeek))),
+                buildEntries(getWeeks(weeks, week -> week.isAfter(lastStoredWeek)))
+        ).flatMap(Function.identity());
+
+        String json = entries
+                .filter(entry -> !entry.getStartDate().isBefore(startDateTime))
+                .filter(entry -> !entry.getEndDate().isAfter(endDateTime))
+                .filter(entry -> trainingTypeId == null || trainingTypeId.equals(entry.getTrainingTypeId()))
+                .map(GroupTrainingTimetableEntry::getJson)
+                .collect(Collectors.joining(",", "[", "]"));
+
+        return new GroupTrainingTimetable(json, DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private List<LocalDate> getWeeks(List<LocalDate> weeks, Predicate<LocalDate> condition) {
+        return weeks.stream().filter(condition).collect(Collectors.toList());
+    }
+
+    private LocalDate getFirstStoredWeek() {
+        return getWeekStart(LocalDateTime.now(clock)).minusWeeks(storedPastWeeks);
+    }
+
+    private LocalDate getLastStoredWeek() {
+        return getWeekStart(LocalDateTime.now(clock)).plusWeeks(storedFutureWeeks);
+    }
+
+    private boolean isStored(LocalDate week, LocalDate firstStoredWeek, LocalDate lastStoredWeek) {
+        return !week.isBefore(firstStoredWeek) && !week.isAfter(lastStoredWeek);
+    }
+
+    private Stream<GroupTrainingTimetableEntry> buildEntries(List<LocalDate> weeks) {
+        if (weeks.isEmpty()) return Stream.empty();
+        return buildEntries(weeks.get(0).atStartOfDay(), getEndOfWeek(weeks.get(weeks.size() - 1))).stream();
+    }
+
+    private Stream<GroupTrainingTimetableEntry> getStoredEntries(List<LocalDate> weeks) {
+        if (weeks.isEmpty()) return Stream.empty();
+
+        Map<String, GroupTrainingTimetableDocument> timetables = groupTrainingTimetableDAO
+                .findAllByIdIn(weeks.stream().map(LocalDate::toString).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(GroupTrainingTimetableDocument::getId, Function.identity()));
+
+        List<LocalDate> missingWeeks = weeks.stream()
+                .filter(week -> !timetables.containsKey(week.toString()))
+                .collect(Collectors.toList());
+        if (!missingWeeks.isEmpty()) {
+            storeWeeks(missingWeeks).forEach(timetable -> timetables.put(timetable.getId(), timetable));
+            // weeks are missing mostly when the window has moved on, which is when the oldest ones fall out of it
+            groupTrainingTimetableDAO.deleteAllByIdBefore(getFirstStoredWeek().toString());
+        }
+
+        return weeks.stream()
+                .map(week -> timetables.get(week.toString()))
+                .flatMap(timetable -> timetable.getEntries().stream());
+    }
+
+    private List<GroupTrainingTimetableDocument> storeWeeks(List<LocalDate> weeks) {
+        LocalDate firstWeek = weeks.get(0);
+        LocalDate lastWeek = weeks.get(weeks.size() - 1);
+        Map<LocalDate, List<GroupTrainingTimetableEntry>> entriesByWeek =
+                buildEntries(firstWeek.atStartOfDay(), getEndOfWeek(lastWeek))
+                        .stream()
+                        .collect(Collectors.groupingBy(entry -> getWeekStart(entry.getStartDate())));
+
+        List<GroupTrainingTimetableDocument> timetables = new ArrayList<>();
+        for (LocalDate week : weeks) {
+            var timetable = new GroupTrainingTimetableDocument(
+                    week.toString(),
+                    entriesByWeek.getOrDefault(week, List.of())
+            );
+            // a week stored concurrently has been built from the same or newer trainings
+            groupTrainingTimetableDAO.insert(timetable);
+            timetables.add(timetable);
+        }
+        return timetables;
+    }
+
+    private List<GroupTrainingTimetableEntry> buildEntries(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return universalGroupTrainingDAO
+                .getGroupTrainingDocuments(startDateTime, endDateTime)
+                .stream()
+                .map(this::mapToEntry)
+                .sorted(ENTRY_ORDER)
+                .collect(Collectors.toList());
+    }
+
+    private GroupTrainingTimetableEntry mapToEntry(GroupTrainingDocument groupTraining) {
+        try {
+            return new GroupTrainingTimetableEntry(
+                    groupTraining.getGroupTrainingId(),
+                    groupTraining.getTraining().getTrainingTypeId(),
+                    groupTraining.getStartDate(),
+                    groupTraining.getEndDate(),
+                    objectMapper.writeValueAsString(mapGroupTrainingsDocumentToDTOWithoutParticipants(groupTraining))
+            );
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private LocalDate getWeekStart(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private LocalDateTime getEndOfWeek(LocalDate weekStart) {
+        return LocalDateTime.of(weekStart.plusDays(6), LocalTime.MAX);
+    }
+
+    @Override
+    public void refreshWeeks(Collection<LocalDateTime> dates) {
+        LocalDate firstStoredWeek = getFirstStoredWeek();
+        LocalDate lastStoredWeek = getLastStoredWeek();
+        dates.stream()
+                .filter(Objects::nonNull)
+                .map(this::getWeekStart)
+                .distinct()
+                .filter(week -> isStored(week, firstStoredWeek, lastStoredWeek))
+                .forEach(this::refreshWeek);
+    }
+
+    private void refreshWeek(LocalDate week) {
+        String id = week.toString();
+        for (int attempt = 0; attempt < maxRefreshAttempts; attempt++) {
+            GroupTrainingTimetableDocument timetable = groupTrainingTimetableDAO.findById(id);
+            List<GroupTrainingTimetableEntry> entries = buildEntries(week.atStartOfDay(), getEndOfWeek(week));
+
+            boolean refreshed = timetable == null
+                    ? groupTrainingTimetableDAO.insert(new GroupTrainingTimetableDocument(id, entries))
+                    : groupTrainingTimetableDAO.replaceEntries(id, timetable.getRevision(), entries);
+            if (refreshed) return;
+        }
+        // a week changed by too many writers at once is left to be built again by the next read
+        groupTrainingTimetableDAO.deleteById(id);
+    }
+
+    @Override
+    public void invalidateAll() {
+        groupTrainingTimetableDAO.deleteAll();
+    }
+}
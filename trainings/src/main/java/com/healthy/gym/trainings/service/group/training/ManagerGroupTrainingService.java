@@ -1,9 +1,12 @@
 package com.healthy.gym.trainings.service.group.training;
 
 import com.healthy.gym.trainings.dto.GroupTrainingDTO;
+import com.healthy.gym.trainings.dto.GroupTrainingScheduleDTO;
 import com.healthy.gym.trainings.exception.PastDateException;
 import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
 import com.healthy.gym.trainings.exception.StartEndDateNotSameDayException;
+import com.healthy.gym.trainings.exception.invalid.EmptyScheduleException;
+import com.healthy.gym.trainings.exception.invalid.ScheduleTooLongException;
 import com.healthy.gym.trainings.exception.notexisting.NotExistingGroupTrainingException;
 import com.healthy.gym.trainings.exception.notfound.LocationNotFoundException;
 import com.healthy.gym.trainings.exception.notfound.TrainerNotFoundException;
@@ -11,6 +14,7 @@ import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundExceptio
 import com.healthy.gym.trainings.exception.occupied.LocationOccupiedException;
 import com.healthy.gym.trainings.exception.occupied.TrainerOccupiedException;
 import com.healthy.gym.trainings.model.request.ManagerGroupTrainingRequest;
+import com.healthy.gym.trainings.model.request.ManagerGroupTrainingScheduleRequest;
 
 public interface ManagerGroupTrainingService {
 
@@ -23,6 +27,14 @@ public interface ManagerGroupTrainingService {
             TrainerNotFoundException,
             TrainingTypeNotFoundException, StartEndDateNotSameDayException;
 
+    GroupTrainingScheduleDTO createGroupTrainingSchedule(final ManagerGroupTrainingScheduleRequest scheduleRequest)
+            throws EmptyScheduleException,
+            LocationNotFoundException,
+            ScheduleTooLongException,
+            StartDateAfterEndDateException,
+            TrainerNotFoundException,
+            TrainingTypeNotFoundException;
+
     GroupTrainingDTO updateGroupTraining(String trainingId, final ManagerGroupTrainingRequest groupTrainingRequest)
             throws LocationNotFoundException,
             LocationOccupiedException,
@@ -9,11 +9,16 @@ import com.healthy.gym.trainings.data.repository.LocationDAO;
 import com.healthy.gym.trainings.data.repository.TrainingTypeDAO;
 import com.healthy.gym.trainings.data.repository.UserDAO;
 import com.healthy.gym.trainings.data.repository.group.training.GroupTrainingsDAO;
+import com.healthy.gym.trainings.dto.GroupTrainingConflictDTO;
 import com.healthy.gym.trainings.dto.GroupTrainingDTO;
+import com.healthy.gym.trainings.dto.GroupTrainingScheduleDTO;
+import com.healthy.gym.trainings.enums.GroupTrainingConflict;
 import com.healthy.gym.trainings.enums.GymRole;
 import com.healthy.gym.trainings.exception.PastDateException;
 import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
 import com.healthy.gym.trainings.exception.StartEndDateNotSameDayException;
+import com.healthy.gym.trainings.exception.invalid.EmptyScheduleException;
+import com.healthy.gym.trainings.exception.invalid.ScheduleTooLongException;
 import com.healthy.gym.trainings.exception.notexisting.NotExistingGroupTrainingException;
 import com.healthy.gym.trainings.exception.notfound.LocationNotFoundException;
 import com.healthy.gym.trainings.exception.notfound.TrainerNotFoundException;
@@ -21,23 +26,26 @@ import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundExceptio
 import com.healthy.gym.trainings.exception.occupied.LocationOccupiedException;
 import com.healthy.gym.trainings.exception.occupied.TrainerOccupiedException;
 import com.healthy.gym.trainings.model.request.ManagerGroupTrainingRequest;
+import com.healthy.gym.trainings.model.request.ManagerGroupTrainingScheduleRequest;
 import com.healthy.gym.trainings.service.NotificationService;
 import com.healthy.gym.trainings.utils.CollisionValidator;
+import com.healthy.gym.trainings.utils.GroupTrainingMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.time.Clock;
-import java.time.LocalDateTime;
+import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.healthy.gym.trainings.utils.GroupTrainingMapper.mapGroupTrainingsDocumentToDTO;
 
 @Service
 public class ManagerGroupTrainingServiceImpl implements ManagerGroupTrainingService {
 
+    private static final Period MAX_SCHEDULE_PERIOD = Period.ofYears(1);
+
     private final CollisionValidatorComponent collisionValidatorComponent;
     private final GroupTrainingsDAO groupTrainingsDAO;
     private final TrainingTypeDAO trainingTypeDAO;
@@ -46,6 +54,7 @@ public class ManagerGroupTrainingServiceImpl implements ManagerGroupTrainingServ
     private final Clock clock;
     private final GroupTrainingDocumentUpdateBuilder groupTrainingDocumentUpdateBuilder;
     private final NotificationService notificationService;
+    private final GroupTrainingTimetableService groupTrainingTimetableService;
 
     @Autowired
     public ManagerGroupTrainingServiceImpl(
@@ -56,7 +65,8 @@ public class ManagerGroupTrainingServiceImpl implements ManagerGroupTrainingServ
             UserDAO userDAO,
             Clock clock,
             GroupTrainingDocumentUpdateBuilder groupTrainingDocumentUpdateBuilder,
-            NotificationService notificationService
+            NotificationService notificationService,
+            GroupTrainingTimetableService groupTrainingTimetableService
     ) {
         this.collisionValidatorComponent = collisionValidatorComponent;
         this.groupTrainingsDAO = groupTrainingsDAO;
@@ -66,6 +76,7 @@ public class ManagerGroupTrainingServiceImpl implements ManagerGroupTrainingServ
         this.clock = clock;
         this.groupTrainingDocumentUpdateBuilder = groupTrainingDocumentUpdateBuilder;
         this.notificationService = notificationService;
+        this.groupTrainingTimetableService = groupTrainingTimetableService;
     }
 
     @Override
@@ -80,9 +91,9 @@ public class ManagerGroupTrainingServiceImpl implements ManagerGroupTrainingServ
             PastDateException,
             StartEndDateNotSameDayException {
 
-        TrainingTypeDocument trainingType = getTrainingTypeDocument(createGroupTrainingRequest);
-        List<UserDocument> trainers = getListOfTrainersUserDocument(createGroupTrainingRequest);
-        LocationDocument location = getLocationDocument(createGroupTrainingRequest);
+        TrainingTypeDocument trainingType = getTrainingTypeDocument(createGroupTrainingRequest.getTrainingTypeId());
+        List<UserDocument> trainers = getTrainersUserDocuments(createGroupTrainingRequest.getTrainerIds());
+        LocationDocument location = getLocationDocument(createGroupTrainingRequest.getLocationId());
         LocalDateTime startDate = getStartDate(createGroupTrainingRequest);
         LocalDateTime endDate = getEndDate(createGroupTrainingRequest);
         int limit = createGroupTrainingRequest.getLimit();
@@ -105,34 +116,19 @@ public class ManagerGroupTrainingServiceImpl implements ManagerGroupTrainingServ
         validateIfLocationOrTrainerIsOccupied(groupTrainingToCreate, null);
 
         GroupTrainingDocument groupTrainingSaved = groupTrainingsDAO.save(groupTrainingToCreate);
+        groupTrainingTimetableService.refreshWeeks(List.of(groupTrainingSaved.getStartDate()));
         return mapGroupTrainingsDocumentToDTO(groupTrainingSaved);
     }
 
-    private TrainingTypeDocument getTrainingTypeDocument(ManagerGroupTrainingRequest groupTrainingRequest)
+    private TrainingTypeDocument getTrainingTypeDocument(String trainingTypeId)
             throws TrainingTypeNotFoundException {
-        String trainingTypeId = groupTrainingRequest.getTrainingTypeId();
         TrainingTypeDocument trainingType = trainingTypeDAO.findByTrainingTypeId(trainingTypeId);
         if (trainingType == null) throw new TrainingTypeNotFoundException();
         return trainingType;
     }
 
-    private List<UserDocument> getListOfTrainersUserDocument(ManagerGroupTrainingRequest groupTrainingRequest)
-            throws TrainerNotFoundException {
-
-        List<String> trainerIds = groupTrainingRequest.getTrainerIds();
-        List<UserDocument> trainers = new ArrayList<>();
-        for (String trainerId : trainerIds) {
-            UserDocument trainer = userDAO.findByUserId(trainerId);
-            if (trainer == null || !trainer.getGymRoles().contains(GymRole.TRAINER))
-                throw new TrainerNotFoundException();
-            trainers.add(trainer);
-        }
-        return trainers;
-    }
-
-    private LocationDocument getLocationDocument(ManagerGroupTrainingRequest groupTrainingRequest)
+    private LocationDocument getLocationDocument(String locationId)
             throws LocationNotFoundException {
-        String locationId = groupTrainingRequest.getLocationId();
         LocationDocument location = locationDAO.findByLocationId(locationId);
         if (location == null) throw new LocationNotFoundException();
         return location;
@@ -197,6 +193,103 @@ public class ManagerGroupTrainingServiceImpl implements ManagerGroupTrainingServ
 
     }
 
+    @Override
+    public GroupTrainingScheduleDTO createGroupTrainingSchedule(
+            final ManagerGroupTrainingScheduleRequest scheduleRequest
+    ) throws EmptyScheduleException,
+            LocationNotFoundException,
+            ScheduleTooLongException,
+            StartDateAfterEndDateException,
+            TrainerNotFoundException,
+            TrainingTypeNotFoundException {
+
+        LocalDate firstDate = LocalDate.parse(scheduleRequest.getFirstDate());
+        LocalDate lastDate = LocalDate.parse(scheduleRequest.getLastDate());
+        LocalTime startTime = LocalTime.parse(scheduleRequest.getStartTime());
+        LocalTime endTime = LocalTime.parse(scheduleRequest.getEndTime());
+        if (lastDate.isBefore(firstDate) || !startTime.isBefore(endTime)) throw new StartDateAfterEndDateException();
+        if (lastDate.isAfter(firstDate.plus(MAX_SCHEDULE_PERIOD))) throw new ScheduleTooLongException();
+
+        Set<DayOfWeek> daysOfWeek = EnumSet.copyOf(scheduleRequest.getDaysOfWeek());
+        List<LocalDate> dates = firstDate
+                .datesUntil(lastDate.plusDays(1))
+                .filter(date -> daysOfWeek.contains(date.getDayOfWeek()))
+                .collect(Collectors.toList());
+        if (dates.isEmpty()) throw new EmptyScheduleException();
+
+        TrainingTypeDocument trainingType = getTrainingTypeDocument(scheduleRequest.getTrainingTypeId());
+        List<UserDocument> trainers = getTrainersUserDocuments(scheduleRequest.getTrainerIds());
+        LocationDocument location = getLocationDocument(scheduleRequest.getLocationId());
+
+        List<GroupTrainingDocument> groupTrainingsToCreate = new ArrayList<>();
+        List<GroupTrainingConflictDTO> conflicts = new ArrayList<>();
+        for (LocalDate date : dates) {
+            LocalDateTime startDate = LocalDateTime.of(date, startTime);
+            LocalDateTime endDate = LocalDateTime.of(date, endTime);
+            GroupTrainingConflict conflict = getConflict(startDate, endDate, location, trainers);
+            if (conflict != null) {
+                conflicts.add(new GroupTrainingConflictDTO(startDate.toString(), endDate.toString(), conflict));
+                continue;
+            }
+
+            groupTrainingsToCreate.add(new GroupTrainingDocument(
+                    UUID.randomUUID().toString(),
+                    trainingType,
+                    trainers,
+                    startDate,
+                    endDate,
+                    location,
+                    scheduleRequest.getLimit(),
+                    new ArrayList<>(),
+                    new ArrayList<>()
+            ));
+        }
+
+        if (groupTrainingsToCreate.isEmpty() || !conflicts.isEmpty() && !scheduleRequest.shouldSkipConflicts()) {
+            return new GroupTrainingScheduleDTO(new ArrayList<>(), conflicts);
+        }
+
+        List<GroupTrainingDocument> insertedTrainings = groupTrainingsDAO.insert(groupTrainingsToCreate);
+        groupTrainingTimetableService.refreshWeeks(
+                insertedTrainings.stream().map(GroupTrainingDocument::getStartDate).collect(Collectors.toList())
+        );
+
+        List<GroupTrainingDTO> createdTrainings = insertedTrainings
+                .stream()
+                .map(GroupTrainingMapper::mapGroupTrainingsDocumentToDTO)
+                .collect(Collectors.toList());
+        return new GroupTrainingScheduleDTO(createdTrainings, conflicts);
+    }
+
+    private List<UserDocument> getTrainersUserDocuments(List<String> trainerIds) throws TrainerNotFoundException {
+        Map<String, UserDocument> users = userDAO.findAllByUserIdIn(trainerIds)
+                .stream()
+                .collect(Collectors.toMap(UserDocument::getUserId, Function.identity(), (user, duplicate) -> user));
+
+        List<UserDocument> trainers = new ArrayList<>();
+        for (String trainerId : trainerIds) {
+            UserDocument trainer = users.get(trainerId);
+            if (trainer == null || !trainer.getGymRoles().contains(GymRole.TRAINER))
+                throw new TrainerNotFoundException();
+            trainers.add(trainer);
+        }
+        return trainers;
+    }
+
+    private GroupTrainingConflict getConflict(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            LocationDocument location,
+            List<UserDocument> trainers
+    ) {
+        if (startDate.isBefore(LocalDateTime.now(clock))) return GroupTrainingConflict.PAST_DATE;
+
+        CollisionValidator validator = collisionValidatorComponent.getCollisionValidator(startDate, endDate);
+        if (validator.isLocationOccupied(location)) return GroupTrainingConflict.LOCATION_OCCUPIED;
+        if (validator.isTrainerOccupied(trainers)) return GroupTrainingConflict.TRAINER_OCCUPIED;
+        return null;
+    }
+
     @Override
     public GroupTrainingDTO updateGroupTraining(
             final String trainingId,
@@ -213,6 +306,7 @@ public class ManagerGroupTrainingServiceImpl implements ManagerGroupTrainingServ
 
         GroupTrainingDocument groupTraining = groupTrainingsDAO.findFirstByGroupTrainingId(trainingId);
         if (groupTraining == null) throw new NotExistingGroupTrainingException();
+        LocalDateTime previousStartDate = groupTraining.getStartDate();
 
         GroupTrainingDocument groupTrainingUpdated = groupTrainingDocumentUpdateBuilder
                 .setGroupTrainingDocumentToUpdate(groupTraining)
@@ -231,6 +325,7 @@ public class ManagerGroupTrainingServiceImpl implements ManagerGroupTrainingServ
         validateIfLocationOrTrainerIsOccupied(groupTrainingUpdated, trainingId);
 
         GroupTrainingDocument groupTrainingSaved = groupTrainingsDAO.save(groupTrainingUpdated);
+        groupTrainingTimetableService.refreshWeeks(Arrays.asList(previousStartDate, groupTrainingSaved.getStartDate()));
 
         sendNotificationsWhenUpdated(groupTrainingSaved, groupTrainingRequest.shouldSendEmails());
 
@@ -259,7 +354,13 @@ public class ManagerGroupTrainingServiceImpl implements ManagerGroupTrainingServ
         allGroupTrainingUsers.addAll(groupTraining.getTrainers());
         allGroupTrainingUsers.addAll(groupTraining.getBasicList());
         allGroupTrainingUsers.addAll(groupTraining.getReserveList());
-        return allGroupTrainingUsers;
+
+        // trainings embed only user summaries, emails have to be loaded
+        Set<String> userIds = allGroupTrainingUsers
+                .stream()
+                .map(UserDocument::getUserId)
+                .collect(Collectors.toSet());
+        return userDAO.findAllByUserIdIn(userIds);
     }
 
     @Override
@@ -268,6 +369,7 @@ public class ManagerGroupTrainingServiceImpl implements ManagerGroupTrainingServ
         GroupTrainingDocument groupTrainingToDelete = groupTrainingsDAO.findFirstByGroupTrainingId(trainingId);
         if (groupTrainingToDelete == null) throw new NotExistingGroupTrainingException();
         groupTrainingsDAO.delete(groupTrainingToDelete);
+        groupTrainingTimetableService.refreshWeeks(List.of(groupTrainingToDelete.getStartDate()));
 
         sendNotificationsWhenRemove(groupTrainingToDelete);
 
@@ -5,7 +5,6 @@ import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
 import com.healthy.gym.trainings.data.repository.TrainingTypeDAO;
 import com.healthy.gym.trainings.data.repository.group.training.UniversalGroupTrainingDAO;
 import com.healthy.gym.trainings.dto.GroupTrainingDTO;
-import com.healthy.gym.trainings.dto.GroupTrainingWithoutParticipantsDTO;
 import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
 import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundException;
 import com.healthy.gym.trainings.utils.GroupTrainingMapper;
@@ -55,25 +54,6 @@ public class UniversalGroupTrainingServiceImpl implements UniversalGroupTraining
                 .collect(Collectors.toList());
     }
 
-    @Override
-    public List<GroupTrainingWithoutParticipantsDTO> getGroupTrainingsWithoutParticipants(
-            String startDateStr,
-            String endDateStr
-    ) throws StartDateAfterEndDateException {
-        List<GroupTrainingDocument> groupTrainingDocumentList = getGroupTrainingDocumentList(startDateStr, endDateStr);
-        return returnDTOsWithoutParticipants(groupTrainingDocumentList);
-    }
-
-    private List<GroupTrainingWithoutParticipantsDTO> returnDTOsWithoutParticipants(
-            List<GroupTrainingDocument> groupTrainingDocumentList
-    ) {
-        if (groupTrainingDocumentList.isEmpty()) return List.of();
-        return groupTrainingDocumentList
-                .stream()
-                .map(GroupTrainingMapper::mapGroupTrainingsDocumentToDTOWithoutParticipants)
-                .collect(Collectors.toList());
-    }
-
     @Override
     public List<GroupTrainingDTO> getGroupTrainingsByTypeWithParticipants(
             String trainingTypeId,
@@ -100,15 +80,4 @@ public class UniversalGroupTrainingServiceImpl implements UniversalGroupTraining
         return universalGroupTrainingDAO
                 .getGroupTrainingDocumentsByTrainingType(startDateTime, endDateTime, trainingType);
     }
-
-    @Override
-    public List<GroupTrainingWithoutParticipantsDTO> getGroupTrainingsByTypeWithoutParticipants(
-            String trainingTypeId,
-            String startDateStr,
-            String endDateStr
-    ) throws StartDateAfterEndDateException, TrainingTypeNotFoundException {
-        List<GroupTrainingDocument> groupTrainingDocumentList =
-                getGroupTrainingDocumentList(startDateStr, endDateStr, trainingTypeId);
-        return returnDTOsWithoutParticipants(groupTrainingDocumentList);
-    }
 }
@@ -7,6 +7,7 @@ import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
 import com.healthy.gym.trainings.exception.UserAlreadyEnrolledToTrainingException;
 import com.healthy.gym.trainings.exception.notexisting.NotExistingGroupTrainingException;
 import com.healthy.gym.trainings.exception.notfound.UserNotFoundException;
+import com.healthy.gym.trainings.exception.training.TrainingEnrollmentConflictException;
 import com.healthy.gym.trainings.exception.training.TrainingEnrollmentException;
 
 import java.util.List;
@@ -19,12 +20,14 @@ public interface UserGroupTrainingService {
     GroupTrainingDTO enrollToGroupTraining(String trainingId, String clientId)
             throws NotExistingGroupTrainingException,
             PastDateException,
+            TrainingEnrollmentConflictException,
             UserAlreadyEnrolledToTrainingException,
             UserNotFoundException;
 
     GroupTrainingDTO removeGroupTrainingEnrollment(String trainingId, String clientId)
             throws NotExistingGroupTrainingException,
             PastDateException,
+            TrainingEnrollmentConflictException,
             TrainingEnrollmentException,
             UserNotFoundException;
 
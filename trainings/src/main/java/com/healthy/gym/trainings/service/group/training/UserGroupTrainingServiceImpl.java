@@ -3,6 +3,7 @@ package com.healthy.gym.trainings.service.group.training;
 import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
 import com.healthy.gym.trainings.data.document.UserDocument;
 import com.healthy.gym.trainings.data.repository.UserDAO;
+import com.healthy.gym.trainings.data.repository.group.training.GroupTrainingEnrollmentDAO;
 import com.healthy.gym.trainings.data.repository.group.training.GroupTrainingsDAO;
 import com.healthy.gym.trainings.data.repository.group.training.UserGroupTrainingsDAO;
 import com.healthy.gym.trainings.dto.BasicTrainingDTO;
@@ -12,6 +13,7 @@ import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
 import com.healthy.gym.trainings.exception.UserAlreadyEnrolledToTrainingException;
 import com.healthy.gym.trainings.exception.notexisting.NotExistingGroupTrainingException;
 import com.healthy.gym.trainings.exception.notfound.UserNotFoundException;
+import com.healthy.gym.trainings.exception.training.TrainingEnrollmentConflictException;
 import com.healthy.gym.trainings.exception.training.TrainingEnrollmentException;
 import com.healthy.gym.trainings.utils.GroupTrainingMapper;
 import com.healthy.gym.trainings.utils.StartEndDateValidator;
@@ -32,8 +34,11 @@ import static com.healthy.gym.trainings.utils.ParticipantsExtractor.*;
 @Service
 public class UserGroupTrainingServiceImpl implements UserGroupTrainingService {
 
+    private static final int MAX_ENROLLMENT_ATTEMPTS = 5;
+
     private final UserGroupTrainingsDAO userGroupTrainingsDAO;
     private final GroupTrainingsDAO groupTrainingsDAO;
+    private final GroupTrainingEnrollmentDAO groupTrainingEnrollmentDAO;
     private final UserDAO userDAO;
     private final Clock clock;
 
@@ -41,11 +46,13 @@ public class UserGroupTrainingServiceImpl implements UserGroupTrainingService {
     public UserGroupTrainingServiceImpl(
             UserGroupTrainingsDAO userGroupTrainingsDAO,
             GroupTrainingsDAO groupTrainingsDAO,
+            GroupTrainingEnrollmentDAO groupTrainingEnrollmentDAO,
             UserDAO userDAO,
             Clock clock
     ) {
         this.userGroupTrainingsDAO = userGroupTrainingsDAO;
         this.groupTrainingsDAO = groupTrainingsDAO;
+        this.groupTrainingEnrollmentDAO = groupTrainingEnrollmentDAO;
         this.userDAO = userDAO;
         this.clock = clock;
     }
@@ -74,25 +81,31 @@ public class UserGroupTrainingServiceImpl implements UserGroupTrainingService {
 
     @Override
     public GroupTrainingDTO enrollToGroupTraining(String trainingId, String userId)
-            throws NotExistingGroupTrainingException, PastDateException,
+            throws NotExistingGroupTrainingException, PastDateException, TrainingEnrollmentConflictException,
             UserAlreadyEnrolledToTrainingException, UserNotFoundException {
 
-        GroupTrainingDocument groupTraining = getAndCheckGroupTraining(trainingId);
         UserDocument user = getAndCheckUser(userId);
-        validateTime(groupTraining);
-
-        boolean userIsInBasicList = isClientAlreadyEnrolledToGroupTraining(groupTraining, userId);
-        boolean userIsInReserveList = isClientAlreadyExistInReserveList(groupTraining, userId);
-        if (userIsInBasicList || userIsInReserveList) throw new UserAlreadyEnrolledToTrainingException();
 
-        if (groupTraining.getBasicList().size() < groupTraining.getLimit()) {
-            enrollToBasicList(groupTraining, user);
-        } else {
-            enrollToReserveList(groupTraining, user);
+        for (int attempt = 0; attempt < MAX_ENROLLMENT_ATTEMPTS; attempt++) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            GroupTrainingDocument groupTrainingUpdated = groupTrainingEnrollmentDAO
+                    .addToBasicList(trainingId, user, now);
+            if (groupTrainingUpdated == null) {
+                groupTrainingUpdated = groupTrainingEnrollmentDAO.addToReserveList(trainingId, user, now);
+            }
+            if (groupTrainingUpdated != null) return mapGroupTrainingsDocumentToDTO(groupTrainingUpdated);
+
+            GroupTrainingDocument groupTraining = getAndCheckGroupTraining(trainingId);
+            validateTime(groupTraining);
+
+            boolean userIsInBasicList = isClientAlreadyEnrolledToGroupTraining(groupTraining, userId);
+            boolean userIsInReserveList = isClientAlreadyExistInReserveList(groupTraining, userId);
+            if (userIsInBasicList || userIsInReserveList) throw new UserAlreadyEnrolledToTrainingException();
         }
 
-        GroupTrainingDocument groupTrainingUpdated = groupTrainingsDAO.save(groupTraining);
-        return mapGroupTrainingsDocumentToDTO(groupTrainingUpdated);
+        throw new TrainingEnrollmentConflictException(
+                "Group training " + trainingId + " keeps changing during enrollment"
+        );
     }
 
     private GroupTrainingDocument getAndCheckGroupTraining(String trainingId)
@@ -112,34 +125,33 @@ public class UserGroupTrainingServiceImpl implements UserGroupTrainingService {
         if (LocalDateTime.now(clock).isAfter(groupTraining.getStartDate())) throw new PastDateException();
     }
 
-    private void enrollToBasicList(GroupTrainingDocument groupTraining, UserDocument user) {
-        List<UserDocument> basicUsersList = groupTraining.getBasicList();
-        basicUsersList.add(user);
-    }
-
-    private void enrollToReserveList(GroupTrainingDocument groupTraining, UserDocument user) {
-        List<UserDocument> reserveUsersList = groupTraining.getReserveList();
-        reserveUsersList.add(user);
-    }
-
     @Override
     public GroupTrainingDTO removeGroupTrainingEnrollment(String trainingId, String clientId)
             throws NotExistingGroupTrainingException, PastDateException,
-            UserNotFoundException, TrainingEnrollmentException {
+            UserNotFoundException, TrainingEnrollmentConflictException, TrainingEnrollmentException {
+
+        UserDocument user = getAndCheckUser(clientId);
 
-        GroupTrainingDocument groupTraining = getAndCheckGroupTraining(trainingId);
-        getAndCheckUser(clientId);
-        validateTime(groupTraining);
+        for (int attempt = 0; attempt < MAX_ENROLLMENT_ATTEMPTS; attempt++) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            GroupTrainingDocument groupTrainingUpdated = groupTrainingEnrollmentDAO
+                    .removeFromBasicList(trainingId, user, now);
+            if (groupTrainingUpdated != null) return mapGroupTrainingsDocumentToDTO(groupTrainingUpdated);
 
-        boolean userIsInBasicList = isClientAlreadyEnrolledToGroupTraining(groupTraining, clientId);
-        boolean userIsInReserveList = isClientAlreadyExistInReserveList(groupTraining, clientId);
-        if (!userIsInBasicList && !userIsInReserveList) throw new TrainingEnrollmentException();
+            groupTrainingUpdated = groupTrainingEnrollmentDAO.removeFromReserveList(trainingId, user, now);
+            if (groupTrainingUpdated != null) return mapGroupTrainingsDocumentToDTO(groupTrainingUpdated);
 
-        if (userIsInBasicList) removeFromBasicList(groupTraining, clientId);
-        if (userIsInReserveList) removeFromReserveList(groupTraining, clientId);
+            GroupTrainingDocument groupTraining = getAndCheckGroupTraining(trainingId);
+            validateTime(groupTraining);
+
+            boolean userIsInBasicList = isClientAlreadyEnrolledToGroupTraining(groupTraining, clientId);
+            boolean userIsInReserveList = isClientAlreadyExistInReserveList(groupTraining, clientId);
+            if (!userIsInBasicList && !userIsInReserveList) throw new TrainingEnrollmentException();
+        }
 
-        GroupTrainingDocument groupTrainingUpdated = groupTrainingsDAO.save(groupTraining);
-        return mapGroupTrainingsDocumentToDTO(groupTrainingUpdated);
+        throw new TrainingEnrollmentConflictException(
+                "Group training " + trainingId + " keeps changing during enrollment"
+        );
     }
 
     @Override
@@ -23,6 +23,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.Optional;
 
 import static com.healthy.gym.trainings.utils.IndividualTrainingMapper.mapIndividualTrainingDocumentToDTO;
@@ -101,7 +102,8 @@ public class TrainerIndividualTrainingServiceImpl implements TrainerIndividualTr
         }
 
         var trainers = trainingDocument.getTrainers();
-        if (trainers == null || !trainers.contains(trainer)) {
+        String trainerId = trainer.getUserId();
+        if (trainers == null || trainers.stream().noneMatch(user -> Objects.equals(user.getUserId(), trainerId))) {
             throw new AccessDeniedException("You are not allowed to accept this individual training.");
         }
     }
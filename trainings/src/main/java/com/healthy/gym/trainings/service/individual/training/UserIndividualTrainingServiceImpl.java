@@ -236,7 +236,9 @@ public class UserIndividualTrainingServiceImpl implements UserIndividualTraining
             UserDocument userDocument
     ) throws UserIsNotParticipantException {
         List<UserDocument> basicList = trainingDocument.getBasicList();
-        if (!basicList.contains(userDocument)) throw new UserIsNotParticipantException();
+        String userId = userDocument.getUserId();
+        if (basicList.stream().noneMatch(user -> Objects.equals(user.getUserId(), userId)))
+            throw new UserIsNotParticipantException();
     }
 
     private void validateIfTrainingHasBeenAlreadyRejected(IndividualTrainingDocument individualTraining)
@@ -6,79 +6,46 @@ import com.healthy.gym.trainings.data.document.LocationDocument;
 import com.healthy.gym.trainings.data.document.UserDocument;
 
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class CollisionValidator {
 
-    private final List<GroupTrainingDocument> groupTrainingDocumentList;
-    private final List<IndividualTrainingDocument> individualTrainingDocumentList;
-    private final long[] datesToCheck;
-
+    private final TrainingIntervalIndex trainingIntervalIndex;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final String excludedTrainingId;
 
     public CollisionValidator(
-            List<GroupTrainingDocument> groupTrainingDocumentListSortedByStartDate,
-            List<IndividualTrainingDocument> individualTrainingDocumentListSortedByStartDateTime,
+            List<GroupTrainingDocument> groupTrainingDocumentList,
+            List<IndividualTrainingDocument> individualTrainingDocumentList,
             LocalDateTime startDateTime,
             LocalDateTime endDateTime
     ) {
-        this.groupTrainingDocumentList = groupTrainingDocumentListSortedByStartDate;
-        this.individualTrainingDocumentList = individualTrainingDocumentListSortedByStartDateTime;
-        this.datesToCheck = new long[2];
-        this.datesToCheck[0] = startDateTime.toEpochSecond(ZoneOffset.UTC);
-        this.datesToCheck[1] = endDateTime.toEpochSecond(ZoneOffset.UTC);
+        this(
+                new TrainingIntervalIndex(groupTrainingDocumentList, individualTrainingDocumentList),
+                startDateTime,
+                endDateTime,
+                null
+        );
     }
 
-    private static boolean containsAny(List<UserDocument> trainers, List<UserDocument> trainersToCheck) {
-        Set<UserDocument> trainersSet = new HashSet<>(trainers);
-        for (UserDocument trainer : trainersToCheck) {
-            if (trainersSet.contains(trainer)) return true;
-        }
-        return false;
+    public CollisionValidator(
+            TrainingIntervalIndex trainingIntervalIndex,
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            String excludedTrainingId
+    ) {
+        this.trainingIntervalIndex = trainingIntervalIndex;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.excludedTrainingId = excludedTrainingId;
     }
 
     public boolean isLocationOccupied(LocationDocument location) {
-        long[][] groupTrainingDates = groupTrainingDocumentList
-                .stream()
-                .filter(groupTrainingDocument -> location.equals(groupTrainingDocument.getLocation()))
-                .map(GroupTrainingMapper::mapGroupTrainingToPairOfStartAndEndDates)
-                .collect(Collectors.toList())
-                .toArray(long[][]::new);
-
-        boolean isOverlappingWithAnyGroupTraining = CollisionDetection.overlapsWithAny(datesToCheck, groupTrainingDates);
-        if (isOverlappingWithAnyGroupTraining) return true;
-
-        long[][] individualTrainingDates = individualTrainingDocumentList
-                .stream()
-                .filter(individualTrainingDocument -> location.equals(individualTrainingDocument.getLocation()))
-                .map(IndividualTrainingMapper::mapIndividualTrainingToPairOfStartAndEndDate)
-                .collect(Collectors.toList())
-                .toArray(long[][]::new);
-
-        return CollisionDetection.overlapsWithAny(datesToCheck, individualTrainingDates);
+        return trainingIntervalIndex.isLocationOccupied(location, startDateTime, endDateTime, excludedTrainingId);
     }
 
     public boolean isTrainerOccupied(List<UserDocument> trainers) {
-        long[][] groupTrainingDates = groupTrainingDocumentList
-                .stream()
-                .filter(training -> containsAny(training.getTrainers(), trainers))
-                .map(GroupTrainingMapper::mapGroupTrainingToPairOfStartAndEndDates)
-                .collect(Collectors.toList())
-                .toArray(long[][]::new);
-
-        boolean isOverlappingWithAnyGroupTraining = CollisionDetection.overlapsWithAny(datesToCheck, groupTrainingDates);
-        if (isOverlappingWithAnyGroupTraining) return true;
-
-        long[][] individualTrainingDates = individualTrainingDocumentList
-                .stream()
-                .filter(training -> containsAny(training.getTrainers(), trainers))
-                .map(IndividualTrainingMapper::mapIndividualTrainingToPairOfStartAndEndDate)
-                .collect(Collectors.toList())
-                .toArray(long[][]::new);
-
-        return CollisionDetection.overlapsWithAny(datesToCheck, individualTrainingDates);
+        return trainingIntervalIndex.isTrainerOccupied(trainers, startDateTime, endDateTime, excludedTrainingId);
     }
 }
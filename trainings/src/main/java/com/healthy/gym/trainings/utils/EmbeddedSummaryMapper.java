@@ -0,0 +1,70 @@
+package com.healthy.gym.trainings.utils;
+
+import org.bson.Document;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class EmbeddedSummaryMapper {
+
+    public static final String TRAINING = "training";
+    public static final String LOCATION = "location";
+    public static final List<String> USER_LISTS = List.of("trainers", "basicList", "reserveList");
+
+    private static final List<String> USER_SUMMARY_FIELDS = List.of("_id", "userId", "name", "surname", "avatarUrl");
+    private static final List<String> TRAINING_TYPE_SUMMARY_FIELDS = List.of("_id", "trainingTypeId", "name");
+    private static final List<String> LOCATION_SUMMARY_FIELDS = List.of("_id", "locationId", "name");
+
+    private EmbeddedSummaryMapper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static Document mapToUserSummary(Document user) {
+        return getSummary(user, USER_SUMMARY_FIELDS);
+    }
+
+    public static Document mapToTrainingTypeSummary(Document trainingType) {
+        return getSummary(trainingType, TRAINING_TYPE_SUMMARY_FIELDS);
+    }
+
+    public static Document mapToLocationSummary(Document location) {
+        return getSummary(location, LOCATION_SUMMARY_FIELDS);
+    }
+
+    private static Document getSummary(Document source, List<String> fields) {
+        Document summary = new Document();
+        fields.stream()
+                .filter(source::containsKey)
+                .forEach(field -> summary.append(field, source.get(field)));
+        return summary;
+    }
+
+    /**
+     * Strips embedded users, training type and location of a group or individual training
+     * down to the fields needed to render it.
+     */
+    public static void mapTrainingToSummaries(Document training) {
+        Object trainingType = training.get(TRAINING);
+        if (trainingType instanceof Document) {
+            training.put(TRAINING, mapToTrainingTypeSummary((Document) trainingType));
+        }
+
+        Object location = training.get(LOCATION);
+        if (location instanceof Document) {
+            training.put(LOCATION, mapToLocationSummary((Document) location));
+        }
+
+        for (String userList : USER_LISTS) {
+            Object users = training.get(userList);
+            if (users instanceof List) {
+                training.put(userList, mapToUserSummaries((List<?>) users));
+            }
+        }
+    }
+
+    private static List<Object> mapToUserSummaries(List<?> users) {
+        return users.stream()
+                .map(user -> user instanceof Document ? mapToUserSummary((Document) user) : user)
+                .collect(Collectors.toList());
+    }
+}
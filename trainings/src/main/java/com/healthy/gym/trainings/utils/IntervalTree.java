@@ -0,0 +1,152 @@
+package com.healthy.gym.trainings.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class IntervalTree {
+
+    private final Map<String, Node> nodes = new HashMap<>();
+    private Node root;
+
+    public void put(String id, long start, long end) {
+        remove(id);
+        Node node = new Node(id, start, end);
+        root = insert(root, node);
+        nodes.put(id, node);
+    }
+
+    public void remove(String id) {
+        Node node = nodes.remove(id);
+        if (node != null) root = delete(root, node.start, node.id);
+    }
+
+    public boolean overlapsAny(long start, long end, String excludedId) {
+        return overlapsAny(root, start, end, excludedId);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    private static boolean overlapsAny(Node node, long start, long end, String excludedId) {
+        if (node == null || node.maxEnd <= start) return false;
+
+        boolean overlaps = node.start < end && start < node.end;
+        if (overlaps && !node.id.equals(excludedId)) return true;
+        if (overlapsAny(node.left, start, end, excludedId)) return true;
+        if (node.start >= end) return false;
+
+        return overlapsAny(node.right, start, end, excludedId);
+    }
+
+    private static int compare(long start, String id, Node node) {
+        int result = Long.compare(start, node.start);
+        return result != 0 ? result : id.compareTo(node.id);
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) return inserted;
+
+        if (compare(inserted.start, inserted.id, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return balance(node);
+    }
+
+    private static Node delete(Node node, long start, String id) {
+        if (node == null) return null;
+
+        int result = compare(start, id, node);
+        if (result < 0) {
+            node.left = delete(node.left, start, id);
+        } else if (result > 0) {
+            node.right = delete(node.right, start, id);
+        } else {
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+
+            Node successor = node.right;
+            while (successor.left != null) successor = successor.left;
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) return node.right;
+        node.left = deleteMin(node.left);
+        return balance(node);
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int balanceFactor = height(node.left) - height(node.right);
+
+        if (balanceFactor > 1) {
+            if (height(node.left.left) < height(node.left.right)) node.left = rotateLeft(node.left);
+            return rotateRight(node);
+        }
+        if (balanceFactor < -1) {
+            if (height(node.right.right) < height(node.right.left)) node.right = rotateRight(node.right);
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = Math.max(node.end, Math.max(maxEnd(node.left), maxEnd(node.right)));
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static long maxEnd(Node node) {
+        return node == null ? Long.MIN_VALUE : node.maxEnd;
+    }
+
+    private static class Node {
+        private final String id;
+        private final long start;
+        private final long end;
+        private long maxEnd;
+        private int height;
+        private Node left;
+        private Node right;
+
+        private Node(String id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+            this.height = 1;
+        }
+    }
+}
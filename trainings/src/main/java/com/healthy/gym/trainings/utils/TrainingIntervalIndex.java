@@ -0,0 +1,218 @@
+package com.healthy.gym.trainings.utils;
+
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.IndividualTrainingDocument;
+import com.healthy.gym.trainings.data.document.LocationDocument;
+import com.healthy.gym.trainings.data.document.UserDocument;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TrainingIntervalIndex {
+
+    private final Map<String, IntervalTree> locations = new HashMap<>();
+    private final Map<String, IntervalTree> trainers = new HashMap<>();
+    private final Map<String, IndexedTraining> trainings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TrainingIntervalIndex() {
+        // empty index filled by put methods
+    }
+
+    public TrainingIntervalIndex(
+            Collection<GroupTrainingDocument> groupTrainings,
+            Collection<IndividualTrainingDocument> individualTrainings
+    ) {
+        groupTrainings.forEach(this::put);
+        individualTrainings.forEach(this::put);
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static String getKey(String documentId, String trainingId) {
+        return documentId != null ? documentId : trainingId;
+    }
+
+    public void put(GroupTrainingDocument groupTraining) {
+        String key = getKey(groupTraining.getId(), groupTraining.getGroupTrainingId());
+        put(new IndexedTraining(
+                key,
+                groupTraining.getGroupTrainingId(),
+                groupTraining.getStartDate(),
+                groupTraining.getEndDate(),
+                groupTraining.getLocation(),
+                groupTraining.getTrainers()
+        ));
+    }
+
+    public void put(IndividualTrainingDocument individualTraining) {
+        String key = getKey(individualTraining.getId(), individualTraining.getIndividualTrainingId());
+        if (individualTraining.isCancelled() || individualTraining.isRejected()) {
+            remove(key);
+            return;
+        }
+        put(new IndexedTraining(
+                key,
+                individualTraining.getIndividualTrainingId(),
+                individualTraining.getStartDateTime(),
+                individualTraining.getEndDateTime(),
+                individualTraining.getLocation(),
+                individualTraining.getTrainers()
+        ));
+    }
+
+    private void put(IndexedTraining training) {
+        if (training.trainingId == null || training.start == null || training.end == null) return;
+
+        lock.writeLock().lock();
+        try {
+            removeFromTrees(trainings.put(training.key, training));
+
+            long start = toEpochSecond(training.start);
+            long end = toEpochSecond(training.end);
+            if (training.locationId != null) {
+                locations.computeIfAbsent(training.locationId, id -> new IntervalTree())
+                        .put(training.trainingId, start, end);
+            }
+            for (String trainerId : training.trainerIds) {
+                trainers.computeIfAbsent(trainerId, id -> new IntervalTree())
+                        .put(training.trainingId, start, end);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String documentId) {
+        lock.writeLock().lock();
+        try {
+            removeFromTrees(trainings.remove(documentId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeEndedBy(LocalDateTime dateTime) {
+        lock.writeLock().lock();
+        try {
+            Iterator<IndexedTraining> iterator = trainings.values().iterator();
+            while (iterator.hasNext()) {
+                IndexedTraining training = iterator.next();
+                if (training.end.isAfter(dateTime)) continue;
+                iterator.remove();
+                removeFromTrees(training);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeFromTrees(IndexedTraining training) {
+        if (training == null) return;
+
+        if (training.locationId != null) removeFromTree(locations, training.locationId, training.trainingId);
+        for (String trainerId : training.trainerIds) {
+            removeFromTree(trainers, trainerId, training.trainingId);
+        }
+    }
+
+    private void removeFromTree(Map<String, IntervalTree> trees, String treeId, String trainingId) {
+        IntervalTree tree = trees.get(treeId);
+        if (tree == null) return;
+
+        tree.remove(trainingId);
+        if (tree.isEmpty()) trees.remove(treeId);
+    }
+
+    public boolean isLocationOccupied(
+            LocationDocument location,
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            String excludedTrainingId
+    ) {
+        if (location == null) return false;
+
+        lock.readLock().lock();
+        try {
+            return overlapsAny(locations.get(location.getLocationId()), startDateTime, endDateTime, excludedTrainingId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isTrainerOccupied(
+            List<UserDocument> trainersToCheck,
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            String excludedTrainingId
+    ) {
+        if (trainersToCheck == null) return false;
+
+        lock.readLock().lock();
+        try {
+            for (UserDocument trainer : trainersToCheck) {
+                if (trainer == null) continue;
+                IntervalTree tree = trainers.get(trainer.getUserId());
+                if (overlapsAny(tree, startDateTime, endDateTime, excludedTrainingId)) return true;
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean overlapsAny(
+            IntervalTree tree,
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            String excludedTrainingId
+    ) {
+        if (tree == null) return false;
+        return tree.overlapsAny(toEpochSecond(startDateTime), toEpochSecond(endDateTime), excludedTrainingId);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trainings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static class IndexedTraining {
+        private final String key;
+        private final String trainingId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final String locationId;
+        private final Set<String> trainerIds = new HashSet<>();
+
+        private IndexedTraining(
+                String key,
+                String trainingId,
+                LocalDateTime start,
+                LocalDateTime end,
+                LocationDocument location,
+                List<UserDocument> trainers
+        ) {
+            this.key = key;
+            this.trainingId = trainingId;
+            this.start = start;
+            this.end = end;
+            this.locationId = location != null ? location.getLocationId() : null;
+            if (trainers != null) {
+                trainers.stream()
+                        .filter(Objects::nonNull)
+                        .map(UserDocument::getUserId)
+                        .filter(Objects::nonNull)
+                        .forEach(trainerIds::add);
+            }
+        }
+    }
+}
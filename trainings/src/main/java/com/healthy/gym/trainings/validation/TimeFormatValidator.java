@@ -0,0 +1,18 @@
+package com.healthy.gym.trainings.validation;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+public class TimeFormatValidator implements ConstraintValidator<ValidTimeFormat, String> {
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        try {
+            LocalTime.parse(value, DateTimeFormatter.ofPattern("HH:mm"));
+        } catch (Exception e) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+package com.healthy.gym.trainings.component;
+
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.LocationDocument;
+import com.healthy.gym.trainings.data.repository.group.training.GroupTrainingsDAO;
+import com.healthy.gym.trainings.data.repository.individual.training.IndividualTrainingRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static com.healthy.gym.trainings.test.utils.TestDocumentUtil.getTestGroupTraining;
+import static com.healthy.gym.trainings.test.utils.TestDocumentUtil.getTestLocation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CollisionValidatorComponentTest {
+
+    private GroupTrainingsDAO groupTrainingsDAO;
+    private IndividualTrainingRepository individualTrainingRepository;
+    private CollisionValidatorComponentImpl collisionValidatorComponent;
+    private LocationDocument location;
+
+    @BeforeEach
+    void setUp() {
+        groupTrainingsDAO = mock(GroupTrainingsDAO.class);
+        individualTrainingRepository = mock(IndividualTrainingRepository.class);
+        Clock clock = Clock.fixed(Instant.parse("2021-07-10T18:00:00.00Z"), ZoneId.of("UTC"));
+        collisionValidatorComponent = new CollisionValidatorComponentImpl(
+                groupTrainingsDAO,
+                individualTrainingRepository,
+                clock,
+                new MockEnvironment()
+        );
+        location = getTestLocation();
+    }
+
+    private boolean isLocationOccupied(String startDate, String endDate) {
+        return collisionValidatorComponent
+                .getCollisionValidator(LocalDateTime.parse(startDate), LocalDateTime.parse(endDate))
+                .isLocationOccupied(location);
+    }
+
+    @SuppressWarnings("unchecked")
+    private AfterDeleteEvent<Object> getAfterDeleteEvent(Document query, Class<?> type) {
+        return new AfterDeleteEvent<>(query, (Class<Object>) type, "groupTrainings");
+    }
+
+    @Test
+    void shouldLoadOnlyTrainingsEndingAfterRetentionPeriod() {
+        when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of(
+                getTestGroupTraining("2021-07-11T10:00", "2021-07-11T11:00", location)
+        ));
+
+        assertThat(isLocationOccupied("2021-07-11T10:30", "2021-07-11T11:30")).isTrue();
+        assertThat(isLocationOccupied("2021-07-11T11:00", "2021-07-11T12:00")).isFalse();
+
+        LocalDateTime horizon = LocalDateTime.parse("2021-07-09T18:00");
+        verify(groupTrainingsDAO, times(1)).findAllByEndDateAfter(horizon);
+        verify(individualTrainingRepository, times(1))
+                .findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(horizon);
+        verify(groupTrainingsDAO, never()).findAll();
+    }
+
+    @Test
+    void shouldCheckSlotsBeforeRetentionPeriodAgainstDatabase() {
+        LocalDateTime startDateTime = LocalDateTime.parse("2021-07-01T10:00");
+        LocalDateTime endDateTime = LocalDateTime.parse("2021-07-01T11:00");
+        when(groupTrainingsDAO.findAllByStartDateBeforeAndEndDateAfter(endDateTime, startDateTime)).thenReturn(List.of(
+                getTestGroupTraining("2021-07-01T09:30", "2021-07-01T10:30", location)
+        ));
+
+        assertThat(isLocationOccupied("2021-07-01T10:00", "2021-07-01T11:00")).isTrue();
+        verify(groupTrainingsDAO, never()).findAllByEndDateAfter(any());
+    }
+
+    @Test
+    void shouldSwapInReloadedIndexWhenTrainingsAreDeletedByQuery() {
+        GroupTrainingDocument training = getTestGroupTraining("2021-07-11T10:00", "2021-07-11T11:00", location);
+        when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of(training), List.of());
+        assertThat(isLocationOccupied("2021-07-11T10:00", "2021-07-11T11:00")).isTrue();
+
+        Document query = new Document("groupTrainingId", training.getGroupTrainingId());
+        collisionValidatorComponent.onAfterDelete(getAfterDeleteEvent(query, GroupTrainingDocument.class));
+
+        assertThat(isLocationOccupied("2021-07-11T10:00", "2021-07-11T11:00")).isFalse();
+        verify(groupTrainingsDAO, times(2)).findAllByEndDateAfter(any());
+    }
+}
@@ -26,6 +26,8 @@ public class Messages {
                 {"exception.duration.format", "Niepoprawny format czasu trwania zajęć."},
                 {"exception.email.sending", "Nie można wysłać maila."},
                 {"exception.group.training.enrollment", "Nie można się zapisać na trening grupowy."},
+                {"exception.group.training.enrollment.conflict",
+                        "Lista uczestników zajęć grupowych zmienia się zbyt często. Spróbuj ponownie."},
                 {"exception.group.training.enrollment.remove",
                         "Nie odnaleziono użytkownika na liście uczestników zajęć grupowych."},
                 {"exception.group.training.remove", "Nie można usunąć istniejącego treningu grupowego."},
@@ -34,6 +36,7 @@ public class Messages {
                 {"exception.internal.error", "Podczas przetwarzania żądania wystąpił błąd."},
                 {"exception.invalid.id.format", "Nieprawidłowy format id. Zastosuj format UUID."},
                 {"exception.invalid.date.format", "Nieprawidłowy format daty. Zastosuj format 'YYYY-MM-dd'."},
+                {"exception.invalid.time.format", "Nieprawidłowy format godziny. Zastosuj format 'HH:mm'."},
                 {"exception.invalid.date.time.format",
                         "Nieprawidłowy format daty i czasu. Zastosuj format 'YYYY-MM-dd'T'HH:mm'."},
                 {"exception.invalid.page.size.format",
@@ -61,6 +64,8 @@ public class Messages {
                 {"exception.past.date.individual.training.reject",
                         "Nie można odrzucić przeszłego zapytania o trening personalny."},
                 {"exception.start.end.the.same.day", "The start and end dates must be the same."},
+                {"exception.schedule.empty", "Grafik nie obejmuje żadnego z wybranych dni tygodnia."},
+                {"exception.schedule.too.long", "Grafik nie może obejmować więcej niż jednego roku."},
                 {"exception.unsupported.data.type", "Błąd. Dopuszczalny format pliku to JPEG lub PNG."},
                 {"exception.user.already.enrolled.to.training", "Użytkownik jest już zapisany na dane zajęcia."},
                 {"exception.user.is.not.participant", "Wskazany użytkownik nie jest uczestnikiem treningu."},
@@ -75,6 +80,9 @@ public class Messages {
                 {"location.removed", "Lokalizacja została usunięta."},
                 {"request.bind.exception", "Podano nieprawidłowy format danych."},
                 {"request.create.training.success", "Pomyślnie dodano nowy trening do grafiku."},
+                {"request.create.training.schedule.success", "Pomyślnie dodano nowe treningi do grafiku."},
+                {"request.create.training.schedule.conflict",
+                        "Nie dodano żadnego treningu, ponieważ część z nich koliduje z grafikiem."},
                 {"request.update.training.success", "Pomyślnie zaktualizowany trening w grafiku."},
                 {"request.delete.training.success", "Pomyślnie usunięto trening z grafiku."},
                 {"training.type.created", "Nowy typ treningu został stworzony."},
@@ -118,6 +126,8 @@ public class Messages {
                 {"exception.duration.format", "Incorrect workout time duration format."},
                 {"exception.email.sending", "Cannot send email."},
                 {"exception.group.training.enrollment", "Cannot enroll to group training."},
+                {"exception.group.training.enrollment.conflict",
+                        "The group training is changing too often. Please try again."},
                 {"exception.group.training.enrollment.remove",
                         "User not found on the list of participants of group training."},
                 {"exception.group.training.remove", "Cannot remove group training."},
@@ -126,6 +136,7 @@ public class Messages {
                 {"exception.internal.error", "An error occurred while processing your request."},
                 {"exception.invalid.id.format", "Invalid id format. Use UUID format."},
                 {"exception.invalid.date.format", "Invalid date format. Use the 'YYYY-MM-dd' format."},
+                {"exception.invalid.time.format", "Invalid time format. Use the 'HH:mm' format."},
                 {"exception.invalid.date.time.format",
                         "Invalid date and time format. Use the 'YYYY-MM-dd'T'HH:mm' format."},
                 {"exception.invalid.page.size.format", "Invalid format. Use one of the numbers: 5, 10, 20, 50 or 100."},
@@ -149,6 +160,8 @@ public class Messages {
                 {"exception.past.date.individual.training.reject", "You cannot reject past training request."},
                 {"exception.unsupported.data.type", "Error. The acceptable file format is JPEG or PNG."},
                 {"exception.start.end.the.same.day", "The start and end dates must be the same."},
+                {"exception.schedule.empty", "The timetable does not contain any of the selected days of the week."},
+                {"exception.schedule.too.long", "The timetable cannot span more than one year."},
                 {"exception.user.already.enrolled.to.training", "The user is already enrolled to the group training."},
                 {"exception.user.is.not.participant", "Specified user is not a participant in the training."},
                 {"exception.user.next.training.not.found", "User upcoming training not found."},
@@ -162,6 +175,10 @@ public class Messages {
                 {"location.removed", "The location has been removed."},
                 {"request.bind.exception", "An invalid data format has been provided."},
                 {"request.create.training.success", "New training has been successfully added to the timetable."},
+                {"request.create.training.schedule.success",
+                        "New trainings have been successfully added to the timetable."},
+                {"request.create.training.schedule.conflict",
+                        "No trainings have been added because some of them collide with the timetable."},
                 {"request.update.training.success", "The training has been successfully updated in the timetable."},
                 {"request.delete.training.success", "The training has been successfully removed from the timetable."},
                 {"training.type.created", "New training type has been created."},
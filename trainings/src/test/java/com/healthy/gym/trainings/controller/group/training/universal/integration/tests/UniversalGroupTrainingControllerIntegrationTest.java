@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.healthy.gym.trainings.configuration.FixedClockConfig;
 import com.healthy.gym.trainings.configuration.TestRoleTokenFactory;
 import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.GroupTrainingTimetableDocument;
 import com.healthy.gym.trainings.data.document.LocationDocument;
 import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
 import com.healthy.gym.trainings.data.document.UserDocument;
@@ -102,6 +103,7 @@ class UniversalGroupTrainingControllerIntegrationTest {
     @AfterEach
     void tearDown() {
         mongoTemplate.dropCollection(GroupTrainingDocument.class);
+        mongoTemplate.dropCollection(GroupTrainingTimetableDocument.class);
         mongoTemplate.dropCollection(LocationDocument.class);
         mongoTemplate.dropCollection(TrainingTypeDocument.class);
         mongoTemplate.dropCollection(UserDocument.class);
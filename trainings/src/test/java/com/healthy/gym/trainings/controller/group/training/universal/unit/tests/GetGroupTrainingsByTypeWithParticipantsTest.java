@@ -6,6 +6,7 @@ import com.healthy.gym.trainings.controller.group.training.UniversalGroupTrainin
 import com.healthy.gym.trainings.dto.BasicUserInfoDTO;
 import com.healthy.gym.trainings.dto.GroupTrainingDTO;
 import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
+import com.healthy.gym.trainings.service.group.training.GroupTrainingTimetableService;
 import com.healthy.gym.trainings.service.group.training.UniversalGroupTrainingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -51,6 +52,9 @@ class GetGroupTrainingsByTypeWithParticipantsTest {
     @MockBean
     private UniversalGroupTrainingService universalGroupTrainingService;
 
+    @MockBean
+    private GroupTrainingTimetableService groupTrainingTimetableService;
+
     private URI uri;
     private String startDate;
     private String endDate;
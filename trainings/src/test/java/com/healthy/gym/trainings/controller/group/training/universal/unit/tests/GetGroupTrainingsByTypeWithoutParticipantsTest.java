@@ -1,10 +1,13 @@
 package com.healthy.gym.trainings.controller.group.training.universal.unit.tests;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.healthy.gym.trainings.configuration.TestCountry;
 import com.healthy.gym.trainings.controller.group.training.UniversalGroupTrainingController;
 import com.healthy.gym.trainings.dto.BasicUserInfoDTO;
 import com.healthy.gym.trainings.dto.GroupTrainingWithoutParticipantsDTO;
 import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
+import com.healthy.gym.trainings.pojo.GroupTrainingTimetable;
+import com.healthy.gym.trainings.service.group.training.GroupTrainingTimetableService;
 import com.healthy.gym.trainings.service.group.training.UniversalGroupTrainingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +16,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
@@ -41,12 +45,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ActiveProfiles(value = "test")
 class GetGroupTrainingsByTypeWithoutParticipantsTest {
 
+    private static final String CONTENT_HASH = "0a6ec5b3e0c2e8a7ad0b4a1a6fb7d6c1";
+
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private UniversalGroupTrainingService universalGroupTrainingService;
 
+    @MockBean
+    private GroupTrainingTimetableService groupTrainingTimetableService;
+
     private URI uri;
     private String startDate;
     private String endDate;
@@ -79,9 +91,9 @@ class GetGroupTrainingsByTypeWithoutParticipantsTest {
                 mapGroupTrainingsDocumentToDTOWithoutParticipants(training1);
         GroupTrainingWithoutParticipantsDTO trainingDTO2 =
                 mapGroupTrainingsDocumentToDTOWithoutParticipants(training2);
-        when(universalGroupTrainingService
-                .getGroupTrainingsByTypeWithoutParticipants(trainingTypeId, startDate, endDate)
-        ).thenReturn(List.of(trainingDTO1, trainingDTO2));
+        String json = objectMapper.writeValueAsString(List.of(trainingDTO1, trainingDTO2));
+        when(groupTrainingTimetableService.getTimetableByType(trainingTypeId, startDate, endDate))
+                .thenReturn(new GroupTrainingTimetable(json, CONTENT_HASH));
         RequestBuilder request = getValidRequest(testedLocale);
 
         BasicUserInfoDTO trainer1 = trainingDTO1.getTrainers().get(0);
@@ -93,6 +105,7 @@ class GetGroupTrainingsByTypeWithoutParticipantsTest {
                         matchAll(
                                 status().isOk(),
                                 content().contentType(MediaType.APPLICATION_JSON),
+                                header().string(HttpHeaders.ETAG, "\"" + CONTENT_HASH + "\""),
                                 jsonPath("$.message").doesNotExist(),
                                 jsonPath("$").isArray()
                         )
@@ -194,8 +207,8 @@ class GetGroupTrainingsByTypeWithoutParticipantsTest {
             Locale testedLocale = convertEnumToLocale(country);
 
             doThrow(StartDateAfterEndDateException.class)
-                    .when(universalGroupTrainingService)
-                    .getGroupTrainingsByTypeWithoutParticipants(trainingTypeId, startDate, endDate);
+                    .when(groupTrainingTimetableService)
+                    .getTimetableByType(trainingTypeId, startDate, endDate);
             RequestBuilder request = getValidRequest(testedLocale);
             String expectedMessage = messages.get("exception.start.date.after.end.date");
 
@@ -216,8 +229,8 @@ class GetGroupTrainingsByTypeWithoutParticipantsTest {
             Locale testedLocale = convertEnumToLocale(country);
 
             doThrow(IllegalStateException.class)
-                    .when(universalGroupTrainingService)
-                    .getGroupTrainingsByTypeWithoutParticipants(trainingTypeId, startDate, endDate);
+                    .when(groupTrainingTimetableService)
+                    .getTimetableByType(trainingTypeId, startDate, endDate);
             RequestBuilder request = getValidRequest(testedLocale);
             String expectedMessage = messages.get("exception.internal.error");
 
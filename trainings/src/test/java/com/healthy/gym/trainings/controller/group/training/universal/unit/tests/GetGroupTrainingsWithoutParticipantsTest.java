@@ -1,10 +1,13 @@
 package com.healthy.gym.trainings.controller.group.training.universal.unit.tests;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.healthy.gym.trainings.configuration.TestCountry;
 import com.healthy.gym.trainings.controller.group.training.UniversalGroupTrainingController;
 import com.healthy.gym.trainings.dto.BasicUserInfoDTO;
 import com.healthy.gym.trainings.dto.GroupTrainingWithoutParticipantsDTO;
 import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
+import com.healthy.gym.trainings.pojo.GroupTrainingTimetable;
+import com.healthy.gym.trainings.service.group.training.GroupTrainingTimetableService;
 import com.healthy.gym.trainings.service.group.training.UniversalGroupTrainingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +16,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
@@ -44,12 +48,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ActiveProfiles(value = "test")
 class GetGroupTrainingsWithoutParticipantsTest {
 
+    private static final String CONTENT_HASH = "0a6ec5b3e0c2e8a7ad0b4a1a6fb7d6c1";
+
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private UniversalGroupTrainingService universalGroupTrainingService;
 
+    @MockBean
+    private GroupTrainingTimetableService groupTrainingTimetableService;
+
     private URI uri;
     private String startDate;
     private String endDate;
@@ -79,8 +91,9 @@ class GetGroupTrainingsWithoutParticipantsTest {
                 mapGroupTrainingsDocumentToDTOWithoutParticipants(training1);
         GroupTrainingWithoutParticipantsDTO trainingDTO2 =
                 mapGroupTrainingsDocumentToDTOWithoutParticipants(training2);
-        when(universalGroupTrainingService.getGroupTrainingsWithoutParticipants(startDate, endDate))
-                .thenReturn(List.of(trainingDTO1, trainingDTO2));
+        String json = objectMapper.writeValueAsString(List.of(trainingDTO1, trainingDTO2));
+        when(groupTrainingTimetableService.getTimetable(startDate, endDate))
+                .thenReturn(new GroupTrainingTimetable(json, CONTENT_HASH));
         RequestBuilder request = getValidRequest(testedLocale);
 
         BasicUserInfoDTO trainer1 = trainingDTO1.getTrainers().get(0);
@@ -92,6 +105,7 @@ class GetGroupTrainingsWithoutParticipantsTest {
                         matchAll(
                                 status().isOk(),
                                 content().contentType(MediaType.APPLICATION_JSON),
+                                header().string(HttpHeaders.ETAG, "\"" + CONTENT_HASH + "\""),
                                 jsonPath("$.message").doesNotExist(),
                                 jsonPath("$").isArray()
                         )
@@ -142,6 +156,24 @@ class GetGroupTrainingsWithoutParticipantsTest {
                 );
     }
 
+    @ParameterizedTest
+    @EnumSource(TestCountry.class)
+    void shouldNotSendUnchangedTimetable(TestCountry country) throws Exception {
+        Locale testedLocale = convertEnumToLocale(country);
+
+        when(groupTrainingTimetableService.getTimetable(startDate, endDate))
+                .thenReturn(new GroupTrainingTimetable("[]", CONTENT_HASH));
+        RequestBuilder request = MockMvcRequestBuilders
+                .get(uri)
+                .header("Accept-Language", testedLocale.toString())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + CONTENT_HASH + "\"");
+
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Nested
     class ShouldAcceptRequestAndShouldThrow {
 
@@ -190,7 +222,7 @@ class GetGroupTrainingsWithoutParticipantsTest {
             Locale testedLocale = convertEnumToLocale(country);
 
             doThrow(StartDateAfterEndDateException.class)
-                    .when(universalGroupTrainingService).getGroupTrainingsWithoutParticipants(startDate, endDate);
+                    .when(groupTrainingTimetableService).getTimetable(startDate, endDate);
             RequestBuilder request = getValidRequest(testedLocale);
             String expectedMessage = messages.get("exception.start.date.after.end.date");
 
@@ -211,7 +243,7 @@ class GetGroupTrainingsWithoutParticipantsTest {
             Locale testedLocale = convertEnumToLocale(country);
 
             doThrow(IllegalStateException.class)
-                    .when(universalGroupTrainingService).getGroupTrainingsWithoutParticipants(startDate, endDate);
+                    .when(groupTrainingTimetableService).getTimetable(startDate, endDate);
             RequestBuilder request = getValidRequest(testedLocale);
             String expectedMessage = messages.get("exception.internal.error");
 
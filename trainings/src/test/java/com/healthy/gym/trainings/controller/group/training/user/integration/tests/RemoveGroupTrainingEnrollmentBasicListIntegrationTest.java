@@ -117,7 +117,7 @@ class RemoveGroupTrainingEnrollmentBasicListIntegrationTest {
                 LocalDateTime.parse("2020-10-10T15:30"),
                 LocalDateTime.parse("2020-10-10T16:00"),
                 location1Saved,
-                20,
+                2,
                 List.of(user1Saved, userSaved),
                 List.of(user2Saved)
         );
@@ -184,7 +184,7 @@ class RemoveGroupTrainingEnrollmentBasicListIntegrationTest {
 
     @ParameterizedTest
     @EnumSource(TestCountry.class)
-    void shouldUpdateGroupTraining(TestCountry country) throws Exception {
+    void shouldPromoteFirstUserFromReserveList(TestCountry country) throws Exception {
         testCurrentGroupTrainingStoredInDB();
 
         Map<String, String> messages = getMessagesAccordingToLocale(country);
@@ -218,14 +218,14 @@ class RemoveGroupTrainingEnrollmentBasicListIntegrationTest {
         assertThat(participants.get("basicList").isArray()).isTrue();
         assertThat(participants.get("reserveList").isArray()).isTrue();
 
-        assertThat(participants.get("basicList").size()).isEqualTo(1);
+        assertThat(participants.get("basicList").size()).isEqualTo(2);
         JsonNode user1 = participants.get("basicList").get(0);
         testUserDetails(user1, testUserId1, "UserName1", "UserSurname1");
-
-        assertThat(participants.get("reserveList").size()).isEqualTo(1);
-        JsonNode user2 = participants.get("reserveList").get(0);
+        JsonNode user2 = participants.get("basicList").get(1);
         testUserDetails(user2, testUserId2, "UserName2", "UserSurname2");
 
+        assertThat(participants.get("reserveList").size()).isZero();
+
         testUpdatedGroupTrainingStoredInDB();
     }
 
@@ -259,7 +259,7 @@ class RemoveGroupTrainingEnrollmentBasicListIntegrationTest {
         assertThat(locationDocument.getLocationId()).isEqualTo(locationId);
 
         int limit = groupTraining.getLimit();
-        assertThat(limit).isEqualTo(20);
+        assertThat(limit).isEqualTo(2);
 
         assertThat(groupTraining.getBasicList().size()).isEqualTo(2);
 
@@ -320,16 +320,15 @@ class RemoveGroupTrainingEnrollmentBasicListIntegrationTest {
         assertThat(locationDocument.getLocationId()).isEqualTo(locationId);
 
         int limit = groupTraining.getLimit();
-        assertThat(limit).isEqualTo(20);
+        assertThat(limit).isEqualTo(2);
 
-        assertThat(groupTraining.getBasicList().size()).isEqualTo(1);
+        assertThat(groupTraining.getBasicList().size()).isEqualTo(2);
 
         UserDocument user1 = groupTraining.getBasicList().get(0);
         assertThat(user1.getUserId()).isEqualTo(testUserId1);
-
-        assertThat(groupTraining.getReserveList().size()).isEqualTo(1);
-
-        UserDocument user2 = groupTraining.getReserveList().get(0);
+        UserDocument user2 = groupTraining.getBasicList().get(1);
         assertThat(user2.getUserId()).isEqualTo(testUserId2);
+
+        assertThat(groupTraining.getReserveList().size()).isZero();
     }
 }
@@ -7,6 +7,7 @@ import com.healthy.gym.trainings.exception.PastDateException;
 import com.healthy.gym.trainings.exception.UserAlreadyEnrolledToTrainingException;
 import com.healthy.gym.trainings.exception.notexisting.NotExistingGroupTrainingException;
 import com.healthy.gym.trainings.exception.notfound.UserNotFoundException;
+import com.healthy.gym.trainings.exception.training.TrainingEnrollmentConflictException;
 import com.healthy.gym.trainings.service.group.training.UserGroupTrainingService;
 import com.healthy.gym.trainings.dto.BasicUserInfoDTO;
 import com.healthy.gym.trainings.dto.GroupTrainingDTO;
@@ -326,6 +327,27 @@ class EnrollToGroupTrainingTest {
             performRequestAndTestErrorResponse(request, expectedMessage, UserAlreadyEnrolledToTrainingException.class);
         }
 
+        @ParameterizedTest
+        @EnumSource(TestCountry.class)
+        void shouldThrowConflictWhenTrainingEnrollmentConflictExceptionOccurred(TestCountry country) throws Exception {
+            Map<String, String> messages = getMessagesAccordingToLocale(country);
+            Locale testedLocale = convertEnumToLocale(country);
+
+            doThrow(TrainingEnrollmentConflictException.class)
+                    .when(userGroupTrainingService).enrollToGroupTraining(groupTrainingId, userId);
+            RequestBuilder request = getValidRequest(userToken, testedLocale);
+            String expectedMessage = messages.get("exception.group.training.enrollment.conflict");
+
+            mockMvc.perform(request)
+                    .andDo(print())
+                    .andExpect(status().isConflict())
+                    .andExpect(status().reason(is(expectedMessage)))
+                    .andExpect(result ->
+                            assertThat(Objects.requireNonNull(result.getResolvedException()).getCause())
+                                    .isInstanceOf(TrainingEnrollmentConflictException.class)
+                    );
+        }
+
         @ParameterizedTest
         @EnumSource(TestCountry.class)
         void shouldThrowInternalServerErrorWhenIllegalStateExceptionOccurred(TestCountry country) throws Exception {
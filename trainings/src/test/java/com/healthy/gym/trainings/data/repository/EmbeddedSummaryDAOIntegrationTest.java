@@ -0,0 +1,201 @@
+package com.healthy.gym.trainings.data.repository;
+
+import com.healthy.gym.trainings.configuration.FixedClockConfig;
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.IndividualTrainingDocument;
+import com.healthy.gym.trainings.data.document.LocationDocument;
+import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
+import com.healthy.gym.trainings.data.document.UserDocument;
+import com.healthy.gym.trainings.test.utils.TestDocumentUtilComponent;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, classes = FixedClockConfig.class)
+@ActiveProfiles(value = "test")
+@Tags({@Tag("repository"), @Tag("integration")})
+class EmbeddedSummaryDAOIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer =
+            new MongoDBContainer(DockerImageName.parse("mongo:4.4.4-bionic"));
+    @Container
+    static GenericContainer<?> rabbitMQContainer =
+            new GenericContainer<>(DockerImageName.parse("gza73/agh-praca-inzynierska-rabbitmq"))
+                    .withExposedPorts(5672);
+
+    @Autowired
+    private EmbeddedSummaryDAO embeddedSummaryDAO;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private TestDocumentUtilComponent testUtil;
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.rabbitmq.port", rabbitMQContainer::getFirstMappedPort);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.dropCollection(GroupTrainingDocument.class);
+        mongoTemplate.dropCollection(IndividualTrainingDocument.class);
+        mongoTemplate.dropCollection(LocationDocument.class);
+        mongoTemplate.dropCollection(TrainingTypeDocument.class);
+        mongoTemplate.dropCollection(UserDocument.class);
+    }
+
+    private GroupTrainingDocument getGroupTraining(String groupTrainingId) {
+        Query query = new Query(where("groupTrainingId").is(groupTrainingId));
+        return mongoTemplate.findOne(query, GroupTrainingDocument.class);
+    }
+
+    private Document getRawGroupTraining(String groupTrainingId) {
+        return mongoTemplate
+                .getCollection(mongoTemplate.getCollectionName(GroupTrainingDocument.class))
+                .find(new Document("groupTrainingId", groupTrainingId))
+                .first();
+    }
+
+    private DBRef getReference(String collectionName, String id) {
+        return new DBRef(collectionName, new ObjectId(id));
+    }
+
+    @Test
+    void shouldStoreOnlySummariesOfEmbeddedDocuments() {
+        UserDocument trainer = testUtil.saveAndGetTestTrainer();
+        GroupTrainingDocument groupTraining =
+                testUtil.saveAndGetTestGroupTraining("2020-10-10T15:30", "2020-10-10T16:00", List.of(trainer));
+
+        Document rawGroupTraining = getRawGroupTraining(groupTraining.getGroupTrainingId());
+
+        assertThat(rawGroupTraining.get("training", Document.class).keySet())
+                .containsExactly("_id", "trainingTypeId", "name");
+        assertThat(rawGroupTraining.get("location", Document.class).keySet())
+                .containsExactly("_id", "locationId", "name");
+        assertThat(rawGroupTraining.getList("trainers", Document.class))
+                .allSatisfy(user -> assertThat(user.keySet()).containsExactly("_id", "userId", "name", "surname"));
+        assertThat(rawGroupTraining.getList("basicList", Document.class)).hasSize(10)
+                .allSatisfy(user -> assertThat(user.keySet()).doesNotContain("email", "gymRoles"));
+
+        GroupTrainingDocument loadedGroupTraining = getGroupTraining(groupTraining.getGroupTrainingId());
+        assertThat(loadedGroupTraining.getTrainers().get(0).getUserId()).isEqualTo(trainer.getUserId());
+        assertThat(loadedGroupTraining.getTrainers().get(0).getName()).isEqualTo(trainer.getName());
+        assertThat(loadedGroupTraining.getTraining().getName()).isEqualTo(groupTraining.getTraining().getName());
+    }
+
+    @Test
+    void shouldMigrateLegacyReferencesToSummaries() {
+        TrainingTypeDocument trainingType = testUtil.saveAndGetTestTrainingType();
+        LocationDocument location = testUtil.saveAndGetTestLocation();
+        UserDocument trainer = testUtil.saveAndGetTestTrainer();
+        List<UserDocument> users = testUtil.getTestListOfSavedUserDocuments(3);
+        String groupTrainingId = UUID.randomUUID().toString();
+
+        List<DBRef> basicList = users.stream()
+                .map(user -> getReference("users", user.getId()))
+                .collect(Collectors.toList());
+        basicList.add(getReference("users", new ObjectId().toHexString()));
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(GroupTrainingDocument.class))
+                .insertOne(new Document("groupTrainingId", groupTrainingId)
+                        .append("training", getReference("trainingTypes", trainingType.getId()))
+                        .append("trainers", List.of(getReference("users", trainer.getId())))
+                        .append("startDate", LocalDateTime.parse("2020-10-10T15:30"))
+                        .append("endDate", LocalDateTime.parse("2020-10-10T16:00"))
+                        .append("location", getReference("locations", location.getId()))
+                        .append("limit", 10)
+                        .append("basicList", basicList)
+                        .append("reserveList", List.of())
+                );
+
+        assertThat(embeddedSummaryDAO.existLegacyReferences()).isTrue();
+        assertThat(embeddedSummaryDAO.migrateLegacyReferences(10)).isEqualTo(1);
+        assertThat(embeddedSummaryDAO.migrateLegacyReferences(10)).isZero();
+        assertThat(embeddedSummaryDAO.existLegacyReferences()).isFalse();
+
+        GroupTrainingDocument groupTraining = getGroupTraining(groupTrainingId);
+        assertThat(groupTraining.getTraining().getName()).isEqualTo(trainingType.getName());
+        assertThat(groupTraining.getLocation().getName()).isEqualTo(location.getName());
+        assertThat(groupTraining.getTrainers().get(0).getSurname()).isEqualTo(trainer.getSurname());
+        assertThat(groupTraining.getBasicList())
+                .extracting(UserDocument::getUserId)
+                .containsExactlyElementsOf(users.stream().map(UserDocument::getUserId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldUpdateUserSummariesInAllTrainings() {
+        UserDocument trainer = testUtil.saveAndGetTestTrainer();
+        GroupTrainingDocument groupTraining =
+                testUtil.saveAndGetTestGroupTraining("2020-10-10T15:30", "2020-10-10T16:00", List.of(trainer));
+        IndividualTrainingDocument individualTraining = testUtil.saveAndGetTestIndividualTraining(
+                groupTraining.getTraining(),
+                List.of(groupTraining.getBasicList().get(0)),
+                List.of(trainer),
+                "2020-10-11T15:30",
+                "2020-10-11T16:00",
+                groupTraining.getLocation(),
+                "remarks",
+                true
+        );
+
+        trainer.setName("Renamed");
+        trainer.setAvatarUrl("http://localhost:8020/account/photos/avatar");
+        embeddedSummaryDAO.updateUserSummaries(mongoTemplate.save(trainer));
+
+        UserDocument groupTrainingTrainer = getGroupTraining(groupTraining.getGroupTrainingId()).getTrainers().get(0);
+        assertThat(groupTrainingTrainer.getName()).isEqualTo("Renamed");
+        assertThat(groupTrainingTrainer.getAvatarUrl()).isEqualTo("http://localhost:8020/account/photos/avatar");
+
+        Query query = new Query(where("individualTrainingId").is(individualTraining.getIndividualTrainingId()));
+        UserDocument individualTrainingTrainer = mongoTemplate.findOne(query, IndividualTrainingDocument.class)
+                .getTrainers()
+                .get(0);
+        assertThat(individualTrainingTrainer.getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    void shouldUpdateTrainingTypeAndLocationNamesWhenTheyAreSaved() {
+        GroupTrainingDocument groupTraining = testUtil.saveAndGetTestGroupTraining(
+                "2020-10-10T15:30", "2020-10-10T16:00", List.of(testUtil.saveAndGetTestTrainer())
+        );
+
+        TrainingTypeDocument trainingType = groupTraining.getTraining();
+        trainingType.setName("Renamed training");
+        mongoTemplate.save(trainingType);
+        LocationDocument location = groupTraining.getLocation();
+        location.setName("Renamed location");
+        mongoTemplate.save(location);
+
+        GroupTrainingDocument updatedGroupTraining = getGroupTraining(groupTraining.getGroupTrainingId());
+        assertThat(updatedGroupTraining.getTraining().getName()).isEqualTo("Renamed training");
+        assertThat(updatedGroupTraining.getLocation().getName()).isEqualTo("Renamed location");
+    }
+}
@@ -0,0 +1,138 @@
+package com.healthy.gym.trainings.service;
+
+import com.healthy.gym.image.component.ImageCacheImpl;
+import com.healthy.gym.image.component.ImageProcessor;
+import com.healthy.gym.image.enums.ImageFormat;
+import com.healthy.gym.image.enums.ImageSize;
+import com.healthy.gym.trainings.data.document.ImageDocument;
+import com.healthy.gym.trainings.data.document.ImageVariantDocument;
+import com.healthy.gym.trainings.data.repository.ImageDAO;
+import com.healthy.gym.trainings.data.repository.ImageVariantDAO;
+import com.healthy.gym.trainings.exception.notfound.ImageNotFoundException;
+import com.healthy.gym.trainings.pojo.ImageContent;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PhotoServiceTest {
+
+    private ImageDAO imageDAO;
+    private ImageVariantDAO imageVariantDAO;
+    private ImageProcessor imageProcessor;
+    private PhotoService photoService;
+    private String imageId;
+    private ImageDocument imageDocument;
+
+    @BeforeEach
+    void setUp() {
+        imageDAO = mock(ImageDAO.class);
+        imageVariantDAO = mock(ImageVariantDAO.class);
+        imageProcessor = mock(ImageProcessor.class);
+        photoService = new PhotoServiceImpl(
+                imageDAO,
+                imageVariantDAO,
+                imageProcessor,
+                new ImageCacheImpl<>(new MockEnvironment())
+        );
+
+        imageId = UUID.randomUUID().toString();
+        imageDocument = new ImageDocument(imageId, new Binary(new byte[]{1, 2, 3}), MediaType.IMAGE_JPEG_VALUE);
+    }
+
+    private byte[] readContent(ImageContent image) throws IOException {
+        try (InputStream inputStream = image.getContent().getInputStream()) {
+            return StreamUtils.copyToByteArray(inputStream);
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenImageNotFound() {
+        when(imageDAO.findByImageId(imageId)).thenReturn(null);
+
+        assertThatThrownBy(() -> photoService.getImage(imageId, null, ImageSize.ORIGINAL, null))
+                .isInstanceOf(ImageNotFoundException.class);
+    }
+
+    @Test
+    void shouldReturnOriginalImageWithoutProcessing() throws Exception {
+        when(imageDAO.findByImageId(imageId)).thenReturn(imageDocument);
+
+        ImageContent image = photoService.getImage(imageId, null, ImageSize.ORIGINAL, ImageFormat.JPEG);
+
+        assertThat(readContent(image)).isEqualTo(new byte[]{1, 2, 3});
+        assertThat(image.getContentType()).isEqualTo(MediaType.IMAGE_JPEG_VALUE);
+        verifyNoInteractions(imageVariantDAO, imageProcessor);
+    }
+
+    @Test
+    void shouldReturnCachedVariant() throws Exception {
+        when(imageDAO.findByImageId(imageId)).thenReturn(imageDocument);
+        ImageVariantDocument variant = new ImageVariantDocument(
+                imageId,
+                "thumbnail.png",
+                new Binary(new byte[]{4}),
+                MediaType.IMAGE_PNG_VALUE
+        );
+        when(imageVariantDAO.findById(imageId + ":thumbnail.png")).thenReturn(Optional.of(variant));
+
+        ImageContent image = photoService.getImage(imageId, null, ImageSize.THUMBNAIL, ImageFormat.PNG);
+
+        assertThat(readContent(image)).isEqualTo(new byte[]{4});
+        assertThat(image.getContentType()).isEqualTo(MediaType.IMAGE_PNG_VALUE);
+        verifyNoInteractions(imageProcessor);
+    }
+
+    @Test
+    void shouldCreateAndStoreMissingVariant() throws IOException, ImageNotFoundException {
+        when(imageDAO.findByImageId(imageId)).thenReturn(imageDocument);
+        when(imageVariantDAO.findById(any())).thenReturn(Optional.empty());
+        when(imageProcessor.resize(new byte[]{1, 2, 3}, ImageSize.SMALL, ImageFormat.JPEG))
+                .thenReturn(new byte[]{5});
+        when(imageVariantDAO.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ImageContent image = photoService.getImage(imageId, null, ImageSize.SMALL, null);
+
+        assertThat(readContent(image)).isEqualTo(new byte[]{5});
+        assertThat(image.getContentType()).isEqualTo(MediaType.IMAGE_JPEG_VALUE);
+        verify(imageVariantDAO).save(new ImageVariantDocument(
+                imageId,
+                "small.jpeg",
+                new Binary(new byte[]{5}),
+                MediaType.IMAGE_JPEG_VALUE
+        ));
+    }
+
+    @Test
+    void shouldServeVersionedImageFromCache() throws Exception {
+        when(imageDAO.findByImageId(imageId)).thenReturn(imageDocument);
+
+        photoService.getImage(imageId, "version", ImageSize.ORIGINAL, null);
+        ImageContent image = photoService.getImage(imageId, "version", ImageSize.ORIGINAL, null);
+
+        assertThat(readContent(image)).isEqualTo(new byte[]{1, 2, 3});
+        verify(imageDAO, times(1)).findByImageId(imageId);
+    }
+
+    @Test
+    void shouldNotCacheUnversionedImage() throws Exception {
+        when(imageDAO.findByImageId(imageId)).thenReturn(imageDocument);
+
+        photoService.getImage(imageId, null, ImageSize.ORIGINAL, null);
+        photoService.getImage(imageId, null, ImageSize.ORIGINAL, null);
+
+        verify(imageDAO, times(2)).findByImageId(imageId);
+    }
+}
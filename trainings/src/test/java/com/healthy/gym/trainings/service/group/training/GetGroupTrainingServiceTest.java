@@ -5,7 +5,6 @@ import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
 import com.healthy.gym.trainings.data.repository.TrainingTypeDAO;
 import com.healthy.gym.trainings.data.repository.group.training.UniversalGroupTrainingDAO;
 import com.healthy.gym.trainings.dto.GroupTrainingDTO;
-import com.healthy.gym.trainings.dto.GroupTrainingWithoutParticipantsDTO;
 import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
 import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundException;
 import com.healthy.gym.trainings.utils.StartEndDateValidator;
@@ -96,31 +95,6 @@ public class GetGroupTrainingServiceTest {
         }
     }
 
-    @Nested
-    class WhenGetGroupTrainingsWithoutParticipants {
-        @Test
-        void shouldThrowExceptionWhenStartDateAfterEndDate() {
-            assertThatThrownBy(
-                    () -> universalGroupTrainingService
-                            .getGroupTrainingsWithoutParticipants("2020-10-10", "2020-10-01")
-            ).isInstanceOf(StartDateAfterEndDateException.class);
-        }
-
-        @Test
-        void shouldReturnList() throws StartDateAfterEndDateException {
-            var result = universalGroupTrainingService
-                    .getGroupTrainingsWithoutParticipants("2020-10-01", "2020-10-11");
-
-            for (int i = 0; i < result.size(); i++) {
-                GroupTrainingWithoutParticipantsDTO training = result.get(i);
-                assertThat(training.getLocation())
-                        .isEqualTo(groupTrainingDocumentList.get(i).getLocation().getName());
-                assertThat(training.getGroupTrainingId())
-                        .isEqualTo(groupTrainingDocumentList.get(i).getGroupTrainingId());
-            }
-        }
-    }
-
     @Nested
     class WhenGetGroupTrainingsByTypeWithParticipants {
         @Test
@@ -168,47 +142,4 @@ public class GetGroupTrainingServiceTest {
         }
     }
 
-    @Nested
-    class WhenGetGroupTrainingsByTypeWithoutParticipants {
-        @Test
-        void shouldThrowExceptionWhenTrainingTypeNotFound() {
-            assertThatThrownBy(
-                    () -> universalGroupTrainingService
-                            .getGroupTrainingsByTypeWithoutParticipants(
-                                    trainingTypeId,
-                                    "2020-10-10",
-                                    "2020-10-11"
-                            )
-            ).isInstanceOf(TrainingTypeNotFoundException.class);
-        }
-
-        @Test
-        void shouldThrowExceptionWhenStartDateAfterEndDate() {
-            when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(trainingTypeDocument);
-            assertThatThrownBy(
-                    () -> universalGroupTrainingService
-                            .getGroupTrainingsByTypeWithoutParticipants(
-                                    trainingTypeId,
-                                    "2020-10-10",
-                                    "2020-10-01"
-                            )
-            ).isInstanceOf(StartDateAfterEndDateException.class);
-        }
-
-        @Test
-        void shouldReturnList() throws StartDateAfterEndDateException, TrainingTypeNotFoundException {
-            when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(trainingTypeDocument);
-            var result = universalGroupTrainingService
-                    .getGroupTrainingsByTypeWithoutParticipants(trainingTypeId, "2020-10-01", "2020-10-11");
-
-            for (int i = 0; i < result.size(); i++) {
-                GroupTrainingWithoutParticipantsDTO training = result.get(i);
-                assertThat(training.getLocation())
-                        .isEqualTo(groupTrainingDocumentList.get(i).getLocation().getName());
-                assertThat(training.getGroupTrainingId())
-                        .isEqualTo(groupTrainingDocumentList.get(i).getGroupTrainingId());
-            }
-        }
-    }
-
 }
@@ -0,0 +1,172 @@
+package com.healthy.gym.trainings.service.group.training;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthy.gym.trainings.configuration.FixedClockConfig;
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.GroupTrainingTimetableDocument;
+import com.healthy.gym.trainings.data.document.LocationDocument;
+import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
+import com.healthy.gym.trainings.data.document.UserDocument;
+import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundException;
+import com.healthy.gym.trainings.pojo.GroupTrainingTimetable;
+import com.healthy.gym.trainings.test.utils.TestDocumentUtilComponent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, classes = FixedClockConfig.class)
+@ActiveProfiles(value = "test")
+@Tags({@Tag("service"), @Tag("integration")})
+class GroupTrainingTimetableServiceIntegrationTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer =
+            new MongoDBContainer(DockerImageName.parse("mongo:4.4.4-bionic"));
+    @Container
+    static GenericContainer<?> rabbitMQContainer =
+            new GenericContainer<>(DockerImageName.parse("gza73/agh-praca-inzynierska-rabbitmq"))
+                    .withExposedPorts(5672);
+
+    @Autowired
+    private GroupTrainingTimetableService groupTrainingTimetableService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestDocumentUtilComponent testUtil;
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.rabbitmq.port", rabbitMQContainer::getFirstMappedPort);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.dropCollection(GroupTrainingDocument.class);
+        mongoTemplate.dropCollection(GroupTrainingTimetableDocument.class);
+        mongoTemplate.dropCollection(LocationDocument.class);
+        mongoTemplate.dropCollection(TrainingTypeDocument.class);
+        mongoTemplate.dropCollection(UserDocument.class);
+    }
+
+    private List<String> getIds(GroupTrainingTimetable timetable) throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (JsonNode training : objectMapper.readTree(timetable.getJson())) {
+            ids.add(training.get("id").asText());
+        }
+        return ids;
+    }
+
+    @Test
+    void shouldServeTrainingsWithinDatesAndStoreTheirWeeks() throws Exception {
+        var tuesdayTraining = testUtil.createTestGroupTraining("2020-10-06T18:00", "2020-10-06T19:00");
+        var thursdayTraining = testUtil.createTestGroupTraining("2020-10-08T18:00", "2020-10-08T19:00");
+        var nextWeekTraining = testUtil.createTestGroupTraining("2020-10-13T18:00", "2020-10-13T19:00");
+
+        GroupTrainingTimetable timetable = groupTrainingTimetableService.getTimetable("2020-10-08", "2020-10-14");
+
+        assertThat(getIds(timetable)).containsExactly(
+                thursdayTraining.getGroupTrainingId(),
+                nextWeekTraining.getGroupTrainingId()
+        );
+        assertThat(mongoTemplate.findAll(GroupTrainingTimetableDocument.class))
+                .extracting(GroupTrainingTimetableDocument::getId)
+                .containsExactlyInAnyOrder("2020-10-05", "2020-10-12");
+        assertThat(getIds(groupTrainingTimetableService.getTimetable("2020-10-05", "2020-10-11"))).containsExactly(
+                tuesdayTraining.getGroupTrainingId(),
+                thursdayTraining.getGroupTrainingId()
+        );
+    }
+
+    @Test
+    void shouldServeStoredWeekUntilItIsRefreshed() throws Exception {
+        var training = testUtil.createTestGroupTraining("2020-10-06T18:00", "2020-10-06T19:00");
+        GroupTrainingTimetable timetable = groupTrainingTimetableService.getTimetable("2020-10-05", "2020-10-11");
+
+        var addedTraining = testUtil.createTestGroupTraining("2020-10-07T18:00", "2020-10-07T19:00");
+        assertThat(groupTrainingTimetableService.getTimetable("2020-10-05", "2020-10-11").getContentHash())
+                .isEqualTo(timetable.getContentHash());
+
+        groupTrainingTimetableService.refreshWeeks(List.of(addedTraining.getStartDate()));
+
+        GroupTrainingTimetable refreshedTimetable =
+                groupTrainingTimetableService.getTimetable("2020-10-05", "2020-10-11");
+        assertThat(refreshedTimetable.getContentHash()).isNotEqualTo(timetable.getContentHash());
+        assertThat(getIds(refreshedTimetable)).containsExactly(
+                training.getGroupTrainingId(),
+                addedTraining.getGroupTrainingId()
+        );
+        assertThat(mongoTemplate.findById("2020-10-05", GroupTrainingTimetableDocument.class).getRevision())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeWeeksOutsideStoredWindowWithoutStoringThem() throws Exception {
+        var pastTraining = testUtil.createTestGroupTraining("2020-06-02T18:00", "2020-06-02T19:00");
+        var futureTraining = testUtil.createTestGroupTraining("2022-01-04T18:00", "2022-01-04T19:00");
+
+        assertThat(getIds(groupTrainingTimetableService.getTimetable("2020-06-01", "2020-06-07")))
+                .containsExactly(pastTraining.getGroupTrainingId());
+        assertThat(getIds(groupTrainingTimetableService.getTimetable("2022-01-03", "2022-01-09")))
+                .containsExactly(futureTraining.getGroupTrainingId());
+        assertThat(mongoTemplate.findAll(GroupTrainingTimetableDocument.class)).isEmpty();
+    }
+
+    @Test
+    void shouldDropWeeksThatFellOutOfStoredWindow() throws Exception {
+        mongoTemplate.insert(new GroupTrainingTimetableDocument("2020-06-01", List.of()));
+
+        groupTrainingTimetableService.getTimetable("2020-10-05", "2020-10-11");
+
+        assertThat(mongoTemplate.findAll(GroupTrainingTimetableDocument.class))
+                .extracting(GroupTrainingTimetableDocument::getId)
+                .containsExactly("2020-10-05");
+    }
+
+    @Test
+    void shouldServeOnlyTrainingsOfGivenType() throws Exception {
+        TrainingTypeDocument trainingType = testUtil.saveAndGetTestTrainingType();
+        var training = testUtil.createTestGroupTraining(trainingType, "2020-10-06T18:00", "2020-10-06T19:00");
+        testUtil.createTestGroupTraining("2020-10-06T20:00", "2020-10-06T21:00");
+
+        GroupTrainingTimetable timetable = groupTrainingTimetableService
+                .getTimetableByType(trainingType.getTrainingTypeId(), "2020-10-05", "2020-10-11");
+
+        assertThat(getIds(timetable)).containsExactly(training.getGroupTrainingId());
+    }
+
+    @Test
+    void shouldThrowTrainingTypeNotFoundException() {
+        String trainingTypeId = UUID.randomUUID().toString();
+
+        assertThatThrownBy(
+                () -> groupTrainingTimetableService.getTimetableByType(trainingTypeId, "2020-10-05", "2020-10-11")
+        ).isInstanceOf(TrainingTypeNotFoundException.class);
+    }
+}
@@ -0,0 +1,218 @@
+package com.healthy.gym.trainings.service.group.training;
+
+import com.healthy.gym.trainings.configuration.FixedClockConfig;
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.LocationDocument;
+import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
+import com.healthy.gym.trainings.data.document.UserDocument;
+import com.healthy.gym.trainings.exception.UserAlreadyEnrolledToTrainingException;
+import com.healthy.gym.trainings.test.utils.TestDocumentUtilComponent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, classes = FixedClockConfig.class)
+@ActiveProfiles(value = "test")
+@Tags({@Tag("service"), @Tag("integration")})
+class UserGroupTrainingServiceConcurrencyIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Container
+    static MongoDBContainer mongoDBContainer =
+            new MongoDBContainer(DockerImageName.parse("mongo:4.4.4-bionic"));
+    @Container
+    static GenericContainer<?> rabbitMQContainer =
+            new GenericContainer<>(DockerImageName.parse("gza73/agh-praca-inzynierska-rabbitmq"))
+                    .withExposedPorts(5672);
+
+    @Autowired
+    private UserGroupTrainingService userGroupTrainingService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private TestDocumentUtilComponent testUtil;
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.rabbitmq.port", rabbitMQContainer::getFirstMappedPort);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.dropCollection(GroupTrainingDocument.class);
+        mongoTemplate.dropCollection(LocationDocument.class);
+        mongoTemplate.dropCollection(TrainingTypeDocument.class);
+        mongoTemplate.dropCollection(UserDocument.class);
+    }
+
+    private String createGroupTraining(int limit, List<UserDocument> basicList, List<UserDocument> reserveList) {
+        String groupTrainingId = UUID.randomUUID().toString();
+        mongoTemplate.save(new GroupTrainingDocument(
+                groupTrainingId,
+                testUtil.saveAndGetTestTrainingType(),
+                List.of(testUtil.saveAndGetTestTrainer()),
+                LocalDateTime.parse("2020-10-10T15:30"),
+                LocalDateTime.parse("2020-10-10T16:00"),
+                testUtil.saveAndGetTestLocation(),
+                limit,
+                new ArrayList<>(basicList),
+                new ArrayList<>(reserveList)
+        ));
+        return groupTrainingId;
+    }
+
+    private GroupTrainingDocument getGroupTraining(String groupTrainingId) {
+        Query query = new Query(where("groupTrainingId").is(groupTrainingId));
+        return mongoTemplate.findOne(query, GroupTrainingDocument.class);
+    }
+
+    private List<String> getUserIds(List<UserDocument> users) {
+        return users.stream().map(UserDocument::getUserId).collect(Collectors.toList());
+    }
+
+    private List<Throwable> runConcurrently(List<Callable<Object>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (Callable<Object> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    return task.call();
+                }));
+            }
+            startGate.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException exception) {
+                    failures.add(exception.getCause());
+                } catch (TimeoutException exception) {
+                    failures.add(exception);
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNeverOverfillBasicListWhenManyUsersEnrollAtOnce() throws InterruptedException {
+        String groupTrainingId = createGroupTraining(10, List.of(), List.of());
+        List<UserDocument> users = testUtil.getTestListOfSavedUserDocuments(60);
+
+        List<Callable<Object>> tasks = users.stream()
+                .map(user -> (Callable<Object>) () ->
+                        userGroupTrainingService.enrollToGroupTraining(groupTrainingId, user.getUserId()))
+                .collect(Collectors.toList());
+
+        assertThat(runConcurrently(tasks)).isEmpty();
+
+        GroupTrainingDocument groupTraining = getGroupTraining(groupTrainingId);
+        List<String> participants = new ArrayList<>(getUserIds(groupTraining.getBasicList()));
+        participants.addAll(getUserIds(groupTraining.getReserveList()));
+
+        assertThat(groupTraining.getBasicList()).hasSize(10);
+        assertThat(groupTraining.getReserveList()).hasSize(50);
+        assertThat(participants).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(getUserIds(users));
+    }
+
+    @Test
+    void shouldEnrollUserOnlyOnceWhenSameRequestIsRepeatedAtOnce() throws InterruptedException {
+        String groupTrainingId = createGroupTraining(10, List.of(), List.of());
+        UserDocument user = testUtil.saveAndGetTestUser();
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            tasks.add(() -> userGroupTrainingService.enrollToGroupTraining(groupTrainingId, user.getUserId()));
+        }
+
+        List<Throwable> failures = runConcurrently(tasks);
+
+        assertThat(failures).hasSize(39).allMatch(UserAlreadyEnrolledToTrainingException.class::isInstance);
+        GroupTrainingDocument groupTraining = getGroupTraining(groupTrainingId);
+        assertThat(getUserIds(groupTraining.getBasicList())).containsExactly(user.getUserId());
+        assertThat(groupTraining.getReserveList()).isEmpty();
+    }
+
+    @Test
+    void shouldPromoteReserveListInOrderWhenBasicListUsersCancelAtOnce() throws InterruptedException {
+        List<UserDocument> basicList = testUtil.getTestListOfSavedUserDocuments(8);
+        List<UserDocument> reserveList = testUtil.getTestListOfSavedUserDocuments(12);
+        String groupTrainingId = createGroupTraining(8, basicList, reserveList);
+
+        List<Callable<Object>> tasks = basicList.stream()
+                .map(user -> (Callable<Object>) () ->
+                        userGroupTrainingService.removeGroupTrainingEnrollment(groupTrainingId, user.getUserId()))
+                .collect(Collectors.toList());
+
+        assertThat(runConcurrently(tasks)).isEmpty();
+
+        GroupTrainingDocument groupTraining = getGroupTraining(groupTrainingId);
+        assertThat(getUserIds(groupTraining.getBasicList()))
+                .containsExactlyInAnyOrderElementsOf(getUserIds(reserveList.subList(0, 8)));
+        assertThat(getUserIds(groupTraining.getReserveList()))
+                .containsExactlyElementsOf(getUserIds(reserveList.subList(8, 12)));
+    }
+
+    @Test
+    void shouldKeepListsConsistentWhenUsersEnrollAndCancelAtOnce() throws InterruptedException {
+        List<UserDocument> leavingUsers = testUtil.getTestListOfSavedUserDocuments(15);
+        List<UserDocument> joiningUsers = testUtil.getTestListOfSavedUserDocuments(30);
+        String groupTrainingId = createGroupTraining(
+                10,
+                leavingUsers.subList(0, 10),
+                leavingUsers.subList(10, 15)
+        );
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        leavingUsers.forEach(user -> tasks.add(
+                () -> userGroupTrainingService.removeGroupTrainingEnrollment(groupTrainingId, user.getUserId())
+        ));
+        joiningUsers.forEach(user -> tasks.add(
+                () -> userGroupTrainingService.enrollToGroupTraining(groupTrainingId, user.getUserId())
+        ));
+        Collections.shuffle(tasks, new Random(0));
+
+        assertThat(runConcurrently(tasks)).isEmpty();
+
+        GroupTrainingDocument groupTraining = getGroupTraining(groupTrainingId);
+        List<String> participants = new ArrayList<>(getUserIds(groupTraining.getBasicList()));
+        participants.addAll(getUserIds(groupTraining.getReserveList()));
+
+        assertThat(groupTraining.getBasicList()).hasSize(10);
+        assertThat(groupTraining.getReserveList()).hasSize(20);
+        assertThat(participants).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(getUserIds(joiningUsers));
+    }
+}
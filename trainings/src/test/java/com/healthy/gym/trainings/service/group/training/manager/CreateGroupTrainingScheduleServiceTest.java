@@ -0,0 +1,269 @@
+package com.healthy.gym.trainings.service.group.training.manager;
+
+import com.healthy.gym.trainings.component.CollisionValidatorComponent;
+import com.healthy.gym.trainings.component.CollisionValidatorComponentImpl;
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.LocationDocument;
+import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
+import com.healthy.gym.trainings.data.document.UserDocument;
+import com.healthy.gym.trainings.data.repository.LocationDAO;
+import com.healthy.gym.trainings.data.repository.TrainingTypeDAO;
+import com.healthy.gym.trainings.data.repository.UserDAO;
+import com.healthy.gym.trainings.data.repository.group.training.GroupTrainingsDAO;
+import com.healthy.gym.trainings.data.repository.individual.training.IndividualTrainingRepository;
+import com.healthy.gym.trainings.dto.GroupTrainingConflictDTO;
+import com.healthy.gym.trainings.dto.GroupTrainingDTO;
+import com.healthy.gym.trainings.dto.GroupTrainingScheduleDTO;
+import com.healthy.gym.trainings.enums.GroupTrainingConflict;
+import com.healthy.gym.trainings.enums.GymRole;
+import com.healthy.gym.trainings.exception.StartDateAfterEndDateException;
+import com.healthy.gym.trainings.exception.invalid.EmptyScheduleException;
+import com.healthy.gym.trainings.exception.invalid.ScheduleTooLongException;
+import com.healthy.gym.trainings.exception.notfound.LocationNotFoundException;
+import com.healthy.gym.trainings.exception.notfound.TrainerNotFoundException;
+import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundException;
+import com.healthy.gym.trainings.model.request.ManagerGroupTrainingScheduleRequest;
+import com.healthy.gym.trainings.service.NotificationService;
+import com.healthy.gym.trainings.service.group.training.GroupTrainingDocumentUpdateBuilder;
+import com.healthy.gym.trainings.service.group.training.GroupTrainingTimetableService;
+import com.healthy.gym.trainings.service.group.training.ManagerGroupTrainingService;
+import com.healthy.gym.trainings.service.group.training.ManagerGroupTrainingServiceImpl;
+import com.healthy.gym.trainings.test.utils.TestDocumentUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CreateGroupTrainingScheduleServiceTest {
+
+    private IndividualTrainingRepository individualTrainingRepository;
+    private GroupTrainingsDAO groupTrainingsDAO;
+    private TrainingTypeDAO trainingTypeDAO;
+    private LocationDAO locationDAO;
+    private UserDAO userDAO;
+
+    private LocationDocument location;
+    private UserDocument trainer;
+    private ManagerGroupTrainingScheduleRequest scheduleRequest;
+    private ManagerGroupTrainingService managerGroupTrainingService;
+
+    @BeforeEach
+    void setUp() {
+        individualTrainingRepository = mock(IndividualTrainingRepository.class);
+        groupTrainingsDAO = mock(GroupTrainingsDAO.class);
+        trainingTypeDAO = mock(TrainingTypeDAO.class);
+        locationDAO = mock(LocationDAO.class);
+        userDAO = mock(UserDAO.class);
+        Clock clock = Clock.fixed(Instant.parse("2021-07-10T18:00:00.00Z"), ZoneId.of("Europe/Warsaw"));
+
+        location = new LocationDocument(UUID.randomUUID().toString(), "TestLocation");
+        trainer = getTestTrainer();
+        scheduleRequest = getScheduleRequest();
+
+        when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(getTestTrainingTypeDocument());
+        when(userDAO.findAllByUserIdIn(List.of("100ed952-es7f-435a-bd1e-9fb2a327c4dk"))).thenReturn(List.of(trainer));
+        when(locationDAO.findByLocationId(anyString())).thenReturn(location);
+        when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of());
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of());
+        when(groupTrainingsDAO.insert(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CollisionValidatorComponent collisionValidatorComponent =
+                new CollisionValidatorComponentImpl(
+                        groupTrainingsDAO,
+                        individualTrainingRepository,
+                        clock,
+                        new MockEnvironment()
+                );
+        managerGroupTrainingService = new ManagerGroupTrainingServiceImpl(
+                collisionValidatorComponent,
+                groupTrainingsDAO,
+                trainingTypeDAO,
+                locationDAO,
+                userDAO,
+                clock,
+                mock(GroupTrainingDocumentUpdateBuilder.class),
+                mock(NotificationService.class),
+                mock(GroupTrainingTimetableService.class)
+        );
+    }
+
+    private ManagerGroupTrainingScheduleRequest getScheduleRequest() {
+        ManagerGroupTrainingScheduleRequest request = new ManagerGroupTrainingScheduleRequest();
+        request.setTrainingTypeId("122ed953-e37f-435a-bd1e-9fb2a327c4d3");
+        request.setTrainerIds(List.of("100ed952-es7f-435a-bd1e-9fb2a327c4dk"));
+        request.setLocationId("05cbccea-6248-4e40-931b-a34031a8c678");
+        request.setLimit(10);
+        request.setDaysOfWeek(List.of(DayOfWeek.MONDAY, DayOfWeek.SATURDAY));
+        request.setStartTime("19:00");
+        request.setEndTime("20:00");
+        request.setFirstDate("2021-07-12");
+        request.setLastDate("2021-07-25");
+        return request;
+    }
+
+    private TrainingTypeDocument getTestTrainingTypeDocument() {
+        return new TrainingTypeDocument(
+                "122ed953-e37f-435a-bd1e-9fb2a327c4d3",
+                "TestTraining",
+                "TestDescription",
+                null,
+                null
+        );
+    }
+
+    private UserDocument getTestTrainer() {
+        var user = new UserDocument();
+        user.setName("TestName1");
+        user.setSurname("TestSurname1");
+        user.setUserId("100ed952-es7f-435a-bd1e-9fb2a327c4dk");
+        user.setGymRoles(List.of(GymRole.USER, GymRole.TRAINER));
+        return user;
+    }
+
+    private List<String> getStartDates(GroupTrainingScheduleDTO schedule) {
+        return schedule.getTrainings()
+                .stream()
+                .map(GroupTrainingDTO::getStartDate)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void shouldCreateTrainingForEveryMatchingDayInSingleInsert() throws Exception {
+        GroupTrainingScheduleDTO schedule = managerGroupTrainingService.createGroupTrainingSchedule(scheduleRequest);
+
+        assertThat(getStartDates(schedule))
+                .containsExactly("2021-07-12T19:00", "2021-07-17T19:00", "2021-07-19T19:00", "2021-07-24T19:00");
+        assertThat(schedule.getConflicts()).isEmpty();
+        verify(groupTrainingsDAO, times(1)).insert(anyList());
+        verify(groupTrainingsDAO, never()).save(any());
+    }
+
+    @Test
+    void shouldNotSaveAnythingWhenSomeTrainingsCollide() throws Exception {
+        scheduleRequest.setFirstDate("2021-07-10");
+        when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of(
+                TestDocumentUtil.getTestGroupTraining("2021-07-17T19:30", "2021-07-17T20:30", location)
+        ));
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of(
+                        TestDocumentUtil.getTestIndividualTraining(
+                                "2021-07-19T18:30", "2021-07-19T19:30", List.of(trainer)
+                        )
+                ));
+
+        GroupTrainingScheduleDTO schedule = managerGroupTrainingService.createGroupTrainingSchedule(scheduleRequest);
+
+        assertThat(schedule.getTrainings()).isEmpty();
+        assertThat(schedule.getConflicts()).containsExactly(
+                new GroupTrainingConflictDTO(
+                        "2021-07-10T19:00", "2021-07-10T20:00", GroupTrainingConflict.PAST_DATE
+                ),
+                new GroupTrainingConflictDTO(
+                        "2021-07-17T19:00", "2021-07-17T20:00", GroupTrainingConflict.LOCATION_OCCUPIED
+                ),
+                new GroupTrainingConflictDTO(
+                        "2021-07-19T19:00", "2021-07-19T20:00", GroupTrainingConflict.TRAINER_OCCUPIED
+                )
+        );
+        verify(groupTrainingsDAO, never()).insert(anyList());
+    }
+
+    @Test
+    void shouldSaveOnlyFreeSlotsWhenConflictsAreSkipped() throws Exception {
+        scheduleRequest.setSkipConflicts(true);
+        when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of(
+                TestDocumentUtil.getTestGroupTraining("2021-07-17T19:30", "2021-07-17T20:30", location)
+        ));
+
+        GroupTrainingScheduleDTO schedule = managerGroupTrainingService.createGroupTrainingSchedule(scheduleRequest);
+
+        assertThat(getStartDates(schedule))
+                .containsExactly("2021-07-12T19:00", "2021-07-19T19:00", "2021-07-24T19:00");
+        assertThat(schedule.getConflicts()).containsExactly(
+                new GroupTrainingConflictDTO(
+                        "2021-07-17T19:00", "2021-07-17T20:00", GroupTrainingConflict.LOCATION_OCCUPIED
+                )
+        );
+        verify(groupTrainingsDAO, times(1)).insert(anyList());
+    }
+
+    @Test
+    void shouldThrowStartDateAfterEndDateException_whenEndTimeIsBeforeStartTime() {
+        scheduleRequest.setEndTime("18:59");
+
+        assertThatThrownBy(() -> managerGroupTrainingService.createGroupTrainingSchedule(scheduleRequest))
+                .isInstanceOf(StartDateAfterEndDateException.class);
+    }
+
+    @Test
+    void shouldThrowStartDateAfterEndDateException_whenLastDateIsBeforeFirstDate() {
+        scheduleRequest.setLastDate("2021-07-11");
+
+        assertThatThrownBy(() -> managerGroupTrainingService.createGroupTrainingSchedule(scheduleRequest))
+                .isInstanceOf(StartDateAfterEndDateException.class);
+    }
+
+    @Test
+    void shouldThrowEmptyScheduleException_whenNoDateMatchesDaysOfWeek() {
+        scheduleRequest.setFirstDate("2021-07-13");
+        scheduleRequest.setLastDate("2021-07-16");
+
+        assertThatThrownBy(() -> managerGroupTrainingService.createGroupTrainingSchedule(scheduleRequest))
+                .isInstanceOf(EmptyScheduleException.class);
+        verify(groupTrainingsDAO, never()).insert(anyList());
+    }
+
+    @Test
+    void shouldLookUpAllTrainersInSingleQuery() throws Exception {
+        managerGroupTrainingService.createGroupTrainingSchedule(scheduleRequest);
+
+        verify(userDAO, times(1)).findAllByUserIdIn(anyList());
+        verify(userDAO, never()).findByUserId(anyString());
+    }
+
+    @Test
+    void shouldThrowScheduleTooLongException_whenScheduleSpansMoreThanYear() {
+        scheduleRequest.setLastDate("2022-07-13");
+
+        assertThatThrownBy(() -> managerGroupTrainingService.createGroupTrainingSchedule(scheduleRequest))
+                .isInstanceOf(ScheduleTooLongException.class);
+    }
+
+    @Test
+    void shouldThrowTrainingTypeNotFoundException_whenTrainingTypeNotFound() {
+        when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(null);
+
+        assertThatThrownBy(() -> managerGroupTrainingService.createGroupTrainingSchedule(scheduleRequest))
+                .isInstanceOf(TrainingTypeNotFoundException.class);
+    }
+
+    @Test
+    void shouldThrowTrainerNotFoundException_whenTrainerIsNotFound() {
+        when(userDAO.findAllByUserIdIn(anyList())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> managerGroupTrainingService.createGroupTrainingSchedule(scheduleRequest))
+                .isInstanceOf(TrainerNotFoundException.class);
+    }
+
+    @Test
+    void shouldThrowLocationNotFoundException_whenLocationIsNotFound() {
+        when(locationDAO.findByLocationId(anyString())).thenReturn(null);
+
+        assertThatThrownBy(() -> managerGroupTrainingService.createGroupTrainingSchedule(scheduleRequest))
+                .isInstanceOf(LocationNotFoundException.class);
+    }
+}
@@ -25,12 +25,13 @@ import com.healthy.gym.trainings.exception.occupied.TrainerOccupiedException;
 import com.healthy.gym.trainings.model.request.ManagerGroupTrainingRequest;
 import com.healthy.gym.trainings.service.NotificationService;
 import com.healthy.gym.trainings.service.group.training.GroupTrainingDocumentUpdateBuilder;
+import com.healthy.gym.trainings.service.group.training.GroupTrainingTimetableService;
 import com.healthy.gym.trainings.service.group.training.ManagerGroupTrainingService;
 import com.healthy.gym.trainings.service.group.training.ManagerGroupTrainingServiceImpl;
 import com.healthy.gym.trainings.test.utils.TestDocumentUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.domain.Sort;
+import org.springframework.mock.env.MockEnvironment;
 
 import java.time.*;
 import java.util.ArrayList;
@@ -40,6 +41,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -69,7 +71,12 @@ class CreateGroupTrainingServiceTest {
         createGroupTrainingRequest = getCreateGroupTrainingRequest();
 
         CollisionValidatorComponent collisionValidatorComponent =
-                new CollisionValidatorComponentImpl(groupTrainingsDAO, individualTrainingRepository);
+                new CollisionValidatorComponentImpl(
+                        groupTrainingsDAO,
+                        individualTrainingRepository,
+                        clock,
+                        new MockEnvironment()
+                );
         NotificationService notificationService = mock(NotificationService.class);
         managerGroupTrainingService = new ManagerGroupTrainingServiceImpl(
                 collisionValidatorComponent,
@@ -79,7 +86,8 @@ class CreateGroupTrainingServiceTest {
                 userDAO,
                 clock,
                 groupTrainingDocumentUpdateBuilder,
-                notificationService
+                notificationService,
+                mock(GroupTrainingTimetableService.class)
         );
     }
 
@@ -107,7 +115,7 @@ class CreateGroupTrainingServiceTest {
     @Test
     void shouldThrowTrainerNotFoundException_whenTrainerIsNotFound() {
         when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(getTestTrainingTypeDocument());
-        when(userDAO.findByUserId(anyString())).thenReturn(null);
+        when(userDAO.findAllByUserIdIn(anyList())).thenReturn(List.of());
 
         assertThatThrownBy(() -> managerGroupTrainingService.createGroupTraining(createGroupTrainingRequest))
                 .isInstanceOf(TrainerNotFoundException.class);
@@ -126,8 +134,7 @@ class CreateGroupTrainingServiceTest {
     @Test
     void shouldThrowTrainerNotFoundException_whenNoUserHasTrainerRole() {
         when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(getTestTrainingTypeDocument());
-        when(userDAO.findByUserId("100ed952-es7f-435a-bd1e-9fb2a327c4dk")).thenReturn(getTestUserDocument1());
-        when(userDAO.findByUserId("501692e9-2a79-46bb-ac62-55f980581bad")).thenReturn(getTestUserDocument2());
+        when(userDAO.findAllByUserIdIn(anyList())).thenReturn(List.of(getTestUserDocument1(), getTestUserDocument2()));
 
         assertThatThrownBy(() -> managerGroupTrainingService.createGroupTraining(createGroupTrainingRequest))
                 .isInstanceOf(TrainerNotFoundException.class);
@@ -150,8 +157,7 @@ class CreateGroupTrainingServiceTest {
     @Test
     void shouldThrowLocationNotFoundException_whenLocationIsNotFound() {
         when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(getTestTrainingTypeDocument());
-        when(userDAO.findByUserId("100ed952-es7f-435a-bd1e-9fb2a327c4dk")).thenReturn(getTestTrainer1());
-        when(userDAO.findByUserId("501692e9-2a79-46bb-ac62-55f980581bad")).thenReturn(getTestTrainer2());
+        when(userDAO.findAllByUserIdIn(anyList())).thenReturn(List.of(getTestTrainer1(), getTestTrainer2()));
         when(locationDAO.findByLocationId(anyString())).thenReturn(null);
 
         assertThatThrownBy(() -> managerGroupTrainingService.createGroupTraining(createGroupTrainingRequest))
@@ -181,8 +187,7 @@ class CreateGroupTrainingServiceTest {
         createGroupTrainingRequest.setStartDate("2021-07-09T20:00");
 
         when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(getTestTrainingTypeDocument());
-        when(userDAO.findByUserId("100ed952-es7f-435a-bd1e-9fb2a327c4dk")).thenReturn(getTestTrainer1());
-        when(userDAO.findByUserId("501692e9-2a79-46bb-ac62-55f980581bad")).thenReturn(getTestTrainer2());
+        when(userDAO.findAllByUserIdIn(anyList())).thenReturn(List.of(getTestTrainer1(), getTestTrainer2()));
         when(locationDAO.findByLocationId(anyString())).thenReturn(getTestLocationDocument());
 
         assertThatThrownBy(() -> managerGroupTrainingService.createGroupTraining(createGroupTrainingRequest))
@@ -198,8 +203,7 @@ class CreateGroupTrainingServiceTest {
         createGroupTrainingRequest.setEndDate("2021-07-10T19:59");
 
         when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(getTestTrainingTypeDocument());
-        when(userDAO.findByUserId("100ed952-es7f-435a-bd1e-9fb2a327c4dk")).thenReturn(getTestTrainer1());
-        when(userDAO.findByUserId("501692e9-2a79-46bb-ac62-55f980581bad")).thenReturn(getTestTrainer2());
+        when(userDAO.findAllByUserIdIn(anyList())).thenReturn(List.of(getTestTrainer1(), getTestTrainer2()));
         when(locationDAO.findByLocationId(anyString())).thenReturn(getTestLocationDocument());
 
         assertThatThrownBy(() -> managerGroupTrainingService.createGroupTraining(createGroupTrainingRequest))
@@ -209,14 +213,11 @@ class CreateGroupTrainingServiceTest {
     @Test
     void shouldThrowLocationOccupiedExceptionByGroupTrainings() {
         when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(getTestTrainingTypeDocument());
-        when(userDAO.findByUserId("100ed952-es7f-435a-bd1e-9fb2a327c4dk")).thenReturn(getTestTrainer1());
-        when(userDAO.findByUserId("501692e9-2a79-46bb-ac62-55f980581bad")).thenReturn(getTestTrainer2());
+        when(userDAO.findAllByUserIdIn(anyList())).thenReturn(List.of(getTestTrainer1(), getTestTrainer2()));
         LocationDocument locationDocument = getTestLocationDocument();
         when(locationDAO.findByLocationId(anyString())).thenReturn(locationDocument);
 
-        LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-        when(groupTrainingsDAO.findAllByStartDateIsAfterAndEndDateIsBefore(startDateTime, endDateTime, Sort.by("startDate")))
+        when(groupTrainingsDAO.findAllByEndDateAfter(any()))
                 .thenReturn(List.of(
                         TestDocumentUtil.getTestGroupTraining(
                                 "2021-07-10T19:00", "2021-07-10T20:30", locationDocument
@@ -226,9 +227,8 @@ class CreateGroupTrainingServiceTest {
                         )
                 ));
 
-        when(individualTrainingRepository.findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(
-                startDateTime, endDateTime, Sort.by("startDateTime")
-        )).thenReturn(List.of());
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of());
 
         assertThatThrownBy(() -> managerGroupTrainingService.createGroupTraining(createGroupTrainingRequest))
                 .isInstanceOf(LocationOccupiedException.class);
@@ -237,28 +237,21 @@ class CreateGroupTrainingServiceTest {
     @Test
     void shouldThrowLocationOccupiedExceptionByIndividualTrainings() {
         when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(getTestTrainingTypeDocument());
-        when(userDAO.findByUserId("100ed952-es7f-435a-bd1e-9fb2a327c4dk")).thenReturn(getTestTrainer1());
-        when(userDAO.findByUserId("501692e9-2a79-46bb-ac62-55f980581bad")).thenReturn(getTestTrainer2());
+        when(userDAO.findAllByUserIdIn(anyList())).thenReturn(List.of(getTestTrainer1(), getTestTrainer2()));
         LocationDocument locationDocument = getTestLocationDocument();
         when(locationDAO.findByLocationId(anyString())).thenReturn(locationDocument);
 
-        LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-        when(groupTrainingsDAO
-                .findAllByStartDateIsAfterAndEndDateIsBefore(startDateTime, endDateTime, Sort.by("startDate"))
-        ).thenReturn(List.of());
-
-        when(individualTrainingRepository
-                .findAllByStartDateTimeIsAfterAndEndDateTimeIsBeforeAndCancelledIsFalseAndRejectedIsFalse(
-                        startDateTime, endDateTime, Sort.by("startDateTime"))
-        ).thenReturn(List.of(
-                TestDocumentUtil.getTestIndividualTraining(
-                        "2021-07-10T19:00", "2021-07-10T20:30", locationDocument
-                ),
-                TestDocumentUtil.getTestIndividualTraining(
-                        "2021-07-10T21:00", "2021-07-10T22:00", locationDocument
-                )
-        ));
+        when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of());
+
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of(
+                        TestDocumentUtil.getTestIndividualTraining(
+                                "2021-07-10T19:00", "2021-07-10T20:30", locationDocument
+                        ),
+                        TestDocumentUtil.getTestIndividualTraining(
+                                "2021-07-10T21:00", "2021-07-10T22:00", locationDocument
+                        )
+                ));
 
         assertThatThrownBy(() -> managerGroupTrainingService.createGroupTraining(createGroupTrainingRequest))
                 .isInstanceOf(LocationOccupiedException.class);
@@ -268,15 +261,12 @@ class CreateGroupTrainingServiceTest {
     void shouldThrowTrainerOccupiedExceptionByGroupTrainings() {
         when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(getTestTrainingTypeDocument());
         var trainer1 = getTestTrainer1();
-        when(userDAO.findByUserId("100ed952-es7f-435a-bd1e-9fb2a327c4dk")).thenReturn(getTestTrainer1());
         var trainer2 = getTestTrainer2();
-        when(userDAO.findByUserId("501692e9-2a79-46bb-ac62-55f980581bad")).thenReturn(getTestTrainer2());
+        when(userDAO.findAllByUserIdIn(anyList())).thenReturn(List.of(getTestTrainer1(), getTestTrainer2()));
         LocationDocument locationDocument = getTestLocationDocument();
         when(locationDAO.findByLocationId(anyString())).thenReturn(locationDocument);
 
-        LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-        when(groupTrainingsDAO.findAllByStartDateIsAfterAndEndDateIsBefore(startDateTime, endDateTime, Sort.by("startDate")))
+        when(groupTrainingsDAO.findAllByEndDateAfter(any()))
                 .thenReturn(List.of(
                         TestDocumentUtil.getTestGroupTraining(
                                 "2021-07-10T19:00", "2021-07-10T20:30", List.of(trainer1, trainer2)
@@ -286,9 +276,8 @@ class CreateGroupTrainingServiceTest {
                         )
                 ));
 
-        when(individualTrainingRepository
-                .findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(startDateTime, endDateTime, Sort.by("startDateTime"))
-        ).thenReturn(List.of());
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of());
 
         assertThatThrownBy(() -> managerGroupTrainingService.createGroupTraining(createGroupTrainingRequest))
                 .isInstanceOf(TrainerOccupiedException.class);
@@ -298,29 +287,22 @@ class CreateGroupTrainingServiceTest {
     void shouldThrowTrainerOccupiedExceptionByIndividualTrainings() {
         when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(getTestTrainingTypeDocument());
         var trainer1 = getTestTrainer1();
-        when(userDAO.findByUserId("100ed952-es7f-435a-bd1e-9fb2a327c4dk")).thenReturn(getTestTrainer1());
         var trainer2 = getTestTrainer2();
-        when(userDAO.findByUserId("501692e9-2a79-46bb-ac62-55f980581bad")).thenReturn(getTestTrainer2());
+        when(userDAO.findAllByUserIdIn(anyList())).thenReturn(List.of(getTestTrainer1(), getTestTrainer2()));
         LocationDocument locationDocument = getTestLocationDocument();
         when(locationDAO.findByLocationId(anyString())).thenReturn(locationDocument);
 
-        LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-        when(groupTrainingsDAO
-                .findAllByStartDateIsAfterAndEndDateIsBefore(startDateTime, endDateTime, Sort.by("startDate"))
-        ).thenReturn(List.of());
-
-        when(individualTrainingRepository
-                .findAllByStartDateTimeIsAfterAndEndDateTimeIsBeforeAndCancelledIsFalseAndRejectedIsFalse(
-                        startDateTime, endDateTime, Sort.by("startDateTime"))
-        ).thenReturn(List.of(
-                TestDocumentUtil.getTestIndividualTraining(
-                        "2021-07-10T19:00", "2021-07-10T20:30", List.of(trainer1, trainer2)
-                ),
-                TestDocumentUtil.getTestIndividualTraining(
-                        "2021-07-10T21:00", "2021-07-10T22:00", List.of(trainer1)
-                )
-        ));
+        when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of());
+
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of(
+                        TestDocumentUtil.getTestIndividualTraining(
+                                "2021-07-10T19:00", "2021-07-10T20:30", List.of(trainer1, trainer2)
+                        ),
+                        TestDocumentUtil.getTestIndividualTraining(
+                                "2021-07-10T21:00", "2021-07-10T22:00", List.of(trainer1)
+                        )
+                ));
 
         assertThatThrownBy(() -> managerGroupTrainingService.createGroupTraining(createGroupTrainingRequest))
                 .isInstanceOf(TrainerOccupiedException.class);
@@ -337,21 +319,15 @@ class CreateGroupTrainingServiceTest {
             TrainerNotFoundException, StartEndDateNotSameDayException {
 
         when(trainingTypeDAO.findByTrainingTypeId(anyString())).thenReturn(getTestTrainingTypeDocument());
-        when(userDAO.findByUserId("100ed952-es7f-435a-bd1e-9fb2a327c4dk")).thenReturn(getTestTrainer1());
-        when(userDAO.findByUserId("501692e9-2a79-46bb-ac62-55f980581bad")).thenReturn(getTestTrainer2());
+        when(userDAO.findAllByUserIdIn(anyList())).thenReturn(List.of(getTestTrainer1(), getTestTrainer2()));
         when(locationDAO.findByLocationId(anyString())).thenReturn(getTestLocationDocument());
         when(groupTrainingsDAO.save(any())).thenReturn(getSavedTestGroupTrainingDocument());
 
-        LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-        when(groupTrainingsDAO
-                .findAllByStartDateIsAfterAndEndDateIsBefore(startDateTime, endDateTime, Sort.by("startDate"))
-        ).thenReturn(List.of());
+        when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of());
 
-        when(individualTrainingRepository
-                .findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(startDateTime, endDateTime, Sort.by("startDateTime"))
-        ).thenReturn(List.of(
-        ));
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of(
+                ));
 
         assertThat(managerGroupTrainingService.createGroupTraining(createGroupTrainingRequest)).
                 isEqualTo(getExpectedGroupTrainingDTO());
@@ -14,6 +14,7 @@ import com.healthy.gym.trainings.enums.GymRole;
 import com.healthy.gym.trainings.exception.notexisting.NotExistingGroupTrainingException;
 import com.healthy.gym.trainings.service.NotificationService;
 import com.healthy.gym.trainings.service.group.training.GroupTrainingDocumentUpdateBuilder;
+import com.healthy.gym.trainings.service.group.training.GroupTrainingTimetableService;
 import com.healthy.gym.trainings.service.group.training.ManagerGroupTrainingService;
 import com.healthy.gym.trainings.service.group.training.ManagerGroupTrainingServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +37,7 @@ class RemoveGroupTrainingServiceTest {
 
     private GroupTrainingsDAO groupTrainingsDAO;
     private NotificationService notificationService;
+    private GroupTrainingTimetableService groupTrainingTimetableService;
 
     private ManagerGroupTrainingService managerGroupTrainingService;
     private String groupTrainingId;
@@ -52,6 +54,7 @@ class RemoveGroupTrainingServiceTest {
         GroupTrainingDocumentUpdateBuilder groupTrainingDocumentUpdateBuilder
                 = mock(GroupTrainingDocumentUpdateBuilder.class);
         notificationService = mock(NotificationService.class);
+        groupTrainingTimetableService = mock(GroupTrainingTimetableService.class);
         managerGroupTrainingService = new ManagerGroupTrainingServiceImpl(
                 null,
                 groupTrainingsDAO,
@@ -60,7 +63,8 @@ class RemoveGroupTrainingServiceTest {
                 userDAO,
                 clock,
                 groupTrainingDocumentUpdateBuilder,
-                notificationService
+                notificationService,
+                groupTrainingTimetableService
         );
     }
 
@@ -84,6 +88,7 @@ class RemoveGroupTrainingServiceTest {
 
         assertThat(managerGroupTrainingService.removeGroupTraining("bcbc63a7-1208-42af-b1a2-134a82fb5233"))
                 .isEqualTo(groupTrainingDTO);
+        verify(groupTrainingTimetableService).refreshWeeks(List.of(LocalDateTime.parse("2021-07-10T20:00")));
     }
 
     private GroupTrainingDocument getGroupTrainingDocument() {
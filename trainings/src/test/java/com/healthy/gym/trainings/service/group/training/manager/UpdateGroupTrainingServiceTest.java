@@ -26,12 +26,13 @@ import com.healthy.gym.trainings.exception.occupied.TrainerOccupiedException;
 import com.healthy.gym.trainings.model.request.ManagerGroupTrainingRequest;
 import com.healthy.gym.trainings.service.NotificationService;
 import com.healthy.gym.trainings.service.group.training.GroupTrainingDocumentUpdateBuilder;
+import com.healthy.gym.trainings.service.group.training.GroupTrainingTimetableService;
 import com.healthy.gym.trainings.service.group.training.ManagerGroupTrainingService;
 import com.healthy.gym.trainings.service.group.training.ManagerGroupTrainingServiceImpl;
 import com.healthy.gym.trainings.test.utils.TestDocumentUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.domain.Sort;
+import org.springframework.mock.env.MockEnvironment;
 
 import java.time.*;
 import java.util.List;
@@ -66,7 +67,12 @@ class UpdateGroupTrainingServiceTest {
         groupTrainingRequest = getGroupTrainingRequest();
 
         CollisionValidatorComponent collisionValidatorComponent =
-                new CollisionValidatorComponentImpl(groupTrainingsDAO, individualTrainingRepository);
+                new CollisionValidatorComponentImpl(
+                        groupTrainingsDAO,
+                        individualTrainingRepository,
+                        clock,
+                        new MockEnvironment()
+                );
         notificationService = mock(NotificationService.class);
 
         managerGroupTrainingService = new ManagerGroupTrainingServiceImpl(
@@ -77,7 +83,8 @@ class UpdateGroupTrainingServiceTest {
                 userDAO,
                 clock,
                 groupTrainingDocumentUpdateBuilder,
-                notificationService
+                notificationService,
+                mock(GroupTrainingTimetableService.class)
         );
     }
 
@@ -161,17 +168,7 @@ class UpdateGroupTrainingServiceTest {
                 .update()
         ).thenReturn(getUpdatedGroupTrainingDocument());
 
-        LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-        when(
-                groupTrainingsDAO
-                        .findAllByStartDateIsAfterAndEndDateIsBeforeAndGroupTrainingIdIsNot(
-                                startDateTime,
-                                endDateTime,
-                                groupTrainingId,
-                                Sort.by("startDate")
-                        )
-        )
+        when(groupTrainingsDAO.findAllByEndDateAfter(any()))
                 .thenReturn(List.of(
                         TestDocumentUtil.getTestGroupTraining(
                                 "2021-07-10T19:00", "2021-07-10T20:30", getTestLocationDocument()
@@ -181,9 +178,8 @@ class UpdateGroupTrainingServiceTest {
                         )
                 ));
 
-        when(individualTrainingRepository.findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(
-                startDateTime, endDateTime, Sort.by("startDateTime")
-        )).thenReturn(List.of());
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of());
 
         assertThatThrownBy(
                 () -> managerGroupTrainingService.updateGroupTraining(groupTrainingId, groupTrainingRequest)
@@ -224,23 +220,17 @@ class UpdateGroupTrainingServiceTest {
                 .update()
         ).thenReturn(getUpdatedGroupTrainingDocument());
 
-        LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-
-        when(groupTrainingsDAO
-                .findAllByStartDateIsAfterAndEndDateIsBefore(startDateTime, endDateTime, Sort.by("startDate"))
-        ).thenReturn(List.of());
+        when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of());
 
-        when(individualTrainingRepository
-                .findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(startDateTime, endDateTime, Sort.by("startDateTime"))
-        ).thenReturn(List.of(
-                TestDocumentUtil.getTestIndividualTraining(
-                        "2021-07-10T19:00", "2021-07-10T20:30", getTestLocationDocument()
-                ),
-                TestDocumentUtil.getTestIndividualTraining(
-                        "2021-07-10T21:00", "2021-07-10T22:00", getTestLocationDocument()
-                )
-        ));
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of(
+                        TestDocumentUtil.getTestIndividualTraining(
+                                "2021-07-10T19:00", "2021-07-10T20:30", getTestLocationDocument()
+                        ),
+                        TestDocumentUtil.getTestIndividualTraining(
+                                "2021-07-10T21:00", "2021-07-10T22:00", getTestLocationDocument()
+                        )
+                ));
 
         assertThatThrownBy(
                 () -> managerGroupTrainingService.updateGroupTraining(groupTrainingId, groupTrainingRequest)
@@ -267,17 +257,7 @@ class UpdateGroupTrainingServiceTest {
                 .update()
         ).thenReturn(getUpdatedGroupTrainingDocument());
 
-        LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-        when(
-                groupTrainingsDAO
-                        .findAllByStartDateIsAfterAndEndDateIsBeforeAndGroupTrainingIdIsNot(
-                                startDateTime,
-                                endDateTime,
-                                groupTrainingId,
-                                Sort.by("startDate")
-                        )
-        )
+        when(groupTrainingsDAO.findAllByEndDateAfter(any()))
                 .thenReturn(List.of(
                         TestDocumentUtil.getTestGroupTraining(
                                 "2021-07-10T19:00", "2021-07-10T20:30", List.of(getTestTrainer2())
@@ -287,9 +267,8 @@ class UpdateGroupTrainingServiceTest {
                         )
                 ));
 
-        when(individualTrainingRepository.findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(
-                startDateTime, endDateTime, Sort.by("startDateTime")
-        )).thenReturn(List.of());
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of());
 
         assertThatThrownBy(
                 () -> managerGroupTrainingService.updateGroupTraining(groupTrainingId, groupTrainingRequest)
@@ -316,23 +295,17 @@ class UpdateGroupTrainingServiceTest {
                 .update()
         ).thenReturn(getUpdatedGroupTrainingDocument());
 
-        LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-
-        when(groupTrainingsDAO
-                .findAllByStartDateIsAfterAndEndDateIsBefore(startDateTime, endDateTime, Sort.by("startDate"))
-        ).thenReturn(List.of());
+        when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of());
 
-        when(individualTrainingRepository
-                .findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(startDateTime, endDateTime, Sort.by("startDateTime"))
-        ).thenReturn(List.of(
-                TestDocumentUtil.getTestIndividualTraining(
-                        "2021-07-10T19:00", "2021-07-10T20:30", List.of(getTestTrainer2())
-                ),
-                TestDocumentUtil.getTestIndividualTraining(
-                        "2021-07-10T21:00", "2021-07-10T22:00", List.of(getTestTrainer1())
-                )
-        ));
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of(
+                        TestDocumentUtil.getTestIndividualTraining(
+                                "2021-07-10T19:00", "2021-07-10T20:30", List.of(getTestTrainer2())
+                        ),
+                        TestDocumentUtil.getTestIndividualTraining(
+                                "2021-07-10T21:00", "2021-07-10T22:00", List.of(getTestTrainer1())
+                        )
+                ));
 
         assertThatThrownBy(
                 () -> managerGroupTrainingService.updateGroupTraining(groupTrainingId, groupTrainingRequest)
@@ -363,16 +336,11 @@ class UpdateGroupTrainingServiceTest {
                 .updateLimit()
                 .update()
         ).thenReturn(groupTrainingUpdated);
-        LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-        LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-        when(groupTrainingsDAO
-                .findAllByStartDateIsAfterAndEndDateIsBefore(startDateTime, endDateTime, Sort.by("startDate"))
-        ).thenReturn(List.of());
-
-        when(individualTrainingRepository
-                .findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(startDateTime, endDateTime, Sort.by("startDateTime"))
-        ).thenReturn(List.of(
-        ));
+        when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of());
+
+        when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                .thenReturn(List.of(
+                ));
         when(groupTrainingsDAO.save(any())).thenReturn(groupTrainingUpdated);
         doNothing().when(notificationService)
                 .sendNotificationsAndEmailsWhenUpdatingGroupTraining(anyString(), any(), anyList(), anyBoolean());
@@ -4,12 +4,14 @@ import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
 import com.healthy.gym.trainings.data.document.LocationDocument;
 import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
 import com.healthy.gym.trainings.data.document.UserDocument;
+import com.healthy.gym.trainings.data.repository.group.training.GroupTrainingEnrollmentDAO;
 import com.healthy.gym.trainings.data.repository.group.training.GroupTrainingsDAO;
 import com.healthy.gym.trainings.data.repository.UserDAO;
 import com.healthy.gym.trainings.exception.PastDateException;
 import com.healthy.gym.trainings.exception.UserAlreadyEnrolledToTrainingException;
 import com.healthy.gym.trainings.exception.notexisting.NotExistingGroupTrainingException;
 import com.healthy.gym.trainings.exception.notfound.UserNotFoundException;
+import com.healthy.gym.trainings.exception.training.TrainingEnrollmentConflictException;
 import com.healthy.gym.trainings.service.group.training.UserGroupTrainingService;
 import com.healthy.gym.trainings.service.group.training.UserGroupTrainingServiceImpl;
 import com.healthy.gym.trainings.dto.BasicUserInfoDTO;
@@ -28,13 +30,14 @@ import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class EnrollToGroupTrainingTest {
 
     private GroupTrainingsDAO groupTrainingsDAO;
+    private GroupTrainingEnrollmentDAO groupTrainingEnrollmentDAO;
     private UserDAO userDAO;
     private UserGroupTrainingService userGroupTrainingService;
     private String groupTrainingId;
@@ -45,12 +48,14 @@ class EnrollToGroupTrainingTest {
         userId = UUID.randomUUID().toString();
         groupTrainingId = UUID.randomUUID().toString();
         groupTrainingsDAO = mock(GroupTrainingsDAO.class);
+        groupTrainingEnrollmentDAO = mock(GroupTrainingEnrollmentDAO.class);
         userDAO = mock(UserDAO.class);
         Clock clock = Clock.fixed(Instant.parse("2021-07-10T18:00:00.00Z"), ZoneId.of("Europe/Warsaw"));
 
         userGroupTrainingService = new UserGroupTrainingServiceImpl(
                 null,
                 groupTrainingsDAO,
+                groupTrainingEnrollmentDAO,
                 userDAO,
                 clock
         );
@@ -58,6 +63,7 @@ class EnrollToGroupTrainingTest {
 
     @Test
     void shouldThrowNotExistingGroupTrainingException() {
+        when(userDAO.findByUserId(anyString())).thenReturn(new UserDocument());
         when(groupTrainingsDAO.findFirstByGroupTrainingId(anyString())).thenReturn(null);
 
         assertThatThrownBy(
@@ -73,6 +79,7 @@ class EnrollToGroupTrainingTest {
         assertThatThrownBy(
                 () -> userGroupTrainingService.enrollToGroupTraining(groupTrainingId, userId)
         ).isInstanceOf(UserNotFoundException.class);
+        verifyNoInteractions(groupTrainingEnrollmentDAO);
     }
 
     @Test
@@ -131,16 +138,8 @@ class EnrollToGroupTrainingTest {
 
     @Test
     void shouldEnrollToBasicList() throws UserNotFoundException, PastDateException,
-            NotExistingGroupTrainingException, UserAlreadyEnrolledToTrainingException {
-
-        var groupTraining = new GroupTrainingDocument();
-        groupTraining.setStartDate(LocalDateTime.parse("2021-07-10T20:00"));
-        List<UserDocument> basicList = new ArrayList<>();
-        basicList.add(getTestUser());
-        basicList.add(getTestUser());
-        groupTraining.setBasicList(basicList);
-        groupTraining.setReserveList(List.of());
-        groupTraining.setLimit(3);
+            NotExistingGroupTrainingException, UserAlreadyEnrolledToTrainingException,
+            TrainingEnrollmentConflictException {
 
         var groupTrainingUpdated = new GroupTrainingDocument(
                 UUID.randomUUID().toString(),
@@ -160,13 +159,15 @@ class EnrollToGroupTrainingTest {
                 List.of()
         );
 
-        when(groupTrainingsDAO.findFirstByGroupTrainingId(anyString())).thenReturn(groupTraining);
         when(userDAO.findByUserId(anyString())).thenReturn(getTestUser(userId));
-        when(groupTrainingsDAO.save(groupTraining)).thenReturn(groupTrainingUpdated);
+        when(groupTrainingEnrollmentDAO.addToBasicList(anyString(), any(), any())).thenReturn(groupTrainingUpdated);
 
         GroupTrainingDTO groupTrainingDTO = userGroupTrainingService
                 .enrollToGroupTraining(groupTrainingId, userId);
 
+        verify(groupTrainingEnrollmentDAO, never()).addToReserveList(anyString(), any(), any());
+        verify(groupTrainingsDAO, never()).save(any());
+
         List<String> userIds = groupTrainingDTO.getParticipants()
                 .getBasicList()
                 .stream()
@@ -180,15 +181,8 @@ class EnrollToGroupTrainingTest {
 
     @Test
     void shouldEnrollToReserveList() throws UserNotFoundException, PastDateException,
-            NotExistingGroupTrainingException, UserAlreadyEnrolledToTrainingException {
-
-        var groupTraining = new GroupTrainingDocument();
-        groupTraining.setStartDate(LocalDateTime.parse("2021-07-10T20:00"));
-        List<UserDocument> reserveList = new ArrayList<>();
-        reserveList.add(getTestUser());
-        groupTraining.setBasicList(List.of(getTestUser(), getTestUser(), getTestUser()));
-        groupTraining.setReserveList(reserveList);
-        groupTraining.setLimit(3);
+            NotExistingGroupTrainingException, UserAlreadyEnrolledToTrainingException,
+            TrainingEnrollmentConflictException {
 
         var groupTrainingUpdated = new GroupTrainingDocument(
                 UUID.randomUUID().toString(),
@@ -208,13 +202,15 @@ class EnrollToGroupTrainingTest {
                 List.of(getTestUser(userId))
         );
 
-        when(groupTrainingsDAO.findFirstByGroupTrainingId(anyString())).thenReturn(groupTraining);
         when(userDAO.findByUserId(anyString())).thenReturn(getTestUser(userId));
-        when(groupTrainingsDAO.save(groupTraining)).thenReturn(groupTrainingUpdated);
+        when(groupTrainingEnrollmentDAO.addToBasicList(anyString(), any(), any())).thenReturn(null);
+        when(groupTrainingEnrollmentDAO.addToReserveList(anyString(), any(), any())).thenReturn(groupTrainingUpdated);
 
         GroupTrainingDTO groupTrainingDTO = userGroupTrainingService
                 .enrollToGroupTraining(groupTrainingId, userId);
 
+        verify(groupTrainingsDAO, never()).save(any());
+
         List<String> userIds = groupTrainingDTO.getParticipants()
                 .getReserveList()
                 .stream()
@@ -225,4 +221,71 @@ class EnrollToGroupTrainingTest {
         assertThat(userIds.contains(userId)).isTrue();
         assertThat(groupTrainingDTO.getParticipants().getBasicList().size()).isEqualTo(3);
     }
+
+    @Test
+    void shouldRetryWhenSeatIsReleasedBetweenConditionalUpdates() throws UserNotFoundException,
+            PastDateException, NotExistingGroupTrainingException, UserAlreadyEnrolledToTrainingException,
+            TrainingEnrollmentConflictException {
+
+        var groupTraining = new GroupTrainingDocument();
+        groupTraining.setStartDate(LocalDateTime.parse("2021-07-10T20:00"));
+        groupTraining.setBasicList(List.of(getTestUser(), getTestUser()));
+        groupTraining.setReserveList(List.of());
+        groupTraining.setLimit(3);
+
+        var groupTrainingUpdated = new GroupTrainingDocument(
+                groupTrainingId,
+                new TrainingTypeDocument(
+                        UUID.randomUUID().toString(),
+                        "TestTraining",
+                        "TestDescription",
+                        null,
+                        null
+                ),
+                List.of(getTestUser()),
+                LocalDateTime.parse("2021-07-10T20:00"),
+                LocalDateTime.parse("2021-07-10T21:00"),
+                new LocationDocument(UUID.randomUUID().toString(), "TestLocation"),
+                3,
+                new ArrayList<>(List.of(getTestUser(), getTestUser(), getTestUser(userId))),
+                List.of()
+        );
+
+        when(userDAO.findByUserId(anyString())).thenReturn(getTestUser(userId));
+        when(groupTrainingEnrollmentDAO.addToBasicList(anyString(), any(), any()))
+                .thenReturn(null)
+                .thenReturn(groupTrainingUpdated);
+        when(groupTrainingEnrollmentDAO.addToReserveList(anyString(), any(), any())).thenReturn(null);
+        when(groupTrainingsDAO.findFirstByGroupTrainingId(anyString())).thenReturn(groupTraining);
+
+        GroupTrainingDTO groupTrainingDTO = userGroupTrainingService
+                .enrollToGroupTraining(groupTrainingId, userId);
+
+        List<String> userIds = groupTrainingDTO.getParticipants()
+                .getBasicList()
+                .stream()
+                .map(BasicUserInfoDTO::getUserId)
+                .collect(Collectors.toList());
+
+        assertThat(userIds).contains(userId);
+        verify(groupTrainingEnrollmentDAO, times(2)).addToBasicList(anyString(), any(), any());
+    }
+
+    @Test
+    void shouldThrowTrainingEnrollmentConflictExceptionWhenTrainingKeepsChanging() {
+        var groupTraining = new GroupTrainingDocument();
+        groupTraining.setStartDate(LocalDateTime.parse("2021-07-10T20:00"));
+        groupTraining.setBasicList(List.of());
+        groupTraining.setReserveList(List.of());
+        groupTraining.setLimit(3);
+
+        when(userDAO.findByUserId(anyString())).thenReturn(getTestUser(userId));
+        when(groupTrainingsDAO.findFirstByGroupTrainingId(anyString())).thenReturn(groupTraining);
+        when(groupTrainingEnrollmentDAO.addToBasicList(anyString(), any(), any())).thenReturn(null);
+        when(groupTrainingEnrollmentDAO.addToReserveList(anyString(), any(), any())).thenReturn(null);
+
+        assertThatThrownBy(
+                () -> userGroupTrainingService.enrollToGroupTraining(groupTrainingId, userId)
+        ).isInstanceOf(TrainingEnrollmentConflictException.class);
+    }
 }
@@ -43,6 +43,7 @@ class GetMyAllTrainingsTest {
         userGroupTrainingService = new UserGroupTrainingServiceImpl(
                 userGroupTrainingsDAO,
                 null,
+                null,
                 userDAO,
                 null
         );
@@ -4,11 +4,13 @@ import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
 import com.healthy.gym.trainings.data.document.LocationDocument;
 import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
 import com.healthy.gym.trainings.data.document.UserDocument;
+import com.healthy.gym.trainings.data.repository.group.training.GroupTrainingEnrollmentDAO;
 import com.healthy.gym.trainings.data.repository.group.training.GroupTrainingsDAO;
 import com.healthy.gym.trainings.data.repository.UserDAO;
 import com.healthy.gym.trainings.exception.PastDateException;
 import com.healthy.gym.trainings.exception.notexisting.NotExistingGroupTrainingException;
 import com.healthy.gym.trainings.exception.notfound.UserNotFoundException;
+import com.healthy.gym.trainings.exception.training.TrainingEnrollmentConflictException;
 import com.healthy.gym.trainings.exception.training.TrainingEnrollmentException;
 import com.healthy.gym.trainings.service.group.training.UserGroupTrainingService;
 import com.healthy.gym.trainings.service.group.training.UserGroupTrainingServiceImpl;
@@ -29,12 +31,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class RemoveGroupTrainingEnrollmentTest {
 
     private GroupTrainingsDAO groupTrainingsDAO;
+    private GroupTrainingEnrollmentDAO groupTrainingEnrollmentDAO;
     private UserDAO userDAO;
     private UserGroupTrainingService userGroupTrainingService;
     private String groupTrainingId;
@@ -45,12 +47,14 @@ class RemoveGroupTrainingEnrollmentTest {
         userId = UUID.randomUUID().toString();
         groupTrainingId = UUID.randomUUID().toString();
         groupTrainingsDAO = mock(GroupTrainingsDAO.class);
+        groupTrainingEnrollmentDAO = mock(GroupTrainingEnrollmentDAO.class);
         userDAO = mock(UserDAO.class);
         Clock clock = Clock.fixed(Instant.parse("2021-07-10T18:00:00.00Z"), ZoneId.of("Europe/Warsaw"));
 
         userGroupTrainingService = new UserGroupTrainingServiceImpl(
                 null,
                 groupTrainingsDAO,
+                groupTrainingEnrollmentDAO,
                 userDAO,
                 clock
         );
@@ -58,6 +62,7 @@ class RemoveGroupTrainingEnrollmentTest {
 
     @Test
     void shouldThrowNotExistingGroupTrainingException() {
+        when(userDAO.findByUserId(anyString())).thenReturn(new UserDocument());
         when(groupTrainingsDAO.findFirstByGroupTrainingId(anyString())).thenReturn(null);
 
         assertThatThrownBy(
@@ -104,12 +109,8 @@ class RemoveGroupTrainingEnrollmentTest {
 
     @Test
     void shouldRemoveFromBasicList() throws UserNotFoundException, TrainingEnrollmentException,
-            PastDateException, NotExistingGroupTrainingException {
-
-        var groupTraining = new GroupTrainingDocument();
-        groupTraining.setStartDate(LocalDateTime.parse("2021-07-11T20:00"));
-        groupTraining.setBasicList(List.of(getTestUser(), getTestUser(), getTestUser(userId)));
-        groupTraining.setReserveList(List.of());
+            PastDateException, NotExistingGroupTrainingException,
+            TrainingEnrollmentConflictException {
 
         var groupTrainingWithoutUser = new GroupTrainingDocument(
                 UUID.randomUUID().toString(),
@@ -129,9 +130,9 @@ class RemoveGroupTrainingEnrollmentTest {
                 List.of()
         );
 
-        when(groupTrainingsDAO.findFirstByGroupTrainingId(anyString())).thenReturn(groupTraining);
         when(userDAO.findByUserId(anyString())).thenReturn(new UserDocument());
-        when(groupTrainingsDAO.save(any())).thenReturn(groupTrainingWithoutUser);
+        when(groupTrainingEnrollmentDAO.removeFromBasicList(anyString(), any(), any()))
+                .thenReturn(groupTrainingWithoutUser);
 
         GroupTrainingDTO groupTrainingDTO = userGroupTrainingService
                 .removeGroupTrainingEnrollment(groupTrainingId, userId);
@@ -161,12 +162,8 @@ class RemoveGroupTrainingEnrollmentTest {
 
     @Test
     void shouldRemoveFromReserveList() throws UserNotFoundException, TrainingEnrollmentException,
-            PastDateException, NotExistingGroupTrainingException {
-
-        var groupTraining = new GroupTrainingDocument();
-        groupTraining.setStartDate(LocalDateTime.parse("2021-07-11T20:00"));
-        groupTraining.setBasicList(List.of());
-        groupTraining.setReserveList(List.of(getTestUser(), getTestUser(), getTestUser(userId)));
+            PastDateException, NotExistingGroupTrainingException,
+            TrainingEnrollmentConflictException {
 
         var groupTrainingWithoutUser = new GroupTrainingDocument(
                 UUID.randomUUID().toString(),
@@ -186,9 +183,9 @@ class RemoveGroupTrainingEnrollmentTest {
                 List.of()
         );
 
-        when(groupTrainingsDAO.findFirstByGroupTrainingId(anyString())).thenReturn(groupTraining);
         when(userDAO.findByUserId(anyString())).thenReturn(new UserDocument());
-        when(groupTrainingsDAO.save(any())).thenReturn(groupTrainingWithoutUser);
+        when(groupTrainingEnrollmentDAO.removeFromReserveList(anyString(), any(), any()))
+                .thenReturn(groupTrainingWithoutUser);
 
         GroupTrainingDTO groupTrainingDTO = userGroupTrainingService
                 .removeGroupTrainingEnrollment(groupTrainingId, userId);
@@ -203,4 +200,66 @@ class RemoveGroupTrainingEnrollmentTest {
         assertThat(userIds.contains(userId)).isFalse();
         assertThat(groupTrainingDTO.getParticipants().getReserveList().size()).isZero();
     }
+
+    @Test
+    void shouldPromoteFirstUserFromReserveListWhenBasicListUserLeaves() throws UserNotFoundException,
+            TrainingEnrollmentException, PastDateException, NotExistingGroupTrainingException,
+            TrainingEnrollmentConflictException {
+
+        UserDocument promotedUser = getTestUser();
+        var groupTrainingWithPromotedUser = getTestGroupTraining(
+                List.of(getTestUser(), getTestUser(), promotedUser),
+                List.of(getTestUser())
+        );
+
+        when(userDAO.findByUserId(anyString())).thenReturn(new UserDocument());
+        when(groupTrainingEnrollmentDAO.removeFromBasicList(anyString(), any(), any()))
+                .thenReturn(groupTrainingWithPromotedUser);
+
+        GroupTrainingDTO groupTrainingDTO = userGroupTrainingService
+                .removeGroupTrainingEnrollment(groupTrainingId, userId);
+        List<String> userIds = groupTrainingDTO.getParticipants()
+                .getBasicList()
+                .stream()
+                .map(BasicUserInfoDTO::getUserId)
+                .collect(Collectors.toList());
+
+        assertThat(userIds).hasSize(3).contains(promotedUser.getUserId());
+        assertThat(groupTrainingDTO.getParticipants().getReserveList()).hasSize(1);
+        verify(groupTrainingEnrollmentDAO, never()).removeFromReserveList(anyString(), any(), any());
+    }
+
+    @Test
+    void shouldNotPromoteAnyoneWhenReserveListUserLeaves() throws UserNotFoundException,
+            TrainingEnrollmentException, PastDateException, NotExistingGroupTrainingException,
+            TrainingEnrollmentConflictException {
+
+        when(userDAO.findByUserId(anyString())).thenReturn(new UserDocument());
+        when(groupTrainingEnrollmentDAO.removeFromReserveList(anyString(), any(), any()))
+                .thenReturn(getTestGroupTraining(List.of(getTestUser()), List.of()));
+
+        userGroupTrainingService.removeGroupTrainingEnrollment(groupTrainingId, userId);
+
+        verify(groupTrainingsDAO, never()).save(any());
+    }
+
+    private GroupTrainingDocument getTestGroupTraining(List<UserDocument> basicList, List<UserDocument> reserveList) {
+        return new GroupTrainingDocument(
+                groupTrainingId,
+                new TrainingTypeDocument(
+                        UUID.randomUUID().toString(),
+                        "TestTraining",
+                        "TestDescription",
+                        null,
+                        null
+                ),
+                List.of(getTestUser()),
+                LocalDateTime.parse("2021-07-11T20:00"),
+                LocalDateTime.parse("2021-07-11T22:00"),
+                new LocationDocument(UUID.randomUUID().toString(), "TestLocation"),
+                3,
+                basicList,
+                reserveList
+        );
+    }
 }
@@ -21,7 +21,7 @@ import com.healthy.gym.trainings.test.utils.TestDocumentUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.springframework.data.domain.Sort;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.time.*;
@@ -32,6 +32,7 @@ import java.util.UUID;
 import static com.healthy.gym.trainings.test.utils.TestDocumentUtil.getTestTrainer;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -54,7 +55,12 @@ class TrainerIndividualTrainingServiceTest {
         locationDAO = mock(LocationDAO.class);
         groupTrainingsDAO = mock(GroupTrainingsDAO.class);
         CollisionValidatorComponent collisionValidatorComponent =
-                new CollisionValidatorComponentImpl(groupTrainingsDAO, individualTrainingRepository);
+                new CollisionValidatorComponentImpl(
+                        groupTrainingsDAO,
+                        individualTrainingRepository,
+                        clock,
+                        new MockEnvironment()
+                );
         service = new TrainerIndividualTrainingServiceImpl(
                 userDAO,
                 collisionValidatorComponent,
@@ -173,11 +179,7 @@ class TrainerIndividualTrainingServiceTest {
             LocationDocument location = getTestLocationDocument();
             when(locationDAO.findByLocationId(locationId)).thenReturn(location);
 
-            LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-            LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-            when(groupTrainingsDAO
-                    .findAllByStartDateIsAfterAndEndDateIsBefore(startDateTime, endDateTime, Sort.by("startDate"))
-            ).thenReturn(List.of(
+            when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of(
                     TestDocumentUtil.getTestGroupTraining(
                             "2021-07-10T19:00", "2021-07-10T20:30", location
                     ),
@@ -186,9 +188,8 @@ class TrainerIndividualTrainingServiceTest {
                     )
             ));
 
-            when(individualTrainingRepository.findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(
-                    startDateTime, endDateTime, Sort.by("startDateTime")
-            )).thenReturn(List.of());
+            when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                    .thenReturn(List.of());
 
             assertThatThrownBy(
                     () -> service.acceptIndividualTraining(userId, trainingId, locationId)
@@ -208,24 +209,17 @@ class TrainerIndividualTrainingServiceTest {
             LocationDocument location = getTestLocationDocument();
             when(locationDAO.findByLocationId(locationId)).thenReturn(location);
 
-            LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-            LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
+            when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of());
 
-            when(groupTrainingsDAO
-                    .findAllByStartDateIsAfterAndEndDateIsBefore(startDateTime, endDateTime, Sort.by("startDate"))
-            ).thenReturn(List.of());
-
-            when(individualTrainingRepository
-                    .findAllByStartDateTimeIsAfterAndEndDateTimeIsBeforeAndCancelledIsFalseAndRejectedIsFalse(
-                            startDateTime, endDateTime, Sort.by("startDateTime"))
-            ).thenReturn(List.of(
-                    TestDocumentUtil.getTestIndividualTraining(
-                            "2021-07-10T19:00", "2021-07-10T20:30", location
-                    ),
-                    TestDocumentUtil.getTestIndividualTraining(
-                            "2021-07-10T21:00", "2021-07-10T21:50", location
-                    )
-            ));
+            when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                    .thenReturn(List.of(
+                            TestDocumentUtil.getTestIndividualTraining(
+                                    "2021-07-10T19:00", "2021-07-10T20:30", location
+                            ),
+                            TestDocumentUtil.getTestIndividualTraining(
+                                    "2021-07-10T21:00", "2021-07-10T21:50", location
+                            )
+                    ));
 
             assertThatThrownBy(
                     () -> service.acceptIndividualTraining(userId, trainingId, locationId)
@@ -259,19 +253,13 @@ class TrainerIndividualTrainingServiceTest {
             when(userDAO.findByUserId(userId)).thenReturn(trainer);
             when(locationDAO.findByLocationId(locationId)).thenReturn(location);
 
-            LocalDateTime startDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MIN);
-            LocalDateTime endDateTime = LocalDateTime.of(LocalDate.parse("2021-07-10"), LocalTime.MAX);
-            when(groupTrainingsDAO
-                    .findAllByStartDateIsAfterAndEndDateIsBefore(startDateTime, endDateTime, Sort.by("startDate"))
-            ).thenReturn(List.of());
+            when(groupTrainingsDAO.findAllByEndDateAfter(any())).thenReturn(List.of());
 
-            when(individualTrainingRepository
-                    .findAllByStartDateTimeIsAfterAndEndDateTimeIsBefore(startDateTime, endDateTime, Sort.by("startDateTime"))
-            ).thenReturn(List.of());
+            when(individualTrainingRepository.findAllByEndDateTimeAfterAndCancelledFalseAndRejectedFalse(any()))
+                    .thenReturn(List.of());
 
             when(individualTrainingRepository.save(training)).thenReturn(getSavedTraining(training, location));
 
-
             var returnedDTO = service.acceptIndividualTraining(userId, trainingId, locationId);
 
             assertThat(returnedDTO.isAccepted()).isTrue();
@@ -1,13 +1,17 @@
 package com.healthy.gym.trainings.service.training.type;
 
+import com.healthy.gym.image.component.ImageCache;
+import com.healthy.gym.image.component.ImageProcessor;
 import com.healthy.gym.trainings.component.ImageUrlCreator;
 import com.healthy.gym.trainings.data.document.ImageDocument;
 import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
 import com.healthy.gym.trainings.data.repository.ImageDAO;
+import com.healthy.gym.trainings.data.repository.ImageVariantDAO;
 import com.healthy.gym.trainings.data.repository.TrainingTypeDAO;
 import com.healthy.gym.trainings.dto.TrainingTypeDTO;
 import com.healthy.gym.trainings.exception.DuplicatedTrainingTypeException;
 import com.healthy.gym.trainings.model.request.TrainingTypeRequest;
+import com.healthy.gym.trainings.pojo.ImageContent;
 import com.healthy.gym.trainings.service.TrainingTypeService;
 import com.healthy.gym.trainings.service.TrainingTypeServiceImpl;
 import org.bson.types.Binary;
@@ -36,12 +40,14 @@ class WhenCreateTrainingTypeTest {
     private TrainingTypeDAO trainingTypeDAO;
     private ImageDAO imageDAO;
     private ImageUrlCreator imageUrlCreator;
+    private ImageVariantDAO imageVariantDAO;
+    private ImageCache<ImageContent> imageCache;
 
     private TrainingTypeRequest request;
     private MockMultipartFile multipartFile;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws IOException {
         request = new TrainingTypeRequest();
         request.setName("Test name");
         request.setDescription("Test description");
@@ -50,7 +56,18 @@ class WhenCreateTrainingTypeTest {
         trainingTypeDAO = mock(TrainingTypeDAO.class);
         imageDAO = mock(ImageDAO.class);
         imageUrlCreator = mock(ImageUrlCreator.class);
-        trainingTypeService = new TrainingTypeServiceImpl(trainingTypeDAO, imageDAO, imageUrlCreator);
+        imageVariantDAO = mock(ImageVariantDAO.class);
+        imageCache = mock(ImageCache.class);
+        ImageProcessor imageProcessor = mock(ImageProcessor.class);
+        when(imageProcessor.sanitize(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        trainingTypeService = new TrainingTypeServiceImpl(
+                trainingTypeDAO,
+                imageDAO,
+                imageUrlCreator,
+                imageVariantDAO,
+                imageProcessor,
+                imageCache
+        );
 
         multipartFile = new MockMultipartFile(
                 "image",
@@ -40,7 +40,7 @@ class WhenGetTrainingTypeByIdTest {
         );
 
         trainingTypeDAO = mock(TrainingTypeDAO.class);
-        trainingTypeService = new TrainingTypeServiceImpl(trainingTypeDAO, null, null);
+        trainingTypeService = new TrainingTypeServiceImpl(trainingTypeDAO, null, null, null, null, null);
     }
 
     @Test
@@ -39,7 +39,7 @@ class WhenRemoveTrainingTypeByNameTest {
         );
 
         trainingTypeDAO = mock(TrainingTypeDAO.class);
-        trainingTypeService = new TrainingTypeServiceImpl(trainingTypeDAO, null, null);
+        trainingTypeService = new TrainingTypeServiceImpl(trainingTypeDAO, null, null, null, null, null);
     }
 
     @Test
@@ -1,14 +1,18 @@
 package com.healthy.gym.trainings.service.training.type;
 
+import com.healthy.gym.image.component.ImageCache;
+import com.healthy.gym.image.component.ImageProcessor;
 import com.healthy.gym.trainings.component.ImageUrlCreator;
 import com.healthy.gym.trainings.data.document.ImageDocument;
 import com.healthy.gym.trainings.data.document.TrainingTypeDocument;
 import com.healthy.gym.trainings.data.repository.ImageDAO;
+import com.healthy.gym.trainings.data.repository.ImageVariantDAO;
 import com.healthy.gym.trainings.data.repository.TrainingTypeDAO;
 import com.healthy.gym.trainings.dto.TrainingTypeDTO;
 import com.healthy.gym.trainings.exception.DuplicatedTrainingTypeException;
 import com.healthy.gym.trainings.exception.notfound.TrainingTypeNotFoundException;
 import com.healthy.gym.trainings.model.request.TrainingTypeRequest;
+import com.healthy.gym.trainings.pojo.ImageContent;
 import com.healthy.gym.trainings.service.TrainingTypeService;
 import com.healthy.gym.trainings.service.TrainingTypeServiceImpl;
 import org.bson.types.Binary;
@@ -29,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -38,6 +43,8 @@ class WhenUpdateTrainingTypeByIdTest {
     private TrainingTypeDAO trainingTypeDAO;
     private ImageDAO imageDAO;
     private ImageUrlCreator imageUrlCreator;
+    private ImageVariantDAO imageVariantDAO;
+    private ImageCache<ImageContent> imageCache;
 
     private TrainingTypeRequest request;
     private MockMultipartFile multipartFile;
@@ -82,7 +89,18 @@ class WhenUpdateTrainingTypeByIdTest {
         trainingTypeDAO = mock(TrainingTypeDAO.class);
         imageDAO = mock(ImageDAO.class);
         imageUrlCreator = mock(ImageUrlCreator.class);
-        trainingTypeService = new TrainingTypeServiceImpl(trainingTypeDAO, imageDAO, imageUrlCreator);
+        imageVariantDAO = mock(ImageVariantDAO.class);
+        imageCache = mock(ImageCache.class);
+        ImageProcessor imageProcessor = mock(ImageProcessor.class);
+        when(imageProcessor.sanitize(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        trainingTypeService = new TrainingTypeServiceImpl(
+                trainingTypeDAO,
+                imageDAO,
+                imageUrlCreator,
+                imageVariantDAO,
+                imageProcessor,
+                imageCache
+        );
     }
 
     @Test
@@ -135,5 +153,7 @@ class WhenUpdateTrainingTypeByIdTest {
                                 "null"
                         )
                 );
+        verify(imageVariantDAO).deleteAllByImageId(imageToUpdate.getImageId());
+        verify(imageCache).invalidate(imageToUpdate.getImageId());
     }
 }
@@ -0,0 +1,68 @@
+package com.healthy.gym.trainings.utils;
+
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddedSummaryMapperTest {
+
+    private Document getUser(ObjectId id) {
+        return new Document("_id", id)
+                .append("name", "Jan")
+                .append("surname", "Kowalski")
+                .append("email", "jan.kowalski@test.com")
+                .append("encryptedPassword", "password")
+                .append("userId", "7f1b8d22-0a5e-4ac0-9c37-3c1e6b4b6f0a")
+                .append("gymRoles", List.of("USER"))
+                .append("avatarUrl", "http://localhost:8020/account/photos/avatar");
+    }
+
+    @Test
+    void shouldKeepOnlyUserSummaryFields() {
+        ObjectId id = new ObjectId();
+
+        assertThat(EmbeddedSummaryMapper.mapToUserSummary(getUser(id))).isEqualTo(
+                new Document("_id", id)
+                        .append("userId", "7f1b8d22-0a5e-4ac0-9c37-3c1e6b4b6f0a")
+                        .append("name", "Jan")
+                        .append("surname", "Kowalski")
+                        .append("avatarUrl", "http://localhost:8020/account/photos/avatar")
+        );
+    }
+
+    @Test
+    void shouldMapEmbeddedDocumentsOfTrainingToSummaries() {
+        ObjectId trainingTypeId = new ObjectId();
+        ObjectId locationId = new ObjectId();
+        DBRef legacyUser = new DBRef("users", new ObjectId());
+        Document training = new Document("groupTrainingId", "e0b1c14c-9f7c-4c6d-9bd5-4e0b3e3c9a2f")
+                .append("training", new Document("_id", trainingTypeId)
+                        .append("trainingTypeId", "1a7e4c44-6a0e-4b1e-8d1e-7c2c1f6a9a33")
+                        .append("name", "Pilates")
+                        .append("description", "Long description")
+                        .append("imageDocument", new DBRef("images", new ObjectId())))
+                .append("location", new Document("_id", locationId)
+                        .append("locationId", "5c3b2b0e-1d44-4f5e-9b61-1f0d0f7a8c21")
+                        .append("name", "Room 1"))
+                .append("trainers", List.of(getUser(new ObjectId())))
+                .append("basicList", List.of(getUser(new ObjectId()), legacyUser))
+                .append("limit", 10);
+
+        EmbeddedSummaryMapper.mapTrainingToSummaries(training);
+
+        assertThat(training.get("training", Document.class).keySet())
+                .containsExactly("_id", "trainingTypeId", "name");
+        assertThat(training.get("location", Document.class).keySet())
+                .containsExactly("_id", "locationId", "name");
+        assertThat(training.getList("trainers", Document.class).get(0).keySet())
+                .containsExactly("_id", "userId", "name", "surname", "avatarUrl");
+        assertThat(training.getList("basicList", Object.class).get(1)).isSameAs(legacyUser);
+        assertThat(training.containsKey("reserveList")).isFalse();
+        assertThat(training.getInteger("limit")).isEqualTo(10);
+    }
+}
@@ -0,0 +1,100 @@
+package com.healthy.gym.trainings.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    private static LongStream seeds() {
+        return LongStream.range(0, 200);
+    }
+
+    private static boolean bruteForceOverlapsAny(
+            Map<String, long[]> intervals,
+            long start,
+            long end,
+            String excludedId
+    ) {
+        return intervals.entrySet()
+                .stream()
+                .filter(entry -> !entry.getKey().equals(excludedId))
+                .anyMatch(entry -> CollisionDetection.overlaps(new long[]{start, end}, entry.getValue()));
+    }
+
+    @Test
+    void shouldFindLongIntervalCoveringQueryEvenWhenShorterOnesStartLater() {
+        IntervalTree tree = new IntervalTree();
+        tree.put("long", 0, 1000);
+        tree.put("first", 100, 110);
+        tree.put("second", 200, 210);
+        tree.put("third", 300, 310);
+
+        assertThat(tree.overlapsAny(500, 600, null)).isTrue();
+        assertThat(tree.overlapsAny(500, 600, "long")).isFalse();
+    }
+
+    @Test
+    void shouldTreatTouchingIntervalsAsNotOverlapping() {
+        IntervalTree tree = new IntervalTree();
+        tree.put("training", 100, 200);
+
+        assertThat(tree.overlapsAny(200, 300, null)).isFalse();
+        assertThat(tree.overlapsAny(0, 100, null)).isFalse();
+        assertThat(tree.overlapsAny(199, 300, null)).isTrue();
+    }
+
+    @Test
+    void shouldReplaceIntervalStoredUnderSameId() {
+        IntervalTree tree = new IntervalTree();
+        tree.put("training", 100, 200);
+        tree.put("training", 300, 400);
+
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.overlapsAny(150, 160, null)).isFalse();
+        assertThat(tree.overlapsAny(350, 360, null)).isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    void shouldAnswerLikeBruteForceAfterRandomChanges(long seed) {
+        Random random = new Random(seed);
+        IntervalTree tree = new IntervalTree();
+        Map<String, long[]> oracle = new HashMap<>();
+        List<String> ids = new ArrayList<>();
+
+        for (int operation = 0; operation < 300; operation++) {
+            if (!ids.isEmpty() && random.nextInt(4) == 0) {
+                String id = ids.remove(random.nextInt(ids.size()));
+                tree.remove(id);
+                oracle.remove(id);
+            } else {
+                String id = !ids.isEmpty() && random.nextInt(3) == 0
+                        ? ids.get(random.nextInt(ids.size()))
+                        : "training-" + operation;
+                long start = random.nextInt(1000);
+                long end = start + 1 + random.nextInt(random.nextBoolean() ? 20 : 300);
+                tree.put(id, start, end);
+                if (oracle.put(id, new long[]{start, end}) == null) ids.add(id);
+            }
+
+            long start = random.nextInt(1100) - 50;
+            long end = start + 1 + random.nextInt(100);
+            String excludedId = !ids.isEmpty() && random.nextBoolean() ? ids.get(random.nextInt(ids.size())) : null;
+
+            assertThat(tree.overlapsAny(start, end, excludedId))
+                    .as("seed %d, operation %d, query [%d, %d) without %s", seed, operation, start, end, excludedId)
+                    .isEqualTo(bruteForceOverlapsAny(oracle, start, end, excludedId));
+            assertThat(tree.size()).isEqualTo(oracle.size());
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.healthy.gym.trainings.utils;
+
+import com.healthy.gym.trainings.data.document.GroupTrainingDocument;
+import com.healthy.gym.trainings.data.document.IndividualTrainingDocument;
+import com.healthy.gym.trainings.data.document.LocationDocument;
+import com.healthy.gym.trainings.data.document.UserDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.LongStream;
+
+import static com.healthy.gym.trainings.test.utils.TestDocumentUtil.*;
+import static com.healthy.gym.trainings.utils.DateParser.parseDateTime;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrainingIntervalIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.parse("2021-07-10T06:00");
+
+    private TrainingIntervalIndex index;
+    private LocationDocument location;
+    private UserDocument trainer;
+
+    private static LongStream seeds() {
+        return LongStream.range(0, 100);
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new TrainingIntervalIndex();
+        location = getTestLocation();
+        trainer = getTestTrainer();
+    }
+
+    @Test
+    void shouldMoveGroupTrainingToNewLocationAndTimeWhenSavedAgain() {
+        GroupTrainingDocument groupTraining =
+                getTestGroupTraining("2021-07-10T10:00", "2021-07-10T11:00", location);
+        groupTraining.setId("document");
+        index.put(groupTraining);
+
+        LocationDocument otherLocation = getTestLocation();
+        groupTraining.setLocation(otherLocation);
+        groupTraining.setStartDate(parseDateTime("2021-07-10T12:00"));
+        groupTraining.setEndDate(parseDateTime("2021-07-10T13:00"));
+        index.put(groupTraining);
+
+        LocalDateTime start = parseDateTime("2021-07-10T10:30");
+        LocalDateTime end = parseDateTime("2021-07-10T12:30");
+        assertThat(index.isLocationOccupied(location, start, end, null)).isFalse();
+        assertThat(index.isLocationOccupied(otherLocation, start, end, null)).isTrue();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldForgetIndividualTrainingWhenItIsCancelled() {
+        IndividualTrainingDocument individualTraining =
+                getTestIndividualTraining("2021-07-10T10:00", "2021-07-10T11:00", List.of(trainer));
+        individualTraining.setId("document");
+        index.put(individualTraining);
+
+        individualTraining.setCancelled(true);
+        index.put(individualTraining);
+
+        LocalDateTime start = parseDateTime("2021-07-10T10:00");
+        LocalDateTime end = parseDateTime("2021-07-10T11:00");
+        assertThat(index.isTrainerOccupied(List.of(trainer), start, end, null)).isFalse();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void shouldForgetRemovedTraining() {
+        GroupTrainingDocument groupTraining =
+                getTestGroupTraining("2021-07-10T10:00", "2021-07-10T11:00", List.of(trainer));
+        groupTraining.setId("document");
+        index.put(groupTraining);
+
+        index.remove("document");
+
+        LocalDateTime start = parseDateTime("2021-07-10T10:00");
+        LocalDateTime end = parseDateTime("2021-07-10T11:00");
+        assertThat(index.isTrainerOccupied(List.of(trainer), start, end, null)).isFalse();
+        assertThat(index.isLocationOccupied(groupTraining.getLocation(), start, end, null)).isFalse();
+    }
+
+    @Test
+    void shouldForgetTrainingsEndedByGivenDate() {
+        GroupTrainingDocument endedTraining =
+                getTestGroupTraining("2021-07-10T10:00", "2021-07-10T11:00", location);
+        endedTraining.setId("ended");
+        GroupTrainingDocument upcomingTraining =
+                getTestGroupTraining("2021-07-10T10:30", "2021-07-10T12:00", location);
+        upcomingTraining.setId("upcoming");
+        index.put(endedTraining);
+        index.put(upcomingTraining);
+
+        index.removeEndedBy(parseDateTime("2021-07-10T11:00"));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.isLocationOccupied(
+                location, parseDateTime("2021-07-10T10:00"), parseDateTime("2021-07-10T10:30"), null
+        )).isFalse();
+        assertThat(index.isLocationOccupied(
+                location, parseDateTime("2021-07-10T11:00"), parseDateTime("2021-07-10T11:30"), null
+        )).isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    void shouldAnswerLikeBruteForceAfterRandomChanges(long seed) {
+        Random random = new Random(seed);
+        List<LocationDocument> locations = List.of(getTestLocation(), getTestLocation(), getTestLocation());
+        List<UserDocument> trainers = List.of(getTestTrainer(), getTestTrainer(), getTestTrainer(), getTestTrainer());
+        Map<String, Object> oracle = new HashMap<>();
+        List<String> documentIds = new ArrayList<>();
+
+        for (int operation = 0; operation < 200; operation++) {
+            if (!documentIds.isEmpty() && random.nextInt(5) == 0) {
+                String documentId = documentIds.remove(random.nextInt(documentIds.size()));
+                index.remove(documentId);
+                oracle.remove(documentId);
+            } else {
+                boolean update = !documentIds.isEmpty() && random.nextInt(3) == 0;
+                String documentId = update
+                        ? documentIds.get(random.nextInt(documentIds.size()))
+                        : "document-" + operation;
+                Object previous = oracle.get(documentId);
+                Object training = previous instanceof GroupTrainingDocument || previous == null && random.nextBoolean()
+                        ? getRandomGroupTraining(random, documentId, previous, locations, trainers)
+                        : getRandomIndividualTraining(random, documentId, previous, locations, trainers);
+
+                if (training instanceof GroupTrainingDocument) index.put((GroupTrainingDocument) training);
+                else index.put((IndividualTrainingDocument) training);
+                if (oracle.put(documentId, training) == null) documentIds.add(documentId);
+            }
+
+            LocalDateTime start = DAY.plusMinutes(random.nextInt(16 * 60));
+            LocalDateTime end = start.plusMinutes(15 + random.nextInt(120));
+            String excludedTrainingId = !documentIds.isEmpty() && random.nextBoolean()
+                    ? getTrainingId(oracle.get(documentIds.get(random.nextInt(documentIds.size()))))
+                    : null;
+            LocationDocument checkedLocation = locations.get(random.nextInt(locations.size()));
+            List<UserDocument> checkedTrainers = getRandomTrainers(random, trainers);
+
+            assertThat(index.isLocationOccupied(checkedLocation, start, end, excludedTrainingId))
+                    .as("seed %d, operation %d", seed, operation)
+                    .isEqualTo(bruteForceIsLocationOccupied(oracle.values(), checkedLocation, start, end, excludedTrainingId));
+            assertThat(index.isTrainerOccupied(checkedTrainers, start, end, excludedTrainingId))
+                    .as("seed %d, operation %d", seed, operation)
+                    .isEqualTo(bruteForceIsTrainerOccupied(oracle.values(), checkedTrainers, start, end, excludedTrainingId));
+        }
+    }
+
+    private GroupTrainingDocument getRandomGroupTraining(
+            Random random,
+            String documentId,
+            Object previous,
+            List<LocationDocument> locations,
+            List<UserDocument> trainers
+    ) {
+        LocalDateTime start = DAY.plusMinutes(random.nextInt(16 * 60));
+        GroupTrainingDocument groupTraining = new GroupTrainingDocument(
+                previous != null ? getTrainingId(previous) : UUID.randomUUID().toString(),
+                null,
+                getRandomTrainers(random, trainers),
+                start,
+                start.plusMinutes(15 + random.nextInt(random.nextBoolean() ? 60 : 300)),
+                locations.get(random.nextInt(locations.size())),
+                10,
+                List.of(),
+                List.of()
+        );
+        groupTraining.setId(documentId);
+        return groupTraining;
+    }
+
+    private IndividualTrainingDocument getRandomIndividualTraining(
+            Random random,
+            String documentId,
+            Object previous,
+            List<LocationDocument> locations,
+            List<UserDocument> trainers
+    ) {
+        LocalDateTime start = DAY.plusMinutes(random.nextInt(16 * 60));
+        IndividualTrainingDocument individualTraining = new IndividualTrainingDocument(
+                previous != null ? getTrainingId(previous) : UUID.randomUUID().toString(),
+                null,
+                List.of(),
+                getRandomTrainers(random, trainers),
+                start,
+                start.plusMinutes(15 + random.nextInt(120)),
+                locations.get(random.nextInt(locations.size())),
+                null
+        );
+        individualTraining.setId(documentId);
+        individualTraining.setCancelled(random.nextInt(6) == 0);
+        individualTraining.setRejected(random.nextInt(6) == 0);
+        return individualTraining;
+    }
+
+    private List<UserDocument> getRandomTrainers(Random random, List<UserDocument> trainers) {
+        List<UserDocument> shuffled = new ArrayList<>(trainers);
+        Collections.shuffle(shuffled, random);
+        return shuffled.subList(0, 1 + random.nextInt(2));
+    }
+
+    private String getTrainingId(Object training) {
+        if (training instanceof GroupTrainingDocument) return ((GroupTrainingDocument) training).getGroupTrainingId();
+        return ((IndividualTrainingDocument) training).getIndividualTrainingId();
+    }
+
+    private boolean isActive(Object training, String excludedTrainingId) {
+        if (getTrainingId(training).equals(excludedTrainingId)) return false;
+        if (training instanceof GroupTrainingDocument) return true;
+
+        IndividualTrainingDocument individualTraining = (IndividualTrainingDocument) training;
+        return !individualTraining.isCancelled() && !individualTraining.isRejected();
+    }
+
+    private boolean overlaps(Object training, LocalDateTime start, LocalDateTime end) {
+        long[] checked = {start.toEpochSecond(ZoneOffset.UTC), end.toEpochSecond(ZoneOffset.UTC)};
+        long[] dates = training instanceof GroupTrainingDocument
+                ? GroupTrainingMapper.mapGroupTrainingToPairOfStartAndEndDates((GroupTrainingDocument) training)
+                : IndividualTrainingMapper.mapIndividualTrainingToPairOfStartAndEndDate((IndividualTrainingDocument) training);
+        return CollisionDetection.overlaps(checked, dates);
+    }
+
+    private boolean bruteForceIsLocationOccupied(
+            Collection<Object> trainings,
+            LocationDocument location,
+            LocalDateTime start,
+            LocalDateTime end,
+            String excludedTrainingId
+    ) {
+        return trainings.stream()
+                .filter(training -> isActive(training, excludedTrainingId))
+                .filter(training -> location.equals(getLocation(training)))
+                .anyMatch(training -> overlaps(training, start, end));
+    }
+
+    private boolean bruteForceIsTrainerOccupied(
+            Collection<Object> trainings,
+            List<UserDocument> trainers,
+            LocalDateTime start,
+            LocalDateTime end,
+            String excludedTrainingId
+    ) {
+        return trainings.stream()
+                .filter(training -> isActive(training, excludedTrainingId))
+                .filter(training -> !Collections.disjoint(trainers, getTrainers(training)))
+                .anyMatch(training -> overlaps(training, start, end));
+    }
+
+    private LocationDocument getLocation(Object training) {
+        if (training instanceof GroupTrainingDocument) return ((GroupTrainingDocument) training).getLocation();
+        return ((IndividualTrainingDocument) training).getLocation();
+    }
+
+    private List<UserDocument> getTrainers(Object training) {
+        if (training instanceof GroupTrainingDocument) return ((GroupTrainingDocument) training).getTrainers();
+        return ((IndividualTrainingDocument) training).getTrainers();
+    }
+}